@@ -12,7 +12,11 @@
  */
 package org.openhab.binding.astro.internal.action;
 
+import java.time.Duration;
 import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import javax.measure.quantity.Angle;
 
@@ -21,6 +25,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.astro.internal.AstroBindingConstants;
 import org.openhab.binding.astro.internal.handler.AstroThingHandler;
 import org.openhab.binding.astro.internal.handler.SunHandler;
+import org.openhab.binding.astro.internal.model.Position;
 import org.openhab.binding.astro.internal.model.SunPhaseName;
 import org.openhab.core.automation.annotation.ActionInput;
 import org.openhab.core.automation.annotation.ActionOutput;
@@ -86,6 +91,36 @@ public class AstroActions implements ThingActions {
         return null;
     }
 
+    @RuleAction(label = "get the azimuths", description = "Get the azimuths for a time range in steps of the given resolution.")
+    public @ActionOutput(name = "getAzimuths", label = "Azimuths", type = "java.util.List<org.openhab.core.library.types.QuantityType<javax.measure.quantity.Angle>>") List<QuantityType<Angle>> getAzimuths(
+            @ActionInput(name = "start", label = "Start", required = true, description = "Start of the range") ZonedDateTime start,
+            @ActionInput(name = "end", label = "End", required = true, description = "End of the range, inclusive") ZonedDateTime end,
+            @ActionInput(name = "resolution", label = "Resolution", required = true, description = "Time between two azimuths") Duration resolution) {
+        logger.debug("Astro action 'getAzimuths' called");
+        return getPositionsBetween(start, end, resolution, Position::getAzimuth);
+    }
+
+    @RuleAction(label = "get the elevations", description = "Get the elevations for a time range in steps of the given resolution.")
+    public @ActionOutput(name = "getElevations", label = "Elevations", type = "java.util.List<org.openhab.core.library.types.QuantityType<javax.measure.quantity.Angle>>") List<QuantityType<Angle>> getElevations(
+            @ActionInput(name = "start", label = "Start", required = true, description = "Start of the range") ZonedDateTime start,
+            @ActionInput(name = "end", label = "End", required = true, description = "End of the range, inclusive") ZonedDateTime end,
+            @ActionInput(name = "resolution", label = "Resolution", required = true, description = "Time between two elevations") Duration resolution) {
+        logger.debug("Astro action 'getElevations' called");
+        return getPositionsBetween(start, end, resolution, Position::getElevation);
+    }
+
+    private List<QuantityType<Angle>> getPositionsBetween(ZonedDateTime start, ZonedDateTime end, Duration resolution,
+            Function<Position, QuantityType<Angle>> angle) {
+        AstroThingHandler theHandler = this.handler;
+        if (theHandler != null) {
+            return theHandler.getPositionsBetween(start, end, resolution).stream().map(angle)
+                    .collect(Collectors.toList());
+        } else {
+            logger.info("Astro Action service ThingHandler is null!");
+        }
+        return List.of();
+    }
+
     @RuleAction(label = "get the date time of a sun event", description = "Get the date time of a sun event.")
     public @Nullable @ActionOutput(name = "getEventTime", type = "java.time.ZonedDateTime") ZonedDateTime getEventTime(
             @ActionInput(name = "phaseName", label = "Phase", required = true, description = "Requested phase") String phaseName,
@@ -120,6 +155,16 @@ public class AstroActions implements ThingActions {
         return ((AstroActions) actions).getAzimuth(date);
     }
 
+    public static List<QuantityType<Angle>> getAzimuths(ThingActions actions, ZonedDateTime start, ZonedDateTime end,
+            Duration resolution) {
+        return ((AstroActions) actions).getAzimuths(start, end, resolution);
+    }
+
+    public static List<QuantityType<Angle>> getElevations(ThingActions actions, ZonedDateTime start, ZonedDateTime end,
+            Duration resolution) {
+        return ((AstroActions) actions).getElevations(start, end, resolution);
+    }
+
     public static @Nullable ZonedDateTime getEventTime(ThingActions actions, @Nullable String phaseName,
             @Nullable ZonedDateTime date, @Nullable String moment) {
         if (phaseName != null) {
@@ -35,6 +35,7 @@ import org.openhab.binding.astro.internal.util.DateTimeUtils;
  *
  * @author Gerhard Riegler - Initial contribution
  * @author Christoph Weitkamp - Introduced UoM
+ * @author atje - Position series
  * @see based on the calculations of
  *      http://www.computus.de/mondphase/mondphase.htm azimuth/elevation and
  *      zodiac based on http://lexikon.astronomie.info/java/sunmoon/
@@ -44,6 +45,7 @@ public class MoonCalc {
     private static final double FULL_MOON = 0.5;
     private static final double FIRST_QUARTER = 0.25;
     private static final double LAST_QUARTER = 0.75;
+    private static final double MILLISECONDS_PER_DAY = 1000 * 60 * 60 * 24;
 
     /**
      * Calculates all moon data at the specified coordinates
@@ -86,33 +88,42 @@ public class MoonCalc {
             eclipse.set(eclipseKind, DateTimeUtils.toCalendar(jdate), new Position());
         });
 
-        double decimalYear = DateTimeUtils.getDecimalYear(calendar);
-        MoonDistance apogee = moon.getApogee();
-        double apogeeJd = getApogee(julianDate, decimalYear);
-        apogee.setDate(DateTimeUtils.toCalendar(apogeeJd));
-        apogee.setDistance(getDistance(apogeeJd));
-
-        MoonDistance perigee = moon.getPerigee();
-        double perigeeJd = getPerigee(julianDate, decimalYear);
-        perigee.setDate(DateTimeUtils.toCalendar(perigeeJd));
-        perigee.setDistance(getDistance(perigeeJd));
+        setApogeePerigee(calendar, julianDate, moon);
 
         return moon;
     }
 
     /**
-     * Calculates the moon illumination and distance.
+     * Calculates the moon illumination and distance. The next apogee and perigee are calculated again, as they
+     * depend on the time of day and the moon data is reused for the whole day.
      */
     public void setPositionalInfo(Calendar calendar, double latitude, double longitude, Moon moon) {
         double julianDate = DateTimeUtils.dateToJulianDate(calendar);
         setMoonPhase(calendar, moon);
         setAzimuthElevationZodiac(julianDate, latitude, longitude, moon);
+        setApogeePerigee(calendar, julianDate, moon);
 
         MoonDistance distance = moon.getDistance();
         distance.setDate(Calendar.getInstance());
         distance.setDistance(getDistance(julianDate));
     }
 
+    /**
+     * Calculates the next apogee and perigee after the given date.
+     */
+    private void setApogeePerigee(Calendar calendar, double julianDate, Moon moon) {
+        double decimalYear = DateTimeUtils.getDecimalYear(calendar);
+        MoonDistance apogee = moon.getApogee();
+        double apogeeJd = getApogee(julianDate, decimalYear);
+        apogee.setDate(DateTimeUtils.toCalendar(apogeeJd));
+        apogee.setDistance(getDistance(apogeeJd));
+
+        MoonDistance perigee = moon.getPerigee();
+        double perigeeJd = getPerigee(julianDate, decimalYear);
+        perigee.setDate(DateTimeUtils.toCalendar(perigeeJd));
+        perigee.setDistance(getDistance(perigeeJd));
+    }
+
     /**
      * Calculates the age and the current phase.
      */
@@ -651,6 +662,36 @@ public class MoonCalc {
         return sr;
     }
 
+    /**
+     * Calculates the moon positions (azimuth and elevation) for a series of equidistant instants. The terms, which only
+     * depend on the location, and the obliquity of the ecliptic, which hardly changes within a series, are calculated
+     * once for the whole series.
+     *
+     * @param start the first instant of the series
+     * @param stepMillis the time between two positions in milliseconds
+     * @param count the number of positions
+     * @return the positions in chronological order
+     */
+    public Position[] getPositions(Calendar start, long stepMillis, int count, double latitude, double longitude) {
+        double lat = latitude * SunCalc.DEG2RAD;
+        double lon = longitude * SunCalc.DEG2RAD;
+
+        double j0 = DateTimeUtils.dateToJulianDate(start);
+        double jStep = stepMillis / MILLISECONDS_PER_DAY;
+        double eps = getObliquity(j0);
+        double coseps = Math.cos(eps);
+        double sineps = Math.sin(eps);
+
+        Position[] positions = new Position[count];
+        for (int i = 0; i < count; i++) {
+            double julianDate = j0 + i * jStep;
+            double[] azAlt = getAzimuthElevation(julianDate, getEclipticCoordinates(julianDate), lat, lon, coseps,
+                    sineps);
+            positions[i] = new Position(azAlt[0], azAlt[1], 0);
+        }
+        return positions;
+    }
+
     /**
      * Sets the azimuth, elevation and zodiac in the moon object.
      */
@@ -658,9 +699,33 @@ public class MoonCalc {
         double lat = latitude * SunCalc.DEG2RAD;
         double lon = longitude * SunCalc.DEG2RAD;
 
-        double gmst = toGMST(julianDate);
-        double lmst = toLMST(gmst, lon) * 15. * SunCalc.DEG2RAD;
+        double[] ecliptic = getEclipticCoordinates(julianDate);
+        double eps = getObliquity(julianDate);
+        double[] azAlt = getAzimuthElevation(julianDate, ecliptic, lat, lon, Math.cos(eps), Math.sin(eps));
+
+        Position position = moon.getPosition();
+        position.setAzimuth(azAlt[0]);
+        position.setElevation(azAlt[1]);
 
+        // zodiac
+        double moonLon = ecliptic[0];
+        double idxd = Math.floor(moonLon * SunCalc.RAD2DEG / 30);
+        int idx = 0;
+        if (idxd < 0) {
+            idx = (int) (Math.ceil(idxd));
+        } else {
+            idx = (int) (Math.floor(idxd));
+        }
+
+        if (idx >= 0 || idx <= ZodiacSign.values().length) {
+            moon.setZodiac(new Zodiac(ZodiacSign.values()[idx]));
+        }
+    }
+
+    /**
+     * Returns the geocentric ecliptic longitude, latitude and the distance of the moon.
+     */
+    private double[] getEclipticCoordinates(double julianDate) {
         double d = julianDate - 2447891.5;
         double anomalyMean = 360 * SunCalc.DEG2RAD / 365.242191 * d + 4.87650757829735 - 4.935239984568769;
         double nu = anomalyMean + 360.0 * SunCalc.DEG2RAD / Math.PI * 0.016713 * Math.sin(anomalyMean);
@@ -687,30 +752,24 @@ public class MoonCalc {
 
         double moonLon = mod2Pi(n2 + Math.atan2(Math.sin(l3 - n2) * Math.cos(i), Math.cos(l3 - n2)));
         double moonLat = Math.asin(Math.sin(l3 - n2) * Math.sin(i));
-
-        double raDec[] = ecl2Equ(moonLat, moonLon, julianDate);
-
         double distance = (1 - 0.00301401) / (1 + 0.054900 * Math.cos(mMoon2 + ec)) * 384401;
 
-        double raDecTopo[] = geoEqu2TopoEqu(raDec, distance, lat, lmst);
-        double azAlt[] = equ2AzAlt(raDecTopo[0], raDecTopo[1], lat, lmst);
+        return new double[] { moonLon, moonLat, distance };
+    }
 
-        Position position = moon.getPosition();
-        position.setAzimuth(azAlt[0] * SunCalc.RAD2DEG);
-        position.setElevation(azAlt[1] * SunCalc.RAD2DEG + refraction(azAlt[1]));
+    /**
+     * Returns the azimuth and the elevation in degrees for the given ecliptic coordinates.
+     */
+    private double[] getAzimuthElevation(double julianDate, double[] ecliptic, double lat, double lon, double coseps,
+            double sineps) {
+        double gmst = toGMST(julianDate);
+        double lmst = toLMST(gmst, lon) * 15. * SunCalc.DEG2RAD;
 
-        // zodiac
-        double idxd = Math.floor(moonLon * SunCalc.RAD2DEG / 30);
-        int idx = 0;
-        if (idxd < 0) {
-            idx = (int) (Math.ceil(idxd));
-        } else {
-            idx = (int) (Math.floor(idxd));
-        }
+        double raDec[] = ecl2Equ(ecliptic[1], ecliptic[0], coseps, sineps);
+        double raDecTopo[] = geoEqu2TopoEqu(raDec, ecliptic[2], lat, lmst);
+        double azAlt[] = equ2AzAlt(raDecTopo[0], raDecTopo[1], lat, lmst);
 
-        if (idx >= 0 || idx <= ZodiacSign.values().length) {
-            moon.setZodiac(new Zodiac(ZodiacSign.values()[idx]));
-        }
+        return new double[] { azAlt[0] * SunCalc.RAD2DEG, azAlt[1] * SunCalc.RAD2DEG + refraction(azAlt[1]) };
     }
 
     private double mod2Pi(double x) {
@@ -746,13 +805,7 @@ public class MoonCalc {
      * Transform ecliptical coordinates (lon/lat) to equatorial coordinates
      * (ra/dec)
      */
-    private double[] ecl2Equ(double lat, double lon, double jd) {
-        double t = (jd - 2451545.0) / 36525.0;
-        double eps = (23. + (26 + 21.45 / 60.) / 60. + t * (-46.815 + t * (-0.0006 + t * 0.00181)) / 3600.)
-                * SunCalc.DEG2RAD;
-        double coseps = Math.cos(eps);
-        double sineps = Math.sin(eps);
-
+    private double[] ecl2Equ(double lat, double lon, double coseps, double sineps) {
         double sinlon = Math.sin(lon);
         double ra = mod2Pi(Math.atan2((sinlon * coseps - Math.tan(lat) * sineps), Math.cos(lon)));
         double dec = Math.asin(Math.sin(lat) * coseps + Math.cos(lat) * sineps * sinlon);
@@ -760,6 +813,15 @@ public class MoonCalc {
         return new double[] { ra, dec };
     }
 
+    /**
+     * Returns the obliquity of the ecliptic.
+     */
+    private double getObliquity(double jd) {
+        double t = (jd - 2451545.0) / 36525.0;
+        return (23. + (26 + 21.45 / 60.) / 60. + t * (-46.815 + t * (-0.0006 + t * 0.00181)) / 3600.)
+                * SunCalc.DEG2RAD;
+    }
+
     /**
      * Transform geocentric equatorial coordinates (rA/dec) to topocentric
      * equatorial coordinates.
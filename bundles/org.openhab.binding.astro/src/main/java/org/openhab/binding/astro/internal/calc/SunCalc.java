@@ -29,6 +29,7 @@ import org.openhab.binding.astro.internal.util.DateTimeUtils;
  *
  * @author Gerhard Riegler - Initial contribution
  * @author Christoph Weitkamp - Introduced UoM
+ * @author atje - Position series and time dependent info of a calculated day
  * @see based on the calculations of http://www.suncalc.net
  */
 public class SunCalc {
@@ -59,6 +60,7 @@ public class SunCalc {
     private static final double MINUTES_PER_DAY = 60 * 24;
     private static final int CURVE_TIME_INTERVAL = 20; // 20 minutes
     private static final double JD_ONE_MINUTE_FRACTION = 1.0 / 60 / 24;
+    private static final double MILLISECONDS_PER_DAY = 1000 * 60 * 60 * 24;
 
     /**
      * Calculates the sun position (azimuth and elevation).
@@ -68,6 +70,41 @@ public class SunCalc {
         double phi = latitude * DEG2RAD;
 
         double j = DateTimeUtils.dateToJulianDate(calendar);
+        Position calculated = getPosition(j, lw, Math.sin(phi), Math.cos(phi));
+
+        Position position = sun.getPosition();
+        position.setAzimuth(calculated.getAzimuthAsDouble());
+        position.setElevation(calculated.getElevationAsDouble());
+        position.setShadeLength(calculated.getShadeLength());
+
+        setRadiationInfo(calendar, calculated.getElevationAsDouble(), altitude, sun);
+    }
+
+    /**
+     * Calculates the sun positions (azimuth and elevation) for a series of equidistant instants. The terms, which only
+     * depend on the location, are calculated once for the whole series.
+     *
+     * @param start the first instant of the series
+     * @param stepMillis the time between two positions in milliseconds
+     * @param count the number of positions
+     * @return the positions in chronological order
+     */
+    public Position[] getPositions(Calendar start, long stepMillis, int count, double latitude, double longitude) {
+        double lw = -longitude * DEG2RAD;
+        double phi = latitude * DEG2RAD;
+        double sinPhi = Math.sin(phi);
+        double cosPhi = Math.cos(phi);
+
+        double j0 = DateTimeUtils.dateToJulianDate(start);
+        double jStep = stepMillis / MILLISECONDS_PER_DAY;
+        Position[] positions = new Position[count];
+        for (int i = 0; i < count; i++) {
+            positions[i] = getPosition(j0 + i * jStep, lw, sinPhi, cosPhi);
+        }
+        return positions;
+    }
+
+    private Position getPosition(double j, double lw, double sinPhi, double cosPhi) {
         double m = getSolarMeanAnomaly(j);
         double c = getEquationOfCenter(m);
         double lsun = getEclipticLongitude(m, c);
@@ -75,16 +112,10 @@ public class SunCalc {
         double a = getRightAscension(lsun);
         double th = getSiderealTime(j, lw);
 
-        double azimuth = getAzimuth(th, a, phi, d) / DEG2RAD;
-        double elevation = getElevation(th, a, phi, d) / DEG2RAD;
+        double azimuth = getAzimuth(th, a, sinPhi, cosPhi, d) / DEG2RAD;
+        double elevation = getElevation(th, a, sinPhi, cosPhi, d) / DEG2RAD;
         double shadeLength = getShadeLength(elevation);
-
-        Position position = sun.getPosition();
-        position.setAzimuth(azimuth + 180);
-        position.setElevation(elevation);
-        position.setShadeLength(shadeLength);
-
-        setRadiationInfo(calendar, elevation, altitude, sun);
+        return new Position(azimuth + 180, elevation, shadeLength);
     }
 
     /**
@@ -119,15 +150,13 @@ public class SunCalc {
     /**
      * Returns true, if the sun is up all day (no rise and set).
      */
-    private boolean isSunUpAllDay(Calendar calendar, double latitude, double longitude, Double altitude) {
+    private boolean isSunUpAllDay(Calendar calendar, double latitude, double longitude) {
         Calendar cal = DateTimeUtils.truncateToMidnight(calendar);
-        Sun sun = new Sun();
-        for (int minutes = 0; minutes <= MINUTES_PER_DAY; minutes += CURVE_TIME_INTERVAL) {
-            setPositionalInfo(cal, latitude, longitude, altitude, sun);
-            if (sun.getPosition().getElevationAsDouble() < SUN_ANGLE) {
+        int count = (int) (MINUTES_PER_DAY / CURVE_TIME_INTERVAL) + 1;
+        for (Position position : getPositions(cal, CURVE_TIME_INTERVAL * 60 * 1000L, count, latitude, longitude)) {
+            if (position.getElevationAsDouble() < SUN_ANGLE) {
                 return false;
             }
-            cal.add(Calendar.MINUTE, CURVE_TIME_INTERVAL);
         }
         return true;
     }
@@ -188,7 +217,7 @@ public class SunCalc {
         sun.setNauticDawn(new Range(DateTimeUtils.toCalendar(jnau2), DateTimeUtils.toCalendar(jciv2)));
         sun.setNauticDusk(new Range(DateTimeUtils.toCalendar(jnau), DateTimeUtils.toCalendar(jastro)));
 
-        boolean isSunUpAllDay = isSunUpAllDay(calendar, latitude, longitude, altitude);
+        boolean isSunUpAllDay = isSunUpAllDay(calendar, latitude, longitude);
 
         // daylight
         Range daylightRange = new Range();
@@ -244,6 +273,16 @@ public class SunCalc {
             eclipse.set(eclipseKind, DateTimeUtils.toCalendar(jdate), new Position());
         });
 
+        setTimeDependentInfo(calendar, latitude, useMeteorologicalSeason, sun);
+
+        return sun;
+    }
+
+    /**
+     * Sets the zodiac, the season and the current phase. Unlike the other sun data, they do not only depend on the day
+     * of the calendar, so they have to be updated when the sun data of a day is reused.
+     */
+    public void setTimeDependentInfo(Calendar calendar, double latitude, boolean useMeteorologicalSeason, Sun sun) {
         SunZodiacCalc zodiacCalc = new SunZodiacCalc();
         zodiacCalc.getZodiac(calendar).ifPresent(z -> sun.setZodiac(z));
 
@@ -261,8 +300,6 @@ public class SunCalc {
                 }
             }
         }
-
-        return sun;
     }
 
     /**
@@ -312,13 +349,13 @@ public class SunCalc {
         return TH0 + TH1 * (j - J2000) - lw;
     }
 
-    private double getAzimuth(double th, double a, double phi, double d) {
+    private double getAzimuth(double th, double a, double sinPhi, double cosPhi, double d) {
         double h = th - a;
-        return Math.atan2(Math.sin(h), Math.cos(h) * Math.sin(phi) - Math.tan(d) * Math.cos(phi));
+        return Math.atan2(Math.sin(h), Math.cos(h) * sinPhi - Math.tan(d) * cosPhi);
     }
 
-    private double getElevation(double th, double a, double phi, double d) {
-        return Math.asin(Math.sin(phi) * Math.sin(d) + Math.cos(phi) * Math.cos(d) * Math.cos(th - a));
+    private double getElevation(double th, double a, double sinPhi, double cosPhi, double d) {
+        return Math.asin(sinPhi * Math.sin(d) + cosPhi * Math.cos(d) * Math.cos(th - a));
     }
 
     private double getShadeLength(double elevation) {
@@ -18,12 +18,14 @@ import static org.openhab.core.types.RefreshType.REFRESH;
 
 import java.lang.invoke.MethodHandles;
 import java.text.SimpleDateFormat;
+import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.GregorianCalendar;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -68,6 +70,7 @@ import org.slf4j.LoggerFactory;
 @NonNullByDefault
 public abstract class AstroThingHandler extends BaseThingHandler {
     private static final String DAILY_MIDNIGHT = "30 0 0 * * ? *";
+    private static final int MAX_POSITIONS = 100000;
 
     /** Logger Instance */
     private final Logger logger = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
@@ -354,6 +357,33 @@ public abstract class AstroThingHandler extends BaseThingHandler {
 
     public abstract @Nullable Position getPositionAt(ZonedDateTime date);
 
+    /**
+     * Returns the positions from start to end (both inclusive) in steps of the given resolution.
+     *
+     * @throws IllegalArgumentException if the resolution is not positive or the range contains too many steps
+     */
+    public List<Position> getPositionsBetween(ZonedDateTime start, ZonedDateTime end, Duration resolution) {
+        long stepMillis = resolution.toMillis();
+        if (stepMillis <= 0) {
+            throw new IllegalArgumentException("Resolution must be positive: " + resolution);
+        }
+        long rangeMillis = Duration.between(start, end).toMillis();
+        if (rangeMillis < 0) {
+            return List.of();
+        }
+        long count = rangeMillis / stepMillis + 1;
+        if (count > MAX_POSITIONS) {
+            throw new IllegalArgumentException(
+                    "Too many positions requested: " + count + ", the maximum is " + MAX_POSITIONS);
+        }
+        return Arrays.asList(calculatePositions(GregorianCalendar.from(start), stepMillis, (int) count));
+    }
+
+    /**
+     * Calculates the positions for a series of equidistant instants.
+     */
+    protected abstract Position[] calculatePositions(Calendar start, long stepMillis, int count);
+
     public @Nullable QuantityType<Angle> getAzimuth(ZonedDateTime date) {
         Position position = getPositionAt(date);
         return position != null ? position.getAzimuth() : null;
@@ -24,6 +24,7 @@ import org.openhab.binding.astro.internal.job.Job;
 import org.openhab.binding.astro.internal.model.Moon;
 import org.openhab.binding.astro.internal.model.Planet;
 import org.openhab.binding.astro.internal.model.Position;
+import org.openhab.binding.astro.internal.util.DailyCache;
 import org.openhab.core.i18n.TimeZoneProvider;
 import org.openhab.core.scheduler.CronScheduler;
 import org.openhab.core.thing.Thing;
@@ -40,6 +41,7 @@ public class MoonHandler extends AstroThingHandler {
     private final String[] positionalChannelIds = new String[] { "phase#name", "phase#age", "phase#agePercent",
             "phase#ageDegree", "phase#illumination", "position#azimuth", "position#elevation", "zodiac#sign" };
     private final MoonCalc moonCalc = new MoonCalc();
+    private final DailyCache<Moon> dailyMoon = new DailyCache<>();
     private @NonNullByDefault({}) Moon moon;
 
     /**
@@ -71,6 +73,7 @@ public class MoonHandler extends AstroThingHandler {
     public void dispose() {
         super.dispose();
         moon = null;
+        dailyMoon.clear();
     }
 
     @Override
@@ -84,19 +87,24 @@ public class MoonHandler extends AstroThingHandler {
     }
 
     private Moon getMoonAt(ZonedDateTime date) {
-        Double latitude = thingConfig.latitude;
-        Double longitude = thingConfig.longitude;
-        return moonCalc.getMoonInfo(GregorianCalendar.from(date), latitude != null ? latitude : 0,
-                longitude != null ? longitude : 0);
+        return dailyMoon.get(date, dateTime -> {
+            Double latitude = thingConfig.latitude;
+            Double longitude = thingConfig.longitude;
+            return moonCalc.getMoonInfo(GregorianCalendar.from(dateTime), latitude != null ? latitude : 0,
+                    longitude != null ? longitude : 0);
+        });
     }
 
     @Override
     public @Nullable Position getPositionAt(ZonedDateTime date) {
-        Moon localMoon = getMoonAt(date);
+        return calculatePositions(GregorianCalendar.from(date), 0, 1)[0];
+    }
+
+    @Override
+    protected Position[] calculatePositions(Calendar start, long stepMillis, int count) {
         Double latitude = thingConfig.latitude;
         Double longitude = thingConfig.longitude;
-        moonCalc.setPositionalInfo(GregorianCalendar.from(date), latitude != null ? latitude : 0,
-                longitude != null ? longitude : 0, localMoon);
-        return localMoon.getPosition();
+        return moonCalc.getPositions(start, stepMillis, count, latitude != null ? latitude : 0,
+                longitude != null ? longitude : 0);
     }
 }
@@ -26,6 +26,7 @@ import org.openhab.binding.astro.internal.model.Position;
 import org.openhab.binding.astro.internal.model.Range;
 import org.openhab.binding.astro.internal.model.Sun;
 import org.openhab.binding.astro.internal.model.SunPhaseName;
+import org.openhab.binding.astro.internal.util.DailyCache;
 import org.openhab.core.i18n.TimeZoneProvider;
 import org.openhab.core.scheduler.CronScheduler;
 import org.openhab.core.thing.Thing;
@@ -42,6 +43,7 @@ public class SunHandler extends AstroThingHandler {
     private final String[] positionalChannelIds = new String[] { "position#azimuth", "position#elevation",
             "radiation#direct", "radiation#diffuse", "radiation#total" };
     private final SunCalc sunCalc = new SunCalc();
+    private final DailyCache<Sun> dailySun = new DailyCache<>();
     private @NonNullByDefault({}) Sun sun;
 
     /**
@@ -57,8 +59,10 @@ public class SunHandler extends AstroThingHandler {
         Double latitude = thingConfig.latitude;
         Double longitude = thingConfig.longitude;
         Double altitude = thingConfig.altitude;
-        sunCalc.setPositionalInfo(Calendar.getInstance(), latitude != null ? latitude : 0,
-                longitude != null ? longitude : 0, altitude != null ? altitude : 0, sun);
+        Calendar now = Calendar.getInstance();
+        sunCalc.setTimeDependentInfo(now, latitude != null ? latitude : 0, thingConfig.useMeteorologicalSeason, sun);
+        sunCalc.setPositionalInfo(now, latitude != null ? latitude : 0, longitude != null ? longitude : 0,
+                altitude != null ? altitude : 0, sun);
 
         sun.getEclipse().setElevations(this, timeZoneProvider);
 
@@ -74,6 +78,7 @@ public class SunHandler extends AstroThingHandler {
     public void dispose() {
         super.dispose();
         sun = null;
+        dailySun.clear();
     }
 
     @Override
@@ -87,12 +92,14 @@ public class SunHandler extends AstroThingHandler {
     }
 
     private Sun getSunAt(ZonedDateTime date) {
-        Double latitude = thingConfig.latitude;
-        Double longitude = thingConfig.longitude;
-        Double altitude = thingConfig.altitude;
-        return sunCalc.getSunInfo(GregorianCalendar.from(date), latitude != null ? latitude : 0,
-                longitude != null ? longitude : 0, altitude != null ? altitude : 0,
-                thingConfig.useMeteorologicalSeason);
+        return dailySun.get(date, dateTime -> {
+            Double latitude = thingConfig.latitude;
+            Double longitude = thingConfig.longitude;
+            Double altitude = thingConfig.altitude;
+            return sunCalc.getSunInfo(GregorianCalendar.from(dateTime), latitude != null ? latitude : 0,
+                    longitude != null ? longitude : 0, altitude != null ? altitude : 0,
+                    thingConfig.useMeteorologicalSeason);
+        });
     }
 
     public @Nullable ZonedDateTime getEventTime(SunPhaseName sunPhase, ZonedDateTime date, boolean begin) {
@@ -107,12 +114,14 @@ public class SunHandler extends AstroThingHandler {
 
     @Override
     public @Nullable Position getPositionAt(ZonedDateTime date) {
-        Sun localSun = getSunAt(date);
+        return calculatePositions(GregorianCalendar.from(date), 0, 1)[0];
+    }
+
+    @Override
+    protected Position[] calculatePositions(Calendar start, long stepMillis, int count) {
         Double latitude = thingConfig.latitude;
         Double longitude = thingConfig.longitude;
-        Double altitude = thingConfig.altitude;
-        sunCalc.setPositionalInfo(GregorianCalendar.from(date), latitude != null ? latitude : 0,
-                longitude != null ? longitude : 0, altitude != null ? altitude : 0, localSun);
-        return localSun.getPosition();
+        return sunCalc.getPositions(start, stepMillis, count, latitude != null ? latitude : 0,
+                longitude != null ? longitude : 0);
     }
 }
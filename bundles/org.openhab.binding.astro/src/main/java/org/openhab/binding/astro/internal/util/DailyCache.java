@@ -0,0 +1,63 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.astro.internal.util;
+
+import java.time.ZonedDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Caches the daily data of a planet for the location of a thing, so it is calculated once per day instead of on
+ * every positional update or action call. Only the most recently used days are kept.
+ *
+ * @author atje - Initial contribution
+ */
+@NonNullByDefault
+public class DailyCache<T> {
+    private static final int MAX_DAYS = 8;
+
+    private final Map<ZonedDateTime, T> days = new LinkedHashMap<>(MAX_DAYS * 2, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<ZonedDateTime, T> eldest) {
+            return size() > MAX_DAYS;
+        }
+    };
+
+    /**
+     * Returns the data of the day of the given date, calculates it if it is not cached.
+     *
+     * @param date the date, its day and time zone identify the cached data
+     * @param calculation calculates the data of the day for the given date
+     */
+    public synchronized T get(ZonedDateTime date, Function<ZonedDateTime, T> calculation) {
+        ZonedDateTime day = date.toLocalDate().atStartOfDay(date.getZone());
+        T data = days.get(day);
+        if (data == null) {
+            data = calculation.apply(date);
+            days.put(day, data);
+        }
+        return data;
+    }
+
+    /**
+     * Removes all cached data, e.g. after the location has changed.
+     */
+    public synchronized void clear() {
+        days.clear();
+    }
+}
@@ -21,6 +21,7 @@ import java.util.TimeZone;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
+import org.openhab.binding.astro.internal.model.Position;
 import org.openhab.binding.astro.internal.model.Sun;
 import org.openhab.binding.astro.internal.model.SunPhaseName;
 
@@ -56,6 +57,25 @@ public class SunCalcTest {
         sunCalc = new SunCalc();
     }
 
+    @Test
+    public void testGetPositionsEqualsPositionalInfo() {
+        long stepMillis = 10 * 60 * 1000;
+        Position[] positions = sunCalc.getPositions(FEB_27_2019, stepMillis, 144, AMSTERDAM_LATITUDE,
+                AMSTERDAM_LONGITUDE);
+
+        assertEquals(144, positions.length);
+        Sun sun = new Sun();
+        for (int i = 0; i < positions.length; i++) {
+            Calendar calendar = (Calendar) FEB_27_2019.clone();
+            calendar.setTimeInMillis(FEB_27_2019.getTimeInMillis() + i * stepMillis);
+            sunCalc.setPositionalInfo(calendar, AMSTERDAM_LATITUDE, AMSTERDAM_LONGITUDE, AMSTERDAM_ALTITUDE, sun);
+
+            assertEquals(sun.getPosition().getAzimuthAsDouble(), positions[i].getAzimuthAsDouble(), 1e-6);
+            assertEquals(sun.getPosition().getElevationAsDouble(), positions[i].getElevationAsDouble(), 1e-6);
+            assertEquals(sun.getPosition().getShadeLength(), positions[i].getShadeLength(), 1e-6);
+        }
+    }
+
     @Test
     public void testGetSunInfoForOldDate() {
         Sun sun = sunCalc.getSunInfo(FEB_27_2019, AMSTERDAM_LATITUDE, AMSTERDAM_LONGITUDE, AMSTERDAM_ALTITUDE, false);
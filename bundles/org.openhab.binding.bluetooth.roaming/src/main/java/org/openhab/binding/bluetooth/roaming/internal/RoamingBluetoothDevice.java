@@ -41,6 +41,12 @@ import org.openhab.binding.bluetooth.notification.BluetoothScanNotification;
 @NonNullByDefault
 public class RoamingBluetoothDevice extends DelegateBluetoothDevice {
 
+    /**
+     * The margin in dBm by which another adapter has to receive the device better before it becomes the delegate, so
+     * the delegate does not flap between adapters receiving the device equally well.
+     */
+    private static final int ROAMING_HYSTERESIS = 5;
+
     private final Map<BluetoothDevice, Listener> devices = new ConcurrentHashMap<>();
 
     private final List<BluetoothDeviceListener> eventListeners = new CopyOnWriteArrayList<>();
@@ -70,6 +76,7 @@ public class RoamingBluetoothDevice extends DelegateBluetoothDevice {
     @Override
     @SuppressWarnings("PMD.CompareObjectsWithEquals")
     protected @Nullable BluetoothDevice getDelegate() {
+        BluetoothDevice currentDelegate = currentDelegateRef.get();
         BluetoothDevice newDelegate = null;
         int newRssi = Integer.MIN_VALUE;
         for (BluetoothDevice device : devices.keySet()) {
@@ -78,10 +85,14 @@ public class RoamingBluetoothDevice extends DelegateBluetoothDevice {
                 newDelegate = device;
                 break;
             }
-            Integer rssi = device.getRssi();
-            if (rssi != null && (newDelegate == null || rssi > newRssi)) {
-                newRssi = rssi;
-                newDelegate = device;
+            // the smoothed RSSI is compared, so a single strong advertisement does not switch the adapter
+            Integer rssi = device.getFilteredRssi();
+            if (rssi != null) {
+                int score = device == currentDelegate ? rssi + ROAMING_HYSTERESIS : rssi;
+                if (newDelegate == null || score > newRssi) {
+                    newRssi = score;
+                    newDelegate = device;
+                }
             }
         }
         BluetoothDevice oldDelegate = currentDelegateRef.getAndSet(newDelegate);
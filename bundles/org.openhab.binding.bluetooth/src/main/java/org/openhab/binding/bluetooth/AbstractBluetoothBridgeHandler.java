@@ -88,6 +88,9 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
     @Override
     public void initialize() {
         config = getConfigAs(BaseBluetoothBridgeHandlerConfiguration.class);
+        synchronized (devices) {
+            devices.values().forEach(this::configureAdvertisementFilter);
+        }
 
         int intervalSecs = config.inactiveDeviceCleanupInterval;
         inactiveRemovalJob = scheduler.scheduleWithFixedDelay(this::removeInactiveDevices, intervalSecs, intervalSecs,
@@ -187,7 +190,20 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
     @Override
     public BD getDevice(BluetoothAddress address) {
         synchronized (devices) {
-            return Objects.requireNonNull(devices.computeIfAbsent(address, this::createDevice));
+            return Objects.requireNonNull(devices.computeIfAbsent(address, addr -> {
+                BD device = createDevice(addr);
+                configureAdvertisementFilter(device);
+                return device;
+            }));
+        }
+    }
+
+    private void configureAdvertisementFilter(BD device) {
+        try {
+            device.configureAdvertisementFilter(config.rssiSmoothing,
+                    TimeUnit.SECONDS.toMillis(config.rssiUpdateInterval));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid RSSI filter configuration for adapter '{}': {}", getThing().getUID(), e.getMessage());
         }
     }
 
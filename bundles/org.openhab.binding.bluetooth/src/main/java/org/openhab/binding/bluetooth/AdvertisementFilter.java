@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.bluetooth;
+
+import java.util.Arrays;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.bluetooth.notification.BluetoothScanNotification;
+
+/**
+ * The {@link AdvertisementFilter} decides which scan notifications of a device are passed on to its listeners.
+ *
+ * A notification is passed on if its payload (manufacturer data, raw data or name) differs from the last one, or if
+ * the smoothed RSSI changed and the RSSI update interval has elapsed. The RSSI of a passed on notification is replaced
+ * by the smoothed RSSI, which is an exponential moving average of the received values.
+ *
+ * The filter keeps only primitive state and references to the last payload, so filtering does not allocate.
+ *
+ * @author atje - Initial contribution
+ */
+@NonNullByDefault
+public class AdvertisementFilter {
+
+    private double rssiSmoothing = 1.0;
+    private long rssiUpdateInterval;
+
+    private double smoothedRssi = Double.NaN;
+    private int publishedRssi = Integer.MIN_VALUE;
+    private long lastRssiUpdate;
+
+    private byte @Nullable [] lastManufacturerData;
+    private byte @Nullable [] lastData;
+    private @Nullable String lastName;
+
+    /**
+     * Configures the filter.
+     *
+     * @param rssiSmoothing the weight of a new RSSI value between 0 (exclusive) and 1, 1 disables smoothing
+     * @param rssiUpdateInterval the minimal time between two RSSI updates in milliseconds, 0 disables rate limiting
+     */
+    public synchronized void configure(double rssiSmoothing, long rssiUpdateInterval) {
+        if (rssiSmoothing <= 0 || rssiSmoothing > 1) {
+            throw new IllegalArgumentException("RSSI smoothing must be greater than 0 and at most 1");
+        }
+        this.rssiSmoothing = rssiSmoothing;
+        this.rssiUpdateInterval = Math.max(0, rssiUpdateInterval);
+    }
+
+    /**
+     * Filters a scan notification. If it is accepted, its RSSI is replaced by the smoothed RSSI.
+     *
+     * @param notification the received notification
+     * @param now the current time in milliseconds
+     * @return true if the notification should be passed on to the listeners
+     */
+    public synchronized boolean accept(BluetoothScanNotification notification, long now) {
+        boolean newPayload = updatePayload(notification);
+
+        int rssi = notification.getRssi();
+        if (rssi == Integer.MIN_VALUE) {
+            return newPayload;
+        }
+        smoothedRssi = Double.isNaN(smoothedRssi) ? rssi : smoothedRssi + rssiSmoothing * (rssi - smoothedRssi);
+        int roundedRssi = (int) Math.round(smoothedRssi);
+
+        boolean rssiDue = roundedRssi != publishedRssi && now - lastRssiUpdate >= rssiUpdateInterval;
+        if (!rssiDue && !newPayload) {
+            return false;
+        }
+        if (rssiDue || publishedRssi == Integer.MIN_VALUE) {
+            publishedRssi = roundedRssi;
+            lastRssiUpdate = now;
+        }
+        notification.setRssi(publishedRssi);
+        return true;
+    }
+
+    private boolean updatePayload(BluetoothScanNotification notification) {
+        boolean changed = false;
+        byte[] manufacturerData = notification.getManufacturerData();
+        if (manufacturerData != null && !Arrays.equals(manufacturerData, lastManufacturerData)) {
+            lastManufacturerData = manufacturerData;
+            changed = true;
+        }
+        byte[] data = notification.getData();
+        if (data != null && !Arrays.equals(data, lastData)) {
+            lastData = data;
+            changed = true;
+        }
+        String name = notification.getDeviceName();
+        if (name != null && !name.isEmpty() && !name.equals(lastName)) {
+            lastName = name;
+            changed = true;
+        }
+        return changed;
+    }
+
+    /**
+     * Get the smoothed RSSI.
+     *
+     * @return the smoothed RSSI in dBm or null if no RSSI was received yet
+     */
+    public synchronized @Nullable Integer getRssi() {
+        return Double.isNaN(smoothedRssi) ? null : (int) Math.round(smoothedRssi);
+    }
+}
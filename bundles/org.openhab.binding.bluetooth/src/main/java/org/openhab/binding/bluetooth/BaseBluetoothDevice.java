@@ -12,6 +12,8 @@
  */
 package org.openhab.binding.bluetooth;
 
+import java.time.Instant;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.Collection;
 import java.util.Map;
@@ -26,6 +28,7 @@ import java.util.concurrent.locks.ReentrantLock;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.bluetooth.notification.BluetoothScanNotification;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -75,9 +78,14 @@ public abstract class BaseBluetoothDevice extends BluetoothDevice {
     protected final transient ZonedDateTime createTime = ZonedDateTime.now();
 
     /**
-     * Last time when activity occurred on this device.
+     * Last time in milliseconds when activity occurred on this device, 0 if none occurred yet.
      */
-    protected @Nullable ZonedDateTime lastSeenTime = null;
+    private volatile long lastSeenMillis = 0;
+
+    /**
+     * Filters the received scan notifications before they are passed to the listeners
+     */
+    protected final AdvertisementFilter advertisementFilter = new AdvertisementFilter();
 
     /**
      * The event listeners will be notified of device updates
@@ -106,7 +114,9 @@ public abstract class BaseBluetoothDevice extends BluetoothDevice {
      * @return The last time this device was active
      */
     public @Nullable ZonedDateTime getLastSeenTime() {
-        return lastSeenTime;
+        long lastSeenMillis = this.lastSeenMillis;
+        return lastSeenMillis == 0 ? null
+                : ZonedDateTime.ofInstant(Instant.ofEpochMilli(lastSeenMillis), ZoneId.systemDefault());
     }
 
     /**
@@ -115,7 +125,7 @@ public abstract class BaseBluetoothDevice extends BluetoothDevice {
      *
      */
     public void updateLastSeenTime() {
-        lastSeenTime = ZonedDateTime.now();
+        lastSeenMillis = System.currentTimeMillis();
     }
 
     /**
@@ -209,6 +219,22 @@ public abstract class BaseBluetoothDevice extends BluetoothDevice {
         return rssi;
     }
 
+    @Override
+    public @Nullable Integer getFilteredRssi() {
+        Integer filteredRssi = advertisementFilter.getRssi();
+        return filteredRssi != null ? filteredRssi : rssi;
+    }
+
+    /**
+     * Configures the filter for the scan notifications of this device.
+     *
+     * @param rssiSmoothing the weight of a new RSSI value between 0 (exclusive) and 1, 1 disables smoothing
+     * @param rssiUpdateInterval the minimal time between two RSSI updates in milliseconds
+     */
+    public void configureAdvertisementFilter(double rssiSmoothing, long rssiUpdateInterval) {
+        advertisementFilter.configure(rssiSmoothing, rssiUpdateInterval);
+    }
+
     /**
      * Set the name of the device
      *
@@ -337,6 +363,11 @@ public abstract class BaseBluetoothDevice extends BluetoothDevice {
                     deviceLock.unlock();
                 }
                 break;
+            case SCAN_RECORD:
+                if (!advertisementFilter.accept((BluetoothScanNotification) args[0], System.currentTimeMillis())) {
+                    return;
+                }
+                break;
             default:
                 break;
         }
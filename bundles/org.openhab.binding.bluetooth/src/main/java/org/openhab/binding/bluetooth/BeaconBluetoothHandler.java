@@ -166,7 +166,7 @@ public class BeaconBluetoothHandler extends BaseThingHandler implements Bluetoot
      */
     protected void updateRSSI() {
         if (device != null) {
-            updateRSSI(device.getRssi());
+            updateRSSI(device.getFilteredRssi());
         }
     }
 
@@ -126,6 +126,16 @@ public abstract class BluetoothDevice {
      */
     public abstract @Nullable Integer getRssi();
 
+    /**
+     * Returns the smoothed Receive Signal Strength Indicator (RSSI) value or null if no RSSI has been received. Devices
+     * which do not filter their RSSI return the last value.
+     *
+     * @return the smoothed RSSI value in dBm
+     */
+    public @Nullable Integer getFilteredRssi() {
+        return getRssi();
+    }
+
     /**
      * Returns the physical address of the device.
      *
@@ -54,6 +54,12 @@ public abstract class DelegateBluetoothDevice extends BluetoothDevice {
         return delegate != null ? delegate.getRssi() : null;
     }
 
+    @Override
+    public @Nullable Integer getFilteredRssi() {
+        BluetoothDevice delegate = getDelegate();
+        return delegate != null ? delegate.getFilteredRssi() : null;
+    }
+
     @Override
     public @Nullable Integer getTxPower() {
         BluetoothDevice delegate = getDelegate();
@@ -0,0 +1,90 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.bluetooth;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.bluetooth.notification.BluetoothScanNotification;
+
+/**
+ * Tests {@link AdvertisementFilter}.
+ *
+ * @author atje - Initial contribution
+ */
+@NonNullByDefault
+public class AdvertisementFilterTest {
+
+    private final AdvertisementFilter filter = new AdvertisementFilter();
+
+    @Test
+    public void testDuplicatePayloadIsDropped() {
+        filter.configure(1.0, 10_000);
+
+        assertTrue(filter.accept(notification(-60, new byte[] { 1, 2 }), 1000));
+        assertFalse(filter.accept(notification(-60, new byte[] { 1, 2 }), 1100));
+        assertTrue(filter.accept(notification(-60, new byte[] { 1, 3 }), 1200));
+    }
+
+    @Test
+    public void testRssiUpdatesAreRateLimited() {
+        filter.configure(1.0, 1000);
+
+        assertTrue(filter.accept(notification(-60, null), 1000));
+        assertFalse(filter.accept(notification(-70, null), 1500));
+        assertTrue(filter.accept(notification(-70, null), 2000));
+        // unchanged RSSI is not published again
+        assertFalse(filter.accept(notification(-70, null), 5000));
+    }
+
+    @Test
+    public void testRssiIsSmoothed() {
+        filter.configure(0.5, 0);
+
+        BluetoothScanNotification notification = notification(-60, null);
+        assertTrue(filter.accept(notification, 1000));
+        assertEquals(-60, notification.getRssi());
+
+        notification = notification(-80, null);
+        assertTrue(filter.accept(notification, 2000));
+        assertEquals(-70, notification.getRssi());
+        assertEquals(-70, filter.getRssi());
+    }
+
+    @Test
+    public void testNewPayloadCarriesPublishedRssi() {
+        filter.configure(1.0, 10_000);
+
+        assertTrue(filter.accept(notification(-60, new byte[] { 1 }), 1000));
+        BluetoothScanNotification notification = notification(-75, new byte[] { 2 });
+        assertTrue(filter.accept(notification, 1100));
+        assertEquals(-60, notification.getRssi());
+    }
+
+    @Test
+    public void testInvalidSmoothing() {
+        assertThrows(IllegalArgumentException.class, () -> filter.configure(0, 0));
+        assertThrows(IllegalArgumentException.class, () -> filter.configure(1.5, 0));
+    }
+
+    private static BluetoothScanNotification notification(int rssi, byte @Nullable [] manufacturerData) {
+        BluetoothScanNotification notification = new BluetoothScanNotification();
+        notification.setRssi(rssi);
+        if (manufacturerData != null) {
+            notification.setManufacturerData(manufacturerData);
+        }
+        return notification;
+    }
+}
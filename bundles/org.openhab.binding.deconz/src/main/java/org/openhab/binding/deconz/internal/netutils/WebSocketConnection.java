@@ -13,8 +13,8 @@
 package org.openhab.binding.deconz.internal.netutils;
 
 import java.net.URI;
+import java.util.EnumMap;
 import java.util.Map;
-import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -33,6 +33,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
 
 /**
  * Establishes and keeps a websocket connection to the deCONZ software.
@@ -52,7 +55,9 @@ public class WebSocketConnection {
     private final Gson gson;
 
     private final WebSocketConnectionListener connectionListener;
-    private final Map<String, WebSocketMessageListener> listeners = new ConcurrentHashMap<>();
+    // listeners by resource type and id, so no lookup key has to be built for each message
+    private final Map<ResourceType, Map<String, WebSocketMessageListener>> listeners = new EnumMap<>(
+            ResourceType.class);
 
     private ConnectionState connectionState = ConnectionState.DISCONNECTED;
     private @Nullable Session session;
@@ -63,6 +68,9 @@ public class WebSocketConnection {
         this.client.setMaxIdleTimeout(0);
         this.gson = gson;
         this.socketName = "Websocket$" + System.currentTimeMillis() + "-" + INSTANCE_COUNTER.incrementAndGet();
+        for (ResourceType resourceType : ResourceType.values()) {
+            listeners.put(resourceType, new ConcurrentHashMap<>());
+        }
     }
 
     public void start(String ip) {
@@ -95,11 +103,11 @@ public class WebSocketConnection {
     }
 
     public void registerListener(ResourceType resourceType, String sensorID, WebSocketMessageListener listener) {
-        listeners.put(getListenerId(resourceType, sensorID), listener);
+        getListeners(resourceType).put(sensorID, listener);
     }
 
     public void unregisterListener(ResourceType resourceType, String sensorID) {
-        listeners.remove(getListenerId(resourceType, sensorID));
+        getListeners(resourceType).remove(sensorID);
     }
 
     @SuppressWarnings("unused")
@@ -122,32 +130,40 @@ public class WebSocketConnection {
         logger.trace("{} received raw data: {}", socketName, message);
 
         try {
-            DeconzBaseMessage changedMessage = Objects.requireNonNull(gson.fromJson(message, DeconzBaseMessage.class));
-            if (changedMessage.r == ResourceType.UNKNOWN) {
+            // the message is parsed only once, the routing fields are read from the parsed tree, which is then
+            // converted to the expected message type
+            JsonElement json = JsonParser.parseString(message);
+            if (!json.isJsonObject()) {
+                logger.debug("{} received message that is not a JSON object. Skipping message.", socketName);
+                return;
+            }
+            JsonObject jsonObject = json.getAsJsonObject();
+            ResourceType resourceType = ResourceType.fromString(getString(jsonObject, "r"));
+            if (resourceType == ResourceType.UNKNOWN) {
                 logger.trace("Received message has unknown resource type. Skipping message.");
                 return;
             }
 
-            WebSocketMessageListener listener = listeners.get(getListenerId(changedMessage.r, changedMessage.id));
+            String id = getString(jsonObject, "id");
+            WebSocketMessageListener listener = getListeners(resourceType).get(id);
             if (listener == null) {
                 logger.debug(
                         "Couldn't find listener for id {} with resource type {}. Either no thing for this id has been defined or this is a bug.",
-                        changedMessage.id, changedMessage.r);
+                        id, resourceType);
                 return;
             }
 
-            Class<? extends DeconzBaseMessage> expectedMessageType = changedMessage.r.getExpectedMessageType();
+            Class<? extends DeconzBaseMessage> expectedMessageType = resourceType.getExpectedMessageType();
             if (expectedMessageType == null) {
                 logger.warn(
                         "BUG! Could not get expected message type for resource type {}. Please report this incident.",
-                        changedMessage.r);
+                        resourceType);
                 return;
             }
 
-            DeconzBaseMessage deconzMessage = gson.fromJson(message, expectedMessageType);
+            DeconzBaseMessage deconzMessage = gson.fromJson(jsonObject, expectedMessageType);
             if (deconzMessage != null) {
-                listener.messageReceived(changedMessage.id, deconzMessage);
-
+                listener.messageReceived(id, deconzMessage);
             }
         } catch (RuntimeException e) {
             // we need to catch all processing exceptions, otherwise they could affect the connection
@@ -202,15 +218,25 @@ public class WebSocketConnection {
         return connectionState == ConnectionState.CONNECTED;
     }
 
+    private Map<String, WebSocketMessageListener> getListeners(ResourceType resourceType) {
+        Map<String, WebSocketMessageListener> resourceListeners = listeners.get(resourceType);
+        if (resourceListeners == null) {
+            // can't happen, the map contains all resource types
+            throw new IllegalStateException("No listener map for resource type " + resourceType);
+        }
+        return resourceListeners;
+    }
+
     /**
-     * create a unique identifier for a listener
+     * get a string field of a received message
      *
-     * @param resourceType the listener resource-type (LIGHT, SENSOR, ...)
-     * @param id the listener id (same as deconz-id)
-     * @return a unique string for this listener
+     * @param jsonObject the message
+     * @param name the field name
+     * @return the field value or an empty string if the field is missing or not a string
      */
-    private String getListenerId(ResourceType resourceType, String id) {
-        return resourceType.name() + "$" + id;
+    private static String getString(JsonObject jsonObject, String name) {
+        JsonElement element = jsonObject.get(name);
+        return element != null && element.isJsonPrimitive() ? element.getAsString() : "";
     }
 
     /**
@@ -0,0 +1,190 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.deconz;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.websocket.api.Session;
+import org.eclipse.jetty.websocket.client.WebSocketClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.openhab.binding.deconz.internal.dto.DeconzBaseMessage;
+import org.openhab.binding.deconz.internal.dto.LightMessage;
+import org.openhab.binding.deconz.internal.dto.SensorMessage;
+import org.openhab.binding.deconz.internal.netutils.WebSocketConnection;
+import org.openhab.binding.deconz.internal.netutils.WebSocketConnectionListener;
+import org.openhab.binding.deconz.internal.netutils.WebSocketMessageListener;
+import org.openhab.binding.deconz.internal.types.GroupType;
+import org.openhab.binding.deconz.internal.types.GroupTypeDeserializer;
+import org.openhab.binding.deconz.internal.types.LightType;
+import org.openhab.binding.deconz.internal.types.LightTypeDeserializer;
+import org.openhab.binding.deconz.internal.types.ResourceType;
+import org.openhab.binding.deconz.internal.types.ResourceTypeDeserializer;
+import org.openhab.binding.deconz.internal.types.ThermostatMode;
+import org.openhab.binding.deconz.internal.types.ThermostatModeGsonTypeAdapter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+/**
+ * This class provides tests for the decoding of websocket events
+ *
+ * @author atje - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.WARN)
+@NonNullByDefault
+public class WebSocketConnectionTest {
+    private final Logger logger = LoggerFactory.getLogger(WebSocketConnectionTest.class);
+
+    private @Mock @NonNullByDefault({}) WebSocketConnectionListener connectionListener;
+    private @Mock @NonNullByDefault({}) WebSocketClient client;
+    private @Mock @NonNullByDefault({}) Session session;
+    private @Mock @NonNullByDefault({}) WebSocketMessageListener presenceSensor;
+    private @Mock @NonNullByDefault({}) WebSocketMessageListener temperatureSensor;
+    private @Mock @NonNullByDefault({}) WebSocketMessageListener light;
+
+    private @NonNullByDefault({}) WebSocketConnection connection;
+
+    @BeforeEach
+    public void initialize() {
+        GsonBuilder gsonBuilder = new GsonBuilder();
+        gsonBuilder.registerTypeAdapter(LightType.class, new LightTypeDeserializer());
+        gsonBuilder.registerTypeAdapter(GroupType.class, new GroupTypeDeserializer());
+        gsonBuilder.registerTypeAdapter(ResourceType.class, new ResourceTypeDeserializer());
+        gsonBuilder.registerTypeAdapter(ThermostatMode.class, new ThermostatModeGsonTypeAdapter());
+        Gson gson = gsonBuilder.create();
+
+        doReturn(new InetSocketAddress("127.0.0.1", 443)).when(session).getRemoteAddress();
+        connection = new WebSocketConnection(connectionListener, client, gson);
+        connection.onConnect(session);
+        connection.registerListener(ResourceType.SENSORS, "5", presenceSensor);
+        connection.registerListener(ResourceType.SENSORS, "7", temperatureSensor);
+        connection.registerListener(ResourceType.LIGHTS, "3", light);
+    }
+
+    @Test
+    public void eventsAreDecodedAndRoutedToListener() throws IOException {
+        getRecordedEvents().forEach(event -> connection.onMessage(session, event));
+
+        ArgumentCaptor<DeconzBaseMessage> presenceMessages = ArgumentCaptor.forClass(DeconzBaseMessage.class);
+        verify(presenceSensor, times(3)).messageReceived(eq("5"), presenceMessages.capture());
+        SensorMessage sensorMessage = (SensorMessage) presenceMessages.getAllValues().get(0);
+        assertEquals(ResourceType.SENSORS, sensorMessage.r);
+        assertEquals(Boolean.TRUE, Objects.requireNonNull(sensorMessage.state).presence);
+        assertNotNull(((SensorMessage) presenceMessages.getAllValues().get(2)).config);
+
+        verify(temperatureSensor, times(2)).messageReceived(eq("7"), any(SensorMessage.class));
+
+        ArgumentCaptor<DeconzBaseMessage> lightMessages = ArgumentCaptor.forClass(DeconzBaseMessage.class);
+        verify(light, times(2)).messageReceived(eq("3"), lightMessages.capture());
+        LightMessage lightMessage = (LightMessage) lightMessages.getAllValues().get(1);
+        assertEquals(Integer.valueOf(143), Objects.requireNonNull(lightMessage.state).bri);
+    }
+
+    @Test
+    public void unregisteredListenerReceivesNoEvents() throws IOException {
+        connection.unregisterListener(ResourceType.SENSORS, "5");
+
+        getRecordedEvents().forEach(event -> connection.onMessage(session, event));
+
+        verify(presenceSensor, never()).messageReceived(anyString(), any());
+        verify(temperatureSensor, times(2)).messageReceived(eq("7"), any(SensorMessage.class));
+    }
+
+    @Test
+    public void eventRateBenchmark() throws IOException {
+        List<String> events = getRecordedEvents();
+        int warmUpRounds = 200;
+        int rounds = 2000;
+
+        // counting listeners, mocks would record every single invocation
+        CountingListener presence = new CountingListener();
+        CountingListener temperature = new CountingListener();
+        CountingListener lights = new CountingListener();
+        connection.registerListener(ResourceType.SENSORS, "5", presence);
+        connection.registerListener(ResourceType.SENSORS, "7", temperature);
+        connection.registerListener(ResourceType.LIGHTS, "3", lights);
+
+        for (int i = 0; i < warmUpRounds; i++) {
+            events.forEach(event -> connection.onMessage(session, event));
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            events.forEach(event -> connection.onMessage(session, event));
+        }
+        long duration = System.nanoTime() - start;
+
+        long eventCount = (long) rounds * events.size();
+        logger.info("Decoded {} recorded events in {} ms ({} events/s)", eventCount, duration / 1000000,
+                eventCount * 1000000000L / Math.max(duration, 1));
+
+        // every round has to decode and route the same events as a single pass
+        int totalRounds = warmUpRounds + rounds;
+        assertEquals(3 * totalRounds, presence.count);
+        assertEquals(2 * totalRounds, temperature.count);
+        assertEquals(2 * totalRounds, lights.count);
+        assertEquals("5", presence.lastId);
+        assertNotNull(((SensorMessage) Objects.requireNonNull(presence.lastMessage)).config);
+        assertEquals("7", temperature.lastId);
+        assertEquals(ResourceType.SENSORS, Objects.requireNonNull(temperature.lastMessage).r);
+        LightMessage lightMessage = (LightMessage) Objects.requireNonNull(lights.lastMessage);
+        assertEquals(Integer.valueOf(143), Objects.requireNonNull(lightMessage.state).bri);
+    }
+
+    private static class CountingListener implements WebSocketMessageListener {
+        private int count;
+        private @Nullable String lastId;
+        private @Nullable DeconzBaseMessage lastMessage;
+
+        @Override
+        public void messageReceived(String sensorID, DeconzBaseMessage message) {
+            count++;
+            lastId = sensorID;
+            lastMessage = message;
+        }
+    }
+
+    private List<String> getRecordedEvents() throws IOException {
+        try (InputStream inputStream = WebSocketConnectionTest.class.getResourceAsStream("websocket_events.txt")) {
+            if (inputStream == null) {
+                throw new IOException("inputstream is null");
+            }
+            List<String> events = new ArrayList<>(
+                    Arrays.asList(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8).split("\n")));
+            events.removeIf(String::isBlank);
+            return events;
+        }
+    }
+}
@@ -45,6 +45,7 @@ public class DmxBindingConstants {
 
     // List of all config options
     public static final String CONFIG_UNIVERSE = "universe";
+    public static final String CONFIG_UNIVERSE_COUNT = "universecount";
     public static final String CONFIG_DMX_ID = "dmxid";
     public static final String CONFIG_APPLY_CURVE = "applycurve";
     public static final String CONFIG_REFRESH_RATE = "refreshrate";
@@ -53,6 +54,8 @@ public class DmxBindingConstants {
     public static final String CONFIG_ADDRESS = "address";
     public static final String CONFIG_LOCAL_ADDRESS = "localaddress";
     public static final String CONFIG_REFRESH_MODE = "refreshmode";
+    public static final String CONFIG_ARTNET_SYNC = "artsync";
+    public static final String CONFIG_SACN_SYNC_UNIVERSE = "syncuniverse";
 
     public static final String CONFIG_DIMMER_TYPE = "dimmertype";
     public static final String CONFIG_DIMMER_FADE_TIME = "fadetime";
@@ -17,9 +17,10 @@ import static org.openhab.binding.dmx.internal.DmxBindingConstants.CHANNEL_MUTE;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.openhab.binding.dmx.internal.action.DmxActions;
 import org.openhab.binding.dmx.internal.action.FadeAction;
@@ -50,14 +51,17 @@ import org.slf4j.LoggerFactory;
 
 public abstract class DmxBridgeHandler extends BaseBridgeHandler {
     public static final int DEFAULT_REFRESH_RATE = 20;
+    public static final int MAX_UNIVERSE_COUNT = 128;
 
     private final Logger logger = LoggerFactory.getLogger(DmxBridgeHandler.class);
 
     protected Universe universe;
+    protected final List<Universe> additionalUniverses = new CopyOnWriteArrayList<>();
 
-    private ScheduledFuture<?> senderJob;
+    private DmxFrameEngine.FrameJob senderJob;
     private boolean isMuted = false;
     private int refreshTime = 1000 / DEFAULT_REFRESH_RATE;
+    private long framePeriod = 1_000_000_000L / DEFAULT_REFRESH_RATE;
 
     public DmxBridgeHandler(Bridge dmxBridge) {
         super(dmxBridge);
@@ -87,16 +91,37 @@ public abstract class DmxBridgeHandler extends BaseBridgeHandler {
      * @return a Channel object
      */
     public DmxChannel getDmxChannel(BaseDmxChannel channel, Thing thing) {
-        return universe.registerChannel(channel, thing);
+        return getUniverse(channel.getUniverseId()).registerChannel(channel, thing);
     }
 
     /**
-     * remove a thing from all channels in the universe
+     * remove a thing from all channels in the universes of this bridge
      *
      * @param thing the thing that shall be removed
      */
     public void unregisterDmxChannels(Thing thing) {
         universe.unregisterChannels(thing);
+        additionalUniverses.forEach(additionalUniverse -> additionalUniverse.unregisterChannels(thing));
+    }
+
+    /**
+     * get the universe of this bridge with the given id
+     *
+     * @param universeId the DMX universe id
+     * @return the matching universe
+     * @throws IllegalArgumentException if the universe is not sent by this bridge
+     */
+    private Universe getUniverse(int universeId) throws IllegalArgumentException {
+        if (universe.getUniverseId() == universeId) {
+            return universe;
+        }
+        for (Universe additionalUniverse : additionalUniverses) {
+            if (additionalUniverse.getUniverseId() == universeId) {
+                return additionalUniverse;
+            }
+        }
+        throw new IllegalArgumentException(
+                String.format("universe %d is not sent by bridge %s", universeId, this.thing.getUID()));
     }
 
     /**
@@ -149,14 +174,14 @@ public abstract class DmxBridgeHandler extends BaseBridgeHandler {
     protected abstract void sendDmxData();
 
     /**
-     * install the sending and updating scheduler
+     * install the sending and updating job in the frame engine
      */
     protected void installScheduler() {
         if (senderJob != null) {
             uninstallScheduler();
         }
         if (refreshTime > 0) {
-            senderJob = scheduler.scheduleAtFixedRate(() -> {
+            senderJob = DmxFrameEngine.getInstance().register(this.thing.getUID().toString(), framePeriod, () -> {
                 logger.trace("runnable packet sender for universe {} called, state {}/{}", universe.getUniverseId(),
                         getThing().getStatus(), isMuted);
                 if (!isMuted) {
@@ -164,7 +189,7 @@ public abstract class DmxBridgeHandler extends BaseBridgeHandler {
                 } else {
                     logger.trace("bridge {} is muted", getThing().getUID());
                 }
-            }, 1, refreshTime, TimeUnit.MILLISECONDS);
+            });
             logger.trace("started scheduler for thing {}", this.thing.getUID());
         } else {
             logger.info("refresh disabled for thing {}", this.thing.getUID());
@@ -172,13 +197,11 @@ public abstract class DmxBridgeHandler extends BaseBridgeHandler {
     }
 
     /**
-     * uninstall the sending and updating scheduler
+     * uninstall the sending and updating job from the frame engine
      */
     protected void uninstallScheduler() {
         if (senderJob != null) {
-            if (!senderJob.isCancelled()) {
-                senderJob.cancel(true);
-            }
+            DmxFrameEngine.getInstance().unregister(senderJob);
             senderJob = null;
             closeConnection();
             logger.trace("stopping scheduler for thing {}", this.thing.getUID());
@@ -187,7 +210,7 @@ public abstract class DmxBridgeHandler extends BaseBridgeHandler {
 
     @Override
     public void childHandlerDisposed(ThingHandler thingHandler, Thing thing) {
-        universe.unregisterChannels(thing);
+        unregisterDmxChannels(thing);
     }
 
     /**
@@ -198,11 +221,14 @@ public abstract class DmxBridgeHandler extends BaseBridgeHandler {
 
         if (!configuration.applycurve.isEmpty()) {
             universe.setDimCurveChannels(configuration.applycurve);
+            additionalUniverses.forEach(
+                    additionalUniverse -> additionalUniverse.setDimCurveChannels(configuration.applycurve));
         }
 
         int refreshRate = configuration.refreshrate;
         if (refreshRate > 0) {
             refreshTime = (int) (1000.0 / refreshRate);
+            framePeriod = Math.round(1_000_000_000.0 / refreshRate);
         } else {
             refreshTime = 0;
         }
@@ -235,6 +261,56 @@ public abstract class DmxBridgeHandler extends BaseBridgeHandler {
         }
     }
 
+    /**
+     * set the id of the first universe and the number of consecutive universes served by this bridge
+     *
+     * @param universeConfig ConfigurationObject
+     * @param universeCountConfig ConfigurationObject
+     * @param minUniverseId the minimum id allowed by the bridge
+     * @param maxUniverseId the maximum id allowed by the bridge
+     */
+    protected void setUniverses(int universeConfig, int universeCountConfig, int minUniverseId, int maxUniverseId) {
+        setUniverse(universeConfig, minUniverseId, maxUniverseId);
+
+        int universeId = universe.getUniverseId();
+        int universeCount = Util.coerceToRange(universeCountConfig, 1,
+                Math.min(MAX_UNIVERSE_COUNT, maxUniverseId - universeId + 1), logger, "universeCount");
+        while (additionalUniverses.size() > universeCount - 1) {
+            removeUniverse(additionalUniverses.remove(additionalUniverses.size() - 1));
+        }
+        for (int i = 0; i < additionalUniverses.size(); i++) {
+            Universe additionalUniverse = additionalUniverses.get(i);
+            if (additionalUniverse.getUniverseId() != universeId + i + 1) {
+                additionalUniverse.rename(universeId + i + 1);
+            }
+        }
+        while (additionalUniverses.size() < universeCount - 1) {
+            additionalUniverses.add(new Universe(universeId + additionalUniverses.size() + 1));
+        }
+    }
+
+    /**
+     * report the channels of a universe that is no longer sent and put the things using them into configuration error
+     *
+     * @param removedUniverse the universe removed from this bridge
+     */
+    private void removeUniverse(Universe removedUniverse) {
+        List<DmxChannel> channels = removedUniverse.getChannels();
+        if (channels.isEmpty()) {
+            return;
+        }
+        logger.warn("universe {} is no longer sent by bridge {}, channels {} are not sent anymore",
+                removedUniverse.getUniverseId(), this.thing.getUID(), channels);
+        Set<Thing> things = new LinkedHashSet<>();
+        channels.forEach(channel -> things.addAll(channel.getRegisteredThings()));
+        for (Thing thing : things) {
+            ThingHandler handler = thing.getHandler();
+            if (handler instanceof DmxThingHandler) {
+                ((DmxThingHandler) handler).universeRemoved(removedUniverse.getUniverseId());
+            }
+        }
+    }
+
     /**
      * sends an immediate fade to the DMX output (for rule actions)
      *
@@ -0,0 +1,184 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.dmx.internal;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link DmxFrameEngine} sends the frames of all DMX bridges from a single timing thread.
+ *
+ * The frames of a bridge are scheduled on a fixed grid of {@link System#nanoTime()} deadlines, so late frames do not
+ * shift the following ones. If a bridge falls behind by more than a full period, the missed frames are skipped. The
+ * deviation of each frame from its deadline is recorded and logged as jitter statistics.
+ *
+ * @author atje - Initial contribution
+ */
+public class DmxFrameEngine implements Runnable {
+    private static final long STATISTICS_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final DmxFrameEngine INSTANCE = new DmxFrameEngine();
+
+    private final Logger logger = LoggerFactory.getLogger(DmxFrameEngine.class);
+
+    private final List<FrameJob> jobs = new CopyOnWriteArrayList<>();
+    private Thread thread;
+
+    /**
+     * get the frame engine shared by all bridges
+     *
+     * @return the frame engine
+     */
+    public static DmxFrameEngine getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * register a frame task, the timing thread is started if necessary
+     *
+     * @param name name of the task used in the statistics (e.g. the bridge UID)
+     * @param periodNanos time between two frames in ns
+     * @param frameTask the task that calculates and sends a frame
+     * @return the job for unregistering the task
+     */
+    public synchronized FrameJob register(String name, long periodNanos, Runnable frameTask) {
+        FrameJob job = new FrameJob(name, periodNanos, frameTask);
+        jobs.add(job);
+        if (thread == null) {
+            thread = new Thread(this, "OH-binding-" + DmxBindingConstants.BINDING_ID + "-frameEngine");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MAX_PRIORITY);
+            thread.start();
+        } else {
+            LockSupport.unpark(thread);
+        }
+        logger.debug("registered frame task {} with a period of {} us", name,
+                TimeUnit.NANOSECONDS.toMicros(periodNanos));
+        return job;
+    }
+
+    /**
+     * unregister a frame task, a frame that is currently sent is completed before
+     *
+     * @param job the job returned on registration
+     */
+    public void unregister(FrameJob job) {
+        synchronized (this) {
+            jobs.remove(job);
+        }
+        job.cancel();
+        logger.debug("unregistered frame task {}", job.name);
+    }
+
+    @Override
+    public void run() {
+        while (true) {
+            synchronized (this) {
+                if (jobs.isEmpty()) {
+                    thread = null;
+                    return;
+                }
+            }
+            long now = System.nanoTime();
+            long nextDeadline = now + STATISTICS_INTERVAL_NANOS;
+            for (FrameJob job : jobs) {
+                if (now - job.deadline >= 0) {
+                    job.runFrame(now);
+                    now = System.nanoTime();
+                }
+                if (job.deadline - nextDeadline < 0) {
+                    nextDeadline = job.deadline;
+                }
+            }
+            long waitTime = nextDeadline - System.nanoTime();
+            if (waitTime > 0) {
+                LockSupport.parkNanos(this, waitTime);
+            }
+        }
+    }
+
+    /**
+     * A frame task registered with the {@link DmxFrameEngine}
+     */
+    public class FrameJob {
+        private final String name;
+        private final long period;
+        private final Runnable frameTask;
+
+        private volatile long deadline;
+        private boolean cancelled = false;
+
+        private long statisticsStart;
+        private long frames;
+        private long skippedFrames;
+        private long jitterSum;
+        private long maxJitter;
+
+        private FrameJob(String name, long period, Runnable frameTask) {
+            this.name = name;
+            this.period = period;
+            this.frameTask = frameTask;
+            this.deadline = System.nanoTime() + period;
+            this.statisticsStart = deadline;
+        }
+
+        private synchronized void runFrame(long now) {
+            if (cancelled) {
+                return;
+            }
+            long jitter = now - deadline;
+            try {
+                frameTask.run();
+            } catch (RuntimeException e) {
+                logger.warn("sending frame of {} failed: {}", name, e.getMessage(), e);
+            }
+
+            frames++;
+            jitterSum += jitter;
+            if (jitter > maxJitter) {
+                maxJitter = jitter;
+            }
+            deadline += period;
+            long behind = System.nanoTime() - deadline;
+            if (behind >= period) {
+                // skip the missed frames instead of sending them in a burst
+                long missed = behind / period;
+                skippedFrames += missed;
+                deadline += missed * period;
+            }
+            if (now - statisticsStart >= STATISTICS_INTERVAL_NANOS) {
+                logStatistics(now);
+            }
+        }
+
+        private void logStatistics(long now) {
+            logger.debug("{}: sent {} frames in {} s, jitter average {} us, maximum {} us, skipped {} frames", name,
+                    frames, TimeUnit.NANOSECONDS.toSeconds(now - statisticsStart),
+                    TimeUnit.NANOSECONDS.toMicros(jitterSum / frames), TimeUnit.NANOSECONDS.toMicros(maxJitter),
+                    skippedFrames);
+            statisticsStart = now;
+            frames = 0;
+            skippedFrames = 0;
+            jitterSum = 0;
+            maxJitter = 0;
+        }
+
+        private synchronized void cancel() {
+            cancelled = true;
+        }
+    }
+}
@@ -54,6 +54,17 @@ public abstract class DmxThingHandler extends BaseThingHandler {
     public void updateChannelValue(ChannelUID channelUID, int value) {
     }
 
+    /**
+     * called by the bridge if a universe with channels of this thing is no longer sent
+     *
+     * @param universeId the DMX universe id
+     */
+    public void universeRemoved(int universeId) {
+        dmxHandlerStatus = ThingStatusDetail.CONFIGURATION_ERROR;
+        updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR,
+                "universe " + universeId + " is not sent by the bridge");
+    }
+
     @Override
     public void bridgeStatusChanged(ThingStatusInfo bridgeStatusInfo) {
         super.bridgeStatusChanged(bridgeStatusInfo);
@@ -23,7 +23,9 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 @NonNullByDefault
 public class ArtnetBridgeHandlerConfiguration {
     public int universe;
+    public int universecount = 1;
     public String address = "";
     public String localaddress = "";
     public String refreshmode = "standard";
+    public boolean artsync = false;
 }
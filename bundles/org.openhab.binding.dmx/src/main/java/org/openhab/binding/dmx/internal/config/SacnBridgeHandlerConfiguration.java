@@ -23,8 +23,10 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 @NonNullByDefault
 public class SacnBridgeHandlerConfiguration {
     public int universe;
+    public int universecount = 1;
     public String mode = "multicast";
     public String address = "";
     public String localaddress = "";
     public String refreshmode = "standard";
+    public int syncuniverse = 0;
 }
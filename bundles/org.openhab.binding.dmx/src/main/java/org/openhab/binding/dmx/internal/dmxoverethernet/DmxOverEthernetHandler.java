@@ -17,9 +17,11 @@ import java.net.DatagramPacket;
 import java.net.DatagramSocket;
 import java.net.SocketException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import org.openhab.binding.dmx.internal.DmxBridgeHandler;
+import org.openhab.binding.dmx.internal.multiverse.Universe;
 import org.openhab.core.thing.Bridge;
 import org.openhab.core.thing.ThingStatus;
 import org.openhab.core.thing.ThingStatusDetail;
@@ -30,22 +32,58 @@ import org.slf4j.LoggerFactory;
  * The {@link DmxOverEthernetHandler} is an abstract class with base functions
  * for DMX over Ethernet Bridges (ArtNet, sACN)
  *
+ * All universes of the bridge are calculated for the same timestamp and sent as one burst in each frame, followed by
+ * the synchronization packet if the bridge uses universe synchronization.
+ *
  * @author Jan N. Klug - Initial contribution
  */
 
 public abstract class DmxOverEthernetHandler extends DmxBridgeHandler {
     private final Logger logger = LoggerFactory.getLogger(DmxOverEthernetHandler.class);
 
-    protected DmxOverEthernetPacket packetTemplate;
     protected IpNode senderNode = new IpNode();
     protected List<IpNode> receiverNodes = new ArrayList<>();
+    protected DmxOverEthernetSyncPacket syncPacket = null;
+    protected List<IpNode> syncReceiverNodes = new ArrayList<>();
 
     protected boolean refreshAlways = false;
 
     DatagramSocket socket = null;
-    private long lastSend = 0;
-    private int repeatCounter = 0;
-    private int sequenceNo = 0;
+    private volatile List<UniverseOutput> outputs = Collections.emptyList();
+    private volatile SyncOutput syncOutput = null;
+    private int syncSequenceNo = 0;
+
+    /**
+     * create the packet template for a universe
+     *
+     * @param universeId the universe id
+     * @return a new packet, which is re-used in every frame
+     */
+    protected abstract DmxOverEthernetPacket createPacket(int universeId);
+
+    /**
+     * get the nodes a universe is sent to
+     *
+     * @param universeId the universe id
+     * @return list of receiving nodes
+     */
+    protected List<IpNode> getReceiverNodes(int universeId) {
+        return receiverNodes;
+    }
+
+    @Override
+    protected void updateConfiguration() {
+        List<UniverseOutput> newOutputs = new ArrayList<>();
+        newOutputs.add(new UniverseOutput(universe));
+        additionalUniverses.forEach(additionalUniverse -> newOutputs.add(new UniverseOutput(additionalUniverse)));
+        outputs = Collections.unmodifiableList(newOutputs);
+        DmxOverEthernetSyncPacket newSyncPacket = syncPacket;
+        syncOutput = (newSyncPacket == null) ? null : new SyncOutput(newSyncPacket, syncReceiverNodes);
+        logger.debug("sending {} universe(s), synchronization {} in bridge {}", newOutputs.size(),
+                newSyncPacket == null ? "disabled" : "enabled", this.thing.getUID());
+
+        super.updateConfiguration();
+    }
 
     @Override
     protected void openConnection() {
@@ -88,45 +126,117 @@ public abstract class DmxOverEthernetHandler extends DmxBridgeHandler {
     @Override
     protected void sendDmxData() {
         if (getThing().getStatus() == ThingStatus.ONLINE) {
-            boolean needsSending = false;
             long now = System.currentTimeMillis();
-            universe.calculateBuffer(now);
-            if ((universe.getLastBufferChanged() > lastSend) || refreshAlways) {
-                needsSending = true;
-                repeatCounter = 0;
-            } else if (now - lastSend > 800) {
-                needsSending = true;
-            } else if (repeatCounter < 3) {
-                needsSending = true;
-                repeatCounter++;
+            List<UniverseOutput> frameOutputs = outputs;
+            // calculate all universes first, so that they show the same point in time
+            for (UniverseOutput output : frameOutputs) {
+                output.universe.calculateBuffer(now);
             }
-            if (needsSending) {
-                packetTemplate.setPayload(universe.getBuffer(), universe.getBufferSize());
-                packetTemplate.setSequence(sequenceNo);
-                DatagramPacket sendPacket = new DatagramPacket(packetTemplate.getRawPacket(),
-                        packetTemplate.getPacketLength());
-                for (IpNode receiverNode : receiverNodes) {
-                    sendPacket.setAddress(receiverNode.getAddress());
-                    sendPacket.setPort(receiverNode.getPort());
-                    logger.trace("sending packet with length {} to {}", packetTemplate.getPacketLength(),
-                            receiverNode.toString());
-                    try {
-                        socket.send(sendPacket);
-                    } catch (IOException e) {
-                        logger.debug("Could not send to {} in {}: {}", receiverNode, this.thing.getUID(),
-                                e.getMessage());
-                        closeConnection(ThingStatusDetail.COMMUNICATION_ERROR, "could not send DMX data");
+            boolean sent = false;
+            for (UniverseOutput output : frameOutputs) {
+                if (output.needsSending(now)) {
+                    output.preparePacket();
+                    if (!send(output.sendPacket, output.receivers)) {
+                        return;
                     }
+                    output.lastSend = now;
+                    sent = true;
+                }
+            }
+            // the sync packet, its datagram and receivers are replaced together on reconfiguration
+            SyncOutput sync = syncOutput;
+            if (sent && sync != null) {
+                sync.packet.setSequence(syncSequenceNo);
+                if (send(sync.sendPacket, sync.receivers)) {
+                    syncSequenceNo = (syncSequenceNo + 1) % 256;
                 }
-                lastSend = now;
-                sequenceNo = (sequenceNo + 1) % 256;
             }
         } else {
             openConnection();
         }
     }
 
+    /**
+     * send a packet to a list of nodes
+     *
+     * @param sendPacket the packet
+     * @param nodes the receiving nodes
+     * @return true if successful, false if the connection was closed
+     */
+    private boolean send(DatagramPacket sendPacket, List<IpNode> nodes) {
+        for (IpNode receiverNode : nodes) {
+            sendPacket.setAddress(receiverNode.getAddress());
+            sendPacket.setPort(receiverNode.getPort());
+            logger.trace("sending packet with length {} to {}", sendPacket.getLength(), receiverNode);
+            try {
+                socket.send(sendPacket);
+            } catch (IOException e) {
+                logger.debug("Could not send to {} in {}: {}", receiverNode, this.thing.getUID(), e.getMessage());
+                closeConnection(ThingStatusDetail.COMMUNICATION_ERROR, "could not send DMX data");
+                return false;
+            }
+        }
+        return true;
+    }
+
     public DmxOverEthernetHandler(Bridge sacnBridge) {
         super(sacnBridge);
     }
+
+    /**
+     * The {@link UniverseOutput} holds the re-used packet and the transmission state of a single universe
+     */
+    private class UniverseOutput {
+        private final Universe universe;
+        private final DmxOverEthernetPacket packet;
+        private final DatagramPacket sendPacket;
+        private final List<IpNode> receivers;
+        private final byte[] payload = new byte[Universe.MAX_UNIVERSE_SIZE];
+        private long lastSend = 0;
+        private int repeatCounter = 0;
+        private int sequenceNo = 0;
+
+        private UniverseOutput(Universe universe) {
+            this.universe = universe;
+            this.packet = createPacket(universe.getUniverseId());
+            this.sendPacket = new DatagramPacket(packet.getRawPacket(), packet.getPacketLength());
+            this.receivers = new ArrayList<>(getReceiverNodes(universe.getUniverseId()));
+        }
+
+        private boolean needsSending(long now) {
+            if ((universe.getLastBufferChanged() > lastSend) || refreshAlways) {
+                repeatCounter = 0;
+                return true;
+            } else if (now - lastSend > 800) {
+                return true;
+            } else if (repeatCounter < 3) {
+                repeatCounter++;
+                return true;
+            }
+            return false;
+        }
+
+        private void preparePacket() {
+            int payloadSize = universe.copyBuffer(payload);
+            packet.setPayload(payload, payloadSize);
+            packet.setSequence(sequenceNo);
+            sendPacket.setLength(packet.getPacketLength());
+            sequenceNo = (sequenceNo + 1) % 256;
+        }
+    }
+
+    /**
+     * The {@link SyncOutput} holds the synchronization packet with its re-used datagram and receivers
+     */
+    private static class SyncOutput {
+        private final DmxOverEthernetSyncPacket packet;
+        private final DatagramPacket sendPacket;
+        private final List<IpNode> receivers;
+
+        private SyncOutput(DmxOverEthernetSyncPacket packet, List<IpNode> receivers) {
+            this.packet = packet;
+            this.sendPacket = new DatagramPacket(packet.getRawPacket(), packet.getPacketLength());
+            this.receivers = new ArrayList<>(receivers);
+        }
+    }
 }
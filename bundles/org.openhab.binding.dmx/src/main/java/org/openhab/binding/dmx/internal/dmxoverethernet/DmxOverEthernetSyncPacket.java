@@ -0,0 +1,50 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.dmx.internal.dmxoverethernet;
+
+/**
+ * The {@link DmxOverEthernetSyncPacket} is an abstract class for the synchronization
+ * packets of DMX over Ethernet (ArtSync, sACN/E1.31 universe synchronization). Receivers
+ * hold back the output of the received universes until the synchronization packet arrives.
+ *
+ * @author atje - Initial contribution
+ */
+public abstract class DmxOverEthernetSyncPacket {
+
+    protected byte[] rawPacket;
+
+    /**
+     * set sequence number
+     *
+     * @param sequenceNo sequence number (0-255)
+     */
+    public abstract void setSequence(int sequenceNo);
+
+    /**
+     * get packet for transmission
+     *
+     * @return byte array with raw packet data
+     */
+    public byte[] getRawPacket() {
+        return rawPacket;
+    }
+
+    /**
+     * get packet length
+     *
+     * @return full packet length
+     */
+    public int getPacketLength() {
+        return rawPacket.length;
+    }
+}
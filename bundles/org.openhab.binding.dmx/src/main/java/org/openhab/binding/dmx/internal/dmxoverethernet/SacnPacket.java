@@ -84,7 +84,7 @@ public class SacnPacket extends DmxOverEthernetPacket {
             rawPacket[i] = 0x00;
         }
         rawPacket[108] = 0x64; // priority (default 100), 1 byte
-        rawPacket[109] = 0x00; // reserved, 2 bytes
+        rawPacket[109] = 0x00; // synchronization address, 2 bytes
         rawPacket[110] = 0x00;
         rawPacket[111] = 0x00; // sequence number, 1 byte
         rawPacket[112] = 0x00; // options, 1 byte
@@ -101,7 +101,7 @@ public class SacnPacket extends DmxOverEthernetPacket {
         rawPacket[121] = 0x00; // address increment, 2 bytes
         rawPacket[122] = 0x01;
         rawPacket[123] = 0x02; // payload size, 2 bytes (including start code)
-        rawPacket[123] = 0x01;
+        rawPacket[124] = 0x01;
         rawPacket[125] = 0x00; // DMX start code, 1 byte
     }
 
@@ -164,6 +164,17 @@ public class SacnPacket extends DmxOverEthernetPacket {
         logger.debug("set packet priority to {}", priority);
     }
 
+    /**
+     * set synchronization address
+     *
+     * @param syncUniverseId universe of the synchronization packets, 0 disables synchronization
+     */
+    public void setSyncAddress(int syncUniverseId) {
+        rawPacket[109] = (byte) (syncUniverseId / 256);
+        rawPacket[110] = (byte) (syncUniverseId % 256);
+        logger.trace("set packet synchronization address to {}", syncUniverseId);
+    }
+
     @Override
     public void setPayload(byte[] payload) {
         System.arraycopy(payload, 0, rawPacket, 126, payloadSize);
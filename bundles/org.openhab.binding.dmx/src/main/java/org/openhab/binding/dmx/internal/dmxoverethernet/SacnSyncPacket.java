@@ -0,0 +1,83 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.dmx.internal.dmxoverethernet;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * The {@link SacnSyncPacket} is a sACN/E1.31 universe synchronization packet template
+ *
+ * @author atje - Initial contribution
+ */
+public class SacnSyncPacket extends DmxOverEthernetSyncPacket {
+    public static final int SACN_SYNC_PACKET_LEN = 49;
+
+    /**
+     * default constructor, creates a packet
+     *
+     * @param uuid UUID of the sender, identical to the one used in the data packets
+     * @param syncUniverseId the synchronization address
+     */
+    public SacnSyncPacket(UUID uuid, int syncUniverseId) {
+        rawPacket = new byte[SACN_SYNC_PACKET_LEN];
+
+        /* init E1.31 root layer, total length 38 bytes */
+        rawPacket[0] = 0x00; // preamble size, 2 bytes
+        rawPacket[1] = 0x10;
+        rawPacket[2] = 0x00; // postamble size, 2 bytes
+        rawPacket[3] = 0x00;
+        rawPacket[4] = 0x41; // packet identifier, 12 bytes
+        rawPacket[5] = 0x53;
+        rawPacket[6] = 0x43;
+        rawPacket[7] = 0x2d;
+        rawPacket[8] = 0x45;
+        rawPacket[9] = 0x31;
+        rawPacket[10] = 0x2e;
+        rawPacket[11] = 0x31;
+        rawPacket[12] = 0x37;
+        rawPacket[13] = 0x00;
+        rawPacket[14] = 0x00;
+        rawPacket[15] = 0x00;
+        rawPacket[16] = 0x70; // flags & length, 2 bytes
+        rawPacket[17] = 0x21;
+        rawPacket[18] = 0x00; // vector (extended), 4 bytes;
+        rawPacket[19] = 0x00;
+        rawPacket[20] = 0x00;
+        rawPacket[21] = 0x08;
+
+        // UUID 16 bytes
+        ByteBuffer uuidBytes = ByteBuffer.wrap(new byte[16]);
+        uuidBytes.putLong(uuid.getMostSignificantBits());
+        uuidBytes.putLong(uuid.getLeastSignificantBits());
+        System.arraycopy(uuidBytes.array(), 0, rawPacket, 22, 16);
+
+        /* init E1.31 synchronization framing layer, total length 11 bytes */
+        rawPacket[38] = 0x70; // flags & length, 2 bytes
+        rawPacket[39] = 0x0b;
+        rawPacket[40] = 0x00; // vector (sync), 4 bytes;
+        rawPacket[41] = 0x00;
+        rawPacket[42] = 0x00;
+        rawPacket[43] = 0x01;
+        rawPacket[44] = 0x00; // sequence number, 1 byte
+        rawPacket[45] = (byte) (syncUniverseId / 256); // synchronization address, 2 bytes
+        rawPacket[46] = (byte) (syncUniverseId % 256);
+        rawPacket[47] = 0x00; // reserved, 2 bytes
+        rawPacket[48] = 0x00;
+    }
+
+    @Override
+    public void setSequence(int sequenceNo) {
+        rawPacket[44] = (byte) (sequenceNo % 256);
+    }
+}
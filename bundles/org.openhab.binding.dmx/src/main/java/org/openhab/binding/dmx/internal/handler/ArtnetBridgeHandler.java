@@ -20,7 +20,9 @@ import java.util.Set;
 import org.openhab.binding.dmx.internal.config.ArtnetBridgeHandlerConfiguration;
 import org.openhab.binding.dmx.internal.dmxoverethernet.ArtnetNode;
 import org.openhab.binding.dmx.internal.dmxoverethernet.ArtnetPacket;
+import org.openhab.binding.dmx.internal.dmxoverethernet.ArtnetSyncPacket;
 import org.openhab.binding.dmx.internal.dmxoverethernet.DmxOverEthernetHandler;
+import org.openhab.binding.dmx.internal.dmxoverethernet.DmxOverEthernetPacket;
 import org.openhab.binding.dmx.internal.dmxoverethernet.IpNode;
 import org.openhab.core.thing.Bridge;
 import org.openhab.core.thing.ThingStatus;
@@ -50,8 +52,7 @@ public class ArtnetBridgeHandler extends DmxOverEthernetHandler {
     protected void updateConfiguration() {
         ArtnetBridgeHandlerConfiguration configuration = getConfig().as(ArtnetBridgeHandlerConfiguration.class);
 
-        setUniverse(configuration.universe, MIN_UNIVERSE_ID, MAX_UNIVERSE_ID);
-        packetTemplate.setUniverse(universe.getUniverseId());
+        setUniverses(configuration.universe, configuration.universecount, MIN_UNIVERSE_ID, MAX_UNIVERSE_ID);
 
         receiverNodes.clear();
         if (configuration.address.isEmpty()) {
@@ -79,6 +80,9 @@ public class ArtnetBridgeHandler extends DmxOverEthernetHandler {
 
         logger.debug("refresh mode set to always: {}", refreshAlways);
 
+        syncPacket = configuration.artsync ? new ArtnetSyncPacket() : null;
+        syncReceiverNodes = receiverNodes;
+
         updateStatus(ThingStatus.UNKNOWN);
         super.updateConfiguration();
 
@@ -89,7 +93,13 @@ public class ArtnetBridgeHandler extends DmxOverEthernetHandler {
     public void initialize() {
         logger.debug("initializing ArtNet bridge {}", this.thing.getUID());
 
-        packetTemplate = new ArtnetPacket();
         updateConfiguration();
     }
+
+    @Override
+    protected DmxOverEthernetPacket createPacket(int universeId) {
+        ArtnetPacket packet = new ArtnetPacket();
+        packet.setUniverse(universeId);
+        return packet;
+    }
 }
@@ -16,14 +16,18 @@ import static org.openhab.binding.dmx.internal.DmxBindingConstants.THING_TYPE_SA
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
+import org.openhab.binding.dmx.internal.Util;
 import org.openhab.binding.dmx.internal.config.SacnBridgeHandlerConfiguration;
 import org.openhab.binding.dmx.internal.dmxoverethernet.DmxOverEthernetHandler;
+import org.openhab.binding.dmx.internal.dmxoverethernet.DmxOverEthernetPacket;
 import org.openhab.binding.dmx.internal.dmxoverethernet.IpNode;
 import org.openhab.binding.dmx.internal.dmxoverethernet.SacnNode;
 import org.openhab.binding.dmx.internal.dmxoverethernet.SacnPacket;
+import org.openhab.binding.dmx.internal.dmxoverethernet.SacnSyncPacket;
 import org.openhab.core.thing.Bridge;
 import org.openhab.core.thing.ThingStatus;
 import org.openhab.core.thing.ThingStatusDetail;
@@ -44,6 +48,8 @@ public class SacnBridgeHandler extends DmxOverEthernetHandler {
 
     private final Logger logger = LoggerFactory.getLogger(SacnBridgeHandler.class);
     private final UUID senderUUID;
+    private boolean multicast = true;
+    private int syncUniverseId = 0;
 
     public SacnBridgeHandler(Bridge sacnBridge) {
         super(sacnBridge);
@@ -54,11 +60,11 @@ public class SacnBridgeHandler extends DmxOverEthernetHandler {
     protected void updateConfiguration() {
         SacnBridgeHandlerConfiguration configuration = getConfig().as(SacnBridgeHandlerConfiguration.class);
 
-        setUniverse(configuration.universe, MIN_UNIVERSE_ID, MAX_UNIVERSE_ID);
-        packetTemplate.setUniverse(universe.getUniverseId());
+        setUniverses(configuration.universe, configuration.universecount, MIN_UNIVERSE_ID, MAX_UNIVERSE_ID);
 
         receiverNodes.clear();
-        if ((configuration.mode.equals("unicast"))) {
+        multicast = !configuration.mode.equals("unicast");
+        if (!multicast) {
             if (configuration.address.isEmpty()) {
                 updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR,
                         "Could not initialize unicast sender (address not set)");
@@ -86,6 +92,17 @@ public class SacnBridgeHandler extends DmxOverEthernetHandler {
         refreshAlways = configuration.refreshmode.equals("always");
         logger.debug("refresh mode set to always: {}", refreshAlways);
 
+        if (configuration.syncuniverse > 0) {
+            syncUniverseId = Util.coerceToRange(configuration.syncuniverse, MIN_UNIVERSE_ID, MAX_UNIVERSE_ID, logger,
+                    "syncUniverseId");
+            syncPacket = new SacnSyncPacket(senderUUID, syncUniverseId);
+            syncReceiverNodes = getReceiverNodes(syncUniverseId);
+            logger.debug("using synchronization universe {} for {}", syncUniverseId, this.thing.getUID());
+        } else {
+            syncUniverseId = 0;
+            syncPacket = null;
+        }
+
         updateStatus(ThingStatus.UNKNOWN);
         super.updateConfiguration();
 
@@ -96,7 +113,24 @@ public class SacnBridgeHandler extends DmxOverEthernetHandler {
     public void initialize() {
         logger.debug("initializing sACN/E1.31 bridge {}", this.thing.getUID());
 
-        packetTemplate = new SacnPacket(senderUUID);
         updateConfiguration();
     }
+
+    @Override
+    protected DmxOverEthernetPacket createPacket(int universeId) {
+        SacnPacket packet = new SacnPacket(senderUUID);
+        packet.setUniverse(universeId);
+        packet.setSyncAddress(syncUniverseId);
+        return packet;
+    }
+
+    @Override
+    protected List<IpNode> getReceiverNodes(int universeId) {
+        if (multicast) {
+            List<IpNode> multicastNodes = new ArrayList<>();
+            multicastNodes.add(SacnNode.getBroadcastNode(universeId));
+            return multicastNodes;
+        }
+        return receiverNodes;
+    }
 }
@@ -49,6 +49,7 @@ public class DmxChannel extends BaseDmxChannel {
     private int lastStateValue = -1;
 
     private boolean isSuspended = false;
+    private volatile boolean needsCalculation = true;
     private int refreshTime = 0;
     private long lastStateTimestamp = 0;
 
@@ -103,13 +104,23 @@ public class DmxChannel extends BaseDmxChannel {
         return !registeredThings.isEmpty();
     }
 
+    /**
+     * get the things registered with this DMX Channel
+     *
+     * @return a copy of the list of things
+     */
+    public List<Thing> getRegisteredThings() {
+        return new ArrayList<>(registeredThings);
+    }
+
     /**
      * set a DMX channel value
      *
      * @param value Integer value (0-255)
      */
-    public void setValue(int value) {
+    public synchronized void setValue(int value) {
         this.value = Util.toDmxValue(value) << 8;
+        needsCalculation = true;
         logger.trace("set dmx channel {} to value {}", this, this.value >> 8);
     }
 
@@ -118,8 +129,9 @@ public class DmxChannel extends BaseDmxChannel {
      *
      * @param value PercentType (0-100)
      */
-    public void setValue(PercentType value) {
+    public synchronized void setValue(PercentType value) {
         this.value = Util.toDmxValue(value) << 8;
+        needsCalculation = true;
         logger.trace("set dmx channel {} to value {}", this, this.value >> 8);
     }
 
@@ -175,6 +187,7 @@ public class DmxChannel extends BaseDmxChannel {
                 logger.trace("resuming suspended value for DMX channel {}", this);
             }
             isSuspended = false;
+            needsCalculation = true;
         } else {
             throw new IllegalStateException("trying to resume actions in non-suspended DMX channel " + this.toString());
         }
@@ -195,6 +208,7 @@ public class DmxChannel extends BaseDmxChannel {
     public synchronized void clearAction() {
         logger.trace("clearing all actions for DMX channel {}", this);
         actions.clear();
+        needsCalculation = true;
         // remove action listener
         if (actionListener != null) {
             actionListener.getValue().updateSwitchState(actionListener.getKey(), OnOffType.OFF);
@@ -210,6 +224,7 @@ public class DmxChannel extends BaseDmxChannel {
     public synchronized void setChannelAction(BaseAction channelAction) {
         clearAction();
         actions.add(channelAction);
+        needsCalculation = true;
         logger.trace("set action {} for DMX channel {}", channelAction, this);
     }
 
@@ -220,6 +235,7 @@ public class DmxChannel extends BaseDmxChannel {
      */
     public synchronized void addChannelAction(BaseAction channelAction) {
         actions.add(channelAction);
+        needsCalculation = true;
         logger.trace("added action {} to channel {} (total {} actions)", channelAction, this, actions.size());
     }
 
@@ -245,6 +261,22 @@ public class DmxChannel extends BaseDmxChannel {
         logger.trace("switching to next action {} on channel {}", actions.get(0), this);
     }
 
+    /**
+     * check if the value of this channel needs to be calculated in the next frame
+     *
+     * @return true if there are running actions, the value changed or a state update is pending
+     */
+    public boolean needsCalculation() {
+        return needsCalculation;
+    }
+
+    /**
+     * force a calculation of the value in the next frame
+     */
+    public void invalidate() {
+        needsCalculation = true;
+    }
+
     /**
      * Get the new value for this channel as determined by active actions or the
      * current value.
@@ -299,6 +331,9 @@ public class DmxChannel extends BaseDmxChannel {
             lastStateTimestamp = calculationTime;
         }
 
+        // keep calculating while actions are running or a throttled state update is pending
+        needsCalculation = hasRunningActions() || lastStateValue != value;
+
         return value;
     }
 
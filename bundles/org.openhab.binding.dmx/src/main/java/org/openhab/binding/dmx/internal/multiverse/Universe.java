@@ -13,6 +13,7 @@
 package org.openhab.binding.dmx.internal.multiverse;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.locks.ReentrantLock;
@@ -38,14 +39,14 @@ public class Universe {
     private int universeId;
     private int bufferSize = MIN_UNIVERSE_SIZE;
 
-    private final short[] buffer = new short[MAX_UNIVERSE_SIZE];
+    private final byte[] buffer = new byte[MAX_UNIVERSE_SIZE];
     private final short[] cie1931Curve = new short[DmxChannel.MAX_VALUE << 8 + 1];
 
     private long bufferChanged;
     private int refreshTime = DEFAULT_REFRESH_TIME;
 
     private final List<DmxChannel> channels = new ArrayList<>();
-    private final List<Integer> applyCurve = new ArrayList<>();
+    private final boolean[] applyCurve = new boolean[MAX_UNIVERSE_SIZE + 1];
 
     /**
      * universe constructor
@@ -131,6 +132,20 @@ public class Universe {
         }
     }
 
+    /**
+     * get all channels of this universe
+     *
+     * @return a copy of the list of channels
+     */
+    public List<DmxChannel> getChannels() {
+        universeLock.lock();
+        try {
+            return new ArrayList<>(channels);
+        } finally {
+            universeLock.unlock();
+        }
+    }
+
     /**
      * get the timestamp of the last buffer change
      *
@@ -174,23 +189,28 @@ public class Universe {
     /**
      * calculate this universe buffer (run all channel actions) for a given time
      *
+     * only channels with running actions, changed values or pending state updates are calculated
+     *
      * @param time the timestamp used for calculation
      */
     public void calculateBuffer(long time) {
         universeLock.lock();
         try {
             for (DmxChannel channel : channels) {
+                if (!channel.needsCalculation()) {
+                    continue;
+                }
                 logger.trace("calculating new value for {}", channel);
                 int channelId = channel.getChannelId();
                 int vx = channel.getNewHiResValue(time);
-                int value;
-                if (applyCurve.contains(channelId)) {
-                    value = cie1931Curve[vx];
+                byte value;
+                if (applyCurve[channelId]) {
+                    value = (byte) cie1931Curve[vx];
                 } else {
-                    value = vx >> 8;
+                    value = (byte) (vx >> 8);
                 }
                 if (buffer[channelId - 1] != value) {
-                    buffer[channelId - 1] = (short) value;
+                    buffer[channelId - 1] = value;
                     bufferChanged = time;
                 }
             }
@@ -205,16 +225,28 @@ public class Universe {
      * @return byte array with channel values
      */
     public byte[] getBuffer() {
-        byte[] b = new byte[bufferSize];
         universeLock.lock();
         try {
-            for (int i = 0; i < bufferSize; i++) {
-                b[i] = (byte) buffer[i];
-            }
+            return Arrays.copyOf(buffer, bufferSize);
+        } finally {
+            universeLock.unlock();
+        }
+    }
+
+    /**
+     * copy the universe buffer to an existing array, e.g. for re-using it in every frame
+     *
+     * @param destination array of at least {@link MAX_UNIVERSE_SIZE} bytes
+     * @return the number of copied channel values (the buffer size)
+     */
+    public int copyBuffer(byte[] destination) {
+        universeLock.lock();
+        try {
+            System.arraycopy(buffer, 0, destination, 0, bufferSize);
+            return bufferSize;
         } finally {
             universeLock.unlock();
         }
-        return b;
     }
 
     /**
@@ -223,11 +255,23 @@ public class Universe {
      * @param listString
      */
     public void setDimCurveChannels(String listString) {
-        applyCurve.clear();
+        List<Integer> curveChannels = new ArrayList<>();
         for (BaseDmxChannel channel : BaseDmxChannel.fromString(listString, universeId)) {
-            applyCurve.add(channel.getChannelId());
+            // a bridge serving several universes passes the same list to all of them
+            if (channel.getUniverseId() == universeId) {
+                curveChannels.add(channel.getChannelId());
+            }
+        }
+        universeLock.lock();
+        try {
+            Arrays.fill(applyCurve, false);
+            curveChannels.forEach(channelId -> applyCurve[channelId] = true);
+            // the buffer values of all channels need to be calculated again
+            channels.forEach(DmxChannel::invalidate);
+        } finally {
+            universeLock.unlock();
         }
-        logger.debug("applying dim curve in universe {} to channels {}", universeId, applyCurve);
+        logger.debug("applying dim curve in universe {} to channels {}", universeId, curveChannels);
     }
 
     /**
@@ -0,0 +1,61 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.dmx.internal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.openhab.core.test.java.JavaTest;
+
+/**
+ * Tests cases for {@link DmxFrameEngine}
+ *
+ * @author atje - Initial contribution
+ */
+public class DmxFrameEngineTest extends JavaTest {
+
+    @Test
+    public void framesAreSentUntilUnregistered() throws InterruptedException {
+        AtomicInteger frames = new AtomicInteger();
+        DmxFrameEngine.FrameJob job = DmxFrameEngine.getInstance().register("test",
+                TimeUnit.MILLISECONDS.toNanos(10), frames::incrementAndGet);
+
+        waitForAssert(() -> assertThat(frames.get(), is(greaterThanOrEqualTo(10))));
+
+        DmxFrameEngine.getInstance().unregister(job);
+        int sentFrames = frames.get();
+        Thread.sleep(100);
+        assertThat(frames.get(), is(sentFrames));
+    }
+
+    @Test
+    public void failingFrameTaskDoesNotStopOtherTasks() {
+        AtomicInteger frames = new AtomicInteger();
+        DmxFrameEngine.FrameJob failingJob = DmxFrameEngine.getInstance().register("failing",
+                TimeUnit.MILLISECONDS.toNanos(10), () -> {
+                    throw new IllegalStateException("test");
+                });
+        DmxFrameEngine.FrameJob job = DmxFrameEngine.getInstance().register("test",
+                TimeUnit.MILLISECONDS.toNanos(10), frames::incrementAndGet);
+
+        waitForAssert(() -> assertThat(frames.get(), is(greaterThanOrEqualTo(10))));
+
+        DmxFrameEngine.getInstance().unregister(failingJob);
+        DmxFrameEngine.getInstance().unregister(job);
+    }
+}
@@ -15,6 +15,7 @@ package org.openhab.binding.dmx.internal.handler;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.openhab.binding.dmx.internal.DmxBindingConstants.*;
@@ -25,6 +26,9 @@ import java.util.Map;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.openhab.binding.dmx.internal.DmxThingHandler;
+import org.openhab.binding.dmx.internal.multiverse.BaseDmxChannel;
+import org.openhab.binding.dmx.internal.multiverse.DmxChannel;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.test.java.JavaTest;
 import org.openhab.core.thing.Bridge;
@@ -102,4 +106,43 @@ public class SacnBridgeHandlerTest extends JavaTest {
         bridgeHandler.handleConfigurationUpdate(bridgeProperties);
         waitForAssert(() -> assertThat(bridgeHandler.getUniverseId(), is(TEST_UNIVERSE)));
     }
+
+    @Test
+    public void additionalUniverses() {
+        bridgeProperties.put(CONFIG_UNIVERSE_COUNT, 3);
+        bridgeProperties.put(CONFIG_SACN_SYNC_UNIVERSE, 100);
+        bridgeHandler.handleConfigurationUpdate(bridgeProperties);
+        waitForAssert(() -> assertEquals(ThingStatus.ONLINE, bridge.getStatusInfo().getStatus()));
+
+        DmxChannel channel = bridgeHandler.getDmxChannel(new BaseDmxChannel(TEST_UNIVERSE + 2, 5), bridge);
+        assertThat(channel.getUniverseId(), is(TEST_UNIVERSE + 2));
+
+        // additional universes move with the first universe
+        bridgeProperties.replace(CONFIG_UNIVERSE, 2);
+        bridgeHandler.handleConfigurationUpdate(bridgeProperties);
+        waitForAssert(() -> assertThat(channel.getUniverseId(), is(4)));
+    }
+
+    @Test
+    public void reducedUniverseCount() {
+        bridgeProperties.put(CONFIG_UNIVERSE_COUNT, 3);
+        bridgeHandler.handleConfigurationUpdate(bridgeProperties);
+        waitForAssert(() -> assertEquals(ThingStatus.ONLINE, bridge.getStatusInfo().getStatus()));
+
+        Thing thing = mock(Thing.class);
+        DmxThingHandler thingHandler = mock(DmxThingHandler.class);
+        when(thing.getHandler()).thenReturn(thingHandler);
+        bridgeHandler.getDmxChannel(new BaseDmxChannel(TEST_UNIVERSE + 1, 5), thing);
+        bridgeHandler.getDmxChannel(new BaseDmxChannel(TEST_UNIVERSE + 2, 5), thing);
+
+        // things with channels in removed universes are reported once per universe
+        bridgeProperties.replace(CONFIG_UNIVERSE_COUNT, 1);
+        bridgeHandler.handleConfigurationUpdate(bridgeProperties);
+        verify(thingHandler, timeout(1000)).universeRemoved(TEST_UNIVERSE + 2);
+        verify(thingHandler, timeout(1000)).universeRemoved(TEST_UNIVERSE + 1);
+
+        // channels of universes not sent by the bridge are rejected
+        assertThrows(IllegalArgumentException.class,
+                () -> bridgeHandler.getDmxChannel(new BaseDmxChannel(TEST_UNIVERSE + 1, 5), thing));
+    }
 }
@@ -142,4 +142,25 @@ public class DmxChannelTest {
         assertThat(dmxChannel.hasRunningActions(), is(false));
         Mockito.verify(dimmerThingHandler).updateChannelValue(valueChannelUID, 127);
     }
+
+    @Test
+    public void checkOnlyChangedChannelsNeedCalculation() {
+        dmxChannel.getNewValue(currentTime);
+        assertThat(dmxChannel.needsCalculation(), is(false));
+
+        dmxChannel.setValue(100);
+        assertThat(dmxChannel.needsCalculation(), is(true));
+        currentTime += 10;
+        dmxChannel.getNewValue(currentTime);
+        assertThat(dmxChannel.needsCalculation(), is(false));
+
+        dmxChannel.setChannelAction(new FadeAction(1000, 255, -1));
+        currentTime += 10;
+        dmxChannel.getNewValue(currentTime);
+        assertThat(dmxChannel.needsCalculation(), is(true));
+        currentTime += 1000;
+        dmxChannel.getNewValue(currentTime);
+        assertThat(dmxChannel.hasRunningActions(), is(false));
+        assertThat(dmxChannel.needsCalculation(), is(false));
+    }
 }
@@ -16,19 +16,28 @@ import static org.openhab.binding.homematic.internal.HomematicBindingConstants.*
 import static org.openhab.binding.homematic.internal.misc.HomematicConstants.*;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.jetty.client.HttpClient;
 import org.openhab.binding.homematic.internal.common.HomematicConfig;
@@ -37,6 +46,8 @@ import org.openhab.binding.homematic.internal.communicator.client.RpcClient;
 import org.openhab.binding.homematic.internal.communicator.client.TransferMode;
 import org.openhab.binding.homematic.internal.communicator.client.UnknownParameterSetException;
 import org.openhab.binding.homematic.internal.communicator.client.XmlRpcClient;
+import org.openhab.binding.homematic.internal.communicator.parser.GetParamsetDescriptionParser;
+import org.openhab.binding.homematic.internal.communicator.parser.GetParamsetParser;
 import org.openhab.binding.homematic.internal.communicator.parser.ListBidcosInterfacesParser;
 import org.openhab.binding.homematic.internal.communicator.server.BinRpcServer;
 import org.openhab.binding.homematic.internal.communicator.server.RpcEventListener;
@@ -76,6 +87,7 @@ import org.openhab.binding.homematic.internal.model.HmInterface;
 import org.openhab.binding.homematic.internal.model.HmParamsetType;
 import org.openhab.binding.homematic.internal.model.HmRssiInfo;
 import org.openhab.binding.homematic.internal.model.HmValueType;
+import org.openhab.core.OpenHAB;
 import org.openhab.core.common.ThreadPoolManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -90,6 +102,9 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
     public static final double DEFAULT_DISABLE_DELAY = 2.0;
     private static final long RESTART_DELAY = 30;
     private static final long CONNECTION_TRACKER_INTERVAL_SECONDS = 15;
+    private static final int MULTICALL_BATCH_SIZE = 25;
+    private static final long LIVE_EVENT_PRIORITY_MILLIS = 250;
+    private static final HmParamsetType[] VALUE_PARAMSET_TYPES = { HmParamsetType.MASTER, HmParamsetType.VALUES };
 
     private final Map<TransferMode, RpcClient<?>> rpcClients = new HashMap<>();
     private final Map<TransferMode, RpcServer> rpcServers = new HashMap<>();
@@ -111,6 +126,14 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
     private boolean newDeviceEventsEnabled;
     private ScheduledFuture<?> enableNewDeviceFuture;
     private final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool(GATEWAY_POOL_NAME);
+    private final ParamsetDescriptionCache paramsetDescriptionCache;
+    private final Set<HmInterface> multicallUnsupportedInterfaces = ConcurrentHashMap.newKeySet();
+    private final Object devicesLoadedLock = new Object();
+    private final Map<HmInterface, Set<HmDevice>> pendingValueReloads = new ConcurrentHashMap<>();
+    private final Map<HmInterface, ValueReloadProgress> runningValueReloads = new ConcurrentHashMap<>();
+    private final Map<HmDatapointInfo, Object> eventsDuringValueLoad = Collections.synchronizedMap(new HashMap<>());
+    private final AtomicInteger activeValueLoads = new AtomicInteger();
+    private volatile long lastEventReceived;
 
     static {
         // loads all virtual datapoints
@@ -139,6 +162,8 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
         this.config = config;
         this.gatewayAdapter = gatewayAdapter;
         this.httpClient = httpClient;
+        this.paramsetDescriptionCache = new ParamsetDescriptionCache(
+                Path.of(OpenHAB.getUserDataFolder(), BINDING_ID, id + ".paramsets"));
     }
 
     @Override
@@ -210,6 +235,10 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
             enableNewDeviceFuture.cancel(true);
         }
         newDeviceEventsEnabled = false;
+        runningValueReloads.values().forEach(ValueReloadProgress::cancel);
+        runningValueReloads.clear();
+        pendingValueReloads.values().forEach(Set::clear);
+        pendingValueReloads.clear();
         stopWatchdogs();
         sendDelayedExecutor.stop();
         receiveDelayedExecutor.stop();
@@ -225,6 +254,8 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
      * Starts the Homematic gateway client.
      */
     protected synchronized void startClients() throws IOException {
+        // a multicall may have failed because the connection was lost, check the support again
+        multicallUnsupportedInterfaces.clear();
         for (TransferMode mode : availableInterfaces.values()) {
             if (!rpcClients.containsKey(mode)) {
                 rpcClients.put(mode,
@@ -375,60 +406,208 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
         cancelLoadAllMetadata = false;
         // load all device descriptions
         List<HmDevice> deviceDescriptions = getDeviceDescriptions();
+        paramsetDescriptionCache.load();
 
-        // loading datapoints for all channels
-        Set<String> loadedDevices = new HashSet<>();
-        Map<String, Collection<HmDatapoint>> datapointsByChannelIdCache = new HashMap<>();
+        // loading datapoints for all channels, the interfaces are loaded concurrently
+        Map<HmInterface, List<HmDevice>> devicesByInterface = new LinkedHashMap<>();
         for (HmDevice device : deviceDescriptions) {
-            if (!cancelLoadAllMetadata) {
-                try {
-                    logger.trace("Loading metadata for device '{}' of type '{}'", device.getAddress(),
-                            device.getType());
-                    if (device.isGatewayExtras()) {
-                        loadChannelValues(device.getChannel(HmChannel.CHANNEL_NUMBER_VARIABLE));
-                        loadChannelValues(device.getChannel(HmChannel.CHANNEL_NUMBER_SCRIPT));
-                    } else {
-                        for (HmChannel channel : device.getChannels()) {
-                            logger.trace("  Loading channel {}", channel);
-                            // speed up metadata generation a little bit for equal channels in the gateway devices
-                            if ((DEVICE_TYPE_VIRTUAL.equals(device.getType())
-                                    || DEVICE_TYPE_VIRTUAL_WIRED.equals(device.getType())) && channel.getNumber() > 1) {
-                                HmChannel previousChannel = device.getChannel(channel.getNumber() - 1);
-                                cloneAllDatapointsIntoChannel(channel, previousChannel.getDatapoints());
-                            } else {
-                                String channelId = String.format("%s:%s:%s", channel.getDevice().getType(),
-                                        channel.getDevice().getFirmware(), channel.getNumber());
-                                Collection<HmDatapoint> cachedDatapoints = datapointsByChannelIdCache.get(channelId);
-                                if (cachedDatapoints != null) {
-                                    // clone all datapoints
-                                    cloneAllDatapointsIntoChannel(channel, cachedDatapoints);
-                                } else {
-                                    logger.trace("    Loading datapoints into channel {}", channel);
-                                    addChannelDatapoints(channel, HmParamsetType.MASTER);
-                                    addChannelDatapoints(channel, HmParamsetType.VALUES);
-
-                                    // Make sure to only cache non-reconfigurable channels. For reconfigurable channels,
-                                    // the data point set might change depending on the selected mode.
-                                    if (!channel.isReconfigurable()) {
-                                        datapointsByChannelIdCache.put(channelId, channel.getDatapoints());
-                                    }
-                                }
-                            }
+            devicesByInterface.computeIfAbsent(device.getHmInterface(), hmInterface -> new ArrayList<>()).add(device);
+        }
+        Set<String> loadedDevices = ConcurrentHashMap.newKeySet();
+        Set<String> usedDescriptions = ConcurrentHashMap.newKeySet();
+        List<Future<?>> futures = new ArrayList<>();
+        for (List<HmDevice> interfaceDevices : devicesByInterface.values()) {
+            futures.add(scheduler.submit(() -> loadDevices(interfaceDevices, loadedDevices, usedDescriptions)));
+        }
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException ex) {
+                logger.warn("Can't load devices from gateway '{}': {}", id, ex.getCause().getMessage());
+            } catch (InterruptedException ex) {
+                cancelLoadAllMetadata = true;
+                futures.forEach(f -> f.cancel(true));
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        if (!cancelLoadAllMetadata) {
+            devices.keySet().retainAll(loadedDevices);
+            if (loadedDevices.size() == deviceDescriptions.size()) {
+                // drop the descriptions of removed devices and replaced firmwares
+                paramsetDescriptionCache.retainAll(usedDescriptions);
+            }
+        }
+        paramsetDescriptionCache.save();
+        initialized = true;
+    }
+
+    /**
+     * Loads the datapoints of the devices of one interface.
+     */
+    private void loadDevices(List<HmDevice> interfaceDevices, Set<String> loadedDevices,
+            Set<String> usedDescriptions) {
+        List<HmChannel> channels = new ArrayList<>();
+        for (HmDevice device : interfaceDevices) {
+            if (!device.isGatewayExtras()) {
+                for (HmChannel channel : device.getChannels()) {
+                    if (!isClonedVirtualChannel(channel)) {
+                        channels.add(channel);
+                    }
+                }
+            }
+        }
+        Set<String> failedDevices = new HashSet<>();
+        loadChannelDatapoints(channels, false, usedDescriptions, failedDevices);
+
+        for (HmDevice device : interfaceDevices) {
+            if (cancelLoadAllMetadata) {
+                return;
+            }
+            if (failedDevices.contains(device.getAddress())) {
+                continue;
+            }
+            try {
+                logger.trace("Loading metadata for device '{}' of type '{}'", device.getAddress(), device.getType());
+                if (device.isGatewayExtras()) {
+                    loadChannelValues(device.getChannel(HmChannel.CHANNEL_NUMBER_VARIABLE));
+                    loadChannelValues(device.getChannel(HmChannel.CHANNEL_NUMBER_SCRIPT));
+                } else {
+                    for (HmChannel channel : device.getChannels()) {
+                        // speed up metadata generation a little bit for equal channels in the gateway devices
+                        if (isClonedVirtualChannel(channel)) {
+                            HmChannel previousChannel = device.getChannel(channel.getNumber() - 1);
+                            cloneAllDatapointsIntoChannel(channel, previousChannel.getDatapoints());
                         }
                     }
+                }
+                synchronized (devicesLoadedLock) {
                     prepareDevice(device);
-                    loadedDevices.add(device.getAddress());
                     gatewayAdapter.onDeviceLoaded(device);
+                }
+                loadedDevices.add(device.getAddress());
+            } catch (IOException ex) {
+                logger.warn("Can't load device with address '{}' from gateway '{}': {}", device.getAddress(), id,
+                        ex.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Returns true, if the channel of a virtual gateway device gets the datapoints of its previous channel.
+     */
+    private boolean isClonedVirtualChannel(HmChannel channel) {
+        String type = channel.getDevice().getType();
+        return (DEVICE_TYPE_VIRTUAL.equals(type) || DEVICE_TYPE_VIRTUAL_WIRED.equals(type)) && channel.getNumber() > 1;
+    }
+
+    /**
+     * Loads the datapoints of the given channels of one interface. The paramset descriptions are taken from the cache,
+     * missing descriptions are requested in batches and each description is requested only once.
+     *
+     * @param reload if true, the descriptions are requested from the gateway even if they are cached
+     * @param usedDescriptions receives the keys of the used cached descriptions
+     * @param failedDevices receives the addresses of the devices which could not be loaded
+     */
+    private void loadChannelDatapoints(List<HmChannel> channels, boolean reload, Set<String> usedDescriptions,
+            Set<String> failedDevices) {
+        // The datapoints of reconfigurable channels depend on the selected mode, they are never shared
+        Set<HmChannel> reconfigurableChannels = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (HmParamsetType paramsetType : List.of(HmParamsetType.MASTER, HmParamsetType.VALUES)) {
+            Map<String, HmChannel> missingDescriptions = new LinkedHashMap<>();
+            for (HmChannel channel : channels) {
+                String key = ParamsetDescriptionCache.getKey(channel, paramsetType);
+                if (!reconfigurableChannels.contains(channel)
+                        && (reload || paramsetDescriptionCache.get(key) == null)) {
+                    missingDescriptions.putIfAbsent(key, channel);
+                }
+            }
+            List<Map<String, Object>> descriptions = getParamsetDescriptions(
+                    new ArrayList<>(missingDescriptions.values()), paramsetType);
+            int index = 0;
+            for (String key : missingDescriptions.keySet()) {
+                Map<String, Object> description = descriptions.get(index++);
+                if (description != null) {
+                    paramsetDescriptionCache.put(key, description);
+                }
+            }
+
+            for (HmChannel channel : channels) {
+                if (cancelLoadAllMetadata) {
+                    return;
+                }
+                String address = channel.getDevice().getAddress();
+                if (failedDevices.contains(address)) {
+                    continue;
+                }
+                String key = ParamsetDescriptionCache.getKey(channel, paramsetType);
+                Map<String, Object> description = reconfigurableChannels.contains(channel) ? null
+                        : paramsetDescriptionCache.get(key);
+                try {
+                    logger.trace("    Loading {} datapoints into channel {}", paramsetType, channel);
+                    if (description != null) {
+                        new GetParamsetDescriptionParser(channel, paramsetType).parse(new Object[] { description });
+                        usedDescriptions.add(key);
+                    } else {
+                        // the description is not available in a batch, load it with the fallbacks of the gateway
+                        addChannelDatapoints(channel, paramsetType);
+                    }
                 } catch (IOException ex) {
-                    logger.warn("Can't load device with address '{}' from gateway '{}': {}", device.getAddress(), id,
+                    failedDevices.add(address);
+                    logger.warn("Can't load device with address '{}' from gateway '{}': {}", address, id,
                             ex.getMessage());
                 }
+                if (paramsetType == HmParamsetType.MASTER && channel.isReconfigurable()) {
+                    reconfigurableChannels.add(channel);
+                    paramsetDescriptionCache.remove(key);
+                    usedDescriptions.remove(key);
+                }
             }
         }
-        if (!cancelLoadAllMetadata) {
-            devices.keySet().retainAll(loadedDevices);
+    }
+
+    /**
+     * Requests the paramset descriptions of the given channels of one interface, with system.multicall if the
+     * interface supports it. The descriptions are in the order of the channels, a description is null if it could
+     * not be loaded.
+     */
+    private List<Map<String, Object>> getParamsetDescriptions(List<HmChannel> channels, HmParamsetType paramsetType) {
+        List<Map<String, Object>> descriptions = new ArrayList<>();
+        if (channels.isEmpty()) {
+            return descriptions;
         }
-        initialized = true;
+        HmInterface hmInterface = channels.get(0).getDevice().getHmInterface();
+        RpcClient<?> rpcClient;
+        try {
+            rpcClient = getRpcClient(hmInterface);
+        } catch (IOException ex) {
+            channels.forEach(channel -> descriptions.add(null));
+            return descriptions;
+        }
+        for (int i = 0; i < channels.size() && !cancelLoadAllMetadata; i += MULTICALL_BATCH_SIZE) {
+            List<HmChannel> batch = channels.subList(i, Math.min(i + MULTICALL_BATCH_SIZE, channels.size()));
+            if (!multicallUnsupportedInterfaces.contains(hmInterface)) {
+                try {
+                    descriptions.addAll(rpcClient.getParamsetDescriptions(batch, paramsetType));
+                    continue;
+                } catch (IOException ex) {
+                    logger.debug("Interface {} does not support {}, loading paramset descriptions one by one: {}",
+                            hmInterface, RPC_METHODNAME_SYSTEM_MULTICALL, ex.getMessage());
+                    multicallUnsupportedInterfaces.add(hmInterface);
+                }
+            }
+            for (HmChannel channel : batch) {
+                try {
+                    descriptions.add(rpcClient.getParamsetDescription(channel, paramsetType));
+                } catch (IOException ex) {
+                    descriptions.add(null);
+                }
+            }
+        }
+        while (descriptions.size() < channels.size()) {
+            descriptions.add(null);
+        }
+        return descriptions;
     }
 
     /**
@@ -475,7 +654,8 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
 
     @Override
     public void loadChannelValues(HmChannel channel) throws IOException {
-        if (channel.getDevice().isGatewayExtras()) {
+        HmDevice device = channel.getDevice();
+        if (device.isGatewayExtras()) {
             if (!HmChannel.CHANNEL_NUMBER_EXTRAS.equals(channel.getNumber())) {
                 List<HmDatapoint> datapoints = channel.getDatapoints();
 
@@ -487,10 +667,103 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
                     logger.debug("Loaded {} gateway script(s)", datapoints.size());
                 }
             }
+            channelValuesLoaded(channel);
+        } else if (isMulticallSupported(device.getHmInterface())) {
+            // the values of the other channels of the device are needed soon, they are loaded together
+            List<HmChannel> channels = new ArrayList<>();
+            for (HmChannel deviceChannel : device.getChannels()) {
+                if (deviceChannel == channel || !deviceChannel.isInitialized()) {
+                    channels.add(deviceChannel);
+                }
+            }
+            loadChannelValues(channels);
         } else {
-            logger.debug("Loading values for channel {} of device '{}'", channel, channel.getDevice().getAddress());
-            setChannelDatapointValues(channel, HmParamsetType.MASTER);
-            setChannelDatapointValues(channel, HmParamsetType.VALUES);
+            loadChannelValues(List.of(channel));
+        }
+    }
+
+    /**
+     * Loads the values of the given channels of one interface. The MASTER and VALUES paramsets are requested with
+     * system.multicall in batches, a paramset which can't be loaded this way is loaded on its own.
+     */
+    private void loadChannelValues(List<HmChannel> channels) throws IOException {
+        if (channels.isEmpty()) {
+            return;
+        }
+        HmInterface hmInterface = channels.get(0).getDevice().getHmInterface();
+        RpcClient<?> rpcClient = getRpcClient(hmInterface);
+        long start = System.currentTimeMillis();
+        activeValueLoads.incrementAndGet();
+        try {
+            for (int i = 0; i < channels.size(); i += MULTICALL_BATCH_SIZE) {
+                List<HmChannel> batch = channels.subList(i, Math.min(i + MULTICALL_BATCH_SIZE, channels.size()));
+                for (HmParamsetType paramsetType : VALUE_PARAMSET_TYPES) {
+                    List<Map<String, Object>> paramsets = getParamsets(rpcClient, hmInterface, batch, paramsetType);
+                    for (int j = 0; j < batch.size(); j++) {
+                        HmChannel channel = batch.get(j);
+                        Map<String, Object> paramset = paramsets.get(j);
+                        if (paramset != null) {
+                            new GetParamsetParser(channel, paramsetType).parse(new Object[] { paramset });
+                        } else {
+                            logger.debug("Loading values for channel {} of device '{}'", channel,
+                                    channel.getDevice().getAddress());
+                            setChannelDatapointValues(channel, paramsetType);
+                        }
+                    }
+                }
+                for (HmChannel channel : batch) {
+                    channelValuesLoaded(channel);
+                }
+            }
+        } finally {
+            if (activeValueLoads.decrementAndGet() == 0) {
+                eventsDuringValueLoad.clear();
+            }
+        }
+        logger.debug("Loaded values of {} channel(s) of interface {} in {} ms", channels.size(), hmInterface,
+                System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Requests the paramsets of the given channels of one interface with system.multicall if the interface supports
+     * it. The paramsets are in the order of the channels, a paramset is null if it has not been loaded.
+     */
+    private List<Map<String, Object>> getParamsets(RpcClient<?> rpcClient, HmInterface hmInterface,
+            List<HmChannel> channels, HmParamsetType paramsetType) {
+        if (isMulticallSupported(hmInterface)) {
+            try {
+                return rpcClient.getParamsets(channels, paramsetType);
+            } catch (IOException ex) {
+                logger.debug("Interface {} does not support {}, loading values one by one: {}", hmInterface,
+                        RPC_METHODNAME_SYSTEM_MULTICALL, ex.getMessage());
+                multicallUnsupportedInterfaces.add(hmInterface);
+            }
+        }
+        return Collections.nCopies(channels.size(), null);
+    }
+
+    /**
+     * Returns true, if the values of the interface can be loaded with system.multicall. The CUxD values are always
+     * read datapoint by datapoint.
+     */
+    private boolean isMulticallSupported(HmInterface hmInterface) {
+        return hmInterface != HmInterface.CUXD && !multicallUnsupportedInterfaces.contains(hmInterface);
+    }
+
+    /**
+     * Finishes loading the values of a channel. Values received with events while the values were loaded are newer
+     * than the loaded ones, they are restored.
+     */
+    private void channelValuesLoaded(HmChannel channel) {
+        synchronized (eventsDuringValueLoad) {
+            if (!eventsDuringValueLoad.isEmpty()) {
+                for (HmDatapoint dp : channel.getDatapoints()) {
+                    HmDatapointInfo dpInfo = new HmDatapointInfo(dp);
+                    if (eventsDuringValueLoad.containsKey(dpInfo)) {
+                        dp.setValue(eventsDuringValueLoad.get(dpInfo));
+                    }
+                }
+            }
         }
 
         for (HmDatapoint dp : channel.getDatapoints()) {
@@ -634,7 +907,95 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
         for (HmChannel channel : device.getChannels()) {
             channel.setInitialized(false);
         }
-        gatewayAdapter.reloadDeviceValues(device);
+        HmInterface hmInterface = device.getHmInterface();
+        if (device.isGatewayExtras() || !isMulticallSupported(hmInterface)) {
+            gatewayAdapter.reloadDeviceValues(device);
+        } else {
+            pendingValueReloads.computeIfAbsent(hmInterface, key -> Collections.synchronizedSet(new LinkedHashSet<>()))
+                    .add(device);
+            scheduleValueReload(hmInterface, 0);
+        }
+    }
+
+    /**
+     * Starts reloading the pending device values of the interface, unless they are already reloaded. The values of an
+     * interface are reloaded by one task at a time, so the gateway is not flooded with requests.
+     */
+    private void scheduleValueReload(HmInterface hmInterface, long delay) {
+        ValueReloadProgress progress = new ValueReloadProgress();
+        if (runningValueReloads.putIfAbsent(hmInterface, progress) == null) {
+            progress.future = scheduler.schedule(() -> reloadPendingDeviceValues(hmInterface), delay,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Reloads the values of the next pending devices of the interface with one batch of multicalls and updates their
+     * things. Live events take priority, while they are arriving the reload pauses.
+     */
+    private void reloadPendingDeviceValues(HmInterface hmInterface) {
+        ValueReloadProgress progress = runningValueReloads.get(hmInterface);
+        Set<HmDevice> pendingDevices = pendingValueReloads.get(hmInterface);
+        if (progress == null || pendingDevices == null) {
+            // the gateway has been disposed
+            if (progress != null) {
+                runningValueReloads.remove(hmInterface, progress);
+            }
+            return;
+        }
+        long delay = 0;
+        try {
+            long sinceLastEvent = System.currentTimeMillis() - lastEventReceived;
+            if (sinceLastEvent < LIVE_EVENT_PRIORITY_MILLIS) {
+                delay = LIVE_EVENT_PRIORITY_MILLIS - sinceLastEvent;
+                return;
+            }
+
+            List<HmDevice> batchDevices = new ArrayList<>();
+            List<HmChannel> channels = new ArrayList<>();
+            synchronized (pendingDevices) {
+                Iterator<HmDevice> iterator = pendingDevices.iterator();
+                while (iterator.hasNext() && channels.size() < MULTICALL_BATCH_SIZE) {
+                    HmDevice device = iterator.next();
+                    iterator.remove();
+                    batchDevices.add(device);
+                    channels.addAll(device.getChannels());
+                }
+            }
+
+            long start = System.currentTimeMillis();
+            try {
+                loadChannelValues(channels);
+            } catch (IOException ex) {
+                // the channels which have not been loaded are loaded by the things on their own
+                logger.debug("Can't reload values of interface {} from gateway '{}': {}", hmInterface, id,
+                        ex.getMessage());
+            }
+            for (HmDevice device : batchDevices) {
+                gatewayAdapter.reloadDeviceValues(device);
+            }
+            progress.devices += batchDevices.size();
+            logger.debug("Reloaded values of {} device(s) of interface {} in {} ms, {} device(s) pending",
+                    batchDevices.size(), hmInterface, System.currentTimeMillis() - start, pendingDevices.size());
+        } catch (RuntimeException ex) {
+            logger.warn("Can't reload values of interface {} from gateway '{}': {}", hmInterface, id,
+                    ex.getMessage(), ex);
+        } finally {
+            // the reload is not continued if the gateway has been disposed meanwhile
+            if (runningValueReloads.get(hmInterface) == progress) {
+                if (pendingDevices.isEmpty()) {
+                    logger.debug("Reloaded values of {} device(s) of interface {} in {} ms", progress.devices,
+                            hmInterface, System.currentTimeMillis() - progress.started);
+                    runningValueReloads.remove(hmInterface);
+                    if (!pendingDevices.isEmpty()) {
+                        scheduleValueReload(hmInterface, 0);
+                    }
+                } else {
+                    progress.future = scheduler.schedule(() -> reloadPendingDeviceValues(hmInterface), delay,
+                            TimeUnit.MILLISECONDS);
+                }
+            }
+        }
     }
 
     @Override
@@ -730,6 +1091,10 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
         String className = newValue == null ? "Unknown" : newValue.getClass().getSimpleName();
         logger.debug("Received new ({}) value '{}' for '{}' from gateway with id '{}'", className, newValue, dpInfo,
                 id);
+        lastEventReceived = System.currentTimeMillis();
+        if (activeValueLoads.get() > 0) {
+            eventsDuringValueLoad.put(dpInfo, newValue);
+        }
 
         if (echoEvents.remove(dpInfo)) {
             logger.debug("Echo event detected, ignoring '{}'", dpInfo);
@@ -763,9 +1128,12 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
                     List<HmDevice> deviceDescriptions = getDeviceDescriptions();
                     for (HmDevice device : deviceDescriptions) {
                         if (device.getAddress().equals(address)) {
-                            for (HmChannel channel : device.getChannels()) {
-                                addChannelDatapoints(channel, HmParamsetType.MASTER);
-                                addChannelDatapoints(channel, HmParamsetType.VALUES);
+                            // the device may have a new firmware, reload the descriptions
+                            Set<String> failedDevices = new HashSet<>();
+                            loadChannelDatapoints(device.getChannels(), true, new HashSet<>(), failedDevices);
+                            paramsetDescriptionCache.save();
+                            if (!failedDevices.isEmpty()) {
+                                continue;
                             }
                             prepareDevice(device);
                             gatewayAdapter.onNewDevice(device);
@@ -960,4 +1328,20 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
             }, RESTART_DELAY, TimeUnit.SECONDS);
         }
     }
+
+    /**
+     * Progress of reloading the device values of an interface.
+     */
+    private static class ValueReloadProgress {
+        private final long started = System.currentTimeMillis();
+        private int devices;
+        private volatile ScheduledFuture<?> future;
+
+        private void cancel() {
+            ScheduledFuture<?> future = this.future;
+            if (future != null) {
+                future.cancel(false);
+            }
+        }
+    }
 }
@@ -0,0 +1,167 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.homematic.internal.communicator;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.openhab.binding.homematic.internal.model.HmChannel;
+import org.openhab.binding.homematic.internal.model.HmDevice;
+import org.openhab.binding.homematic.internal.model.HmParamsetType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persistent cache for the paramset descriptions of the devices, keyed by device type, firmware, channel number and
+ * paramset type. A description only changes with the firmware of the device, so after a restart the gateway only has
+ * to be asked for device types and firmwares it has not seen before.
+ *
+ * @author atje - Initial contribution
+ */
+public class ParamsetDescriptionCache {
+    private final Logger logger = LoggerFactory.getLogger(ParamsetDescriptionCache.class);
+
+    // The cache only contains maps, lists and the basic types of the RPC protocols
+    private static final ObjectInputFilter FILTER = ObjectInputFilter.Config
+            .createFilter("maxdepth=10;java.util.*;java.lang.*;!*");
+
+    private final Path file;
+    private final Map<String, Map<String, Object>> descriptions = new ConcurrentHashMap<>();
+    private volatile boolean modified;
+
+    public ParamsetDescriptionCache(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Returns the cache key of the paramset description of the given channel.
+     */
+    public static String getKey(HmChannel channel, HmParamsetType paramsetType) {
+        HmDevice device = channel.getDevice();
+        return String.format("%s:%s:%s:%s", device.getType(), device.getFirmware(), channel.getNumber(),
+                paramsetType);
+    }
+
+    /**
+     * Returns the cached paramset description or null if there is none.
+     */
+    public Map<String, Object> get(String key) {
+        return descriptions.get(key);
+    }
+
+    /**
+     * Adds or replaces a paramset description.
+     */
+    @SuppressWarnings("unchecked")
+    public void put(String key, Map<String, Object> description) {
+        descriptions.put(key, (Map<String, Object>) copy(description));
+        modified = true;
+    }
+
+    /**
+     * Removes a paramset description.
+     */
+    public void remove(String key) {
+        if (descriptions.remove(key) != null) {
+            modified = true;
+        }
+    }
+
+    /**
+     * Removes all descriptions with other keys, e.g. those of a replaced firmware.
+     */
+    public void retainAll(Collection<String> keys) {
+        if (descriptions.keySet().retainAll(keys)) {
+            modified = true;
+        }
+    }
+
+    /**
+     * Loads the cached descriptions from the file, if it exists.
+     */
+    @SuppressWarnings("unchecked")
+    public void load() {
+        descriptions.clear();
+        try (ObjectInputStream in = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            in.setObjectInputFilter(FILTER);
+            descriptions.putAll((Map<String, Map<String, Object>>) in.readObject());
+            logger.debug("Loaded {} paramset descriptions from '{}'", descriptions.size(), file);
+        } catch (NoSuchFileException e) {
+            logger.debug("No paramset descriptions cached in '{}'", file);
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            logger.warn("Can't load the paramset descriptions from '{}', reloading them from the gateway: {}", file,
+                    e.getMessage());
+            descriptions.clear();
+        }
+        modified = false;
+    }
+
+    /**
+     * Saves the cached descriptions to the file, if they have been modified.
+     */
+    public synchronized void save() {
+        if (!modified) {
+            return;
+        }
+        modified = false;
+        try {
+            Files.createDirectories(file.getParent());
+            Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+            try (ObjectOutputStream out = new ObjectOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                out.writeObject(new HashMap<>(descriptions));
+            }
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logger.debug("Saved {} paramset descriptions to '{}'", descriptions.size(), file);
+        } catch (IOException e) {
+            logger.warn("Can't save the paramset descriptions to '{}': {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Copies the maps and arrays of a RPC result into serializable collections.
+     */
+    private static Object copy(Object value) {
+        if (value instanceof Map) {
+            Map<String, Object> map = new HashMap<>();
+            ((Map<?, ?>) value).forEach((k, v) -> map.put(String.valueOf(k), copy(v)));
+            return map;
+        } else if (value instanceof Object[]) {
+            Object[] array = (Object[]) value;
+            Object[] copy = new Object[array.length];
+            for (int i = 0; i < array.length; i++) {
+                copy[i] = copy(array[i]);
+            }
+            return copy;
+        } else if (value instanceof Collection) {
+            List<Object> list = new ArrayList<>();
+            ((Collection<?>) value).forEach(v -> list.add(copy(v)));
+            return list;
+        }
+        return value;
+    }
+}
@@ -13,8 +13,10 @@
 package org.openhab.binding.homematic.internal.communicator.client;
 
 import static org.openhab.binding.homematic.internal.HomematicBindingConstants.*;
+import static org.openhab.binding.homematic.internal.misc.HomematicConstants.RPC_METHODNAME_SYSTEM_MULTICALL;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -225,6 +227,106 @@ public abstract class RpcClient<T> {
         new GetParamsetDescriptionParser(channel, paramsetType).parse(sendMessage(config.getRpcPort(channel), request));
     }
 
+    /**
+     * Returns the paramset descriptions of the given channels of one interface, requested with a single
+     * system.multicall. The descriptions are in the order of the channels, a description is null if its call failed.
+     *
+     * @throws IOException if the multicall itself failed, e.g. because the interface does not support it
+     */
+    public List<Map<String, Object>> getParamsetDescriptions(List<HmChannel> channels, HmParamsetType paramsetType)
+            throws IOException {
+        return multicall("getParamsetDescription", channels, paramsetType);
+    }
+
+    /**
+     * Returns the paramsets with the datapoint values of the given channels of one interface, requested with a single
+     * system.multicall. The paramsets are in the order of the channels, a paramset is null if its call failed.
+     *
+     * @throws IOException if the multicall itself failed, e.g. because the interface does not support it
+     */
+    public List<Map<String, Object>> getParamsets(List<HmChannel> channels, HmParamsetType paramsetType)
+            throws IOException {
+        return multicall("getParamset", channels, paramsetType);
+    }
+
+    /**
+     * Calls the given paramset method for all channels with a single system.multicall.
+     */
+    private List<Map<String, Object>> multicall(String methodName, List<HmChannel> channels,
+            HmParamsetType paramsetType) throws IOException {
+        List<HmChannel> requestedChannels = new ArrayList<>();
+        List<Map<String, Object>> calls = new ArrayList<>();
+        for (HmChannel channel : channels) {
+            if (isConfigurationChannel(channel) && paramsetType != HmParamsetType.MASTER) {
+                // The configuration channel only has a MASTER Paramset, so there is nothing to load
+                continue;
+            }
+            List<Object> params = new ArrayList<>();
+            params.add(getRpcAddress(channel.getDevice().getAddress()) + getChannelSuffix(channel));
+            params.add(paramsetType.toString());
+            Map<String, Object> call = new HashMap<>();
+            call.put("methodName", methodName);
+            call.put("params", params);
+            calls.add(call);
+            requestedChannels.add(channel);
+        }
+
+        Object[] results = new Object[0];
+        if (!calls.isEmpty()) {
+            RpcRequest<T> request = createRpcRequest(RPC_METHODNAME_SYSTEM_MULTICALL);
+            request.addArg(calls);
+            Object[] message = sendMessage(config.getRpcPort(requestedChannels.get(0)), request);
+            if (message.length == 0 || !(message[0] instanceof Object[])
+                    || ((Object[]) message[0]).length != calls.size()) {
+                throw new IOException("Unexpected multicall result for " + calls.size() + " calls");
+            }
+            results = (Object[]) message[0];
+        }
+
+        List<Map<String, Object>> paramsets = new ArrayList<>();
+        int resultIndex = 0;
+        for (HmChannel channel : channels) {
+            if (resultIndex >= requestedChannels.size() || requestedChannels.get(resultIndex) != channel) {
+                paramsets.add(new HashMap<>());
+                continue;
+            }
+            Object result = results[resultIndex++];
+            // A successful call returns its result wrapped in an array, a failed call a fault struct
+            if (result instanceof Object[] && ((Object[]) result).length == 1) {
+                result = ((Object[]) result)[0];
+            }
+            paramsets.add(result instanceof Map && !((Map<?, ?>) result).containsKey("faultCode")
+                    ? toStringKeyMap((Map<?, ?>) result)
+                    : null);
+        }
+        return paramsets;
+    }
+
+    /**
+     * Returns the paramset description of the given channel.
+     */
+    public Map<String, Object> getParamsetDescription(HmChannel channel, HmParamsetType paramsetType)
+            throws IOException {
+        if (isConfigurationChannel(channel) && paramsetType != HmParamsetType.MASTER) {
+            // The configuration channel only has a MASTER Paramset, so there is nothing to load
+            return new HashMap<>();
+        }
+        RpcRequest<T> request = createRpcRequest("getParamsetDescription");
+        request.addArg(getRpcAddress(channel.getDevice().getAddress()) + getChannelSuffix(channel));
+        request.addArg(paramsetType.toString());
+        Object[] message = sendMessage(config.getRpcPort(channel), request);
+        if (message.length == 0 || !(message[0] instanceof Map)) {
+            throw new IOException("Unexpected paramset description for channel " + channel);
+        }
+        return toStringKeyMap((Map<?, ?>) message[0]);
+    }
+
+    private Map<String, Object> toStringKeyMap(Map<?, ?> map) {
+        Map<String, Object> result = new HashMap<>();
+        map.forEach((key, value) -> result.put(String.valueOf(key), value));
+        return result;
+    }
+
     /**
      * Sets all datapoint values for the given channel.
      */
@@ -14,6 +14,8 @@ package org.openhab.binding.homematic.internal.communicator.client;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -43,6 +45,7 @@ import org.xml.sax.SAXException;
 public class XmlRpcClient extends RpcClient<String> {
     private final Logger logger = LoggerFactory.getLogger(XmlRpcClient.class);
     private HttpClient httpClient;
+    private final Map<Integer, Object> portLocks = new ConcurrentHashMap<>();
 
     public XmlRpcClient(HomematicConfig config, HttpClient httpClient) throws IOException {
         super(config);
@@ -62,8 +65,17 @@ public class XmlRpcClient extends RpcClient<String> {
         return "http://" + config.getCallbackHost() + ":" + config.getXmlCallbackPort();
     }
 
+    /**
+     * The messages to an interface are sent one after the other, but the interfaces can be used concurrently.
+     */
     @Override
-    protected synchronized Object[] sendMessage(int port, RpcRequest<String> request) throws IOException {
+    protected Object[] sendMessage(int port, RpcRequest<String> request) throws IOException {
+        synchronized (portLocks.computeIfAbsent(port, p -> new Object())) {
+            return sendMessageToPort(port, request);
+        }
+    }
+
+    private Object[] sendMessageToPort(int port, RpcRequest<String> request) throws IOException {
         if (logger.isTraceEnabled()) {
             logger.trace("Client XmlRpcRequest (port {}):\n{}", port, request);
         }
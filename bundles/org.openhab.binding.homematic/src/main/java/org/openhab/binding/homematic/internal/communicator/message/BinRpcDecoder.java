@@ -0,0 +1,201 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.homematic.internal.communicator.message;
+
+import static org.openhab.binding.homematic.internal.misc.HomematicConstants.RPC_METHODNAME_SYSTEM_MULTICALL;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Decodes BIN-RPC method calls received from a Homematic gateway directly from the received bytes.
+ *
+ * The calls of a system.multicall are handed to a {@link RpcCallHandler} one by one while decoding, so a burst of
+ * events is never held as a whole. Short strings are cached by their bytes, as the same addresses and datapoint names
+ * are part of almost every event. A decoder is not thread safe, it is meant to be used for the messages of one
+ * connection.
+ *
+ * @author atje - Initial contribution
+ */
+public class BinRpcDecoder implements RpcResponse {
+    private static final int STRING_CACHE_SIZE = 512;
+    private static final int MAX_CACHED_STRING_LENGTH = 64;
+    private static final Object[] NO_PARAMS = new Object[0];
+
+    private final Charset charset;
+    private final byte[][] cachedBytes = new byte[STRING_CACHE_SIZE][];
+    private final String[] cachedStrings = new String[STRING_CACHE_SIZE];
+
+    private ByteBuffer buffer = ByteBuffer.allocate(0);
+    private String methodName;
+    private Object[] responseData = NO_PARAMS;
+
+    public BinRpcDecoder(String encoding) {
+        this.charset = Charset.forName(encoding);
+    }
+
+    /**
+     * Decodes a complete BIN-RPC method call, including its header.
+     *
+     * @param message the message
+     * @param length the length of the message
+     * @param multicallHandler receives the calls of a system.multicall, they are not part of the response data
+     */
+    public void decode(byte[] message, int length, RpcCallHandler multicallHandler) throws IOException {
+        if (length < 8 || message[0] != 'B' || message[1] != 'i' || message[2] != 'n') {
+            throw new UnsupportedEncodingException("No BinX signature");
+        }
+        buffer = ByteBuffer.wrap(message, 0, length);
+        buffer.position(8);
+        try {
+            methodName = readString();
+            buffer.getInt(); // number of arguments
+
+            if (RPC_METHODNAME_SYSTEM_MULTICALL.equals(methodName) && buffer.remaining() >= 8
+                    && buffer.getInt(buffer.position()) == 0x100) {
+                buffer.getInt();
+                int calls = buffer.getInt();
+                while (calls-- > 0) {
+                    decodeCall(multicallHandler);
+                }
+                responseData = new Object[] { NO_PARAMS };
+            } else {
+                List<Object> values = new ArrayList<>();
+                while (buffer.hasRemaining()) {
+                    values.add(readRpcValue());
+                }
+                responseData = values.toArray();
+            }
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new EOFException("Incomplete BIN-RPC message of " + length + " bytes");
+        }
+    }
+
+    @Override
+    public String getMethodName() {
+        return methodName;
+    }
+
+    @Override
+    public Object[] getResponseData() {
+        return responseData;
+    }
+
+    /**
+     * Decodes one call of a system.multicall, a struct with the methodName and its params.
+     */
+    private void decodeCall(RpcCallHandler handler) throws IOException {
+        int type = buffer.getInt();
+        if (type != 0x101) {
+            throw new IOException("Unexpected data type " + type + " in " + RPC_METHODNAME_SYSTEM_MULTICALL);
+        }
+        String callMethodName = "";
+        Object[] params = NO_PARAMS;
+        int members = buffer.getInt();
+        while (members-- > 0) {
+            String name = readString();
+            Object value = readRpcValue();
+            if ("methodName".equals(name)) {
+                callMethodName = String.valueOf(value);
+            } else if ("params".equals(name) && value instanceof Object[]) {
+                params = (Object[]) value;
+            }
+        }
+        handler.handleCall(callMethodName, params);
+    }
+
+    private String readString() throws IOException {
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new EOFException("String of " + length + " bytes exceeds the message");
+        }
+        byte[] array = buffer.array();
+        int offset = buffer.arrayOffset() + buffer.position();
+        buffer.position(buffer.position() + length);
+        if (length > MAX_CACHED_STRING_LENGTH) {
+            return new String(array, offset, length, charset);
+        }
+
+        int hash = length;
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + array[i];
+        }
+        int slot = (hash ^ (hash >>> 16)) & (STRING_CACHE_SIZE - 1);
+        byte[] cached = cachedBytes[slot];
+        if (cached != null && Arrays.equals(cached, 0, cached.length, array, offset, offset + length)) {
+            return cachedStrings[slot];
+        }
+        String string = new String(array, offset, length, charset);
+        cachedBytes[slot] = Arrays.copyOfRange(array, offset, offset + length);
+        cachedStrings[slot] = string;
+        return string;
+    }
+
+    private Object readRpcValue() throws IOException {
+        int type = buffer.getInt();
+        switch (type) {
+            case 1:
+                return Integer.valueOf(buffer.getInt());
+            case 2:
+                return buffer.get() != 0 ? Boolean.TRUE : Boolean.FALSE;
+            case 3:
+                return readString();
+            case 4:
+                int mantissa = buffer.getInt();
+                int exponent = buffer.getInt();
+                BigDecimal bd = new BigDecimal((double) mantissa / (double) (1 << 30) * Math.pow(2, exponent));
+                return bd.setScale(6, RoundingMode.HALF_DOWN).doubleValue();
+            case 5:
+                return new Date(buffer.getInt() * 1000L);
+            case 0xD1:
+                // Int64
+                return Long.valueOf(buffer.getLong());
+            case 0x100:
+                // Array
+                int numElements = buffer.getInt();
+                Object[] array = new Object[numElements];
+                for (int i = 0; i < numElements; i++) {
+                    array[i] = readRpcValue();
+                }
+                return array;
+            case 0x101:
+                // Struct
+                numElements = buffer.getInt();
+                Map<String, Object> struct = new TreeMap<>();
+                while (numElements-- > 0) {
+                    String name = readString();
+                    struct.put(name, readRpcValue());
+                }
+                return struct;
+            default:
+                throw new IOException("Unknown data type " + type);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return RpcUtils.dumpRpcMessage(methodName, responseData);
+    }
+}
@@ -0,0 +1,29 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.homematic.internal.communicator.message;
+
+import java.io.IOException;
+
+/**
+ * Receives the method calls of a RPC message while it is decoded.
+ *
+ * @author atje - Initial contribution
+ */
+@FunctionalInterface
+public interface RpcCallHandler {
+
+    /**
+     * Handles a decoded method call.
+     */
+    public void handleCall(String methodName, Object[] params) throws IOException;
+}
@@ -12,6 +12,8 @@
  */
 package org.openhab.binding.homematic.internal.communicator.message;
 
+import static org.openhab.binding.homematic.internal.misc.HomematicConstants.RPC_METHODNAME_SYSTEM_MULTICALL;
+
 import java.io.IOException;
 import java.io.InputStream;
 import java.text.ParseException;
@@ -21,6 +23,7 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.parsers.SAXParser;
@@ -39,12 +42,23 @@ import org.xml.sax.helpers.DefaultHandler;
 public class XmlRpcResponse implements RpcResponse {
     private String methodName;
     private Object[] responseData;
+    private RpcCallHandler multicallHandler;
 
     /**
      * Decodes a XML-RPC message from the given InputStream.
      */
     public XmlRpcResponse(InputStream is, String encoding)
             throws SAXException, ParserConfigurationException, IOException {
+        this(is, encoding, null);
+    }
+
+    /**
+     * Decodes a XML-RPC message from the given InputStream. The calls of a system.multicall are handed to the
+     * multicallHandler as soon as they are parsed, they are not part of the response data.
+     */
+    public XmlRpcResponse(InputStream is, String encoding, RpcCallHandler multicallHandler)
+            throws SAXException, ParserConfigurationException, IOException {
+        this.multicallHandler = multicallHandler;
         SAXParserFactory factory = SAXParserFactory.newInstance();
         SAXParser saxParser = factory.newSAXParser();
         factory.setFeature("http://xml.org/sax/features/external-general-entities", false);
@@ -52,7 +66,14 @@ public class XmlRpcResponse implements RpcResponse {
         factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
         InputSource inputSource = new InputSource(is);
         inputSource.setEncoding(encoding);
-        saxParser.parse(inputSource, new XmlRpcHandler());
+        try {
+            saxParser.parse(inputSource, new XmlRpcHandler());
+        } catch (SAXException ex) {
+            if (ex.getException() instanceof IOException) {
+                throw (IOException) ex.getException();
+            }
+            throw ex;
+        }
     }
 
     @Override
@@ -141,7 +162,11 @@ public class XmlRpcResponse implements RpcResponse {
                     for (int i = 0; i < mapData.size(); i += 2) {
                         resultMap.put(mapData.get(i), mapData.get(i + 1));
                     }
-                    currentDataObject.peekLast().add(resultMap);
+                    if (isMulticallEntry()) {
+                        handleCall(resultMap);
+                    } else {
+                        currentDataObject.peekLast().add(resultMap);
+                    }
                     break;
                 case "base64":
                     data.add(Base64.getDecoder().decode(currentValue));
@@ -169,6 +194,24 @@ public class XmlRpcResponse implements RpcResponse {
             }
         }
 
+        /**
+         * Returns true if the struct which has just been closed is one of the calls of a streamed system.multicall.
+         */
+        private boolean isMulticallEntry() {
+            return multicallHandler != null && currentDataObject.size() == 2
+                    && RPC_METHODNAME_SYSTEM_MULTICALL.equals(methodName);
+        }
+
+        private void handleCall(Map<Object, Object> call) throws SAXException {
+            Object params = call.get("params");
+            try {
+                multicallHandler.handleCall(Objects.toString(call.get("methodName"), ""),
+                        params instanceof Object[] ? (Object[]) params : new Object[0]);
+            } catch (IOException ex) {
+                throw new SAXException(ex);
+            }
+        }
+
         @Override
         public void characters(char[] ch, int start, int length) throws SAXException {
             tagValue.append(new String(ch, start, length));
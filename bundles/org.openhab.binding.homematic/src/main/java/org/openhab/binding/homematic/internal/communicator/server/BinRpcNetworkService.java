@@ -12,30 +12,56 @@
  */
 package org.openhab.binding.homematic.internal.communicator.server;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.net.InetSocketAddress;
-import java.net.ServerSocket;
-import java.net.Socket;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.openhab.binding.homematic.internal.common.HomematicConfig;
+import org.openhab.binding.homematic.internal.communicator.message.BinRpcDecoder;
 import org.openhab.binding.homematic.internal.communicator.message.BinRpcMessage;
 import org.openhab.binding.homematic.internal.communicator.message.RpcRequest;
 import org.openhab.core.common.ThreadPoolManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
- * Waits for a message from the Homematic gateway and starts the RpcCallbackHandler to handle the message.
+ * Waits for messages from the Homematic gateway and handles the method calls.
+ *
+ * All connections are served by one selector thread, which only reads the bytes of a message. When a message is
+ * complete, it is decoded and handled in the RPC thread pool, one message of a connection after the other. The calls of
+ * a system.multicall are handled while the message is decoded.
  *
  * @author Gerhard Riegler - Initial contribution
  */
 public class BinRpcNetworkService implements Runnable {
+    private final Logger logger = LoggerFactory.getLogger(BinRpcNetworkService.class);
+
     private static final byte BIN_EMPTY_STRING[] = { 'B', 'i', 'n', 1, 0, 0, 0, 8, 0, 0, 0, 3, 0, 0, 0, 0 };
     private static final byte BIN_EMPTY_ARRAY[] = { 'B', 'i', 'n', 1, 0, 0, 0, 8, 0, 0, 1, 0, 0, 0, 0, 0 };
     private static final byte BIN_EMPTY_EVENT_LIST[] = { 'B', 'i', 'n', 1, 0, 0, 0, 21, 0, 0, 1, 0, 0, 0, 0, 1, 0, 0, 0,
             3, 0, 0, 0, 5, 'e', 'v', 'e', 'n', 't' };
 
     private static final String RPC_POOL_NAME = "homematicRpc";
-    private ServerSocket serverSocket;
-    private boolean accept = true;
+    private static final int HEADER_LENGTH = 8;
+    private static final int INITIAL_BUFFER_SIZE = 8192;
+    private static final int MAX_MESSAGE_LENGTH = 16 * 1024 * 1024;
+
+    private final Selector selector;
+    private final ServerSocketChannel serverChannel;
+    private final Set<Connection> connections = ConcurrentHashMap.newKeySet();
+    private volatile boolean accept = true;
     private HomematicConfig config;
     private RpcResponseHandler<byte[]> rpcResponseHandler;
 
@@ -45,9 +71,18 @@ public class BinRpcNetworkService implements Runnable {
     public BinRpcNetworkService(RpcEventListener listener, HomematicConfig config) throws IOException {
         this.config = config;
 
-        serverSocket = new ServerSocket();
-        serverSocket.setReuseAddress(true);
-        serverSocket.bind(new InetSocketAddress(config.getBinCallbackPort()));
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        try {
+            serverChannel.setOption(StandardSocketOptions.SO_REUSEADDR, true);
+            serverChannel.bind(new InetSocketAddress(config.getBinCallbackPort()));
+            serverChannel.configureBlocking(false);
+            serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+        } catch (IOException e) {
+            serverChannel.close();
+            selector.close();
+            throw e;
+        }
 
         this.rpcResponseHandler = new RpcResponseHandler<byte[]>(listener) {
 
@@ -74,30 +109,174 @@ public class BinRpcNetworkService implements Runnable {
     }
 
     /**
-     * Listening for events and starts the callbackHandler if a event received.
+     * Accepts the connections of the Homematic gateway and reads the messages.
      */
     @Override
     public void run() {
         while (accept) {
             try {
-                Socket cs = serverSocket.accept();
-                BinRpcResponseHandler rpcHandler = new BinRpcResponseHandler(cs, rpcResponseHandler, config);
-                ThreadPoolManager.getPool(RPC_POOL_NAME).execute(rpcHandler);
-            } catch (IOException ex) {
+                selector.select();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isAcceptable()) {
+                        acceptConnection();
+                    } else if (key.isReadable()) {
+                        ((Connection) key.attachment()).read();
+                    }
+                }
+            } catch (ClosedSelectorException ex) {
+                break;
+            } catch (IOException | CancelledKeyException ex) {
                 // ignore
             }
         }
     }
 
+    private void acceptConnection() throws IOException {
+        SocketChannel channel = serverChannel.accept();
+        if (channel != null) {
+            channel.configureBlocking(false);
+            Connection connection = new Connection(channel);
+            connection.key = channel.register(selector, SelectionKey.OP_READ, connection);
+            connections.add(connection);
+        }
+    }
+
     /**
      * Stops the listening.
      */
     public void shutdown() {
         accept = false;
         try {
-            serverSocket.close();
+            serverChannel.close();
+            selector.close();
         } catch (IOException ioe) {
             // ignore
         }
+        connections.forEach(Connection::close);
+    }
+
+    /**
+     * A connection of the Homematic gateway. The selector thread reads into the buffer until a message is complete,
+     * then it stops reading and the connection is handed to the RPC thread pool until the message is handled.
+     */
+    private class Connection implements Runnable {
+        private final SocketChannel channel;
+        private final BinRpcDecoder decoder = new BinRpcDecoder(config.getEncoding());
+        private final long created = System.currentTimeMillis();
+        private SelectionKey key;
+        private byte[] message = new byte[INITIAL_BUFFER_SIZE];
+        private ByteBuffer buffer = ByteBuffer.wrap(message);
+
+        private Connection(SocketChannel channel) {
+            this.channel = channel;
+        }
+
+        /**
+         * Called by the selector thread if data is available.
+         */
+        private void read() {
+            try {
+                if (channel.read(buffer) < 0) {
+                    close();
+                    return;
+                }
+                int position = buffer.position();
+                if (position < HEADER_LENGTH) {
+                    return;
+                }
+                if (message[0] != 'B' || message[1] != 'i' || message[2] != 'n') {
+                    throw new IOException("No BinX signature");
+                }
+                int length = getFrameLength();
+                if (length < HEADER_LENGTH || length > MAX_MESSAGE_LENGTH) {
+                    throw new IOException("Invalid BIN-RPC message length " + length);
+                }
+                if (length > message.length) {
+                    message = Arrays.copyOf(message, length);
+                    buffer = ByteBuffer.wrap(message);
+                    buffer.position(position);
+                }
+                if (position >= length) {
+                    key.interestOps(0);
+                    ThreadPoolManager.getPool(RPC_POOL_NAME).execute(this);
+                }
+            } catch (IOException | CancelledKeyException ex) {
+                logger.debug("Closing BIN-RPC connection: {}", ex.getMessage());
+                close();
+            }
+        }
+
+        /**
+         * Handles the received messages and continues reading afterwards.
+         */
+        @Override
+        public void run() {
+            try {
+                int length;
+                while ((length = getCompleteFrameLength()) > 0) {
+                    decoder.decode(message, length, rpcResponseHandler::handleMethodCall);
+                    logger.trace("Event BinRpcMessage: {}", decoder);
+                    byte[] returnValue = rpcResponseHandler.handleMethodCall(decoder.getMethodName(),
+                            decoder.getResponseData());
+                    if (returnValue != null) {
+                        write(returnValue);
+                    }
+                    int remaining = buffer.position() - length;
+                    System.arraycopy(message, length, message, 0, remaining);
+                    buffer.position(remaining);
+
+                    if (System.currentTimeMillis() - created > (config.getSocketMaxAlive() * 1000)) {
+                        close();
+                        return;
+                    }
+                }
+                key.interestOps(SelectionKey.OP_READ);
+                selector.wakeup();
+            } catch (EOFException | CancelledKeyException ex) {
+                close();
+            } catch (Exception e) {
+                logger.warn("{}", e.getMessage(), e);
+                close();
+            }
+        }
+
+        private void write(byte[] data) throws IOException {
+            // the responses are small, they fit into the send buffer of the socket
+            ByteBuffer response = ByteBuffer.wrap(data);
+            while (response.hasRemaining()) {
+                channel.write(response);
+            }
+        }
+
+        private int getFrameLength() {
+            return HEADER_LENGTH + ((message[4] & 0xFF) << 24 | (message[5] & 0xFF) << 16 | (message[6] & 0xFF) << 8
+                    | (message[7] & 0xFF));
+        }
+
+        private int getCompleteFrameLength() {
+            if (buffer.position() < HEADER_LENGTH) {
+                return -1;
+            }
+            int length = getFrameLength();
+            return length <= buffer.position() ? length : -1;
+        }
+
+        private void close() {
+            connections.remove(this);
+            if (key != null) {
+                key.cancel();
+            }
+            try {
+                channel.close();
+            } catch (IOException ioe) {
+                // ignore
+            }
+        }
     }
 }
@@ -118,7 +118,8 @@ public class XmlRpcServer implements RpcServer {
             response.setStatus(HttpServletResponse.SC_OK);
             final PrintWriter respWriter = response.getWriter();
             try {
-                XmlRpcResponse xmlResponse = new XmlRpcResponse(request.getInputStream(), config.getEncoding());
+                XmlRpcResponse xmlResponse = new XmlRpcResponse(request.getInputStream(), config.getEncoding(),
+                        rpcResponseHander::handleMethodCall);
                 if (logger.isTraceEnabled()) {
                     logger.trace("Server parsed XmlRpcMessage:\n{}", xmlResponse);
                 }
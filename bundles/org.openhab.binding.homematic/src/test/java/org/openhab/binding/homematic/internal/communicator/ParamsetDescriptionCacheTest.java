@@ -0,0 +1,109 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.homematic.internal.communicator;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openhab.binding.homematic.internal.model.HmChannel;
+import org.openhab.binding.homematic.internal.model.HmParamsetType;
+import org.openhab.binding.homematic.test.util.DimmerHelper;
+
+/**
+ * Tests for {@link ParamsetDescriptionCache}.
+ *
+ * @author atje - Initial contribution
+ */
+public class ParamsetDescriptionCacheTest {
+
+    @TempDir
+    Path folder;
+
+    @Test
+    public void keyContainsTypeFirmwareChannelAndParamset() {
+        HmChannel channel = DimmerHelper.createDimmerHmChannel();
+
+        String key = ParamsetDescriptionCache.getKey(channel, HmParamsetType.VALUES);
+
+        assertThat(key, is(String.format("%s:%s:%s:VALUES", channel.getDevice().getType(),
+                channel.getDevice().getFirmware(), channel.getNumber())));
+    }
+
+    @Test
+    public void descriptionsSurviveSaveAndLoad() {
+        Path file = folder.resolve("homematic").resolve("gateway.paramsets");
+        ParamsetDescriptionCache cache = new ParamsetDescriptionCache(file);
+        cache.put("HM-LC-Dim1T-Pl:2.9:1:VALUES", levelDescription());
+        cache.save();
+
+        ParamsetDescriptionCache loadedCache = new ParamsetDescriptionCache(file);
+        loadedCache.load();
+
+        Map<String, Object> description = loadedCache.get("HM-LC-Dim1T-Pl:2.9:1:VALUES");
+        assertThat(description, is(notNullValue()));
+        @SuppressWarnings("unchecked")
+        Map<String, Object> level = (Map<String, Object>) description.get("LEVEL");
+        assertThat(level.get("TYPE"), is("FLOAT"));
+        assertThat(level.get("MAX"), is(1.0));
+        assertThat(level.get("OPERATIONS"), is(7));
+        assertThat(((Object[]) level.get("VALUE_LIST"))[1], is("ON"));
+    }
+
+    @Test
+    public void descriptionsOfOtherKeysAreRemoved() {
+        Path file = folder.resolve("gateway.paramsets");
+        ParamsetDescriptionCache cache = new ParamsetDescriptionCache(file);
+        cache.put("HM-LC-Dim1T-Pl:2.8:1:VALUES", levelDescription());
+        cache.put("HM-LC-Dim1T-Pl:2.9:1:VALUES", levelDescription());
+
+        cache.retainAll(List.of("HM-LC-Dim1T-Pl:2.9:1:VALUES"));
+        cache.save();
+        cache.load();
+
+        assertThat(cache.get("HM-LC-Dim1T-Pl:2.8:1:VALUES"), is(nullValue()));
+        assertThat(cache.get("HM-LC-Dim1T-Pl:2.9:1:VALUES"), is(notNullValue()));
+    }
+
+    @Test
+    public void corruptFileIsIgnored() throws Exception {
+        Path file = folder.resolve("gateway.paramsets");
+        Files.write(file, new byte[] { 1, 2, 3 });
+        ParamsetDescriptionCache cache = new ParamsetDescriptionCache(file);
+
+        cache.load();
+
+        assertThat(cache.get("HM-LC-Dim1T-Pl:2.9:1:VALUES"), is(nullValue()));
+    }
+
+    private Map<String, Object> levelDescription() {
+        // the RPC parsers create TreeMaps, which are copied by the cache
+        Map<String, Object> level = new TreeMap<>();
+        level.put("TYPE", "FLOAT");
+        level.put("MIN", 0.0);
+        level.put("MAX", 1.0);
+        level.put("OPERATIONS", 7);
+        level.put("VALUE_LIST", new Object[] { "OFF", "ON" });
+        Map<String, Object> description = new HashMap<>();
+        description.put("LEVEL", level);
+        return description;
+    }
+}
@@ -14,11 +14,15 @@ package org.openhab.binding.homematic.internal.communicator.client;
 
 import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.openhab.binding.homematic.internal.HomematicBindingConstants.*;
+import static org.openhab.binding.homematic.internal.misc.HomematicConstants.RPC_METHODNAME_SYSTEM_MULTICALL;
 import static org.openhab.binding.homematic.test.util.DimmerHelper.*;
 import static org.openhab.binding.homematic.test.util.RpcClientMockImpl.*;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -95,6 +99,25 @@ public class RpcClientTest extends JavaTest {
         assertThat(rpcClient.numberOfCalls.get(GET_PARAMSET_NAME), is(0));
     }
 
+    @Test
+    public void valuesParamsetsAreNotRequestedForDummyChannel() throws IOException {
+        HmChannel channel = createDimmerDummyChannel();
+
+        List<Map<String, Object>> paramsets = rpcClient.getParamsets(List.of(channel), HmParamsetType.VALUES);
+
+        assertThat(paramsets.size(), is(1));
+        assertThat(paramsets.get(0).isEmpty(), is(true));
+        assertThat(rpcClient.numberOfCalls.get(RPC_METHODNAME_SYSTEM_MULTICALL), is(nullValue()));
+    }
+
+    @Test
+    public void unexpectedMulticallResultIsRejected() throws IOException {
+        HmChannel channel = createDimmerHmChannel();
+
+        assertThrows(IOException.class, () -> rpcClient.getParamsets(List.of(channel), HmParamsetType.VALUES));
+        assertThat(rpcClient.numberOfCalls.get(RPC_METHODNAME_SYSTEM_MULTICALL), is(1));
+    }
+
     @Test
     public void burstRxModeIsConfiguredAsParameterOnRequest() throws IOException {
         RpcRequest<String> request = new XmlRpcRequest("setValue");
@@ -0,0 +1,111 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.homematic.internal.communicator.message;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.EOFException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link BinRpcDecoder}.
+ *
+ * @author atje - Initial contribution
+ */
+public class BinRpcDecoderTest {
+    private static final String ENCODING = "ISO-8859-1";
+
+    @Test
+    public void eventIsDecodedLikeBinRpcMessage() throws Exception {
+        BinRpcMessage request = new BinRpcMessage("event", ENCODING);
+        request.addArg("BidCos-RF");
+        request.addArg("NEQ0123456:1");
+        request.addArg("LEVEL");
+        request.addArg(0.35);
+        byte[] message = request.createMessage();
+
+        BinRpcDecoder decoder = new BinRpcDecoder(ENCODING);
+        decoder.decode(message, message.length, (methodName, params) -> {
+            throw new AssertionError("Unexpected call " + methodName);
+        });
+
+        BinRpcMessage expected = new BinRpcMessage(message, true, ENCODING);
+        assertThat(decoder.getMethodName(), is("event"));
+        assertThat(Arrays.asList(decoder.getResponseData()), is(Arrays.asList(expected.getResponseData())));
+    }
+
+    @Test
+    public void multicallEntriesAreHandedToTheHandler() throws Exception {
+        List<Object> calls = new ArrayList<>();
+        calls.add(event("NEQ0123456:1", "LEVEL", 0.5));
+        calls.add(event("NEQ0123456:1", "WORKING", Boolean.TRUE));
+        calls.add(event("NEQ0123456:0", "RSSI_DEVICE", -65));
+        BinRpcMessage request = new BinRpcMessage("system.multicall", ENCODING);
+        request.addArg(calls);
+        byte[] message = request.createMessage();
+
+        List<String> received = new ArrayList<>();
+        BinRpcDecoder decoder = new BinRpcDecoder(ENCODING);
+        decoder.decode(message, message.length,
+                (methodName, params) -> received.add(methodName + Arrays.asList(params)));
+
+        assertThat(received, is(List.of("event[BidCos-RF, NEQ0123456:1, LEVEL, 0.5]",
+                "event[BidCos-RF, NEQ0123456:1, WORKING, true]", "event[BidCos-RF, NEQ0123456:0, RSSI_DEVICE, -65]")));
+        assertThat(decoder.getMethodName(), is("system.multicall"));
+        assertThat(((Object[]) decoder.getResponseData()[0]).length, is(0));
+    }
+
+    @Test
+    public void cachedStringsAreReused() throws Exception {
+        BinRpcMessage request = new BinRpcMessage("event", ENCODING);
+        request.addArg("BidCos-RF");
+        byte[] message = request.createMessage();
+
+        BinRpcDecoder decoder = new BinRpcDecoder(ENCODING);
+        decoder.decode(message, message.length, (methodName, params) -> {
+        });
+        Object first = decoder.getResponseData()[0];
+        decoder.decode(message, message.length, (methodName, params) -> {
+        });
+
+        assertThat(decoder.getResponseData()[0], is(sameInstance(first)));
+    }
+
+    @Test
+    public void truncatedMessageIsRejected() throws Exception {
+        BinRpcMessage request = new BinRpcMessage("event", ENCODING);
+        request.addArg("BidCos-RF");
+        request.addArg("NEQ0123456:1");
+        byte[] message = request.createMessage();
+
+        BinRpcDecoder decoder = new BinRpcDecoder(ENCODING);
+
+        assertThrows(EOFException.class, () -> decoder.decode(message, message.length - 4, (methodName, params) -> {
+        }));
+    }
+
+    private Map<String, Object> event(String address, String datapoint, Object value) {
+        Map<String, Object> call = new TreeMap<>();
+        call.put("methodName", "event");
+        call.put("params", List.of("BidCos-RF", address, datapoint, value));
+        return call;
+    }
+}
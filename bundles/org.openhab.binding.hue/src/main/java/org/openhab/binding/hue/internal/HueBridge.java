@@ -75,6 +75,10 @@ public class HueBridge {
     private HttpClient http = new HttpClient();
     private final ScheduledExecutorService scheduler;
 
+    // Unchanged lights and sensors are not deserialized again on each poll
+    private final PolledObjectCache<FullLight> lightCache = new PolledObjectCache<>(gson, FullLight.class);
+    private final PolledObjectCache<FullSensor> sensorCache = new PolledObjectCache<>(gson, FullSensor.class);
+
     @Nullable
     private Config cachedConfig;
 
@@ -187,14 +191,20 @@ public class HueBridge {
 
     /**
      * Returns a list of lights known to the bridge.
+     * Lights that did not change since the last call are returned as the same instances.
      *
      * @return list of known lights as {@link FullLight}s
      * @throws UnauthorizedException thrown if the user no longer exists
      */
     public List<FullLight> getFullLights() throws IOException, ApiException {
         if (ApiVersionUtils.supportsFullLights(getVersion())) {
-            Type gsonType = FullLight.GSON_TYPE;
-            return getTypedLights(gsonType);
+            requireAuthentication();
+
+            Result result = http.get(getRelativeURL("lights"));
+
+            handleErrors(result);
+
+            return safeUpdate(lightCache, result.getBody());
         } else {
             return getFullConfig().getLights();
         }
@@ -234,7 +244,8 @@ public class HueBridge {
     }
 
     /**
-     * Returns a list of sensors known to the bridge
+     * Returns a list of sensors known to the bridge.
+     * Sensors that did not change since the last call are returned as the same instances.
      *
      * @return list of sensors
      * @throws UnauthorizedException thrown if the user no longer exists
@@ -246,16 +257,7 @@ public class HueBridge {
 
         handleErrors(result);
 
-        Map<String, FullSensor> sensorMap = safeFromJson(result.getBody(), FullSensor.GSON_TYPE);
-        ArrayList<FullSensor> sensorList = new ArrayList<>();
-
-        for (String id : sensorMap.keySet()) {
-            FullSensor sensor = sensorMap.get(id);
-            sensor.setId(id);
-            sensorList.add(sensor);
-        }
-
-        return sensorList;
+        return safeUpdate(sensorCache, result.getBody());
     }
 
     /**
@@ -1069,6 +1071,14 @@ public class HueBridge {
         }
     }
 
+    private <T extends HueObject> List<T> safeUpdate(PolledObjectCache<T> cache, String json) throws ApiException {
+        try {
+            return cache.update(json);
+        } catch (JsonParseException e) {
+            throw new ApiException("API returned unexpected result: " + e.getMessage());
+        }
+    }
+
     // Used as assert in all requests to elegantly catch common errors
     public void handleErrors(Result result) throws IOException, ApiException {
         if (result.getResponseCode() != 200) {
@@ -0,0 +1,94 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.hue.internal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+/**
+ * The {@link PolledObjectCache} keeps the objects of the last response of a polled resource, like all lights or all
+ * sensors. Only the entries whose JSON differs from the previous response are deserialized again, all other entries
+ * are returned as the same instances as before. So a caller can detect unchanged objects by identity.
+ *
+ * @author atje - Initial contribution
+ */
+@NonNullByDefault
+class PolledObjectCache<T extends HueObject> {
+
+    private final Gson gson;
+    private final Class<T> type;
+
+    private Map<String, JsonElement> lastElements = new HashMap<>();
+    private Map<String, T> lastObjects = new HashMap<>();
+
+    PolledObjectCache(Gson gson, Class<T> type) {
+        this.gson = gson;
+        this.type = type;
+    }
+
+    /**
+     * Updates the cache from a response containing a JSON object with all objects by their id.
+     *
+     * @param json the response body
+     * @return all objects of the response, unchanged objects are the instances of the previous response
+     * @throws JsonParseException if the response can't be parsed
+     */
+    synchronized List<T> update(String json) throws JsonParseException {
+        JsonElement root = JsonParser.parseString(json);
+        if (!root.isJsonObject()) {
+            throw new JsonParseException("Expected a JSON object but was " + root);
+        }
+
+        Map<String, JsonElement> elements = new HashMap<>();
+        Map<String, T> objects = new HashMap<>();
+        List<T> result = new ArrayList<>();
+        for (Map.Entry<String, JsonElement> entry : ((JsonObject) root).entrySet()) {
+            String id = entry.getKey();
+            JsonElement element = entry.getValue();
+            @Nullable
+            T object = lastObjects.get(id);
+            if (object == null || !element.equals(lastElements.get(id))) {
+                object = gson.fromJson(element, type);
+                if (object == null) {
+                    continue;
+                }
+                object.setId(id);
+            }
+            elements.put(id, element);
+            objects.put(id, object);
+            result.add(object);
+        }
+        lastElements = elements;
+        lastObjects = objects;
+        return result;
+    }
+
+    /**
+     * Forgets all cached objects, so all objects of the next response are deserialized again.
+     */
+    synchronized void clear() {
+        lastElements = new HashMap<>();
+        lastObjects = new HashMap<>();
+    }
+}
@@ -12,6 +12,8 @@
  */
 package org.openhab.binding.hue.internal;
 
+import java.util.Set;
+
 import org.openhab.binding.hue.internal.State.AlertMode;
 import org.openhab.binding.hue.internal.State.Effect;
 import org.openhab.binding.hue.internal.dto.ColorTemperature;
@@ -26,6 +28,8 @@ import org.openhab.binding.hue.internal.dto.ColorTemperature;
  */
 public class StateUpdate extends ConfigUpdate {
 
+    private static final Set<String> COLOR_KEYS = Set.of("hue", "sat", "xy", "ct");
+
     private Integer colorTemperature;
     private Integer brightness;
 
@@ -231,4 +235,26 @@ public class StateUpdate extends ConfigUpdate {
         commands.add(new Command("scene", sceneId));
         return this;
     }
+
+    /**
+     * Merges a newer update into this one, e.g. to send only one request for a fast series of updates of a light.
+     * Values of the newer update replace the values of this update, a new color replaces every color value of this
+     * update.
+     *
+     * @param update newer update
+     * @return this object for chaining calls
+     */
+    public StateUpdate merge(StateUpdate update) {
+        boolean newColor = update.commands.stream().anyMatch(c -> COLOR_KEYS.contains(c.key));
+        commands.removeIf(c -> (newColor && COLOR_KEYS.contains(c.key))
+                || update.commands.stream().anyMatch(u -> u.key.equals(c.key)));
+        commands.addAll(update.commands);
+        if (update.brightness != null) {
+            brightness = update.brightness;
+        }
+        if (newColor) {
+            colorTemperature = update.colorTemperature;
+        }
+        return this;
+    }
 }
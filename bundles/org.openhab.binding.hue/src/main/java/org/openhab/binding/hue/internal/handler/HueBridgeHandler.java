@@ -24,6 +24,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledFuture;
@@ -94,6 +95,9 @@ public class HueBridgeHandler extends ConfigStatusBridgeHandler implements HueCl
 
     private static final long BYPASS_MIN_DURATION_BEFORE_CMD = 1500L;
 
+    // Time to wait for further commands, e.g. of the same rule, before sending the first command to the lights
+    private static final long LIGHT_COMMAND_COLLECT_TIME = 20L;
+
     private static final String DEVICE_TYPE = "EclipseSmartHome";
 
     private static final long SCENE_POLLING_INTERVAL = TimeUnit.SECONDS.convert(10, TimeUnit.MINUTES);
@@ -111,6 +115,7 @@ public class HueBridgeHandler extends ConfigStatusBridgeHandler implements HueCl
     private final Map<String, LightStatusListener> lightStatusListeners = new ConcurrentHashMap<>();
     private final Map<String, SensorStatusListener> sensorStatusListeners = new ConcurrentHashMap<>();
     private final Map<String, GroupStatusListener> groupStatusListeners = new ConcurrentHashMap<>();
+    private final LightCommandQueue lightCommandQueue = new LightCommandQueue();
 
     final ReentrantLock pollingLock = new ReentrantLock();
 
@@ -200,7 +205,8 @@ public class HueBridgeHandler extends ConfigStatusBridgeHandler implements HueCl
                     }
 
                     lastSensorStates.put(sensorId, sensor);
-                } else {
+                } else if (sensor != lastSensorStates.get(sensorId)) {
+                    // the bridge returns the same instance for an unchanged sensor
                     if (sensorStatusListener.onSensorStateChanged(sensor)) {
                         lastSensorStates.put(sensorId, sensor);
                     }
@@ -256,7 +262,8 @@ public class HueBridgeHandler extends ConfigStatusBridgeHandler implements HueCl
                     }
 
                     lastLightStates.put(lightId, fullLight);
-                } else {
+                } else if (fullLight != lastLightStates.get(lightId)) {
+                    // the bridge returns the same instance for an unchanged light
                     if (lightStatusListener.onLightStateChanged(fullLight)) {
                         lastLightStates.put(lightId, fullLight);
                     }
@@ -432,22 +439,66 @@ public class HueBridgeHandler extends ConfigStatusBridgeHandler implements HueCl
             long fadeTime) {
         if (hueBridge != null) {
             listener.setPollBypass(BYPASS_MIN_DURATION_BEFORE_CMD);
-            hueBridge.setLightState(light, stateUpdate).thenAccept(result -> {
+            if (lightCommandQueue.add(listener, light, stateUpdate, fadeTime)) {
+                scheduler.schedule(this::sendLightCommands, LIGHT_COMMAND_COLLECT_TIME, TimeUnit.MILLISECONDS);
+            }
+        } else {
+            logger.debug("No bridge connected or selected. Cannot set light state.");
+        }
+    }
+
+    /**
+     * Sends the queued light commands one request after the other. Commands received in the meantime are merged per
+     * light, and sent as one group command if all lights of a group get the same update.
+     */
+    private void sendLightCommands() {
+        HueBridge bridge = hueBridge;
+        if (bridge == null) {
+            lightCommandQueue.clear();
+            return;
+        }
+        LightCommandQueue.Batch batch = lightCommandQueue.next(lastGroupStates.values(), System.currentTimeMillis());
+        if (batch == null) {
+            return;
+        }
+        FullGroup group = batch.group;
+        CompletableFuture<?> future;
+        if (group != null) {
+            logger.debug("Sending update of {} lights as command to group {}", batch.updates.size(), group.getId());
+            future = bridge.setGroupState(group, batch.update).thenAccept(result -> {
                 try {
-                    hueBridge.handleErrors(result);
-                    listener.setPollBypass(fadeTime);
+                    bridge.handleErrors(result);
+                    batch.updates.forEach(pending -> pending.listener.setPollBypass(pending.fadeTime));
                 } catch (Exception e) {
-                    listener.unsetPollBypass();
-                    handleLightUpdateException(listener, light, stateUpdate, fadeTime, e);
+                    logger.debug("Group command failed, sending the update to each light: {}", e.getMessage());
+                    batch.updates.forEach(pending -> sendLightState(bridge, pending));
                 }
             }).exceptionally(e -> {
-                listener.unsetPollBypass();
-                handleLightUpdateException(listener, light, stateUpdate, fadeTime, e);
+                logger.debug("Group command failed, sending the update to each light: {}", e.getMessage());
+                batch.updates.forEach(pending -> sendLightState(bridge, pending));
                 return null;
             });
         } else {
-            logger.debug("No bridge connected or selected. Cannot set light state.");
+            future = sendLightState(bridge, batch.updates.get(0));
         }
+        future.whenComplete((result, e) -> sendLightCommands());
+    }
+
+    private CompletableFuture<?> sendLightState(HueBridge bridge, LightCommandQueue.PendingUpdate pending) {
+        LightStatusListener listener = pending.listener;
+        return bridge.setLightState(pending.light, pending.update).thenAccept(result -> {
+            try {
+                bridge.handleErrors(result);
+                listener.setPollBypass(pending.fadeTime);
+            } catch (Exception e) {
+                listener.unsetPollBypass();
+                handleLightUpdateException(listener, pending.light, pending.update, pending.fadeTime, e);
+            }
+        }).exceptionally(e -> {
+            listener.unsetPollBypass();
+            handleLightUpdateException(listener, pending.light, pending.update, pending.fadeTime, e);
+            return null;
+        });
     }
 
     @Override
@@ -673,6 +724,7 @@ public class HueBridgeHandler extends ConfigStatusBridgeHandler implements HueCl
         stopLightPolling();
         stopSensorPolling();
         stopScenePolling();
+        lightCommandQueue.clear();
         if (hueBridge != null) {
             hueBridge = null;
         }
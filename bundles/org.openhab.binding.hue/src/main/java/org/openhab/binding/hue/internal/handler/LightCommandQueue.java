@@ -0,0 +1,150 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.hue.internal.handler;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.hue.internal.FullGroup;
+import org.openhab.binding.hue.internal.FullLight;
+import org.openhab.binding.hue.internal.StateUpdate;
+
+/**
+ * The {@link LightCommandQueue} collects the light state updates of a bridge until they can be sent. Pending updates
+ * of the same light are merged into one request, and when all lights of a group are waiting for the same update, a
+ * single group command is sent instead of one request per light. Hue bridges handle about one group command per
+ * second, so group commands are only used if the last one has been sent at least {@link #GROUP_COMMAND_INTERVAL} ms
+ * before.
+ *
+ * @author atje - Initial contribution
+ */
+@NonNullByDefault
+class LightCommandQueue {
+
+    static final int MIN_GROUP_LIGHTS = 3;
+    static final long GROUP_COMMAND_INTERVAL = 1000L;
+
+    /**
+     * Pending update of a single light
+     */
+    static class PendingUpdate {
+        final LightStatusListener listener;
+        final FullLight light;
+        final StateUpdate update = new StateUpdate();
+        long fadeTime;
+
+        private PendingUpdate(LightStatusListener listener, FullLight light) {
+            this.listener = listener;
+            this.light = light;
+        }
+    }
+
+    /**
+     * Updates to send with one request, either to a single light or to a group
+     */
+    static class Batch {
+        final @Nullable FullGroup group;
+        final StateUpdate update;
+        final List<PendingUpdate> updates;
+
+        private Batch(@Nullable FullGroup group, StateUpdate update, List<PendingUpdate> updates) {
+            this.group = group;
+            this.update = update;
+            this.updates = updates;
+        }
+    }
+
+    private final Map<String, PendingUpdate> pending = new LinkedHashMap<>();
+    private boolean busy = false;
+    private long lastGroupCommand = 0;
+
+    /**
+     * Adds an update of a light, merging it into a pending update of the same light.
+     *
+     * @return true if the queue was idle and the caller has to start sending the updates by {@link #next}
+     */
+    synchronized boolean add(LightStatusListener listener, FullLight light, StateUpdate update, long fadeTime) {
+        PendingUpdate pendingUpdate = pending.computeIfAbsent(light.getId(), id -> new PendingUpdate(listener, light));
+        pendingUpdate.update.merge(update);
+        pendingUpdate.fadeTime = fadeTime;
+        if (busy) {
+            return false;
+        }
+        busy = true;
+        return true;
+    }
+
+    /**
+     * Removes the updates to send with the next request from the queue.
+     *
+     * @param groups the known groups of the bridge
+     * @param now the current time in ms
+     * @return the updates to send or null if the queue is empty, in which case the queue becomes idle
+     */
+    synchronized @Nullable Batch next(Collection<FullGroup> groups, long now) {
+        if (pending.isEmpty()) {
+            busy = false;
+            return null;
+        }
+
+        if (pending.size() >= MIN_GROUP_LIGHTS && now - lastGroupCommand >= GROUP_COMMAND_INTERVAL) {
+            Map<String, Set<String>> lightsByUpdate = new LinkedHashMap<>();
+            pending.forEach((lightId, pendingUpdate) -> lightsByUpdate
+                    .computeIfAbsent(pendingUpdate.update.toJson(), json -> new HashSet<>()).add(lightId));
+            for (Set<String> lightIds : lightsByUpdate.values()) {
+                // use the largest group whose lights are all waiting for the same update
+                @Nullable
+                FullGroup bestGroup = null;
+                for (FullGroup group : groups) {
+                    List<String> groupLightIds = group.getLightIds();
+                    if (groupLightIds.size() >= MIN_GROUP_LIGHTS && lightIds.containsAll(groupLightIds)
+                            && (bestGroup == null || groupLightIds.size() > bestGroup.getLightIds().size())) {
+                        bestGroup = group;
+                    }
+                }
+                if (bestGroup != null) {
+                    List<PendingUpdate> updates = new ArrayList<>();
+                    for (String lightId : new HashSet<>(bestGroup.getLightIds())) {
+                        PendingUpdate pendingUpdate = pending.remove(lightId);
+                        if (pendingUpdate != null) {
+                            updates.add(pendingUpdate);
+                        }
+                    }
+                    lastGroupCommand = now;
+                    return new Batch(bestGroup, updates.get(0).update, updates);
+                }
+            }
+        }
+
+        Iterator<PendingUpdate> iterator = pending.values().iterator();
+        PendingUpdate pendingUpdate = iterator.next();
+        iterator.remove();
+        return new Batch(null, pendingUpdate.update, List.of(pendingUpdate));
+    }
+
+    /**
+     * Drops all pending updates.
+     */
+    synchronized void clear() {
+        pending.clear();
+        busy = false;
+    }
+}
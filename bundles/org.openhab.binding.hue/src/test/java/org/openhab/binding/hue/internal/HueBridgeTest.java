@@ -12,7 +12,7 @@
  */
 package org.openhab.binding.hue.internal;
 
-import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.when;
 
@@ -68,6 +68,29 @@ public class HueBridgeTest {
         assertThat(scenes.get(2).getId(), is("id2"));
     }
 
+    @Test
+    public void testGetSensorsReturnsUnchangedSensorsAsSameInstance() throws IOException, ApiException {
+        HttpClient mockHttpClient = Mockito.mock(HttpClient.class);
+
+        HueBridge hueBridge = new HueBridge("ip", "baseUrl", "username", Executors.newScheduledThreadPool(1),
+                mockHttpClient);
+
+        when(mockHttpClient.get("baseUrl/username/sensors")).thenReturn(
+                new Result("{\"1\":{\"name\":\"Daylight\",\"state\":{\"daylight\":true}},"
+                        + "\"2\":{\"name\":\"Motion\",\"state\":{\"presence\":false}}}", 200),
+                new Result("{\"1\":{\"name\":\"Daylight\",\"state\":{\"daylight\":true}},"
+                        + "\"2\":{\"name\":\"Motion\",\"state\":{\"presence\":true}}}", 200));
+
+        List<FullSensor> sensors = hueBridge.getSensors();
+        List<FullSensor> updatedSensors = hueBridge.getSensors();
+        assertThat(updatedSensors.size(), is(2));
+        assertThat(updatedSensors.get(0).getId(), is("1"));
+        assertThat(updatedSensors.get(0), is(sameInstance(sensors.get(0))));
+        assertThat(updatedSensors.get(1).getId(), is("2"));
+        assertThat(updatedSensors.get(1), is(not(sameInstance(sensors.get(1)))));
+        assertThat(updatedSensors.get(1).getState().get(FullSensor.STATE_PRESENCE), is(true));
+    }
+
     private static String createMockResponse(List<Scene> scenes) {
         StringBuilder stringBuilder = new StringBuilder();
         stringBuilder.append("{");
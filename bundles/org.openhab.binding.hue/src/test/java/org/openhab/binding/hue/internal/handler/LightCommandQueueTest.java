@@ -0,0 +1,112 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.hue.internal.handler;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.hue.internal.FullGroup;
+import org.openhab.binding.hue.internal.FullLight;
+import org.openhab.binding.hue.internal.StateUpdate;
+
+import com.google.gson.Gson;
+
+/**
+ * Tests for {@link LightCommandQueue}.
+ *
+ * @author atje - Initial contribution
+ */
+public class LightCommandQueueTest {
+
+    private final Gson gson = new Gson();
+    private final LightCommandQueue queue = new LightCommandQueue();
+    private final FullGroup group = gson.fromJson("{\"name\":\"Living room\",\"lights\":[\"1\",\"2\",\"3\"]}",
+            FullGroup.class);
+
+    @Test
+    public void updatesOfSameLightAreMerged() {
+        assertThat(add("1", new StateUpdate().setBrightness(100)), is(true));
+        assertThat(add("1", new StateUpdate().setBrightness(120)), is(false));
+        assertThat(add("1", new StateUpdate().turnOn()), is(false));
+
+        LightCommandQueue.Batch batch = queue.next(List.of(), 0);
+        assertThat(batch, is(notNullValue()));
+        assertThat(batch.group, is(nullValue()));
+        assertThat(batch.update.toJson(), is("{\"bri\":120,\"on\":true}"));
+        assertThat(batch.update.getBrightness(), is(120));
+        assertThat(queue.next(List.of(), 0), is(nullValue()));
+    }
+
+    @Test
+    public void newColorReplacesOldColor() {
+        add("1", new StateUpdate().setXY(0.3f, 0.3f).setBrightness(10));
+        add("1", new StateUpdate().setHue(100).setSat(200));
+
+        LightCommandQueue.Batch batch = queue.next(List.of(), 0);
+        assertThat(batch.update.toJson(), is("{\"bri\":10,\"hue\":100,\"sat\":200}"));
+    }
+
+    @Test
+    public void sameUpdateOfAllGroupLightsIsSentAsGroupCommand() {
+        add("1", new StateUpdate().turnOff());
+        add("2", new StateUpdate().turnOff());
+        add("3", new StateUpdate().turnOff());
+        add("4", new StateUpdate().turnOff());
+
+        LightCommandQueue.Batch batch = queue.next(List.of(group), LightCommandQueue.GROUP_COMMAND_INTERVAL);
+        assertThat(batch.group, is(group));
+        assertThat(batch.updates.size(), is(3));
+        assertThat(batch.update.toJson(), is("{\"on\":false}"));
+
+        batch = queue.next(List.of(group), LightCommandQueue.GROUP_COMMAND_INTERVAL);
+        assertThat(batch.group, is(nullValue()));
+        assertThat(batch.updates.get(0).light.getId(), is("4"));
+    }
+
+    @Test
+    public void groupCommandNeedsAllLightsOfGroup() {
+        add("1", new StateUpdate().turnOff());
+        add("2", new StateUpdate().turnOff());
+        add("3", new StateUpdate().turnOn());
+
+        LightCommandQueue.Batch batch = queue.next(List.of(group), LightCommandQueue.GROUP_COMMAND_INTERVAL);
+        assertThat(batch.group, is(nullValue()));
+        assertThat(batch.updates.get(0).light.getId(), is("1"));
+    }
+
+    @Test
+    public void groupCommandsAreLimited() {
+        for (int i = 0; i < 2; i++) {
+            add("1", new StateUpdate().setBrightness(50 + i));
+            add("2", new StateUpdate().setBrightness(50 + i));
+            add("3", new StateUpdate().setBrightness(50 + i));
+        }
+
+        long now = LightCommandQueue.GROUP_COMMAND_INTERVAL;
+        assertThat(queue.next(List.of(group), now).group, is(group));
+
+        add("1", new StateUpdate().setBrightness(60));
+        add("2", new StateUpdate().setBrightness(60));
+        add("3", new StateUpdate().setBrightness(60));
+        assertThat(queue.next(List.of(group), now + 10).group, is(nullValue()));
+    }
+
+    private boolean add(String lightId, StateUpdate update) {
+        FullLight light = gson.fromJson("{\"id\":\"" + lightId + "\"}", FullLight.class);
+        return queue.add(mock(LightStatusListener.class), light, update, 400);
+    }
+}
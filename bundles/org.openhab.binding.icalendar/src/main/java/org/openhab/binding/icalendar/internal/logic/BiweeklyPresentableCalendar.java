@@ -17,10 +17,14 @@ import java.io.InputStream;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.TimeZone;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -61,10 +65,23 @@ import biweekly.util.com.google.ical.compat.javautil.DateIterator;
  * @author Michael Wodniok - Added logic for events moved with "RECURRENCE-ID" (issue 9647)
  * @author Michael Wodniok - Extended logic for defined behavior with parallel current events
  *         (issue 10808)
+ * @author atje - Interval index of the event occurrences in a sliding time window
  */
 @NonNullByDefault
 class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
+    /**
+     * Time span before the first queried instant, which is covered by a new index.
+     */
+    private static final Duration INDEX_WINDOW_PAST = Duration.ofDays(1);
+    /**
+     * Minimum time span after the first queried instant, which is covered by a new index.
+     */
+    private static final Duration INDEX_WINDOW_FUTURE = Duration.ofDays(31);
+
     private final ICalendar usedCalendar;
+    private final List<VEvent> positiveEvents = new ArrayList<>();
+    private final Map<String, List<VEvent>> negativeEventsByUid = new HashMap<>();
+    private volatile @Nullable VEventWPeriodIndex index;
 
     BiweeklyPresentableCalendar(InputStream streamed) throws IOException, CalendarException {
         try (final ICalReader reader = new ICalReader(streamed)) {
@@ -74,6 +91,7 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
             }
             this.usedCalendar = currentCalendar;
         }
+        classifyEvents();
     }
 
     @Override
@@ -88,45 +106,23 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
 
     @Override
     public List<Event> getJustBegunEvents(Instant frameBegin, Instant frameEnd) {
-        return this.getVEventWPeriodsBetween(frameBegin, frameEnd, 0).stream().map(e -> e.toEvent())
+        return this.getVEventWPeriodsBetween(frameBegin, frameEnd, false).stream().map(e -> e.toEvent())
                 .collect(Collectors.toList());
     }
 
     @Override
     public List<Event> getJustEndedEvents(Instant frameBegin, Instant frameEnd) {
-        return this.getVEventWPeriodsBetween(frameBegin, frameEnd, 0, true).stream().map(e -> e.toEvent())
+        return this.getVEventWPeriodsBetween(frameBegin, frameEnd, true).stream().map(e -> e.toEvent())
                 .collect(Collectors.toList());
     }
 
     @Override
     public @Nullable Event getNextEvent(Instant instant) {
-        final Collection<VEventWPeriod> candidates = new ArrayList<VEventWPeriod>();
-        final Collection<VEvent> negativeEvents = new ArrayList<VEvent>();
-        final Collection<VEvent> positiveEvents = new ArrayList<VEvent>();
-        classifyEvents(positiveEvents, negativeEvents);
-        for (final VEvent currentEvent : positiveEvents) {
-            final DateIterator startDates = this.getRecurredEventDateIterator(currentEvent);
-            final Duration duration = getEventLength(currentEvent);
-            if (duration == null) {
-                continue;
-            }
-            startDates.advanceTo(Date.from(instant));
-            while (startDates.hasNext()) {
-                final Instant startInstant = startDates.next().toInstant();
-                if (startInstant.isAfter(instant)) {
-                    final Uid currentEventUid = currentEvent.getUid();
-                    if (currentEventUid == null || !isCounteredBy(startInstant, currentEventUid, negativeEvents)) {
-                        candidates.add(new VEventWPeriod(currentEvent, startInstant, startInstant.plus(duration)));
-                        break;
-                    }
-                }
-            }
-        }
-        VEventWPeriod earliestNextEvent = null;
-        for (final VEventWPeriod positiveCandidate : candidates) {
-            if (earliestNextEvent == null || earliestNextEvent.start.isAfter(positiveCandidate.start)) {
-                earliestNextEvent = positiveCandidate;
-            }
+        final VEventWPeriodIndex currentIndex = getIndex(instant, instant);
+        VEventWPeriod earliestNextEvent = currentIndex.getNextStarting(instant);
+        if (earliestNextEvent == null) {
+            // The next event lies behind the window of the index
+            earliestNextEvent = getNextComponentWPeriod(currentIndex.windowEnd);
         }
 
         if (earliestNextEvent == null) {
@@ -143,7 +139,10 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
     @Override
     public List<Event> getFilteredEventsBetween(Instant begin, Instant end, @Nullable EventTextFilter filter,
             int maximumCount) {
-        List<VEventWPeriod> candidates = this.getVEventWPeriodsBetween(begin, end, maximumCount);
+        if (!begin.isBefore(end)) {
+            return Collections.emptyList();
+        }
+        List<VEventWPeriod> candidates = getIndex(begin, end).getStartingBetween(begin, end);
         final List<Event> results = new ArrayList<>(candidates.size());
 
         if (filter != null) {
@@ -188,146 +187,168 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
             candidates = filteredCandidates;
         }
 
+        // The candidates are already ordered by start
         for (VEventWPeriod eventWPeriod : candidates) {
+            if (results.size() >= maximumCount) {
+                break;
+            }
             results.add(eventWPeriod.toEvent());
         }
 
-        Collections.sort(results);
-
-        return results.subList(0, (maximumCount > results.size() ? results.size() : maximumCount));
+        return results;
     }
 
     /**
-     * Finds events which begin in the given frame.
+     * Finds events which begin or end in the given frame.
      *
      * @param frameBegin Begin of the frame where to search events.
-     * @param frameEnd End of the time frame where to search events.
-     * @param maximumPerSeries Limit the results per series. Set to 0 for no limit.
-     * @return All events which begin in the time frame.
+     * @param frameEnd End of the time frame where to search events. The Instant is inclusive when searchByEnd is true.
+     * @param searchByEnd Whether to search by begin of the event or by end.
+     * @return All events which begin or end in the time frame, ordered by series.
      */
-    private List<VEventWPeriod> getVEventWPeriodsBetween(Instant frameBegin, Instant frameEnd, int maximumPerSeries) {
-        return this.getVEventWPeriodsBetween(frameBegin, frameEnd, maximumPerSeries, false);
+    private List<VEventWPeriod> getVEventWPeriodsBetween(Instant frameBegin, Instant frameEnd, boolean searchByEnd) {
+        if (frameEnd.isBefore(frameBegin)) {
+            return Collections.emptyList();
+        }
+        final VEventWPeriodIndex currentIndex = getIndex(frameBegin, frameEnd);
+        final List<VEventWPeriod> eventList = searchByEnd ? currentIndex.getEndingBetween(frameBegin, frameEnd)
+                : currentIndex.getStartingBetween(frameBegin, frameEnd);
+        eventList.sort(Comparator.comparingInt(e -> e.sequence));
+        return eventList;
     }
 
     /**
-     * Finds events which begin in the given frame by end time and date
+     * Classifies events into positive and negative ones. The negative events are grouped by their uid, as they can
+     * only counter events with the same uid.
+     */
+    private void classifyEvents() {
+        for (final VEvent currentEvent : usedCalendar.getEvents()) {
+            final Status eventStatus = currentEvent.getStatus();
+            boolean positive = (eventStatus == null || (eventStatus.isTentative() || eventStatus.isConfirmed()));
+            final RecurrenceId eventRecurrenceId = currentEvent.getRecurrenceId();
+            if (positive) {
+                positiveEvents.add(currentEvent);
+            }
+            if (!positive || eventRecurrenceId != null) {
+                // RecurrenceId moves an event. This blocks other events of series and creates a new single instance
+                final Uid eventUid = currentEvent.getUid();
+                if (eventUid != null) {
+                    negativeEventsByUid.computeIfAbsent(eventUid.getValue(), uid -> new ArrayList<>())
+                            .add(currentEvent);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns an index, which covers the given time frame. If the current index does not cover it, a new index is
+     * built for a window starting shortly before the frame.
      *
-     * @param frameBegin Begin of the frame where to search events.
-     * @param frameEnd End of the time frame where to search events. The Instant is inclusive when searchByEnd is true.
-     * @param maximumPerSeries Limit the results per series. Set to 0 for no limit.
-     * @param searchByEnd Whether to search by begin of the event or by end.
-     * @return All events which begin in the time frame.
+     * @param frameBegin Begin of the time frame.
+     * @param frameEnd End of the time frame (inclusive).
+     * @return An index covering the time frame.
      */
-    private List<VEventWPeriod> getVEventWPeriodsBetween(Instant frameBegin, Instant frameEnd, int maximumPerSeries,
-            boolean searchByEnd) {
-        final List<VEvent> positiveEvents = new ArrayList<>();
-        final List<VEvent> negativeEvents = new ArrayList<>();
-        classifyEvents(positiveEvents, negativeEvents);
+    private VEventWPeriodIndex getIndex(Instant frameBegin, Instant frameEnd) {
+        VEventWPeriodIndex currentIndex = index;
+        if (currentIndex != null && currentIndex.covers(frameBegin, frameEnd)) {
+            return currentIndex;
+        }
+        synchronized (this) {
+            currentIndex = index;
+            if (currentIndex == null || !currentIndex.covers(frameBegin, frameEnd)) {
+                final Instant windowBegin = frameBegin.minus(INDEX_WINDOW_PAST);
+                Instant windowEnd = frameBegin.plus(INDEX_WINDOW_FUTURE);
+                if (frameEnd.isAfter(windowEnd)) {
+                    windowEnd = frameEnd;
+                }
+                currentIndex = buildIndex(windowBegin, windowEnd);
+                index = currentIndex;
+            }
+            return currentIndex;
+        }
+    }
 
-        final List<VEventWPeriod> eventList = new ArrayList<>();
+    /**
+     * Materializes all occurrences of positive events, which are not countered and overlap the given window.
+     *
+     * @param windowBegin Begin of the window (inclusive).
+     * @param windowEnd End of the window (inclusive).
+     * @return The index of the occurrences.
+     */
+    private VEventWPeriodIndex buildIndex(Instant windowBegin, Instant windowEnd) {
+        final List<VEventWPeriod> occurrences = new ArrayList<>();
         for (final VEvent positiveEvent : positiveEvents) {
             final DateIterator positiveBeginDates = getRecurredEventDateIterator(positiveEvent);
             Duration duration = getEventLength(positiveEvent);
+            final boolean hasLength = duration != null;
             if (duration == null) {
                 duration = Duration.ZERO;
             }
-            positiveBeginDates.advanceTo(Date.from(frameBegin.minus(searchByEnd ? duration : Duration.ZERO)));
-            int foundInSeries = 0;
+            final Uid eventUid = positiveEvent.getUid();
+            final @Nullable List<VEvent> counterEvents = eventUid == null ? null
+                    : negativeEventsByUid.get(eventUid.getValue());
+            positiveBeginDates.advanceTo(Date.from(windowBegin.minus(duration)));
             while (positiveBeginDates.hasNext()) {
                 final Instant begInst = positiveBeginDates.next().toInstant();
-                if ((!searchByEnd && (begInst.isAfter(frameEnd) || begInst.equals(frameEnd)))
-                        || (searchByEnd && begInst.plus(duration).isAfter(frameEnd))) {
+                if (begInst.isAfter(windowEnd)) {
                     break;
                 }
+                final Instant endInst = begInst.plus(duration);
                 // biweekly is not as precise as java.time. An exact check is required.
-                if ((!searchByEnd && begInst.isBefore(frameBegin))
-                        || (searchByEnd && begInst.plus(duration).isBefore(frameBegin))) {
+                if (endInst.isBefore(windowBegin)) {
                     continue;
                 }
-
-                final VEventWPeriod resultingVEWP = new VEventWPeriod(positiveEvent, begInst, begInst.plus(duration));
-                final Uid eventUid = positiveEvent.getUid();
-                if (eventUid != null) {
-                    if (!isCounteredBy(begInst, eventUid, negativeEvents)) {
-                        eventList.add(resultingVEWP);
-                        foundInSeries++;
-                        if (maximumPerSeries != 0 && foundInSeries >= maximumPerSeries) {
-                            break;
-                        }
-                    }
-                } else {
-                    eventList.add(resultingVEWP);
-                    foundInSeries++;
-                    if (maximumPerSeries != 0 && foundInSeries >= maximumPerSeries) {
-                        break;
-                    }
+                if (counterEvents == null || !isCounteredBy(begInst, counterEvents)) {
+                    occurrences.add(new VEventWPeriod(positiveEvent, begInst, endInst, hasLength, occurrences.size()));
                 }
             }
         }
-
-        return eventList;
+        return new VEventWPeriodIndex(windowBegin, windowEnd, occurrences);
     }
 
     /**
-     * Classifies events into positive and negative ones.
+     * Searches for a current event at given Instant.
      *
-     * @param positiveEvents A List where to add positive ones.
-     * @param negativeEvents A List where to add negative ones.
+     * @param instant The Instant to use for finding events.
+     * @return A VEventWPeriod describing the event or null if there is none.
      */
-    private void classifyEvents(Collection<VEvent> positiveEvents, Collection<VEvent> negativeEvents) {
-        for (final VEvent currentEvent : usedCalendar.getEvents()) {
-            final Status eventStatus = currentEvent.getStatus();
-            boolean positive = (eventStatus == null || (eventStatus.isTentative() || eventStatus.isConfirmed()));
-            final RecurrenceId eventRecurrenceId = currentEvent.getRecurrenceId();
-            if (positive && eventRecurrenceId != null) {
-                // RecurrenceId moves an event. This blocks other events of series and creates a new single instance
-                positiveEvents.add(currentEvent);
-                negativeEvents.add(currentEvent);
-            } else {
-                final Collection<VEvent> positiveOrNegativeEvents = (positive ? positiveEvents : negativeEvents);
-                positiveOrNegativeEvents.add(currentEvent);
-            }
-        }
+    private @Nullable VEventWPeriod getCurrentComponentWPeriod(Instant instant) {
+        return getIndex(instant, instant).getCurrent(instant);
     }
 
     /**
-     * Searches for a current event at given Instant.
+     * Searches the next event by iterating all series. Only used, if the next event is not covered by the index.
      *
-     * @param instant The Instant to use for finding events.
+     * @param instant The Instant after which the next event should be searched.
      * @return A VEventWPeriod describing the event or null if there is none.
      */
-    private @Nullable VEventWPeriod getCurrentComponentWPeriod(Instant instant) {
-        final List<VEvent> negativeEvents = new ArrayList<VEvent>();
-        final List<VEvent> positiveEvents = new ArrayList<VEvent>();
-        classifyEvents(positiveEvents, negativeEvents);
-
-        VEventWPeriod earliestEndingEvent = null;
-
+    private @Nullable VEventWPeriod getNextComponentWPeriod(Instant instant) {
+        VEventWPeriod earliestNextEvent = null;
         for (final VEvent currentEvent : positiveEvents) {
             final DateIterator startDates = this.getRecurredEventDateIterator(currentEvent);
             final Duration duration = getEventLength(currentEvent);
             if (duration == null) {
                 continue;
             }
-            startDates.advanceTo(Date.from(instant.minus(duration)));
+            final Uid currentEventUid = currentEvent.getUid();
+            final @Nullable List<VEvent> counterEvents = currentEventUid == null ? null
+                    : negativeEventsByUid.get(currentEventUid.getValue());
+            startDates.advanceTo(Date.from(instant));
             while (startDates.hasNext()) {
                 final Instant startInstant = startDates.next().toInstant();
-                final Instant endInstant = startInstant.plus(duration);
-                if (startInstant.isBefore(instant) && endInstant.isAfter(instant)) {
-                    final Uid eventUid = currentEvent.getUid();
-                    if (eventUid == null || !isCounteredBy(startInstant, eventUid, negativeEvents)) {
-                        if (earliestEndingEvent == null || endInstant.isBefore(earliestEndingEvent.end)) {
-                            earliestEndingEvent = new VEventWPeriod(currentEvent, startInstant, endInstant);
-                        }
-                    }
-                }
-                if (startInstant.isAfter(instant.plus(duration))) {
+                if (earliestNextEvent != null && !startInstant.isBefore(earliestNextEvent.start)) {
                     break;
                 }
+                if (startInstant.isAfter(instant)) {
+                    if (counterEvents == null || !isCounteredBy(startInstant, counterEvents)) {
+                        earliestNextEvent = new VEventWPeriod(currentEvent, startInstant, startInstant.plus(duration),
+                                true, 0);
+                        break;
+                    }
+                }
             }
         }
-
-        return earliestEndingEvent;
+        return earliestNextEvent;
     }
 
     /**
@@ -371,43 +392,39 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
     }
 
     /**
-     * Checks whether an counter event blocks an event with given uid and start.
+     * Checks whether an counter event blocks an event with given start.
      *
      * @param startInstant The start of the event.
-     * @param eventUid The uid of the event.
-     * @param counterEvents Events that may counter.
-     * @return True if a counter event exists that matches uid and start, else false.
+     * @param counterEvents Events with the uid of the event that may counter.
+     * @return True if a counter event exists that matches start, else false.
      */
-    private boolean isCounteredBy(Instant startInstant, Uid eventUid, Collection<VEvent> counterEvents) {
+    private boolean isCounteredBy(Instant startInstant, Collection<VEvent> counterEvents) {
         for (final VEvent counterEvent : counterEvents) {
-            final Uid counterEventUid = counterEvent.getUid();
-            if (counterEventUid != null && eventUid.getValue().contentEquals(counterEventUid.getValue())) {
-                final RecurrenceId counterRecurrenceId = counterEvent.getRecurrenceId();
-                if (counterRecurrenceId != null) {
-                    ICalDate recurrenceDate = counterRecurrenceId.getValue();
-                    if (recurrenceDate != null) {
-                        Instant recurrenceInstant = Instant.ofEpochMilli(recurrenceDate.getTime());
-                        if (recurrenceInstant.equals(startInstant)) {
-                            return true;
-                        }
-                        Range futureOrPast = counterRecurrenceId.getRange();
-                        if (futureOrPast != null && futureOrPast.equals(Range.THIS_AND_FUTURE)
-                                && startInstant.isAfter(recurrenceInstant)) {
-                            return true;
-                        }
-                        if (futureOrPast != null && futureOrPast.equals(Range.THIS_AND_PRIOR)
-                                && startInstant.isBefore(recurrenceInstant)) {
-                            return true;
-                        }
+            final RecurrenceId counterRecurrenceId = counterEvent.getRecurrenceId();
+            if (counterRecurrenceId != null) {
+                ICalDate recurrenceDate = counterRecurrenceId.getValue();
+                if (recurrenceDate != null) {
+                    Instant recurrenceInstant = Instant.ofEpochMilli(recurrenceDate.getTime());
+                    if (recurrenceInstant.equals(startInstant)) {
+                        return true;
                     }
-                } else {
-                    final DateIterator counterStartDates = getRecurredEventDateIterator(counterEvent);
-                    counterStartDates.advanceTo(Date.from(startInstant));
-                    if (counterStartDates.hasNext()) {
-                        final Instant counterStartInstant = counterStartDates.next().toInstant();
-                        if (counterStartInstant.equals(startInstant)) {
-                            return true;
-                        }
+                    Range futureOrPast = counterRecurrenceId.getRange();
+                    if (futureOrPast != null && futureOrPast.equals(Range.THIS_AND_FUTURE)
+                            && startInstant.isAfter(recurrenceInstant)) {
+                        return true;
+                    }
+                    if (futureOrPast != null && futureOrPast.equals(Range.THIS_AND_PRIOR)
+                            && startInstant.isBefore(recurrenceInstant)) {
+                        return true;
+                    }
+                }
+            } else {
+                final DateIterator counterStartDates = getRecurredEventDateIterator(counterEvent);
+                counterStartDates.advanceTo(Date.from(startInstant));
+                if (counterStartDates.hasNext()) {
+                    final Instant counterStartInstant = counterStartDates.next().toInstant();
+                    if (counterStartInstant.equals(startInstant)) {
+                        return true;
                     }
                 }
             }
@@ -424,11 +441,15 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
         final VEvent vEvent;
         final Instant start;
         final Instant end;
+        final boolean hasLength;
+        final int sequence;
 
-        public VEventWPeriod(VEvent vEvent, Instant start, Instant end) {
+        public VEventWPeriod(VEvent vEvent, Instant start, Instant end, boolean hasLength, int sequence) {
             this.vEvent = vEvent;
             this.start = start;
             this.end = end;
+            this.hasLength = hasLength;
+            this.sequence = sequence;
         }
 
         public Event toEvent() {
@@ -439,4 +460,138 @@ class BiweeklyPresentableCalendar extends AbstractPresentableCalendar {
             return new Event(title, start, end, description);
         }
     }
+
+    /**
+     * Index of all event occurrences overlapping a time window. The occurrences are sorted by start and by end, so
+     * point and range queries are answered with a binary search.
+     *
+     * @author atje - Initial contribution
+     */
+    private static class VEventWPeriodIndex {
+        private static final Comparator<VEventWPeriod> BY_START = Comparator
+                .<VEventWPeriod, Instant> comparing(e -> e.start).thenComparingInt(e -> e.sequence);
+        private static final Comparator<VEventWPeriod> BY_END = Comparator
+                .<VEventWPeriod, Instant> comparing(e -> e.end).thenComparingInt(e -> e.sequence);
+
+        final Instant windowBegin;
+        final Instant windowEnd;
+        private final VEventWPeriod[] byStart;
+        private final VEventWPeriod[] byEnd;
+        /**
+         * The latest end of all occurrences up to the index in {@link #byStart}.
+         */
+        private final Instant[] maximumEnd;
+
+        VEventWPeriodIndex(Instant windowBegin, Instant windowEnd, List<VEventWPeriod> occurrences) {
+            this.windowBegin = windowBegin;
+            this.windowEnd = windowEnd;
+            byStart = occurrences.toArray(new VEventWPeriod[0]);
+            Arrays.sort(byStart, BY_START);
+            byEnd = occurrences.toArray(new VEventWPeriod[0]);
+            Arrays.sort(byEnd, BY_END);
+            maximumEnd = new Instant[byStart.length];
+            for (int i = 0; i < byStart.length; i++) {
+                final Instant end = byStart[i].end;
+                maximumEnd[i] = (i == 0 || end.isAfter(maximumEnd[i - 1])) ? end : maximumEnd[i - 1];
+            }
+        }
+
+        /**
+         * Checks whether the window of this index contains the given time frame.
+         */
+        boolean covers(Instant frameBegin, Instant frameEnd) {
+            return !frameBegin.isBefore(windowBegin) && !frameEnd.isAfter(windowEnd);
+        }
+
+        /**
+         * Finds the occurrence present at the instant, which ends first.
+         */
+        @Nullable
+        VEventWPeriod getCurrent(Instant instant) {
+            VEventWPeriod earliestEndingEvent = null;
+            // All occurrences starting before the instant, as long as one of them may still last
+            for (int i = firstStartingAtOrAfter(instant) - 1; i >= 0 && maximumEnd[i].isAfter(instant); i--) {
+                final VEventWPeriod candidate = byStart[i];
+                if (candidate.end.isAfter(instant) && (earliestEndingEvent == null
+                        || BY_END.compare(candidate, earliestEndingEvent) < 0)) {
+                    earliestEndingEvent = candidate;
+                }
+            }
+            return earliestEndingEvent;
+        }
+
+        /**
+         * Finds the first occurrence with a known length starting after the instant.
+         */
+        @Nullable
+        VEventWPeriod getNextStarting(Instant instant) {
+            for (int i = firstStartingAfter(instant); i < byStart.length; i++) {
+                if (byStart[i].hasLength) {
+                    return byStart[i];
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Finds all occurrences starting in the frame, the frame end is exclusive.
+         */
+        List<VEventWPeriod> getStartingBetween(Instant frameBegin, Instant frameEnd) {
+            final List<VEventWPeriod> result = new ArrayList<>();
+            for (int i = firstStartingAtOrAfter(frameBegin); i < byStart.length
+                    && byStart[i].start.isBefore(frameEnd); i++) {
+                result.add(byStart[i]);
+            }
+            return result;
+        }
+
+        /**
+         * Finds all occurrences ending in the frame, the frame end is inclusive.
+         */
+        List<VEventWPeriod> getEndingBetween(Instant frameBegin, Instant frameEnd) {
+            final List<VEventWPeriod> result = new ArrayList<>();
+            int low = 0;
+            int high = byEnd.length;
+            while (low < high) {
+                final int middle = (low + high) >>> 1;
+                if (byEnd[middle].end.isBefore(frameBegin)) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            for (int i = low; i < byEnd.length && !byEnd[i].end.isAfter(frameEnd); i++) {
+                result.add(byEnd[i]);
+            }
+            return result;
+        }
+
+        private int firstStartingAtOrAfter(Instant instant) {
+            int low = 0;
+            int high = byStart.length;
+            while (low < high) {
+                final int middle = (low + high) >>> 1;
+                if (byStart[middle].start.isBefore(instant)) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        private int firstStartingAfter(Instant instant) {
+            int low = 0;
+            int high = byStart.length;
+            while (low < high) {
+                final int middle = (low + high) >>> 1;
+                if (byStart[middle].start.isAfter(instant)) {
+                    high = middle;
+                } else {
+                    low = middle + 1;
+                }
+            }
+            return low;
+        }
+    }
 }
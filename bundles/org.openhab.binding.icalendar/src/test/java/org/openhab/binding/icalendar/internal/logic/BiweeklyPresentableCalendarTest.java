@@ -178,6 +178,27 @@ public class BiweeklyPresentableCalendarTest {
         assertEquals(0, Instant.parse("2019-12-01T10:00:00Z").compareTo(nextEventAfterCancelled.start));
     }
 
+    /**
+     * Checks that queries far apart in time, which are not covered by the same window of the index, give the same
+     * results.
+     */
+    @Test
+    public void testQueriesOutsideOfIndexWindow() {
+        // next event months after the queried instant
+        Event nextEventFarAway = calendar.getNextEvent(Instant.parse("2019-05-01T00:00:00Z"));
+        assertNotNull(nextEventFarAway);
+        assertTrue("Test Series in UTC".contentEquals(nextEventFarAway.title));
+        assertEquals(0, Instant.parse("2019-09-08T09:05:00Z").compareTo(nextEventFarAway.start));
+
+        // moving back and forth in time
+        assertFalse(calendar.isEventPresent(Instant.parse("2019-09-09T09:08:00Z")));
+        assertTrue(calendar.isEventPresent(Instant.parse("2019-09-08T09:08:00Z")));
+        assertFalse(calendar.isEventPresent(Instant.parse("2021-09-08T09:08:00Z")));
+        assertTrue(calendar.isEventPresent(Instant.parse("2019-09-14T08:03:00Z")));
+        assertEquals(1, calendar.getJustEndedEvents(Instant.parse("2019-09-14T08:03:00Z"),
+                Instant.parse("2019-09-14T09:00:00Z")).size());
+    }
+
     /**
      * This test checks for Events that have just begun or ended, and if so it checks for Command Tags
      * and checks if these tags are valid
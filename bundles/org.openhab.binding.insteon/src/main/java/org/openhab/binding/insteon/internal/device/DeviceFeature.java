@@ -143,6 +143,29 @@ public class DeviceFeature {
         return this.msgHandlers;
     }
 
+    /**
+     * Checks if messages with the given command1 can reach a message handler of this feature
+     * other than the default one. Always true for features that don't select their handler by command1.
+     *
+     * @param cmd1 the command1 of the message (or the high byte of the to address for all link
+     *            cleanup success messages)
+     * @return false if the feature can safely be skipped for messages with this command1
+     */
+    public boolean reactsToCommand1(int cmd1) {
+        return !isKeyedByCommand1() || msgHandlers.get(cmd1) != null;
+    }
+
+    /**
+     * Checks if this feature selects its message handler by command1, i.e. whether it
+     * can be skipped for messages with other command1 values.
+     *
+     * @return true if the feature is keyed by command1
+     */
+    public boolean isKeyedByCommand1() {
+        MessageDispatcher dispatcher = this.dispatcher;
+        return dispatcher != null && dispatcher.isKeyedByCommand1() && defaultMsgHandler.ignoresMessages();
+    }
+
     public List<DeviceFeature> getConnectedFeatures() {
         return (connectedFeatures);
     }
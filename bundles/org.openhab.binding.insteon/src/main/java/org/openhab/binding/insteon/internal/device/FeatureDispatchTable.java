@@ -0,0 +1,105 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.insteon.internal.device;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.insteon.internal.message.FieldException;
+import org.openhab.binding.insteon.internal.message.Msg;
+
+/**
+ * Dispatch table of a device, mapping the command1 of incoming messages to the features
+ * that react to it. Features whose dispatcher selects the handler by command1 are only
+ * listed for the command1 values they have a handler for, all other features are listed
+ * for every command1. Direct acks are answers to queries and are always passed to all
+ * features, since their command1 doesn't tell which feature sent the query. X10 messages
+ * have no command1 and are passed to all features as well.
+ *
+ * The table keeps the iteration order of the features of the device, so messages are
+ * applied in the same order as without the table.
+ *
+ * @author atje - Initial contribution
+ */
+@NonNullByDefault
+class FeatureDispatchTable {
+    private final List<DeviceFeature> allFeatures = new ArrayList<>();
+    private final List<DeviceFeature> unkeyedFeatures = new ArrayList<>();
+    private final List<DeviceFeature> statusFeatures = new ArrayList<>();
+    private final Map<Integer, List<DeviceFeature>> featuresByCommand1 = new HashMap<>();
+
+    FeatureDispatchTable(Collection<DeviceFeature> features) {
+        TreeSet<Integer> keys = new TreeSet<>();
+        for (DeviceFeature f : features) {
+            if (f.isStatusFeature()) {
+                statusFeatures.add(f);
+                continue;
+            }
+            allFeatures.add(f);
+            if (f.isKeyedByCommand1()) {
+                keys.addAll(f.getMsgHandlers().keySet());
+            } else {
+                unkeyedFeatures.add(f);
+            }
+        }
+        for (int key : keys) {
+            List<DeviceFeature> l = new ArrayList<>();
+            for (DeviceFeature f : allFeatures) {
+                if (f.reactsToCommand1(key)) {
+                    l.add(f);
+                }
+            }
+            featuresByCommand1.put(key, l);
+        }
+    }
+
+    /**
+     * Returns the non-status features a message has to be applied to
+     *
+     * @param msg the incoming message
+     * @return the features in device order
+     */
+    List<DeviceFeature> getFeatures(Msg msg) {
+        if (msg.isAckOfDirect() || msg.isX10()) {
+            return allFeatures;
+        }
+        int key;
+        try {
+            byte cmd1 = msg.getByte("command1");
+            // same key as MessageDispatcher.handleAllLinkMessage() uses
+            if (msg.isAllLink() && !msg.isCleanup() && cmd1 == 0x06) {
+                cmd1 = msg.getAddress("toAddress").getHighByte();
+            }
+            key = cmd1 & 0xFF;
+        } catch (FieldException e) {
+            // let the dispatchers deal with it
+            return allFeatures;
+        }
+        List<DeviceFeature> l = featuresByCommand1.get(key);
+        return l != null ? l : unkeyedFeatures;
+    }
+
+    /**
+     * Returns the status features, which get every message
+     *
+     * @return the status features in device order
+     */
+    List<DeviceFeature> getStatusFeatures() {
+        return statusFeatures;
+    }
+}
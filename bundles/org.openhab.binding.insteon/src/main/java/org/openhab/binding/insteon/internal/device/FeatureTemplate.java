@@ -159,15 +159,15 @@ public class FeatureTemplate {
         }
         HandlerEntry defaultMsgHandler = this.defaultMsgHandler;
         if (defaultMsgHandler != null) {
-            MessageHandler h = MessageHandler.makeHandler(defaultMsgHandler.getName(), defaultMsgHandler.getParams(),
-                    f);
+            MessageHandler h = MessageHandler.makeHandler(defaultMsgHandler.getName(),
+                    defaultMsgHandler.getHandlerParameters(), f);
             if (h != null) {
                 f.setDefaultMsgHandler(h);
             }
         }
         for (Entry<Integer, HandlerEntry> mH : messageHandlers.entrySet()) {
             f.addMessageHandler(mH.getKey(),
-                    MessageHandler.makeHandler(mH.getValue().getName(), mH.getValue().getParams(), f));
+                    MessageHandler.makeHandler(mH.getValue().getName(), mH.getValue().getHandlerParameters(), f));
         }
         for (Entry<Class<? extends Command>, HandlerEntry> cH : commandHandlers.entrySet()) {
             f.addCommandHandler(cH.getKey(),
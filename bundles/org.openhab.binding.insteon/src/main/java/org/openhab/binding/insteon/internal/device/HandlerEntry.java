@@ -25,17 +25,23 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 @NonNullByDefault
 public class HandlerEntry {
     Map<String, String> params;
+    HandlerParameters handlerParams;
     String name;
 
     HandlerEntry(String name, Map<String, String> params) {
         this.name = name;
         this.params = params;
+        this.handlerParams = new HandlerParameters(params);
     }
 
     Map<String, String> getParams() {
         return params;
     }
 
+    HandlerParameters getHandlerParameters() {
+        return handlerParams;
+    }
+
     String getName() {
         return name;
     }
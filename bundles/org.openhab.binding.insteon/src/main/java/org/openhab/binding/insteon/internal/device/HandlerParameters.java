@@ -0,0 +1,176 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.insteon.internal.device;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.insteon.internal.utils.Utils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Handler parameters of a feature template, parsed once when the device type xml is loaded.
+ * The parameters are shared by the handlers of all features built from the template, so the
+ * message handlers don't have to parse the parameter strings for every incoming message.
+ *
+ * @author atje - Initial contribution
+ */
+@NonNullByDefault
+public class HandlerParameters {
+    private static final Logger logger = LoggerFactory.getLogger(HandlerParameters.class);
+
+    public static final HandlerParameters EMPTY = new HandlerParameters(Collections.emptyMap());
+
+    private final Map<String, String> values;
+    private final Map<String, Integer> intValues = new HashMap<>();
+    private final Map<String, Double> doubleValues = new HashMap<>();
+
+    private final int group;
+    private final int button;
+    private final int ext;
+    private final int matchCmd1;
+    private final int matchCmd2;
+    private final int matchD1;
+    private final int matchD2;
+    private final int matchD3;
+
+    public HandlerParameters(Map<String, String> values) {
+        this.values = Collections.unmodifiableMap(new HashMap<>(values));
+        for (Entry<String, String> e : this.values.entrySet()) {
+            String value = e.getValue();
+            try {
+                intValues.put(e.getKey(), Utils.strToInt(value));
+            } catch (NumberFormatException ex) {
+                // not an int parameter
+            }
+            try {
+                doubleValues.put(e.getKey(), Double.parseDouble(value));
+            } catch (NumberFormatException ex) {
+                // not a double parameter
+            }
+        }
+        group = intOrNone("group");
+        button = intOrNone("button");
+        ext = intOrNone("ext");
+        matchCmd1 = intOrNone("match_cmd1");
+        matchCmd2 = intOrNone("match_cmd2");
+        matchD1 = intOrNone("match_d1");
+        matchD2 = intOrNone("match_d2");
+        matchD3 = intOrNone("match_d3");
+    }
+
+    private int intOrNone(String key) {
+        Integer value = intValues.get(key);
+        if (value != null) {
+            return value;
+        }
+        if (values.containsKey(key)) {
+            // warn once here, the handlers treat the parameter as not set for every message
+            logger.warn("malformed int parameter in message handler: {}={}", key, values.get(key));
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the raw parameter map
+     *
+     * @return unmodifiable map of parameter names to values
+     */
+    public Map<String, String> getValues() {
+        return values;
+    }
+
+    /**
+     * Returns the parameter value as string
+     *
+     * @param key name of the parameter
+     * @return the value or null if not found
+     */
+    public @Nullable String getString(String key) {
+        return values.get(key);
+    }
+
+    /**
+     * Returns the parameter value parsed as int (decimal or 0x prefixed hex)
+     *
+     * @param key name of the parameter
+     * @return the parsed value or null if not found or malformed
+     */
+    public @Nullable Integer getInt(String key) {
+        return intValues.get(key);
+    }
+
+    /**
+     * Returns the parameter value parsed as double
+     *
+     * @param key name of the parameter
+     * @return the parsed value or null if not found or malformed
+     */
+    public @Nullable Double getDouble(String key) {
+        return doubleValues.get(key);
+    }
+
+    public boolean contains(String key) {
+        return values.containsKey(key);
+    }
+
+    /** group parameter or -1 if none */
+    public int getGroup() {
+        return group;
+    }
+
+    /** button parameter or -1 if none */
+    public int getButton() {
+        return button;
+    }
+
+    /** ext parameter or -1 if none */
+    public int getExt() {
+        return ext;
+    }
+
+    /** match_cmd1 parameter or -1 if none */
+    public int getMatchCmd1() {
+        return matchCmd1;
+    }
+
+    /** match_cmd2 parameter or -1 if none */
+    public int getMatchCmd2() {
+        return matchCmd2;
+    }
+
+    /** match_d1 parameter or -1 if none */
+    public int getMatchD1() {
+        return matchD1;
+    }
+
+    /** match_d2 parameter or -1 if none */
+    public int getMatchD2() {
+        return matchD2;
+    }
+
+    /** match_d3 parameter or -1 if none */
+    public int getMatchD3() {
+        return matchD3;
+    }
+
+    @Override
+    public String toString() {
+        return values.toString();
+    }
+}
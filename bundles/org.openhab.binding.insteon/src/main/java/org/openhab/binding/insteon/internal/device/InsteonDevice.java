@@ -63,6 +63,7 @@ public class InsteonDevice {
     private long pollInterval = -1L; // in milliseconds
     private @Nullable Driver driver = null;
     private Map<String, DeviceFeature> features = new HashMap<>();
+    private @Nullable FeatureDispatchTable dispatchTable = null; // guarded by features
     private @Nullable String productKey = null;
     private volatile long lastTimePolled = 0L;
     private volatile long lastMsgReceived = 0L;
@@ -296,26 +297,27 @@ public class InsteonDevice {
     public void handleMessage(Msg msg) {
         lastMsgReceived = System.currentTimeMillis();
         synchronized (features) {
+            FeatureDispatchTable table = dispatchTable;
+            if (table == null) {
+                table = new FeatureDispatchTable(features.values());
+                dispatchTable = table;
+            }
             // first update all features that are
-            // not status features
-            for (DeviceFeature f : features.values()) {
-                if (!f.isStatusFeature()) {
-                    logger.debug("----- applying message to feature: {}", f.getName());
-                    if (f.handleMessage(msg)) {
-                        // handled a reply to a query,
-                        // mark it as processed
-                        logger.trace("handled reply of direct: {}", f);
-                        setFeatureQueried(null);
-                        break;
-                    }
+            // not status features and react to the message
+            for (DeviceFeature f : table.getFeatures(msg)) {
+                logger.debug("----- applying message to feature: {}", f.getName());
+                if (f.handleMessage(msg)) {
+                    // handled a reply to a query,
+                    // mark it as processed
+                    logger.trace("handled reply of direct: {}", f);
+                    setFeatureQueried(null);
+                    break;
                 }
             }
             // then update all the status features,
             // e.g. when the device was last updated
-            for (DeviceFeature f : features.values()) {
-                if (f.isStatusFeature()) {
-                    f.handleMessage(msg);
-                }
+            for (DeviceFeature f : table.getStatusFeatures()) {
+                f.handleMessage(msg);
             }
         }
     }
@@ -568,6 +570,7 @@ public class InsteonDevice {
         f.setDevice(this);
         synchronized (features) {
             features.put(name, f);
+            dispatchTable = null;
         }
     }
 
@@ -12,9 +12,9 @@
  */
 package org.openhab.binding.insteon.internal.device;
 
-import java.lang.reflect.InvocationTargetException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Function;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -113,6 +113,17 @@ public abstract class MessageDispatcher {
                 && feature.getDevice().getFeatureQueried() == feature;
     }
 
+    /**
+     * Checks if this dispatcher only passes messages other than direct acks to the handler registered
+     * for their command1 (the high byte of the to address for all link cleanup success messages)
+     * or to the default handler of the feature.
+     *
+     * @return true if the dispatcher selects the handler by command1
+     */
+    public boolean isKeyedByCommand1() {
+        return false;
+    }
+
     /**
      * Dispatches message
      *
@@ -133,6 +144,11 @@ public abstract class MessageDispatcher {
             super(f);
         }
 
+        @Override
+        public boolean isKeyedByCommand1() {
+            return true;
+        }
+
         @Override
         public boolean dispatch(Msg msg) {
             byte cmd = 0x00;
@@ -266,6 +282,11 @@ public abstract class MessageDispatcher {
             super(f);
         }
 
+        @Override
+        public boolean isKeyedByCommand1() {
+            return true;
+        }
+
         @Override
         public boolean dispatch(Msg msg) {
             if (msg.isAllLinkCleanupAckOrNack()) {
@@ -292,6 +313,11 @@ public abstract class MessageDispatcher {
             super(f);
         }
 
+        @Override
+        public boolean isKeyedByCommand1() {
+            return true;
+        }
+
         @Override
         public boolean dispatch(Msg msg) {
             byte cmd1 = 0x00;
@@ -375,36 +401,46 @@ public abstract class MessageDispatcher {
             super(f);
         }
 
+        @Override
+        public boolean isKeyedByCommand1() {
+            return true;
+        }
+
         @Override
         public boolean dispatch(Msg msg) {
             return false;
         }
     }
 
+    private static final Map<String, Function<DeviceFeature, MessageDispatcher>> DISPATCHERS = new HashMap<>();
+
+    static {
+        DISPATCHERS.put("DefaultDispatcher", DefaultDispatcher::new);
+        DISPATCHERS.put("DefaultGroupDispatcher", DefaultGroupDispatcher::new);
+        DISPATCHERS.put("PollGroupDispatcher", PollGroupDispatcher::new);
+        DISPATCHERS.put("SimpleDispatcher", SimpleDispatcher::new);
+        DISPATCHERS.put("X10Dispatcher", X10Dispatcher::new);
+        DISPATCHERS.put("PassThroughDispatcher", PassThroughDispatcher::new);
+        DISPATCHERS.put("NoOpDispatcher", NoOpDispatcher::new);
+    }
+
     /**
-     * Factory method for creating a dispatcher of a given name using java reflection
+     * Factory method for creating a dispatcher of a given name
      *
      * @param name the name of the dispatcher to create
      * @param params
      * @param f the feature for which to create the dispatcher
      * @return the handler which was created
      */
-    @Nullable
-    public static <T extends MessageDispatcher> T makeHandler(String name, @Nullable Map<String, String> params,
+    public static @Nullable MessageDispatcher makeHandler(String name, @Nullable Map<String, String> params,
             DeviceFeature f) {
-        String cname = MessageDispatcher.class.getName() + "$" + name;
-        try {
-            Class<?> c = Class.forName(cname);
-            @SuppressWarnings("unchecked")
-            Class<? extends T> dc = (Class<? extends T>) c;
-            @Nullable
-            T ch = dc.getDeclaredConstructor(DeviceFeature.class).newInstance(f);
-            ch.setParameters(params);
-            return ch;
-        } catch (ClassNotFoundException | InstantiationException | IllegalAccessException | IllegalArgumentException
-                | InvocationTargetException | NoSuchMethodException | SecurityException e) {
-            logger.warn("error trying to create dispatcher: {}", name, e);
+        Function<DeviceFeature, MessageDispatcher> factory = DISPATCHERS.get(name);
+        if (factory == null) {
+            logger.warn("error trying to create dispatcher: {}", name);
+            return null;
         }
-        return null;
+        MessageDispatcher ch = factory.apply(f);
+        ch.setParameters(params);
+        return ch;
     }
 }
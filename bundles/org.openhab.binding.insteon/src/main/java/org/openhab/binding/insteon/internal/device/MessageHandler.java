@@ -12,11 +12,11 @@
  */
 package org.openhab.binding.insteon.internal.device;
 
-import java.lang.reflect.InvocationTargetException;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Function;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -54,7 +54,7 @@ public abstract class MessageHandler {
     private static final Logger logger = LoggerFactory.getLogger(MessageHandler.class);
 
     protected DeviceFeature feature;
-    protected Map<String, String> parameters = new HashMap<>();
+    protected HandlerParameters parameters = HandlerParameters.EMPTY;
 
     /**
      * Constructor
@@ -77,6 +77,17 @@ public abstract class MessageHandler {
      */
     public abstract void handleMessage(int group, byte cmd1, Msg msg, DeviceFeature feature);
 
+    /**
+     * Checks if this handler drops all messages without any effect besides logging.
+     * Features whose dispatcher would only reach such a handler are skipped by the
+     * dispatch table of the device.
+     *
+     * @return true if the handler ignores all messages
+     */
+    public boolean ignoresMessages() {
+        return false;
+    }
+
     /**
      * Method to send an extended insteon message for querying a device
      *
@@ -104,7 +115,7 @@ public abstract class MessageHandler {
      * @return true if group matches or no group is specified
      */
     public boolean matchesGroup(int group) {
-        int g = getIntParameter("group", -1);
+        int g = parameters.getGroup();
         return (g == -1 || g == group);
     }
 
@@ -114,7 +125,7 @@ public abstract class MessageHandler {
      * @return group parameter
      */
     public int getGroup() {
-        return (getIntParameter("group", -1));
+        return (parameters.getGroup());
     }
 
     /**
@@ -125,17 +136,14 @@ public abstract class MessageHandler {
      * @return value of int parameter (or default if not found)
      */
     protected int getIntParameter(String key, int def) {
-        String val = parameters.get(key);
-        if (val == null) {
-            return (def); // param not found
+        Integer val = parameters.getInt(key);
+        if (val != null) {
+            return val;
         }
-        int ret = def;
-        try {
-            ret = Utils.strToInt(val);
-        } catch (NumberFormatException e) {
+        if (parameters.contains(key)) {
             logger.warn("malformed int parameter in message handler: {}", key);
         }
-        return ret;
+        return def;
     }
 
     /**
@@ -146,7 +154,7 @@ public abstract class MessageHandler {
      * @return value of parameter (or default if not found)
      */
     protected @Nullable String getStringParameter(String key, @Nullable String def) {
-        String str = parameters.get(key);
+        String str = parameters.getString(key);
         return str != null ? str : def;
     }
 
@@ -158,10 +166,11 @@ public abstract class MessageHandler {
      * @return value of parameter (or default if not found)
      */
     protected double getDoubleParameter(String key, double def) {
-        try {
-            String str = parameters.get(key);
-            return str != null ? Double.parseDouble(str) : def;
-        } catch (NumberFormatException e) {
+        Double val = parameters.getDouble(key);
+        if (val != null) {
+            return val;
+        }
+        if (parameters.contains(key)) {
             logger.warn("malformed int parameter in message handler: {}", key);
         }
         return def;
@@ -189,7 +198,7 @@ public abstract class MessageHandler {
      * @return true if we have no button configured or the message is for this button
      */
     protected boolean isMybutton(Msg msg, DeviceFeature f) {
-        int myButton = getIntParameter("button", -1);
+        int myButton = parameters.getButton();
         // if there is no button configured for this handler
         // the message is assumed to refer to this feature
         // no matter what button is addressed in the message
@@ -204,14 +213,13 @@ public abstract class MessageHandler {
     /**
      * Test if parameter matches value
      *
-     * @param param name of parameter to match
+     * @param mp value of the parameter to match, -1 if not set
      * @param msg message to search
      * @param field field name to match
      * @return true if parameter matches
      * @throws FieldException if field not there
      */
-    protected boolean testMatch(String param, Msg msg, String field) throws FieldException {
-        int mp = getIntParameter(param, -1);
+    protected boolean testMatch(int mp, Msg msg, String field) throws FieldException {
         // parameter not filtered for, declare this a match!
         if (mp == -1) {
             return (true);
@@ -228,25 +236,25 @@ public abstract class MessageHandler {
      */
     public boolean matches(Msg msg) {
         try {
-            int ext = getIntParameter("ext", -1);
+            int ext = parameters.getExt();
             if (ext != -1) {
                 if ((msg.isExtended() && ext != 1) || (!msg.isExtended() && ext != 0)) {
                     return (false);
                 }
-                if (!testMatch("match_cmd1", msg, "command1")) {
+                if (!testMatch(parameters.getMatchCmd1(), msg, "command1")) {
                     return (false);
                 }
             }
-            if (!testMatch("match_cmd2", msg, "command2")) {
+            if (!testMatch(parameters.getMatchCmd2(), msg, "command2")) {
                 return (false);
             }
-            if (!testMatch("match_d1", msg, "userData1")) {
+            if (!testMatch(parameters.getMatchD1(), msg, "userData1")) {
                 return (false);
             }
-            if (!testMatch("match_d2", msg, "userData2")) {
+            if (!testMatch(parameters.getMatchD2(), msg, "userData2")) {
                 return (false);
             }
-            if (!testMatch("match_d3", msg, "userData3")) {
+            if (!testMatch(parameters.getMatchD3(), msg, "userData3")) {
                 return (false);
             }
         } catch (FieldException e) {
@@ -320,12 +328,12 @@ public abstract class MessageHandler {
     }
 
     /**
-     * Set parameter map
+     * Set handler parameters
      *
-     * @param map the parameter map for this message handler
+     * @param params the parsed parameters for this message handler
      */
-    public void setParameters(Map<String, String> map) {
-        parameters = map;
+    public void setParameters(HandlerParameters params) {
+        parameters = params;
     }
 
     //
@@ -339,6 +347,11 @@ public abstract class MessageHandler {
             super(p);
         }
 
+        @Override
+        public boolean ignoresMessages() {
+            return true;
+        }
+
         @Override
         public void handleMessage(int group, byte cmd1, Msg msg, DeviceFeature f) {
             logger.debug("{} ignoring unimpl message with cmd1:{}", nm(), Utils.getHexByte(cmd1));
@@ -350,6 +363,11 @@ public abstract class MessageHandler {
             super(p);
         }
 
+        @Override
+        public boolean ignoresMessages() {
+            return true;
+        }
+
         @Override
         public void handleMessage(int group, byte cmd1, Msg msg, DeviceFeature f) {
             logger.trace("{} ignore msg {}: {}", nm(), Utils.getHexByte(cmd1), msg);
@@ -450,7 +468,7 @@ public abstract class MessageHandler {
         }
 
         @Override
-        public void setParameters(Map<String, String> params) {
+        public void setParameters(HandlerParameters params) {
             super.setParameters(params);
             onCmd = getIntParameter("on", 0x2E);
             offCmd = getIntParameter("off", 0x2F);
@@ -1300,29 +1318,64 @@ public abstract class MessageHandler {
         }
     }
 
+    private static final Map<String, Function<DeviceFeature, MessageHandler>> HANDLERS = new HashMap<>();
+
+    static {
+        HANDLERS.put("DefaultMsgHandler", DefaultMsgHandler::new);
+        HANDLERS.put("NoOpMsgHandler", NoOpMsgHandler::new);
+        HANDLERS.put("LightOnDimmerHandler", LightOnDimmerHandler::new);
+        HANDLERS.put("LightOffDimmerHandler", LightOffDimmerHandler::new);
+        HANDLERS.put("LightOnSwitchHandler", LightOnSwitchHandler::new);
+        HANDLERS.put("LightOffSwitchHandler", LightOffSwitchHandler::new);
+        HANDLERS.put("RampDimmerHandler", RampDimmerHandler::new);
+        HANDLERS.put("SwitchRequestReplyHandler", SwitchRequestReplyHandler::new);
+        HANDLERS.put("DimmerRequestReplyHandler", DimmerRequestReplyHandler::new);
+        HANDLERS.put("DimmerStopManualChangeHandler", DimmerStopManualChangeHandler::new);
+        HANDLERS.put("StartManualChangeHandler", StartManualChangeHandler::new);
+        HANDLERS.put("StopManualChangeHandler", StopManualChangeHandler::new);
+        HANDLERS.put("InfoRequestReplyHandler", InfoRequestReplyHandler::new);
+        HANDLERS.put("MotionSensorDataReplyHandler", MotionSensorDataReplyHandler::new);
+        HANDLERS.put("MotionSensor2AlternateHeartbeatHandler", MotionSensor2AlternateHeartbeatHandler::new);
+        HANDLERS.put("HiddenDoorSensorDataReplyHandler", HiddenDoorSensorDataReplyHandler::new);
+        HANDLERS.put("PowerMeterUpdateHandler", PowerMeterUpdateHandler::new);
+        HANDLERS.put("PowerMeterResetHandler", PowerMeterResetHandler::new);
+        HANDLERS.put("LastTimeHandler", LastTimeHandler::new);
+        HANDLERS.put("ContactRequestReplyHandler", ContactRequestReplyHandler::new);
+        HANDLERS.put("ClosedContactHandler", ClosedContactHandler::new);
+        HANDLERS.put("OpenedContactHandler", OpenedContactHandler::new);
+        HANDLERS.put("OpenedOrClosedContactHandler", OpenedOrClosedContactHandler::new);
+        HANDLERS.put("ClosedSleepingContactHandler", ClosedSleepingContactHandler::new);
+        HANDLERS.put("OpenedSleepingContactHandler", OpenedSleepingContactHandler::new);
+        HANDLERS.put("TriggerPollMsgHandler", TriggerPollMsgHandler::new);
+        HANDLERS.put("NumberMsgHandler", NumberMsgHandler::new);
+        HANDLERS.put("ThermostatSystemModeMsgHandler", ThermostatSystemModeMsgHandler::new);
+        HANDLERS.put("ThermostatSystemModeReplyHandler", ThermostatSystemModeReplyHandler::new);
+        HANDLERS.put("ThermostatFanModeReplyHandler", ThermostatFanModeReplyHandler::new);
+        HANDLERS.put("FanLincFanReplyHandler", FanLincFanReplyHandler::new);
+        HANDLERS.put("X10OnHandler", X10OnHandler::new);
+        HANDLERS.put("X10OffHandler", X10OffHandler::new);
+        HANDLERS.put("X10BrightHandler", X10BrightHandler::new);
+        HANDLERS.put("X10DimHandler", X10DimHandler::new);
+        HANDLERS.put("X10OpenHandler", X10OpenHandler::new);
+        HANDLERS.put("X10ClosedHandler", X10ClosedHandler::new);
+    }
+
     /**
-     * Factory method for creating handlers of a given name using java reflection
+     * Factory method for creating handlers of a given name
      *
      * @param name the name of the handler to create
      * @param params
      * @param f the feature for which to create the handler
      * @return the handler which was created
      */
-    public static @Nullable <T extends MessageHandler> T makeHandler(String name, Map<String, String> params,
-            DeviceFeature f) {
-        String cname = MessageHandler.class.getName() + "$" + name;
-        try {
-            Class<?> c = Class.forName(cname);
-            @SuppressWarnings("unchecked")
-            Class<? extends T> dc = (Class<? extends T>) c;
-            @Nullable
-            T mh = dc.getDeclaredConstructor(DeviceFeature.class).newInstance(f);
-            mh.setParameters(params);
-            return mh;
-        } catch (ClassNotFoundException | InstantiationException | IllegalAccessException | IllegalArgumentException
-                | InvocationTargetException | NoSuchMethodException | SecurityException e) {
-            logger.warn("error trying to create message handler: {}", name, e);
-        }
-        return null;
+    public static @Nullable MessageHandler makeHandler(String name, HandlerParameters params, DeviceFeature f) {
+        Function<DeviceFeature, MessageHandler> factory = HANDLERS.get(name);
+        if (factory == null) {
+            logger.warn("error trying to create message handler: {}", name);
+            return null;
+        }
+        MessageHandler mh = factory.apply(f);
+        mh.setParameters(params);
+        return mh;
     }
 }
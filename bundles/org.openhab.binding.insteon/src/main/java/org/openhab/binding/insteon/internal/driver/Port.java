@@ -13,9 +13,9 @@
 package org.openhab.binding.insteon.internal.driver;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -83,7 +83,7 @@ public class Port {
     private MsgFactory msgFactory = new MsgFactory();
     private Driver driver;
     private ModemDBBuilder mdbb;
-    private ArrayList<MsgListener> listeners = new ArrayList<>();
+    private CopyOnWriteArrayList<MsgListener> listeners = new CopyOnWriteArrayList<>();
     private LinkedBlockingQueue<Msg> writeQueue = new LinkedBlockingQueue<>();
     private AtomicBoolean disconnected = new AtomicBoolean(false);
 
@@ -95,12 +95,23 @@ public class Port {
      */
     public Port(String devName, Driver d, @Nullable SerialPortManager serialPortManager,
             ScheduledExecutorService scheduler) {
+        this(devName, d, IOStream.create(serialPortManager, devName), scheduler);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param devName the name of the port, i.e. '/dev/insteon'
+     * @param d The Driver object that manages this port
+     * @param ioStream the stream to read the messages from and write them to
+     */
+    Port(String devName, Driver d, IOStream ioStream, ScheduledExecutorService scheduler) {
         this.devName = devName;
         this.driver = d;
         this.logName = Utils.redactPassword(devName);
         this.modem = new Modem();
         addListener(modem);
-        this.ioStream = IOStream.create(serialPortManager, devName);
+        this.ioStream = ioStream;
         this.reader = new IOStreamReader();
         this.writer = new IOStreamWriter();
         this.mdbb = new ModemDBBuilder(this, scheduler);
@@ -131,18 +142,12 @@ public class Port {
     }
 
     public void addListener(MsgListener l) {
-        synchronized (listeners) {
-            if (!listeners.contains(l)) {
-                listeners.add(l);
-            }
-        }
+        listeners.addIfAbsent(l);
     }
 
     public void removeListener(MsgListener l) {
-        synchronized (listeners) {
-            if (listeners.remove(l)) {
-                logger.debug("removed listener from port");
-            }
+        if (listeners.remove(l)) {
+            logger.debug("removed listener from port");
         }
     }
 
@@ -364,18 +369,12 @@ public class Port {
             }
         }
 
-        @SuppressWarnings("unchecked")
         private void toAllListeners(Msg msg) {
             // When we deliver the message, the recipient
-            // may in turn call removeListener() or addListener(),
-            // thereby corrupting the very same list we are iterating
-            // through. That's why we make a copy of it, and
-            // iterate through the copy.
-            ArrayList<MsgListener> tempList = null;
-            synchronized (listeners) {
-                tempList = (ArrayList<MsgListener>) listeners.clone();
-            }
-            for (MsgListener l : tempList) {
+            // may in turn call removeListener() or addListener().
+            // The copy-on-write list iterates over a snapshot,
+            // so the messages don't need to copy the list.
+            for (MsgListener l : listeners) {
                 l.msg(msg); // deliver msg to listener
             }
         }
@@ -14,6 +14,7 @@ package org.openhab.binding.insteon.internal.message;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URL;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -25,6 +26,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.insteon.internal.device.InsteonAddress;
 import org.openhab.binding.insteon.internal.utils.Utils;
 import org.openhab.binding.insteon.internal.utils.Utils.ParsingException;
+import org.osgi.framework.Bundle;
 import org.osgi.framework.FrameworkUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -122,7 +124,11 @@ public class Msg {
     static {
         // Use xml msg loader to load configs
         try {
-            InputStream stream = FrameworkUtil.getBundle(Msg.class).getResource("/msg_definitions.xml").openStream();
+            // there is no bundle when running outside of OSGi, e.g. in unit tests
+            Bundle bundle = FrameworkUtil.getBundle(Msg.class);
+            URL url = bundle != null ? bundle.getResource("/msg_definitions.xml")
+                    : Msg.class.getResource("/msg_definitions.xml");
+            InputStream stream = url != null ? url.openStream() : null;
             if (stream != null) {
                 Map<String, Msg> msgs = XMLMessageReader.readMessageDefinitions(stream);
                 MSG_MAP.putAll(msgs);
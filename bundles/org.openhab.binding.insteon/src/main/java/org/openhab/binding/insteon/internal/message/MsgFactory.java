@@ -77,7 +77,9 @@ public class MsgFactory {
         System.arraycopy(data, 0, buf, end, l);
         end += l;
         // copy the incoming data to the end of the buffer
-        logger.trace("read buffer: len {} data: {}", end, Utils.getHexString(buf, end));
+        if (logger.isTraceEnabled()) {
+            logger.trace("read buffer: len {} data: {}", end, Utils.getHexString(buf, end));
+        }
     }
 
     /**
@@ -143,7 +145,9 @@ public class MsgFactory {
             logger.trace("done processing current buffer data");
             done = true;
         }
-        logger.trace("keeping buffer len {} data: {}", end, Utils.getHexString(buf, end));
+        if (logger.isTraceEnabled()) {
+            logger.trace("keeping buffer len {} data: {}", end, Utils.getHexString(buf, end));
+        }
         return msg;
     }
 
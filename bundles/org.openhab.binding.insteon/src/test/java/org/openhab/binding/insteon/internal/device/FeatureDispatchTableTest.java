@@ -0,0 +1,232 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.insteon.internal.device;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.insteon.internal.message.Msg;
+import org.openhab.binding.insteon.internal.utils.Utils;
+
+/**
+ * Tests for {@link FeatureDispatchTable}. Every message is applied to two identical devices,
+ * once by looping over all features like {@link InsteonDevice#handleMessage(Msg)} used to do
+ * and once over the features of the dispatch table, and the handlers reached must be the same.
+ *
+ * @author atje - Initial contribution
+ */
+@NonNullByDefault
+public class FeatureDispatchTableTest {
+
+    // all link broadcast of group 1, cmd1 0x11
+    private static final String BROADCAST = "02501A2B3C000001CB1100";
+    // all link broadcast of group 1, cmd1 0x13 that no feature has a handler for
+    private static final String BROADCAST_UNHANDLED = "02501A2B3C000001CB1300";
+    // all link cleanup of group 1, cmd1 0x11
+    private static final String CLEANUP = "02501A2B3C4485114B1101";
+    // all link cleanup success for cmd1 0x11 and group 1 (cmd1 0x06, cmd in the to address)
+    private static final String CLEANUP_SUCCESS = "02501A2B3C110001CB0600";
+    // all link cleanup ack
+    private static final String CLEANUP_ACK = "02501A2B3C4485116B1101";
+    // direct message with cmd1 0x2E
+    private static final String DIRECT = "02501A2B3C4485110B2E00";
+    // direct ack with cmd1 0x19 that is no key of any handler
+    private static final String DIRECT_ACK = "02501A2B3C4485112B19FF";
+    // X10 message with command 0x02
+    private static final String X10 = "02526280";
+
+    private static final String[] MESSAGES = { BROADCAST, BROADCAST_UNHANDLED, CLEANUP, CLEANUP_SUCCESS, CLEANUP_ACK,
+            DIRECT, DIRECT_ACK, X10 };
+
+    /**
+     * Handler that records each message it gets
+     */
+    private static class RecordingHandler extends MessageHandler {
+        private final List<String> calls;
+
+        RecordingHandler(DeviceFeature f, List<String> calls) {
+            super(f);
+            this.calls = calls;
+        }
+
+        @Override
+        public void handleMessage(int group, byte cmd1, Msg msg, DeviceFeature f) {
+            calls.add(f.getName() + " " + Utils.getHexByte(cmd1) + " group " + group);
+        }
+    }
+
+    /**
+     * A device with one feature for each kind of dispatcher, in the order of the feature list
+     */
+    private static class TestDevice {
+        final InsteonDevice device = new InsteonDevice();
+        final List<DeviceFeature> features = new ArrayList<>();
+        final List<String> calls = new ArrayList<>();
+
+        TestDevice() {
+            DeviceFeature group = add("group", "DefaultGroupDispatcher", false);
+            group.addConnectedFeature(keyed("grouped", "DefaultDispatcher", 0x11));
+            keyed("default", "DefaultDispatcher", 0x11);
+            keyed("default2e", "DefaultDispatcher", 0x2E);
+            keyed("simple", "SimpleDispatcher", 0x11);
+            keyed("pollgroup", "PollGroupDispatcher", 0x11);
+            add("noop", "NoOpDispatcher", false);
+            DeviceFeature unkeyed = add("unkeyed", "DefaultDispatcher", false);
+            unkeyed.setDefaultMsgHandler(new RecordingHandler(unkeyed, calls));
+            DeviceFeature passThrough = add("passthrough", "PassThroughDispatcher", false);
+            passThrough.setDefaultMsgHandler(new RecordingHandler(passThrough, calls));
+            DeviceFeature x10 = add("x10", "X10Dispatcher", false);
+            x10.addMessageHandler(0x02, new RecordingHandler(x10, calls));
+            DeviceFeature status = add("status", "PassThroughDispatcher", true);
+            status.setDefaultMsgHandler(new RecordingHandler(status, calls));
+            features.add(new DeviceFeature(device, "nodispatcher"));
+        }
+
+        private DeviceFeature add(String name, String dispatcher, boolean isStatus) {
+            DeviceFeature f = new DeviceFeature(device, name);
+            f.setMessageDispatcher(MessageDispatcher.makeHandler(dispatcher, null, f));
+            f.setStatusFeature(isStatus);
+            features.add(f);
+            return f;
+        }
+
+        private DeviceFeature keyed(String name, String dispatcher, int cmd1) {
+            DeviceFeature f = add(name, dispatcher, false);
+            MessageHandler noOp = MessageHandler.makeHandler("NoOpMsgHandler", HandlerParameters.EMPTY, f);
+            assertNotNull(noOp);
+            f.setDefaultMsgHandler(noOp);
+            f.addMessageHandler(cmd1, new RecordingHandler(f, calls));
+            return f;
+        }
+
+        List<DeviceFeature> nonStatusFeatures() {
+            List<DeviceFeature> l = new ArrayList<>();
+            for (DeviceFeature f : features) {
+                if (!f.isStatusFeature()) {
+                    l.add(f);
+                }
+            }
+            return l;
+        }
+
+        void apply(List<DeviceFeature> nonStatusFeatures, List<DeviceFeature> statusFeatures, Msg msg) {
+            for (DeviceFeature f : nonStatusFeatures) {
+                if (f.handleMessage(msg)) {
+                    device.setFeatureQueried(null);
+                    break;
+                }
+            }
+            for (DeviceFeature f : statusFeatures) {
+                f.handleMessage(msg);
+            }
+        }
+    }
+
+    private static Msg makeMessage(String hex) {
+        byte[] data = new byte[hex.length() / 2];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) Integer.parseInt(hex.substring(2 * i, 2 * i + 2), 16);
+        }
+        Msg msg = Msg.createMessage(data, data.length, false);
+        assertNotNull(msg, "no message definition for " + hex);
+        return msg;
+    }
+
+    private void assertSameHandlersReached(@Nullable String queried, String... messages) {
+        TestDevice loop = new TestDevice();
+        TestDevice table = new TestDevice();
+        FeatureDispatchTable dispatchTable = new FeatureDispatchTable(table.features);
+        if (queried != null) {
+            for (TestDevice d : List.of(loop, table)) {
+                for (DeviceFeature f : d.features) {
+                    if (f.getName().equals(queried)) {
+                        f.setQueryStatus(DeviceFeature.QueryStatus.QUERY_PENDING);
+                        d.device.setFeatureQueried(f);
+                    }
+                }
+            }
+        }
+        for (String hex : messages) {
+            Msg msg = makeMessage(hex);
+            List<DeviceFeature> statusFeatures = new ArrayList<>(loop.features);
+            statusFeatures.removeAll(loop.nonStatusFeatures());
+            loop.apply(loop.nonStatusFeatures(), statusFeatures, msg);
+            table.apply(dispatchTable.getFeatures(msg), dispatchTable.getStatusFeatures(), msg);
+            assertEquals(loop.calls, table.calls, "handlers reached by " + hex);
+        }
+        if (queried != null) {
+            assertEquals(loop.device.getFeatureQueried() == null, table.device.getFeatureQueried() == null);
+        }
+    }
+
+    @Test
+    public void broadcastReachesSameHandlers() {
+        assertSameHandlersReached(null, BROADCAST);
+        assertSameHandlersReached(null, BROADCAST_UNHANDLED);
+    }
+
+    @Test
+    public void cleanupReachesSameHandlers() {
+        assertSameHandlersReached(null, CLEANUP);
+        assertSameHandlersReached(null, BROADCAST, CLEANUP);
+    }
+
+    @Test
+    public void cleanupSuccessReachesSameHandlers() {
+        assertSameHandlersReached(null, CLEANUP_SUCCESS);
+        assertSameHandlersReached(null, BROADCAST, CLEANUP, CLEANUP_SUCCESS);
+        assertSameHandlersReached(null, CLEANUP_ACK);
+    }
+
+    @Test
+    public void directReachesSameHandlers() {
+        assertSameHandlersReached(null, DIRECT);
+    }
+
+    @Test
+    public void directAckReachesSameHandlers() {
+        assertSameHandlersReached(null, DIRECT_ACK);
+        assertSameHandlersReached("default", DIRECT_ACK);
+        assertSameHandlersReached("pollgroup", DIRECT_ACK);
+    }
+
+    @Test
+    public void x10ReachesSameHandlers() {
+        assertSameHandlersReached(null, X10);
+    }
+
+    @Test
+    public void allMessagesReachSameHandlers() {
+        assertSameHandlersReached(null, MESSAGES);
+        assertSameHandlersReached("simple", MESSAGES);
+    }
+
+    @Test
+    public void featuresWithoutHandlerAreSkipped() {
+        TestDevice d = new TestDevice();
+        FeatureDispatchTable dispatchTable = new FeatureDispatchTable(d.features);
+
+        List<String> names = new ArrayList<>();
+        dispatchTable.getFeatures(makeMessage(DIRECT)).forEach(f -> names.add(f.getName()));
+        assertEquals(List.of("group", "default2e", "unkeyed", "passthrough", "x10", "nodispatcher"), names);
+
+        assertEquals(d.nonStatusFeatures(), dispatchTable.getFeatures(makeMessage(DIRECT_ACK)));
+        assertEquals(d.nonStatusFeatures(), dispatchTable.getFeatures(makeMessage(X10)));
+        assertEquals(List.of(d.features.get(d.features.size() - 2)), dispatchTable.getStatusFeatures());
+    }
+}
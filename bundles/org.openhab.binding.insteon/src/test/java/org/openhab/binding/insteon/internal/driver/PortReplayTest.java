@@ -0,0 +1,191 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.insteon.internal.driver;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.insteon.internal.message.FieldException;
+import org.openhab.binding.insteon.internal.message.Msg;
+import org.openhab.binding.insteon.internal.message.MsgListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Feeds recorded modem traffic through the reader of a {@link Port} and checks the messages
+ * delivered to the listeners. The replay is cut into chunks of varying sizes, like the reads
+ * from a serial port, so messages are split across reads.
+ *
+ * @author atje - Initial contribution
+ */
+@NonNullByDefault
+public class PortReplayTest {
+    private final Logger logger = LoggerFactory.getLogger(PortReplayTest.class);
+
+    private final ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+    private final DriverListener driverListener = mock(DriverListener.class);
+
+    private List<byte[]> recordedMessages = new ArrayList<>();
+    private byte[] recordedTraffic = new byte[0];
+
+    /**
+     * Stream that returns the recorded traffic a number of times, in chunks of 1 to 64 bytes
+     */
+    private static class ReplayIOStream extends IOStream {
+        ReplayIOStream(byte[] traffic, int rounds) {
+            in = new InputStream() {
+                private final long length = (long) traffic.length * rounds;
+                private long position = 0;
+                private int chunk = 0;
+
+                @Override
+                public int read() {
+                    return position < length ? traffic[(int) (position++ % traffic.length)] & 0xFF : -1;
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    if (position >= length) {
+                        return -1;
+                    }
+                    chunk = chunk % 64 + 1;
+                    int n = (int) Math.min(Math.min(len, chunk), length - position);
+                    for (int i = 0; i < n; i++) {
+                        b[off + i] = traffic[(int) (position++ % traffic.length)];
+                    }
+                    return n;
+                }
+            };
+        }
+
+        @Override
+        public boolean open() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    /**
+     * Listener that keeps the received messages
+     */
+    private static class RecordingListener implements MsgListener {
+        private final boolean keepMessages;
+        final List<Msg> messages = new ArrayList<>();
+        int count = 0;
+        int echoes = 0;
+
+        RecordingListener(boolean keepMessages) {
+            this.keepMessages = keepMessages;
+        }
+
+        @Override
+        public void msg(Msg msg) {
+            count++;
+            if (msg.isEcho() && !msg.isPureNack()) {
+                echoes++;
+            }
+            if (keepMessages) {
+                messages.add(msg);
+            }
+        }
+    }
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        try (InputStream inputStream = PortReplayTest.class.getResourceAsStream("modem_traffic.txt")) {
+            if (inputStream == null) {
+                throw new IOException("inputstream is null");
+            }
+            String traffic = new String(inputStream.readAllBytes(), StandardCharsets.US_ASCII);
+            for (String line : traffic.split("\n")) {
+                line = line.trim();
+                if (!line.isEmpty() && !line.startsWith("#")) {
+                    byte[] data = new byte[line.length() / 2];
+                    for (int i = 0; i < data.length; i++) {
+                        data[i] = (byte) Integer.parseInt(line.substring(2 * i, 2 * i + 2), 16);
+                    }
+                    recordedMessages.add(data);
+                }
+            }
+        }
+        int length = recordedMessages.stream().mapToInt(m -> m.length).sum();
+        recordedTraffic = new byte[length];
+        int offset = 0;
+        for (byte[] data : recordedMessages) {
+            System.arraycopy(data, 0, recordedTraffic, offset, data.length);
+            offset += data.length;
+        }
+    }
+
+    private RecordingListener replay(int rounds, boolean keepMessages) {
+        Driver driver = new Driver("/dev/null", driverListener, null, scheduler);
+        Port port = new Port("replay", driver, new ReplayIOStream(recordedTraffic, rounds), scheduler);
+        RecordingListener listener = new RecordingListener(keepMessages);
+        port.addListener(listener);
+        // runs until the end of the replay
+        port.new IOStreamReader().run();
+        return listener;
+    }
+
+    @Test
+    public void recordedTrafficIsDecoded() throws FieldException {
+        RecordingListener listener = replay(3, true);
+
+        assertEquals(3 * recordedMessages.size(), listener.messages.size());
+        for (int i = 0; i < listener.messages.size(); i++) {
+            Msg msg = listener.messages.get(i);
+            byte[] recorded = recordedMessages.get(i % recordedMessages.size());
+            if (recorded.length == 1) {
+                // a pure nack is a single byte that is decoded as 0x02 0x15
+                assertTrue(msg.isPureNack());
+            } else {
+                assertArrayEquals(recorded, msg.getData());
+            }
+        }
+        Msg extended = listener.messages.get(7);
+        assertTrue(extended.isExtended());
+        assertEquals(0x2E, extended.getByte("command1") & 0xFF);
+        assertTrue(listener.messages.get(12).isPureNack());
+        assertTrue(listener.messages.get(11).isX10());
+    }
+
+    @Test
+    public void replayBenchmark() {
+        int rounds = 20000;
+
+        // warm up
+        replay(rounds / 10, false);
+        long start = System.nanoTime();
+        RecordingListener listener = replay(rounds, false);
+        long duration = System.nanoTime() - start;
+
+        long messageCount = (long) rounds * recordedMessages.size();
+        assertEquals(messageCount, listener.count);
+        assertEquals(2L * rounds, listener.echoes);
+        logger.info("Read {} recorded messages in {} ms ({} messages/s)", messageCount, duration / 1000000,
+                messageCount * 1000000000L / Math.max(duration, 1));
+    }
+}
@@ -18,6 +18,7 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -34,6 +35,8 @@ import org.openhab.core.library.types.OnOffType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.netty.buffer.ByteBuf;
+
 /**
  * The {@link Ffmpeg} class is responsible for handling multiple ffmpeg conversions which are used for many tasks
  *
@@ -52,6 +55,7 @@ public class Ffmpeg {
     private IpCameraFfmpegThread ipCameraFfmpegThread = new IpCameraFfmpegThread();
     private int keepAlive = 8;
     private String password;
+    private @Nullable List<ByteBuf> inputFrames = null;
 
     public Ffmpeg(IpCameraHandler handle, FFmpegFormat format, String ffmpegLocation, String inputArguments,
             String input, String outArguments, String output, String username, String password) {
@@ -116,12 +120,33 @@ public class Ffmpeg {
                     new DecimalType(++ipCameraHandler.mp4HistoryLength));
         }
 
+        private void writeFrames(OutputStream stdin, List<ByteBuf> frames) {
+            try (OutputStream output = stdin) {
+                for (ByteBuf frame : frames) {
+                    frame.getBytes(frame.readerIndex(), output, frame.readableBytes());
+                }
+            } catch (IOException e) {
+                logger.debug("Failed to pipe the frames to FFmpeg:{}", e.getMessage());
+            } finally {
+                frames.forEach(ByteBuf::release);
+            }
+        }
+
         @Override
         public void run() {
+            @Nullable
+            List<ByteBuf> frames = inputFrames;
+            inputFrames = null;
             try {
                 process = Runtime.getRuntime().exec(commandArrayList.toArray(new String[commandArrayList.size()]));
                 Process localProcess = process;
                 if (localProcess != null) {
+                    if (frames != null) {
+                        // Written by another thread, as FFmpeg only reads its input while its output is consumed.
+                        List<ByteBuf> localFrames = frames;
+                        frames = null;
+                        threadPool.execute(() -> writeFrames(localProcess.getOutputStream(), localFrames));
+                    }
                     InputStream errorStream = localProcess.getErrorStream();
                     InputStreamReader errorStreamReader = new InputStreamReader(errorStream);
                     BufferedReader bufferedReader = new BufferedReader(errorStreamReader);
@@ -173,6 +198,9 @@ public class Ffmpeg {
             } catch (IOException e) {
                 logger.warn("An IO error occured trying to start FFmpeg:{}", e.getMessage());
             } finally {
+                if (frames != null) {
+                    frames.forEach(ByteBuf::release);
+                }
                 switch (format) {
                     case GIF:
                         threadPool.schedule(this::gifCreated, 800, TimeUnit.MILLISECONDS);
@@ -187,6 +215,19 @@ public class Ffmpeg {
         }
     }
 
+    /**
+     * Starts FFmpeg with the frames written to its standard input, which has to be used as the input ("-"). The frames
+     * are released once written.
+     */
+    public void startConverting(List<ByteBuf> frames) {
+        if (ipCameraFfmpegThread.isAlive()) {
+            frames.forEach(ByteBuf::release);
+        } else {
+            inputFrames = frames;
+        }
+        startConverting();
+    }
+
     public void startConverting() {
         if (!ipCameraFfmpegThread.isAlive()) {
             ipCameraFfmpegThread = new IpCameraFfmpegThread();
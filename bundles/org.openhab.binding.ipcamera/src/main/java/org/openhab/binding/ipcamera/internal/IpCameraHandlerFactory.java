@@ -24,11 +24,16 @@ import org.openhab.core.thing.ThingTypeUID;
 import org.openhab.core.thing.binding.BaseThingHandlerFactory;
 import org.openhab.core.thing.binding.ThingHandler;
 import org.openhab.core.thing.binding.ThingHandlerFactory;
+import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.http.HttpService;
 
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+
 /**
  * The {@link IpCameraHandlerFactory} is responsible for creating things and thing
  * handlers.
@@ -42,6 +47,9 @@ public class IpCameraHandlerFactory extends BaseThingHandlerFactory {
     private final GroupTracker groupTracker = new GroupTracker();
     private final IpCameraDynamicStateDescriptionProvider stateDescriptionProvider;
     private final HttpService httpService;
+    // Shared by all cameras, so the number of threads does not grow with the number of cameras.
+    private final EventLoopGroup eventLoopGroup = new NioEventLoopGroup(
+            Math.max(2, Runtime.getRuntime().availableProcessors()));
 
     @Activate
     public IpCameraHandlerFactory(final @Reference NetworkAddressService networkAddressService,
@@ -52,6 +60,13 @@ public class IpCameraHandlerFactory extends BaseThingHandlerFactory {
         this.httpService = httpService;
     }
 
+    @Override
+    @Deactivate
+    protected void deactivate(ComponentContext componentContext) {
+        super.deactivate(componentContext);
+        eventLoopGroup.shutdownGracefully();
+    }
+
     @Override
     public boolean supportsThingType(ThingTypeUID thingTypeUID) {
         return (SUPPORTED_THING_TYPES.contains(thingTypeUID) || GROUP_SUPPORTED_THING_TYPES.contains(thingTypeUID));
@@ -62,7 +77,8 @@ public class IpCameraHandlerFactory extends BaseThingHandlerFactory {
         ThingTypeUID thingTypeUID = thing.getThingTypeUID();
 
         if (SUPPORTED_THING_TYPES.contains(thingTypeUID)) {
-            return new IpCameraHandler(thing, openhabIpAddress, groupTracker, stateDescriptionProvider, httpService);
+            return new IpCameraHandler(thing, openhabIpAddress, groupTracker, stateDescriptionProvider, httpService,
+                    eventLoopGroup);
         } else if (GROUP_SUPPORTED_THING_TYPES.contains(thingTypeUID)) {
             return new IpCameraGroupHandler(thing, openhabIpAddress, groupTracker, httpService);
         }
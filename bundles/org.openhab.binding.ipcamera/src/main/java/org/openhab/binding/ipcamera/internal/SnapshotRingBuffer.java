@@ -0,0 +1,125 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.ipcamera.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+
+/**
+ * The {@link SnapshotRingBuffer} Keeps the most recent snapshots with the time they were received, so a GIF can be
+ * created from the snapshots taken before it was requested. The snapshots are stored in pooled direct buffers to keep
+ * them off the heap, when the buffer is full the oldest snapshot is released.
+ *
+ * @author atje - Initial contribution
+ */
+
+@NonNullByDefault
+public class SnapshotRingBuffer {
+    private @Nullable ByteBuf[] frames = new ByteBuf[0];
+    private long[] timestamps = new long[0];
+    private int oldest = 0;
+    private int size = 0;
+
+    public SnapshotRingBuffer(int capacity) {
+        setCapacity(capacity);
+    }
+
+    /**
+     * Changes the number of snapshots that are kept. When the capacity is reduced, the newest snapshots are kept.
+     */
+    public synchronized void setCapacity(int capacity) {
+        int newCapacity = Math.max(0, capacity);
+        if (newCapacity == frames.length) {
+            return;
+        }
+        @Nullable
+        ByteBuf[] newFrames = new ByteBuf[newCapacity];
+        long[] newTimestamps = new long[newCapacity];
+        while (size > newCapacity) {
+            removeOldest();
+        }
+        for (int i = 0; i < size; i++) {
+            int index = (oldest + i) % frames.length;
+            newFrames[i] = frames[index];
+            newTimestamps[i] = timestamps[index];
+        }
+        frames = newFrames;
+        timestamps = newTimestamps;
+        oldest = 0;
+    }
+
+    /**
+     * Copies the snapshot into the buffer.
+     */
+    public synchronized void add(byte[] jpeg) {
+        if (frames.length == 0) {
+            return;
+        }
+        if (size == frames.length) {
+            removeOldest();
+        }
+        ByteBuf frame = PooledByteBufAllocator.DEFAULT.directBuffer(jpeg.length);
+        frame.writeBytes(jpeg);
+        int index = (oldest + size) % frames.length;
+        frames[index] = frame;
+        timestamps[index] = System.currentTimeMillis();
+        size++;
+    }
+
+    /**
+     * Returns the snapshots received at or after the given time, oldest first. The caller has to release each of the
+     * returned buffers.
+     *
+     * @param notBefore time in milliseconds since the epoch
+     */
+    public synchronized List<ByteBuf> retainFrames(long notBefore) {
+        List<ByteBuf> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int index = (oldest + i) % frames.length;
+            ByteBuf frame = frames[index];
+            if (frame != null && timestamps[index] >= notBefore) {
+                result.add(frame.retainedDuplicate());
+            }
+        }
+        return result;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Releases all snapshots.
+     */
+    public synchronized void clear() {
+        while (size > 0) {
+            removeOldest();
+        }
+    }
+
+    private void removeOldest() {
+        ByteBuf frame = frames[oldest];
+        if (frame != null) {
+            frame.release();
+        }
+        frames[oldest] = null;
+        oldest = (oldest + 1) % frames.length;
+        size--;
+    }
+}
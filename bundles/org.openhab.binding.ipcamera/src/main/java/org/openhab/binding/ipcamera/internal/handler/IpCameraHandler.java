@@ -15,10 +15,6 @@ package org.openhab.binding.ipcamera.internal.handler;
 import static org.openhab.binding.ipcamera.internal.IpCameraBindingConstants.*;
 
 import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
-import java.io.IOException;
-import java.io.OutputStream;
 import java.math.BigDecimal;
 import java.net.InetSocketAddress;
 import java.net.MalformedURLException;
@@ -28,7 +24,6 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -57,6 +52,7 @@ import org.openhab.binding.ipcamera.internal.IpCameraActions;
 import org.openhab.binding.ipcamera.internal.IpCameraBindingConstants.FFmpegFormat;
 import org.openhab.binding.ipcamera.internal.IpCameraDynamicStateDescriptionProvider;
 import org.openhab.binding.ipcamera.internal.MyNettyAuthHandler;
+import org.openhab.binding.ipcamera.internal.SnapshotRingBuffer;
 import org.openhab.binding.ipcamera.internal.onvif.OnvifConnection;
 import org.openhab.binding.ipcamera.internal.servlet.CameraServlet;
 import org.openhab.core.OpenHAB;
@@ -81,6 +77,8 @@ import org.slf4j.LoggerFactory;
 
 import io.netty.bootstrap.Bootstrap;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelDuplexHandler;
@@ -92,7 +90,6 @@ import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.group.ChannelGroup;
 import io.netty.channel.group.DefaultChannelGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.handler.codec.base64.Base64;
@@ -147,7 +144,9 @@ public class IpCameraHandler extends BaseThingHandler {
     private @Nullable ScheduledFuture<?> pollCameraJob = null;
     private @Nullable ScheduledFuture<?> snapshotJob = null;
     private @Nullable Bootstrap mainBootstrap;
-    private EventLoopGroup mainEventLoopGroup = new NioEventLoopGroup(1);
+    // Shared by all cameras, tasks scheduled on it must check that the handler is not disposed.
+    private final EventLoopGroup mainEventLoopGroup;
+    private volatile boolean disposed = false;
     private FullHttpRequest putRequestWithBody = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, new HttpMethod("PUT"),
             "");
     private String gifFilename = "ipcamera";
@@ -158,7 +157,9 @@ public class IpCameraHandler extends BaseThingHandler {
     private String mp4Filename = "ipcamera";
     private int mp4RecordTime;
     private int gifRecordTime = 5;
-    private LinkedList<byte[]> fifoSnapshotBuffer = new LinkedList<byte[]>();
+    private final SnapshotRingBuffer prerollBuffer = new SnapshotRingBuffer(0);
+    // The snapshots of the last GIF, which can be requested as snapshotN.jpg
+    private List<ByteBuf> gifSnapshots = List.of();
     private int snapCount;
     private boolean updateImageChannel = false;
     private byte lowPriorityCounter = 0;
@@ -261,11 +262,10 @@ public class IpCameraHandler extends BaseThingHandler {
                     HttpContent content = (HttpContent) msg;
                     if (mjpegUri.equals(requestUrl) && !(content instanceof LastHttpContent)) {
                         // multiple MJPEG stream packets come back as this.
-                        byte[] chunkedFrame = new byte[content.content().readableBytes()];
-                        content.content().getBytes(content.content().readerIndex(), chunkedFrame);
                         CameraServlet localServlet = servlet;
                         if (localServlet != null) {
-                            localServlet.openStreams.queueFrame(chunkedFrame);
+                            // The pooled buffer is shared by all streams, each of them holds a reference to it.
+                            localServlet.openStreams.queueFrame(content.content());
                         }
                     } else {
                         // Found some cameras use Content-Type: image/jpg instead of image/jpeg
@@ -391,8 +391,10 @@ public class IpCameraHandler extends BaseThingHandler {
     }
 
     public IpCameraHandler(Thing thing, @Nullable String ipAddress, GroupTracker groupTracker,
-            IpCameraDynamicStateDescriptionProvider stateDescriptionProvider, HttpService httpService) {
+            IpCameraDynamicStateDescriptionProvider stateDescriptionProvider, HttpService httpService,
+            EventLoopGroup eventLoopGroup) {
         super(thing);
+        this.mainEventLoopGroup = eventLoopGroup;
         this.stateDescriptionProvider = stateDescriptionProvider;
         if (ipAddress != null) {
             hostIp = ipAddress;
@@ -513,6 +515,10 @@ public class IpCameraHandler extends BaseThingHandler {
     // The authHandler will generate a digest string and re-send using this same function when needed.
     @SuppressWarnings("null")
     public void sendHttpRequest(String httpMethod, String httpRequestURLFull, @Nullable String digestString) {
+        if (disposed) {
+            // A task of the shared event loop may run after the handler was disposed.
+            return;
+        }
         int port = getPortFromShortenedUrl(httpRequestURLFull);
         String httpRequestURL = getTinyUrl(httpRequestURLFull);
 
@@ -525,6 +531,7 @@ public class IpCameraHandler extends BaseThingHandler {
             mainBootstrap.option(ChannelOption.SO_SNDBUF, 1024 * 8);
             mainBootstrap.option(ChannelOption.SO_RCVBUF, 1024 * 1024);
             mainBootstrap.option(ChannelOption.TCP_NODELAY, true);
+            mainBootstrap.option(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT);
             mainBootstrap.handler(new ChannelInitializer<SocketChannel>() {
 
                 @Override
@@ -636,16 +643,11 @@ public class IpCameraHandler extends BaseThingHandler {
         lockCurrentSnapshot.lock();
         try {
             currentSnapshot = incommingSnapshot;
-            if (cameraConfig.getGifPreroll() > 0) {
-                fifoSnapshotBuffer.add(incommingSnapshot);
-                if (fifoSnapshotBuffer.size() > (cameraConfig.getGifPreroll() + gifRecordTime)) {
-                    fifoSnapshotBuffer.removeFirst();
-                }
-            }
         } finally {
             lockCurrentSnapshot.unlock();
             currentSnapshotTime = Instant.now();
         }
+        prerollBuffer.add(incommingSnapshot);
 
         if (updateImageChannel) {
             updateState(CHANNEL_IMAGE, new RawType(incommingSnapshot, "image/jpeg"));
@@ -727,27 +729,43 @@ public class IpCameraHandler extends BaseThingHandler {
         }
     }
 
-    private void storeSnapshots() {
-        int count = 0;
-        // Need to lock as fifoSnapshotBuffer is not thread safe and new snapshots can be incoming.
+    /**
+     * Returns the snapshots of the preroll buffer for a GIF, which are piped to FFmpeg instead of being written to
+     * disk. Snapshots older than the buffer could hold, e.g. from before the camera went offline, are skipped.
+     */
+    private List<ByteBuf> retainGifSnapshots() {
+        long maxAge = 2L * (cameraConfig.getGifPreroll() + gifRecordTime) * cameraConfig.getPollTime();
+        List<ByteBuf> snapshots = prerollBuffer.retainFrames(System.currentTimeMillis() - maxAge);
+        List<ByteBuf> oldSnapshots;
         lockCurrentSnapshot.lock();
         try {
-            for (byte[] foo : fifoSnapshotBuffer) {
-                File file = new File(cameraConfig.getFfmpegOutput() + "snapshot" + count + ".jpg");
-                count++;
-                try {
-                    OutputStream fos = new FileOutputStream(file);
-                    fos.write(foo);
-                    fos.close();
-                } catch (FileNotFoundException e) {
-                    logger.warn("FileNotFoundException {}", e.getMessage());
-                } catch (IOException e) {
-                    logger.warn("IOException {}", e.getMessage());
-                }
+            oldSnapshots = gifSnapshots;
+            gifSnapshots = new ArrayList<>(snapshots.size());
+            for (ByteBuf snapshot : snapshots) {
+                gifSnapshots.add(snapshot.retainedDuplicate());
             }
         } finally {
             lockCurrentSnapshot.unlock();
         }
+        oldSnapshots.forEach(ByteBuf::release);
+        return snapshots;
+    }
+
+    /**
+     * Returns a snapshot of the last GIF that was created from the preroll buffer.
+     *
+     * @param index 0 for the oldest snapshot
+     */
+    public byte @Nullable [] getGifSnapshot(int index) {
+        lockCurrentSnapshot.lock();
+        try {
+            if (index < 0 || index >= gifSnapshots.size()) {
+                return null;
+            }
+            return ByteBufUtil.getBytes(gifSnapshots.get(index));
+        } finally {
+            lockCurrentSnapshot.unlock();
+        }
     }
 
     public void setupFfmpegFormat(FFmpegFormat format) {
@@ -793,13 +811,15 @@ public class IpCameraHandler extends BaseThingHandler {
                 }
                 break;
             case GIF:
+                @Nullable
+                List<ByteBuf> prerollSnapshots = null;
                 if (cameraConfig.getGifPreroll() > 0) {
+                    // The snapshots are piped to the standard input of FFmpeg
+                    prerollSnapshots = retainGifSnapshots();
                     ffmpegGIF = new Ffmpeg(this, format, cameraConfig.getFfmpegLocation(),
-                            "-y -r 1 -hide_banner -loglevel warning", cameraConfig.getFfmpegOutput() + "snapshot%d.jpg",
-                            "-frames:v " + (cameraConfig.getGifPreroll() + gifRecordTime) + " "
-                                    + cameraConfig.getGifOutOptions(),
-                            cameraConfig.getFfmpegOutput() + gifFilename + ".gif", cameraConfig.getUser(),
-                            cameraConfig.getPassword());
+                            "-y -f image2pipe -r 1 -hide_banner -loglevel warning", "-",
+                            cameraConfig.getGifOutOptions(), cameraConfig.getFfmpegOutput() + gifFilename + ".gif",
+                            cameraConfig.getUser(), cameraConfig.getPassword());
                 } else {
                     if (!inputOptions.isEmpty()) {
                         inputOptions = "-y -t " + gifRecordTime + " -hide_banner -loglevel warning " + inputOptions;
@@ -810,12 +830,13 @@ public class IpCameraHandler extends BaseThingHandler {
                             cameraConfig.getGifOutOptions(), cameraConfig.getFfmpegOutput() + gifFilename + ".gif",
                             cameraConfig.getUser(), cameraConfig.getPassword());
                 }
-                if (cameraConfig.getGifPreroll() > 0) {
-                    storeSnapshots();
-                }
                 Ffmpeg localGIF = ffmpegGIF;
                 if (localGIF != null) {
-                    localGIF.startConverting();
+                    if (prerollSnapshots != null) {
+                        localGIF.startConverting(prerollSnapshots);
+                    } else {
+                        localGIF.startConverting();
+                    }
                     if (gifHistory.isEmpty()) {
                         gifHistory = gifFilename;
                     } else if (!"ipcamera".equals(gifFilename)) {
@@ -1005,6 +1026,7 @@ public class IpCameraHandler extends BaseThingHandler {
         gifFilename = filename;
         gifRecordTime = seconds;
         if (cameraConfig.getGifPreroll() > 0) {
+            prerollBuffer.setCapacity(cameraConfig.getGifPreroll() + gifRecordTime);
             snapCount = seconds;
         } else {
             setupFfmpegFormat(FFmpegFormat.GIF);
@@ -1145,6 +1167,9 @@ public class IpCameraHandler extends BaseThingHandler {
                         } else {
                             updateImageChannel = true;
                             updateSnapshot();// Allows this to change Image FPS on demand
+                            if (cameraConfig.getUpdateImageWhen().contains("1")) {
+                                startSnapshotPolling();
+                            }
                         }
                     } else {
                         Ffmpeg localSnaps = ffmpegSnapshot;
@@ -1153,6 +1178,9 @@ public class IpCameraHandler extends BaseThingHandler {
                             ffmpegSnapshotGeneration = false;
                         }
                         updateImageChannel = false;
+                        if (cameraConfig.getUpdateImageWhen().contains("1")) {
+                            stopSnapshotPolling();
+                        }
                     }
                     return;
                 case CHANNEL_PAN:
@@ -1302,7 +1330,9 @@ public class IpCameraHandler extends BaseThingHandler {
             cameraConnectionJob = null;
         }
         if (!snapshotUri.isEmpty()) {
-            if (cameraConfig.getGifPreroll() > 0 || cameraConfig.getUpdateImageWhen().contains("1")) {
+            // Only poll while the snapshots are used, the preroll buffer always needs them.
+            if (cameraConfig.getGifPreroll() > 0
+                    || (updateImageChannel && cameraConfig.getUpdateImageWhen().contains("1"))) {
                 snapshotPolling = true;
                 snapshotJob = threadPool.scheduleWithFixedDelay(this::snapshotRunnable, 1000,
                         cameraConfig.getPollTime(), TimeUnit.MILLISECONDS);
@@ -1442,7 +1472,7 @@ public class IpCameraHandler extends BaseThingHandler {
     public void stopSnapshotPolling() {
         Future<?> localFuture;
         if (!streamingSnapshotMjpeg && cameraConfig.getGifPreroll() == 0
-                && !cameraConfig.getUpdateImageWhen().contains("1")) {
+                && !(updateImageChannel && cameraConfig.getUpdateImageWhen().contains("1"))) {
             snapshotPolling = false;
             localFuture = snapshotJob;
             if (localFuture != null) {
@@ -1461,7 +1491,8 @@ public class IpCameraHandler extends BaseThingHandler {
         if (snapshotPolling || ffmpegSnapshotGeneration) {
             return; // Already polling or creating with FFmpeg from RTSP
         }
-        if (streamingSnapshotMjpeg || streamingAutoFps || cameraConfig.getUpdateImageWhen().contains("4")) {
+        if (streamingSnapshotMjpeg || streamingAutoFps || cameraConfig.getUpdateImageWhen().contains("4")
+                || (updateImageChannel && cameraConfig.getUpdateImageWhen().contains("1"))) {
             snapshotPolling = true;
             snapshotJob = threadPool.scheduleWithFixedDelay(this::snapshotRunnable, 0, cameraConfig.getPollTime(),
                     TimeUnit.MILLISECONDS);
@@ -1563,7 +1594,8 @@ public class IpCameraHandler extends BaseThingHandler {
     public void initialize() {
         cameraConfig = getConfigAs(CameraConfig.class);
         threadPool = Executors.newScheduledThreadPool(2);
-        mainEventLoopGroup = new NioEventLoopGroup(3);
+        disposed = false;
+        prerollBuffer.setCapacity(cameraConfig.getGifPreroll() > 0 ? cameraConfig.getGifPreroll() + gifRecordTime : 0);
         snapshotUri = getCorrectUrlFormat(cameraConfig.getSnapshotUrl());
         mjpegUri = getCorrectUrlFormat(cameraConfig.getMjpegUrl());
         rtspUri = cameraConfig.getFfmpegInput();
@@ -1706,6 +1738,7 @@ public class IpCameraHandler extends BaseThingHandler {
 
     @Override
     public void dispose() {
+        disposed = true;
         offline();
         CameraServlet localServlet = servlet;
         if (localServlet != null) {
@@ -1721,9 +1754,16 @@ public class IpCameraHandler extends BaseThingHandler {
         }
         basicAuth = ""; // clear out stored Password hash
         useDigestAuth = false;
-        mainEventLoopGroup.shutdownGracefully();
         mainBootstrap = null;
         channelTrackingMap.clear();
+        prerollBuffer.clear();
+        lockCurrentSnapshot.lock();
+        try {
+            gifSnapshots.forEach(ByteBuf::release);
+            gifSnapshots = List.of();
+        } finally {
+            lockCurrentSnapshot.unlock();
+        }
     }
 
     public String getWhiteList() {
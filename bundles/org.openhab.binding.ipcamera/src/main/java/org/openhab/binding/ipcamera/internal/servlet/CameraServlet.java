@@ -17,6 +17,8 @@ import static org.openhab.binding.ipcamera.internal.IpCameraBindingConstants.HLS
 import java.io.IOException;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import javax.servlet.AsyncContext;
 import javax.servlet.ServletInputStream;
@@ -41,6 +43,7 @@ import org.osgi.service.http.HttpService;
 @NonNullByDefault
 public class CameraServlet extends IpCameraServlet {
     private static final long serialVersionUID = -134658667574L;
+    private static final Pattern GIF_SNAPSHOT_PATTERN = Pattern.compile("/snapshot(\\d{1,4})\\.jpg");
     private final IpCameraHandler handler;
     public OpenStreams openStreams = new OpenStreams();
     private OpenStreams openSnapshotStreams = new OpenStreams();
@@ -254,8 +257,13 @@ public class CameraServlet extends IpCameraServlet {
                 } else if (pathInfo.endsWith(".gif")) {
                     sendFile(resp, pathInfo, "image/gif");
                 } else if (pathInfo.endsWith(".jpg")) {
-                    // Allow access to the preroll and postroll jpg files
-                    sendFile(resp, pathInfo, "image/jpg");
+                    // The preroll and postroll jpg files of the last GIF are kept in RAM
+                    byte[] gifSnapshot = getGifSnapshot(pathInfo);
+                    if (gifSnapshot != null) {
+                        sendSnapshotImage(resp, "image/jpg", gifSnapshot);
+                    } else {
+                        sendFile(resp, pathInfo, "image/jpg");
+                    }
                 } else if (pathInfo.endsWith(".mp4")) {
                     sendFile(resp, pathInfo, "video/mp4");
                 }
@@ -263,6 +271,18 @@ public class CameraServlet extends IpCameraServlet {
         }
     }
 
+    private byte @Nullable [] getGifSnapshot(String pathInfo) {
+        Matcher matcher = GIF_SNAPSHOT_PATTERN.matcher(pathInfo);
+        if (!matcher.matches()) {
+            return null;
+        }
+        try {
+            return handler.getGifSnapshot(Integer.parseInt(matcher.group(1)));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
     @Override
     protected void sendFile(HttpServletResponse response, String filename, String contentType) throws IOException {
         // Ensure no files can be sourced from parent or child folders
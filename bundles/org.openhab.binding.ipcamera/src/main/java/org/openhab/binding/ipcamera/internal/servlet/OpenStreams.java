@@ -12,15 +12,18 @@
  */
 package org.openhab.binding.ipcamera.internal.servlet;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
 /**
- * The {@link OpenStreams} Keeps track of all open mjpeg streams so the byte[] can be given to all FIFO buffers to allow
- * 1 to many streams without needing to open more than 1 source stream.
+ * The {@link OpenStreams} Keeps track of all open mjpeg streams so a frame can be given to all FIFO buffers to allow
+ * 1 to many streams without needing to open more than 1 source stream. The frame is not copied, each stream holds a
+ * reference to the same buffer.
  *
  *
  * @author Matthew Skinner - Initial contribution
@@ -28,21 +31,23 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 
 @NonNullByDefault
 public class OpenStreams {
-    private List<StreamOutput> openStreams = Collections.synchronizedList(new ArrayList<StreamOutput>());
+    private List<StreamOutput> openStreams = new CopyOnWriteArrayList<StreamOutput>();
 
-    public synchronized void addStream(StreamOutput stream) {
+    public void addStream(StreamOutput stream) {
         openStreams.add(stream);
     }
 
-    public synchronized void removeStream(StreamOutput stream) {
+    public void removeStream(StreamOutput stream) {
         openStreams.remove(stream);
+        // Releases the frames which were not sent
+        stream.close();
     }
 
-    public synchronized int getNumberOfStreams() {
+    public int getNumberOfStreams() {
         return openStreams.size();
     }
 
-    public synchronized boolean isEmpty() {
+    public boolean isEmpty() {
         return openStreams.isEmpty();
     }
 
@@ -52,9 +57,18 @@ public class OpenStreams {
         }
     }
 
-    public synchronized void queueFrame(byte[] frame) {
+    public void queueFrame(byte[] frame) {
+        ByteBuf buffer = Unpooled.wrappedBuffer(frame);
+        queueFrame(buffer);
+        buffer.release();
+    }
+
+    /**
+     * Queues the frame for all streams. The reference of the caller is not released.
+     */
+    public void queueFrame(ByteBuf frame) {
         for (StreamOutput stream : openStreams) {
-            stream.queueFrame(frame);
+            stream.queueFrame(frame.retain());
         }
     }
 
@@ -20,9 +20,14 @@ import javax.servlet.ServletOutputStream;
 import javax.servlet.http.HttpServletResponse;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 
 /**
- * The {@link StreamOutput} Streams mjpeg out to a client
+ * The {@link StreamOutput} Streams mjpeg out to a client. Queued frames are reference counted buffers which are
+ * shared with the other clients, when a client is too slow the oldest frame is dropped.
  *
  * @author Matthew Skinner - Initial contribution
  */
@@ -33,8 +38,9 @@ public class StreamOutput {
     private final String boundary;
     private String contentType;
     private final ServletOutputStream output;
-    private BlockingQueue<byte[]> fifo = new ArrayBlockingQueue<byte[]>(6);
+    private BlockingQueue<ByteBuf> fifo = new ArrayBlockingQueue<ByteBuf>(6);
     private boolean connected = false;
+    private boolean closed = false;
     public boolean isSnapshotBased = false;
 
     public StreamOutput(HttpServletResponse response) throws IOException {
@@ -57,27 +63,45 @@ public class StreamOutput {
     }
 
     public void sendSnapshotBasedFrame(byte[] currentSnapshot) throws IOException {
+        sendSnapshotBasedFrame(Unpooled.wrappedBuffer(currentSnapshot));
+    }
+
+    private void sendSnapshotBasedFrame(ByteBuf currentSnapshot) throws IOException {
         String header = "--" + boundary + "\r\n" + "Content-Type: image/jpeg" + "\r\n" + "Content-Length: "
-                + currentSnapshot.length + "\r\n\r\n";
+                + currentSnapshot.readableBytes() + "\r\n\r\n";
         if (!connected) {
             sendInitialHeaders();
             // iOS needs to have two jpgs sent for the picture to appear instantly.
             output.write(header.getBytes());
-            output.write(currentSnapshot);
+            write(currentSnapshot);
             output.write("\r\n".getBytes());
             connected = true;
         }
         output.write(header.getBytes());
-        output.write(currentSnapshot);
+        write(currentSnapshot);
         output.write("\r\n".getBytes());
     }
 
-    public void queueFrame(byte[] frame) {
-        try {
-            fifo.add(frame);
-        } catch (IllegalStateException e) {
-            fifo.remove();
-            fifo.add(frame);
+    private void write(ByteBuf frame) throws IOException {
+        // Absolute read, the buffer is shared with the other streams
+        frame.getBytes(frame.readerIndex(), output, frame.readableBytes());
+    }
+
+    /**
+     * Queues the frame for sending, the stream takes over the given reference and releases it once sent.
+     */
+    public synchronized void queueFrame(ByteBuf frame) {
+        if (closed) {
+            frame.release();
+            return;
+        }
+        while (!fifo.offer(frame)) {
+            // Drop the oldest frame for a slow client
+            @Nullable
+            ByteBuf oldest = fifo.poll();
+            if (oldest != null) {
+                oldest.release();
+            }
         }
     }
 
@@ -91,9 +115,19 @@ public class StreamOutput {
 
     public void sendFrame() throws IOException, InterruptedException {
         if (isSnapshotBased) {
-            sendSnapshotBasedFrame(fifo.take());
+            ByteBuf frame = fifo.take();
+            try {
+                sendSnapshotBasedFrame(frame);
+            } finally {
+                frame.release();
+            }
         } else if (connected) {
-            output.write(fifo.take());
+            ByteBuf frame = fifo.take();
+            try {
+                write(frame);
+            } finally {
+                frame.release();
+            }
         }
     }
 
@@ -104,6 +138,14 @@ public class StreamOutput {
     }
 
     public void close() {
+        synchronized (this) {
+            closed = true;
+            @Nullable
+            ByteBuf frame;
+            while ((frame = fifo.poll()) != null) {
+                frame.release();
+            }
+        }
         try {
             output.close();
         } catch (IOException e) {
@@ -0,0 +1,169 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.ipcamera.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Tests for {@link SnapshotRingBuffer}.
+ *
+ * @author atje - Initial contribution
+ */
+@NonNullByDefault
+public class SnapshotRingBufferTest {
+
+    private static byte[] snapshot(int number) {
+        return new byte[] { (byte) 0xFF, (byte) 0xD8, (byte) number };
+    }
+
+    /**
+     * Returns the numbers of the retained snapshots and releases them.
+     */
+    private static List<Integer> retainedNumbers(SnapshotRingBuffer buffer, long notBefore) {
+        List<Integer> numbers = new ArrayList<>();
+        for (ByteBuf frame : buffer.retainFrames(notBefore)) {
+            byte[] data = new byte[frame.readableBytes()];
+            frame.getBytes(frame.readerIndex(), data);
+            numbers.add((int) data[2]);
+            frame.release();
+        }
+        return numbers;
+    }
+
+    private static void addSnapshots(SnapshotRingBuffer buffer, int first, int last) {
+        for (int i = first; i <= last; i++) {
+            buffer.add(snapshot(i));
+        }
+    }
+
+    @Test
+    public void emptyBufferKeepsNothing() {
+        SnapshotRingBuffer buffer = new SnapshotRingBuffer(0);
+        buffer.add(snapshot(1));
+        assertEquals(0, buffer.size());
+        assertEquals(List.of(), retainedNumbers(buffer, 0));
+    }
+
+    @Test
+    public void framesAreRetainedOldestFirst() {
+        SnapshotRingBuffer buffer = new SnapshotRingBuffer(5);
+        addSnapshots(buffer, 1, 3);
+        assertEquals(3, buffer.size());
+        assertEquals(List.of(1, 2, 3), retainedNumbers(buffer, 0));
+        // retaining does not remove the snapshots
+        assertEquals(List.of(1, 2, 3), retainedNumbers(buffer, 0));
+    }
+
+    @Test
+    public void oldestFramesAreReplacedAfterWrapAround() {
+        SnapshotRingBuffer buffer = new SnapshotRingBuffer(3);
+        addSnapshots(buffer, 1, 7);
+        assertEquals(3, buffer.size());
+        assertEquals(List.of(5, 6, 7), retainedNumbers(buffer, 0));
+    }
+
+    @Test
+    public void replacedFrameIsReleased() {
+        SnapshotRingBuffer buffer = new SnapshotRingBuffer(2);
+        buffer.add(snapshot(1));
+        ByteBuf first = buffer.retainFrames(0).get(0);
+        assertEquals(2, first.refCnt());
+
+        addSnapshots(buffer, 2, 3);
+        assertEquals(1, first.refCnt());
+        first.release();
+        assertEquals(0, first.refCnt());
+    }
+
+    @Test
+    public void framesBeforeTheGivenTimeAreSkipped() throws InterruptedException {
+        SnapshotRingBuffer buffer = new SnapshotRingBuffer(5);
+        addSnapshots(buffer, 1, 2);
+        Thread.sleep(20);
+        long notBefore = System.currentTimeMillis();
+        addSnapshots(buffer, 3, 4);
+        assertEquals(List.of(3, 4), retainedNumbers(buffer, notBefore));
+        assertEquals(List.of(), retainedNumbers(buffer, System.currentTimeMillis() + 1000));
+    }
+
+    @Test
+    public void increasedCapacityKeepsOrderAfterWrapAround() {
+        SnapshotRingBuffer buffer = new SnapshotRingBuffer(3);
+        addSnapshots(buffer, 1, 5);
+        buffer.setCapacity(5);
+        assertEquals(List.of(3, 4, 5), retainedNumbers(buffer, 0));
+
+        addSnapshots(buffer, 6, 8);
+        assertEquals(5, buffer.size());
+        assertEquals(List.of(4, 5, 6, 7, 8), retainedNumbers(buffer, 0));
+    }
+
+    @Test
+    public void reducedCapacityKeepsNewestFrames() {
+        SnapshotRingBuffer buffer = new SnapshotRingBuffer(4);
+        addSnapshots(buffer, 1, 6);
+        ByteBuf oldest = buffer.retainFrames(0).get(0);
+        buffer.setCapacity(2);
+        assertEquals(2, buffer.size());
+        assertEquals(List.of(5, 6), retainedNumbers(buffer, 0));
+        assertEquals(1, oldest.refCnt());
+        oldest.release();
+
+        addSnapshots(buffer, 7, 7);
+        assertEquals(List.of(6, 7), retainedNumbers(buffer, 0));
+    }
+
+    @Test
+    public void zeroCapacityReleasesAllFrames() {
+        SnapshotRingBuffer buffer = new SnapshotRingBuffer(3);
+        addSnapshots(buffer, 1, 4);
+        List<ByteBuf> frames = buffer.retainFrames(0);
+        buffer.setCapacity(0);
+        assertEquals(0, buffer.size());
+        buffer.add(snapshot(5));
+        assertEquals(List.of(), retainedNumbers(buffer, 0));
+        for (ByteBuf frame : frames) {
+            assertEquals(1, frame.refCnt());
+            frame.release();
+        }
+
+        buffer.setCapacity(2);
+        addSnapshots(buffer, 6, 8);
+        assertEquals(List.of(7, 8), retainedNumbers(buffer, 0));
+    }
+
+    @Test
+    public void clearReleasesAllFrames() {
+        SnapshotRingBuffer buffer = new SnapshotRingBuffer(3);
+        addSnapshots(buffer, 1, 2);
+        List<ByteBuf> frames = buffer.retainFrames(0);
+        buffer.clear();
+        assertEquals(0, buffer.size());
+        assertEquals(List.of(), retainedNumbers(buffer, 0));
+        for (ByteBuf frame : frames) {
+            assertEquals(1, frame.refCnt());
+            frame.release();
+        }
+
+        addSnapshots(buffer, 3, 3);
+        assertEquals(List.of(3), retainedNumbers(buffer, 0));
+    }
+}
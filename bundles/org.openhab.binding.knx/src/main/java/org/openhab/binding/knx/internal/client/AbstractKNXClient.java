@@ -12,13 +12,21 @@
  */
 package org.openhab.binding.knx.internal.client;
 
+import static java.util.stream.Collectors.toSet;
+
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CopyOnWriteArraySet;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -86,14 +94,54 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     private @Nullable ScheduledFuture<?> busJob;
     private @Nullable ScheduledFuture<?> connectJob;
 
-    private final Set<GroupAddressListener> groupAddressListeners = new CopyOnWriteArraySet<>();
-    private final LinkedBlockingQueue<ReadDatapoint> readDatapoints = new LinkedBlockingQueue<>();
+    private final Map<GroupAddressListener, Set<GroupAddress>> groupAddressListeners = new HashMap<>();
+    private final Map<GroupAddress, GroupAddressRoute> groupAddressRoutes = new ConcurrentHashMap<>();
+    private final ReadScheduler readScheduler;
 
     @FunctionalInterface
     private interface ListenerNotification {
         void apply(BusMessageListener listener, IndividualAddress source, GroupAddress destination, byte[] asdu);
     }
 
+    /**
+     * The listeners of a group address and the telegrams received for it, which have not been processed yet. The
+     * telegrams are processed in the order they were received by at most one task at a time.
+     */
+    private class GroupAddressRoute {
+        private final GroupAddress groupAddress;
+        private final Set<GroupAddressListener> listeners = new CopyOnWriteArraySet<>();
+        private final Queue<Runnable> telegrams = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean processing = new AtomicBoolean();
+
+        GroupAddressRoute(GroupAddress groupAddress) {
+            this.groupAddress = groupAddress;
+        }
+
+        void dispatch(Runnable telegram) {
+            telegrams.add(telegram);
+            if (processing.compareAndSet(false, true)) {
+                try {
+                    knxScheduler.execute(this::processTelegrams);
+                } catch (RejectedExecutionException e) {
+                    logger.debug("Dropping telegrams for '{}', the scheduler is shut down", groupAddress);
+                    telegrams.clear();
+                    processing.set(false);
+                }
+            }
+        }
+
+        private void processTelegrams() {
+            do {
+                Runnable telegram;
+                while ((telegram = telegrams.poll()) != null) {
+                    telegram.run();
+                }
+                processing.set(false);
+                // a telegram may have been added after the queue was found empty
+            } while (!telegrams.isEmpty() && processing.compareAndSet(false, true));
+        }
+    }
+
     @NonNullByDefault({})
     private final ProcessListener processListener = new ProcessListener() {
 
@@ -131,6 +179,7 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         this.responseTimeout = responseTimeout;
         this.readingPause = readingPause;
         this.readRetriesLimit = readRetriesLimit;
+        this.readScheduler = new ReadScheduler(readingPause);
         this.knxScheduler = knxScheduler;
         this.statusUpdateCallback = statusUpdateCallback;
     }
@@ -225,7 +274,7 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     @SuppressWarnings("null")
     private void releaseConnection() {
         logger.debug("Bridge {} is disconnecting from the KNX bus", thingUID);
-        readDatapoints.clear();
+        readScheduler.clear();
         busJob = nullify(busJob, j -> j.cancel(true));
         deviceInfoClient = null;
         managementProcedures = nullify(managementProcedures, mp -> mp.detach());
@@ -253,11 +302,21 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         IndividualAddress source = event.getSourceAddr();
         byte[] asdu = event.getASDU();
         logger.trace("Received a {} telegram from '{}' to '{}' with value '{}'", task, source, destination, asdu);
-        for (GroupAddressListener listener : groupAddressListeners) {
-            if (listener.listensTo(destination)) {
-                knxScheduler.schedule(() -> action.apply(listener, source, destination, asdu), 0, TimeUnit.SECONDS);
-            }
+        readScheduler.telegramReceived(System.currentTimeMillis());
+        GroupAddressRoute route = groupAddressRoutes.get(destination);
+        if (route == null) {
+            return;
         }
+        route.dispatch(() -> {
+            for (GroupAddressListener listener : route.listeners) {
+                try {
+                    action.apply(listener, source, destination, asdu);
+                } catch (RuntimeException e) {
+                    logger.warn("An error occurred while processing a {} telegram to '{}': {}", task, destination,
+                            e.getMessage(), e);
+                }
+            }
+        });
     }
 
     /**
@@ -281,15 +340,16 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         if (processCommunicator == null) {
             return;
         }
-        ReadDatapoint datapoint = readDatapoints.poll();
+        ReadDatapoint datapoint = readScheduler.poll(System.currentTimeMillis());
         if (datapoint != null) {
             datapoint.incrementRetries();
             try {
-                logger.trace("Sending a Group Read Request telegram for {}", datapoint.getDatapoint().getMainAddress());
+                logger.trace("Sending a {} Group Read Request telegram for {}, {} more queued",
+                        datapoint.getPriority(), datapoint.getDatapoint().getMainAddress(), readScheduler.size());
                 processCommunicator.read(datapoint.getDatapoint());
             } catch (KNXException e) {
                 if (datapoint.getRetries() < datapoint.getLimit()) {
-                    readDatapoints.add(datapoint);
+                    readScheduler.retry(datapoint);
                     logger.debug("Could not read value for datapoint {}: {}. Going to retry.",
                             datapoint.getDatapoint().getMainAddress(), e.getMessage());
                 } else {
@@ -368,23 +428,53 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     }
 
     @Override
-    public void readDatapoint(Datapoint datapoint) {
-        synchronized (this) {
-            ReadDatapoint retryDatapoint = new ReadDatapoint(datapoint, readRetriesLimit);
-            if (!readDatapoints.contains(retryDatapoint)) {
-                readDatapoints.add(retryDatapoint);
-            }
-        }
+    public void readDatapoint(Datapoint datapoint, ReadPriority priority) {
+        readScheduler.add(datapoint, priority, readRetriesLimit);
+    }
+
+    @Override
+    public int getReadQueueDepth() {
+        return readScheduler.size();
     }
 
     @Override
     public final boolean registerGroupAddressListener(GroupAddressListener listener) {
-        return groupAddressListeners.add(listener);
+        synchronized (groupAddressListeners) {
+            Set<GroupAddress> groupAddresses = Set.copyOf(listener.getGroupAddresses());
+            Set<GroupAddress> previousGroupAddresses = groupAddressListeners.put(listener, groupAddresses);
+            if (previousGroupAddresses != null) {
+                removeRoutes(listener, previousGroupAddresses.stream().filter(ga -> !groupAddresses.contains(ga))
+                        .collect(toSet()));
+            }
+            for (GroupAddress groupAddress : groupAddresses) {
+                groupAddressRoutes.computeIfAbsent(groupAddress, GroupAddressRoute::new).listeners.add(listener);
+            }
+            return previousGroupAddresses == null;
+        }
     }
 
     @Override
     public final boolean unregisterGroupAddressListener(GroupAddressListener listener) {
-        return groupAddressListeners.remove(listener);
+        synchronized (groupAddressListeners) {
+            Set<GroupAddress> groupAddresses = groupAddressListeners.remove(listener);
+            if (groupAddresses == null) {
+                return false;
+            }
+            removeRoutes(listener, groupAddresses);
+            return true;
+        }
+    }
+
+    private void removeRoutes(GroupAddressListener listener, Set<GroupAddress> groupAddresses) {
+        for (GroupAddress groupAddress : groupAddresses) {
+            GroupAddressRoute route = groupAddressRoutes.get(groupAddress);
+            if (route != null) {
+                route.listeners.remove(listener);
+                if (route.listeners.isEmpty()) {
+                    groupAddressRoutes.remove(groupAddress);
+                }
+            }
+        }
     }
 
     @Override
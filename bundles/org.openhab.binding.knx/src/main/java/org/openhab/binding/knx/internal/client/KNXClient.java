@@ -61,7 +61,8 @@ public interface KNXClient {
     void restartNetworkDevice(@Nullable IndividualAddress address);
 
     /**
-     * Register the given listener to be informed on KNX bus traffic.
+     * Register the given listener to be informed on KNX bus traffic to its group addresses. Registering an already
+     * registered listener again updates its group addresses.
      *
      * @param listener the listener
      * @return {@code true} if it wasn't registered before
@@ -77,11 +78,20 @@ public interface KNXClient {
     boolean unregisterGroupAddressListener(GroupAddressListener listener);
 
     /**
-     * Schedule the given data point for asynchronous reading.
+     * Schedule the given data point for asynchronous reading. A data point which is already scheduled is not scheduled
+     * again, but its priority is raised if necessary.
      *
      * @param datapoint the datapoint
+     * @param priority the priority of the read
      */
-    void readDatapoint(Datapoint datapoint);
+    void readDatapoint(Datapoint datapoint, ReadPriority priority);
+
+    /**
+     * Get the number of data points waiting to be read.
+     *
+     * @return the number of scheduled reads
+     */
+    int getReadQueueDepth();
 
     /**
      * Write a command to the KNX bus.
@@ -59,7 +59,12 @@ public class NoOpClient implements KNXClient {
     }
 
     @Override
-    public void readDatapoint(Datapoint datapoint) {
+    public void readDatapoint(Datapoint datapoint, ReadPriority priority) {
+    }
+
+    @Override
+    public int getReadQueueDepth() {
+        return 0;
     }
 
     @Override
@@ -0,0 +1,187 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import tuwien.auto.calimero.GroupAddress;
+import tuwien.auto.calimero.datapoint.Datapoint;
+
+/**
+ * Queues the datapoints to be read from the KNX bus.
+ *
+ * Each group address is queued at most once: requesting a read for an address which is already queued only raises its
+ * priority if needed. Datapoints are polled by priority and in the order they were queued within a priority.
+ *
+ * The pause between two reads is the configured reading pause, which is stretched while the bus is busy with other
+ * telegrams.
+ *
+ * @author atje - Initial contribution
+ */
+@NonNullByDefault
+public class ReadScheduler {
+
+    /** The number of telegrams per second from which on the bus is considered busy (TP1 carries about 50). */
+    static final int BUSY_TELEGRAMS_PER_SECOND = 10;
+    /** The maximum factor by which the reading pause is stretched on a busy bus. */
+    static final int MAX_PAUSE_FACTOR = 8;
+
+    private static final long LOAD_WINDOW_MILLIS = 1000;
+
+    private final int readingPause;
+    private final Map<ReadPriority, LinkedHashMap<GroupAddress, ReadDatapoint>> queues = new EnumMap<>(
+            ReadPriority.class);
+    private final Map<GroupAddress, ReadPriority> priorities = new HashMap<>();
+
+    private long windowStart;
+    private int telegramsInWindow;
+    private int telegramsPerSecond;
+    private long lastRead = Long.MIN_VALUE / 2;
+
+    /**
+     * @param readingPause the minimal pause between two reads in milliseconds
+     */
+    public ReadScheduler(int readingPause) {
+        this.readingPause = readingPause;
+    }
+
+    private LinkedHashMap<GroupAddress, ReadDatapoint> queue(ReadPriority priority) {
+        return queues.computeIfAbsent(priority, p -> new LinkedHashMap<>());
+    }
+
+    /**
+     * Queues a datapoint for reading.
+     *
+     * @param datapoint the datapoint
+     * @param priority the priority of the read
+     * @param limit the number of attempts to read the datapoint
+     * @return {@code true} if the datapoint was queued or its priority was raised
+     */
+    public synchronized boolean add(Datapoint datapoint, ReadPriority priority, int limit) {
+        GroupAddress groupAddress = datapoint.getMainAddress();
+        ReadPriority queuedPriority = priorities.get(groupAddress);
+        if (queuedPriority != null) {
+            if (queuedPriority.compareTo(priority) <= 0) {
+                return false;
+            }
+            queue(queuedPriority).remove(groupAddress);
+        }
+        priorities.put(groupAddress, priority);
+        queue(priority).put(groupAddress, new ReadDatapoint(datapoint, limit, priority));
+        return true;
+    }
+
+    /**
+     * Queues a datapoint again after a failed read, behind the other datapoints of its priority.
+     *
+     * @param datapoint the datapoint which could not be read
+     * @return {@code true} if the datapoint was queued, {@code false} if it was queued already
+     */
+    public synchronized boolean retry(ReadDatapoint datapoint) {
+        GroupAddress groupAddress = datapoint.getDatapoint().getMainAddress();
+        if (priorities.containsKey(groupAddress)) {
+            return false;
+        }
+        priorities.put(groupAddress, datapoint.getPriority());
+        queue(datapoint.getPriority()).put(groupAddress, datapoint);
+        return true;
+    }
+
+    /**
+     * Removes the next datapoint to read from the queue, if a read is due.
+     *
+     * @param now the current time in milliseconds
+     * @return the datapoint or {@code null} if the queue is empty or the pause has not elapsed yet
+     */
+    public synchronized @Nullable ReadDatapoint poll(long now) {
+        if (priorities.isEmpty() || now - lastRead < getPause(now)) {
+            return null;
+        }
+        for (ReadPriority priority : ReadPriority.values()) {
+            Iterator<ReadDatapoint> iterator = queue(priority).values().iterator();
+            if (iterator.hasNext()) {
+                ReadDatapoint datapoint = iterator.next();
+                iterator.remove();
+                priorities.remove(datapoint.getDatapoint().getMainAddress());
+                lastRead = now;
+                return datapoint;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Records a telegram seen on the bus, to determine the bus load.
+     *
+     * @param now the current time in milliseconds
+     */
+    public synchronized void telegramReceived(long now) {
+        updateWindow(now);
+        telegramsInWindow++;
+    }
+
+    /**
+     * Get the current pause between two reads.
+     *
+     * @param now the current time in milliseconds
+     * @return the pause in milliseconds
+     */
+    public synchronized long getPause(long now) {
+        updateWindow(now);
+        int factor = Math.min(MAX_PAUSE_FACTOR, 1 + telegramsPerSecond / BUSY_TELEGRAMS_PER_SECOND);
+        return (long) readingPause * factor;
+    }
+
+    private void updateWindow(long now) {
+        if (now - windowStart >= LOAD_WINDOW_MILLIS) {
+            // a window without any telegram resets the load
+            telegramsPerSecond = now - windowStart < 2 * LOAD_WINDOW_MILLIS ? telegramsInWindow : 0;
+            telegramsInWindow = 0;
+            windowStart = now;
+        }
+    }
+
+    /**
+     * Get the number of queued datapoints.
+     *
+     * @return the number of datapoints waiting to be read
+     */
+    public synchronized int size() {
+        return priorities.size();
+    }
+
+    /**
+     * Get the number of queued datapoints with the given priority.
+     *
+     * @param priority the priority
+     * @return the number of datapoints with this priority waiting to be read
+     */
+    public synchronized int size(ReadPriority priority) {
+        return queue(priority).size();
+    }
+
+    /**
+     * Removes all queued datapoints.
+     */
+    public synchronized void clear() {
+        queues.values().forEach(Map::clear);
+        priorities.clear();
+    }
+}
@@ -0,0 +1,171 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.dpt;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.OpenClosedType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.StopMoveType;
+import org.openhab.core.library.types.UpDownType;
+import org.openhab.core.types.Type;
+import org.openhab.core.types.UnDefType;
+
+import tuwien.auto.calimero.dptxlator.DPT;
+import tuwien.auto.calimero.dptxlator.DPTXlator;
+
+/**
+ * A KNX datapoint type, resolved once for the {@link KNXCoreTypeMapper}.
+ *
+ * It holds the main and sub number, the Calimero {@link DPT} and translator and the openHAB type class. For the
+ * common datapoint types (1.x, 5.001, 5.010, 9.x and 14.x) it decodes the ASDU straight into an openHAB type, without
+ * a translator and without formatting the value as a string.
+ *
+ * @author atje - Initial contribution
+ */
+@NonNullByDefault
+class DPTCodec {
+
+    @FunctionalInterface
+    interface Decoder {
+        /**
+         * @return the decoded type or {@code null} if the data is too short
+         */
+        @Nullable
+        Type decode(byte[] data);
+    }
+
+    private final int mainNumber;
+    private final int subNumber;
+    private final DPTXlator translator;
+    private final @Nullable Class<? extends Type> typeClass;
+    private final @Nullable Decoder decoder;
+
+    DPTCodec(int mainNumber, int subNumber, DPTXlator translator, @Nullable Class<? extends Type> typeClass) {
+        this.mainNumber = mainNumber;
+        this.subNumber = subNumber;
+        this.translator = translator;
+        this.typeClass = typeClass;
+        this.decoder = createDecoder(mainNumber, subNumber, typeClass);
+    }
+
+    int getMainNumber() {
+        return mainNumber;
+    }
+
+    int getSubNumber() {
+        return subNumber;
+    }
+
+    DPT getDPT() {
+        return translator.getType();
+    }
+
+    /**
+     * The translator is not thread safe, it must only be used while holding its lock.
+     */
+    DPTXlator getTranslator() {
+        return translator;
+    }
+
+    @Nullable
+    Class<? extends Type> getTypeClass() {
+        return typeClass;
+    }
+
+    @Nullable
+    Decoder getDecoder() {
+        return decoder;
+    }
+
+    private static @Nullable Decoder createDecoder(int mainNumber, int subNumber,
+            @Nullable Class<? extends Type> typeClass) {
+        switch (mainNumber) {
+            case 1:
+                switch (subNumber) {
+                    case 8:
+                        return data -> data.length < 1 ? null : isSet(data) ? UpDownType.DOWN : UpDownType.UP;
+                    case 9:
+                    case 19:
+                        return data -> data.length < 1 ? null
+                                : isSet(data) ? OpenClosedType.OPEN : OpenClosedType.CLOSED;
+                    case 10:
+                        return data -> data.length < 1 ? null : isSet(data) ? StopMoveType.MOVE : StopMoveType.STOP;
+                    case 22:
+                        return data -> data.length < 1 ? null : new DecimalType(isSet(data) ? 1 : 0);
+                    default:
+                        return data -> data.length < 1 ? null : isSet(data) ? OnOffType.ON : OnOffType.OFF;
+                }
+            case 5:
+                switch (subNumber) {
+                    case 1: // 5.001: Scaling, 0...255 is mapped to 0...100 %
+                        return data -> data.length < 1 ? null
+                                : new PercentType(Math.round((data[0] & 0xFF) * 100f / 255));
+                    case 10: // 5.010: Unsigned count
+                        return data -> data.length < 1 ? null : new DecimalType(data[0] & 0xFF);
+                    default:
+                        return null;
+                }
+            case 9:
+                if (PercentType.class.equals(typeClass)) {
+                    return data -> data.length < 2 ? null
+                            : new PercentType(decode2ByteFloat(data).setScale(0, RoundingMode.HALF_UP));
+                } else if (DecimalType.class.equals(typeClass)) {
+                    return data -> data.length < 2 ? null : new DecimalType(decode2ByteFloat(data));
+                }
+                return null;
+            case 14:
+                if (DecimalType.class.equals(typeClass)) {
+                    return data -> data.length < 4 ? null : decode4ByteFloat(data);
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    private static boolean isSet(byte[] data) {
+        return (data[0] & 0x01) != 0;
+    }
+
+    /**
+     * Decodes a KNX 2-byte float (MEEEEMMM MMMMMMMM, value = 0.01 * M * 2^E) exactly.
+     */
+    static BigDecimal decode2ByteFloat(byte[] data) {
+        int raw = (data[0] & 0xFF) << 8 | (data[1] & 0xFF);
+        int exponent = (raw >> 11) & 0x0F;
+        int mantissa = raw & 0x07FF;
+        if ((raw & 0x8000) != 0) {
+            mantissa -= 0x0800;
+        }
+        return BigDecimal.valueOf((long) mantissa << exponent, 2).stripTrailingZeros();
+    }
+
+    /**
+     * Decodes a KNX 4-byte IEEE 754 float. The value is taken with the precision of a float, so 21.3 is not
+     * turned into 21.299999237060547.
+     */
+    static Type decode4ByteFloat(byte[] data) {
+        float value = Float.intBitsToFloat(
+                (data[0] & 0xFF) << 24 | (data[1] & 0xFF) << 16 | (data[2] & 0xFF) << 8 | (data[3] & 0xFF));
+        if (!Float.isFinite(value)) {
+            return UnDefType.UNDEF;
+        }
+        return new DecimalType(new BigDecimal(Float.toString(value)));
+    }
+}
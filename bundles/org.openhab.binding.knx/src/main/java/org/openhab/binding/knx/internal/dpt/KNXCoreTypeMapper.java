@@ -25,6 +25,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.openhab.binding.knx.internal.KNXTypeMapper;
 import org.openhab.core.library.types.DateTimeType;
@@ -108,6 +110,9 @@ public class KNXCoreTypeMapper implements KNXTypeMapper {
     /** stores the default KNX DPT to use for each openHAB type */
     private final Map<Class<? extends Type>, String> defaultDptMap;
 
+    /** stores the resolved datapoint types, so they are resolved once and not for every telegram */
+    private final Map<String, Optional<DPTCodec>> codecs = new ConcurrentHashMap<>();
+
     public KNXCoreTypeMapper() {
         @SuppressWarnings("unused")
         final List<Class<?>> xlators = Arrays.<Class<?>> asList(DPTXlator1BitControlled.class,
@@ -573,24 +578,13 @@ public class KNXCoreTypeMapper implements KNXTypeMapper {
 
     @Override
     public String toDPTValue(Type type, String dptID) {
-        DPT dpt;
-        int mainNumber = getMainNumber(dptID);
-        if (mainNumber == -1) {
-            logger.error("toDPTValue couldn't identify mainnumber in dptID: {}", dptID);
-            return null;
-        }
-        int subNumber = getSubNumber(dptID);
-        if (subNumber == -1) {
-            logger.debug("toType: couldn't identify sub number in dptID: {}.", dptID);
-            return null;
-        }
-
-        try {
-            DPTXlator translator = TranslatorTypes.createTranslator(mainNumber, dptID);
-            dpt = translator.getType();
-        } catch (KNXException e) {
+        DPTCodec codec = getCodec(dptID);
+        if (codec == null) {
             return null;
         }
+        DPT dpt = codec.getDPT();
+        int mainNumber = codec.getMainNumber();
+        int subNumber = codec.getSubNumber();
 
         try {
             // check for HSBType first, because it extends PercentType as well
@@ -673,24 +667,36 @@ public class KNXCoreTypeMapper implements KNXTypeMapper {
 
     @Override
     public Type toType(Datapoint datapoint, byte[] data) {
+        DPTCodec codec = getCodec(datapoint.getDPT());
+        if (codec == null) {
+            logger.warn("Failed creating a translator for datapoint type '{}'.", datapoint.getDPT());
+            return null;
+        }
+        logger.trace("toType datapoint DPT = {}", datapoint.getDPT());
+
+        DPTCodec.Decoder decoder = codec.getDecoder();
+        if (decoder != null) {
+            Type type = decoder.decode(data);
+            if (type == null) {
+                logger.info("Translator couldn't parse data for datapoint type '{}' (KNXFormatException).",
+                        datapoint.getDPT());
+            }
+            return type;
+        }
+
+        DPTXlator translator = codec.getTranslator();
+        synchronized (translator) {
+            return toType(datapoint, data, codec, translator);
+        }
+    }
+
+    private Type toType(Datapoint datapoint, byte[] data, DPTCodec codec, DPTXlator translator) {
         try {
-            DPTXlator translator = TranslatorTypes.createTranslator(datapoint.getMainNumber(), datapoint.getDPT());
             translator.setData(data);
             String value = translator.getValue();
 
-            String id = translator.getType().getID();
-            logger.trace("toType datapoint DPT = {}", datapoint.getDPT());
-
-            int mainNumber = getMainNumber(id);
-            if (mainNumber == -1) {
-                logger.debug("toType: couldn't identify mainnumber in dptID: {}.", id);
-                return null;
-            }
-            int subNumber = getSubNumber(id);
-            if (subNumber == -1) {
-                logger.debug("toType: couldn't identify sub number in dptID: {}.", id);
-                return null;
-            }
+            int mainNumber = codec.getMainNumber();
+            int subNumber = codec.getSubNumber();
             /*
              * Following code section deals with specific mapping of values from KNX to openHAB types were the String
              * received from the DPTXlator is not sufficient to set the openHAB type or has bugs
@@ -813,7 +819,7 @@ public class KNXCoreTypeMapper implements KNXTypeMapper {
                     break;
             }
 
-            Class<? extends Type> typeClass = toTypeClass(id);
+            Class<? extends Type> typeClass = codec.getTypeClass();
             if (typeClass == null) {
                 return null;
             }
@@ -853,13 +859,35 @@ public class KNXCoreTypeMapper implements KNXTypeMapper {
         } catch (KNXIllegalArgumentException kiae) {
             logger.info("Translator couldn't parse data for datapoint type '{}' (KNXIllegalArgumentException).",
                     datapoint.getDPT());
-        } catch (KNXException e) {
-            logger.warn("Failed creating a translator for datapoint type '{}'.", datapoint.getDPT(), e);
         }
 
         return null;
     }
 
+    private DPTCodec getCodec(String dptID) {
+        return codecs.computeIfAbsent(dptID, this::createCodec).orElse(null);
+    }
+
+    private Optional<DPTCodec> createCodec(String dptID) {
+        int mainNumber = getMainNumber(dptID);
+        if (mainNumber == -1) {
+            logger.debug("Couldn't identify main number in dptID: {}.", dptID);
+            return Optional.empty();
+        }
+        int subNumber = getSubNumber(dptID);
+        if (subNumber == -1) {
+            logger.debug("Couldn't identify sub number in dptID: {}.", dptID);
+            return Optional.empty();
+        }
+        try {
+            DPTXlator translator = TranslatorTypes.createTranslator(mainNumber, dptID);
+            return Optional.of(new DPTCodec(mainNumber, subNumber, translator, toTypeClass(dptID)));
+        } catch (KNXException e) {
+            logger.debug("Failed creating a translator for datapoint type '{}': {}", dptID, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
     /**
      * Converts a datapoint type id into an openHAB type class
      *
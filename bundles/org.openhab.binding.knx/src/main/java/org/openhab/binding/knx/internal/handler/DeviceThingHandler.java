@@ -15,6 +15,8 @@ package org.openhab.binding.knx.internal.handler;
 import static org.openhab.binding.knx.internal.KNXBindingConstants.*;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -34,6 +36,7 @@ import org.openhab.binding.knx.internal.channel.KNXChannelTypes;
 import org.openhab.binding.knx.internal.client.AbstractKNXClient;
 import org.openhab.binding.knx.internal.client.InboundSpec;
 import org.openhab.binding.knx.internal.client.OutboundSpec;
+import org.openhab.binding.knx.internal.client.ReadPriority;
 import org.openhab.binding.knx.internal.config.DeviceConfig;
 import org.openhab.binding.knx.internal.dpt.KNXCoreTypeMapper;
 import org.openhab.core.config.core.Configuration;
@@ -74,26 +77,56 @@ public class DeviceThingHandler extends AbstractKNXThingHandler {
     private final Set<OutboundSpec> groupAddressesRespondingSpec = new HashSet<>();
     private final Map<GroupAddress, ScheduledFuture<?>> readFutures = new HashMap<>();
     private final Map<ChannelUID, ScheduledFuture<?>> channelFutures = new HashMap<>();
+    private volatile Map<GroupAddress, List<ListenRoute>> listenRoutes = Map.of();
     private int readInterval;
 
+    /**
+     * A channel listening to a group address, together with the spec that matched the group address.
+     */
+    private static class ListenRoute {
+        final Channel channel;
+        final InboundSpec listenSpec;
+        final boolean control;
+
+        ListenRoute(Channel channel, InboundSpec listenSpec, boolean control) {
+            this.channel = channel;
+            this.listenSpec = listenSpec;
+            this.control = control;
+        }
+    }
+
     public DeviceThingHandler(Thing thing) {
         super(thing);
     }
 
     @Override
     public void initialize() {
-        super.initialize();
         DeviceConfig config = getConfigAs(DeviceConfig.class);
         readInterval = config.getReadInterval().intValue();
+        // the group addresses are needed when registering with the client
         initializeGroupAddresses();
+        super.initialize();
     }
 
     private void initializeGroupAddresses() {
-        forAllChannels((selector, channelConfiguration) -> {
-            groupAddresses.addAll(selector.getReadAddresses(channelConfiguration));
-            groupAddresses.addAll(selector.getWriteAddresses(channelConfiguration));
-            groupAddresses.addAll(selector.getListenAddresses(channelConfiguration));
-        });
+        Map<GroupAddress, List<ListenRoute>> routes = new HashMap<>();
+        for (Channel channel : getThing().getChannels()) {
+            ChannelTypeUID channelTypeUID = channel.getChannelTypeUID();
+            boolean control = channelTypeUID != null && CONTROL_CHANNEL_TYPES.contains(channelTypeUID.getId());
+            withKNXType(channel, (selector, channelConfiguration) -> {
+                groupAddresses.addAll(selector.getReadAddresses(channelConfiguration));
+                groupAddresses.addAll(selector.getWriteAddresses(channelConfiguration));
+                groupAddresses.addAll(selector.getListenAddresses(channelConfiguration));
+                for (GroupAddress groupAddress : selector.getListenAddresses(channelConfiguration)) {
+                    InboundSpec listenSpec = selector.getListenSpec(channelConfiguration, groupAddress);
+                    if (listenSpec != null) {
+                        routes.computeIfAbsent(groupAddress, ga -> new ArrayList<>())
+                                .add(new ListenRoute(channel, listenSpec, control));
+                    }
+                }
+            });
+        }
+        listenRoutes = routes;
     }
 
     @Override
@@ -113,6 +146,7 @@ public class DeviceThingHandler extends AbstractKNXThingHandler {
     }
 
     private void freeGroupAdresses() {
+        listenRoutes = Map.of();
         groupAddresses.clear();
         groupAddressesWriteBlockedOnce.clear();
         groupAddressesRespondingSpec.clear();
@@ -151,17 +185,11 @@ public class DeviceThingHandler extends AbstractKNXThingHandler {
         }
     }
 
-    private void forAllChannels(ChannelFunction function) {
-        for (Channel channel : getThing().getChannels()) {
-            withKNXType(channel, function);
-        }
-    }
-
     @Override
     public void channelLinked(ChannelUID channelUID) {
         if (!isControl(channelUID)) {
             withKNXType(channelUID, (selector, configuration) -> {
-                scheduleRead(selector, configuration);
+                scheduleRead(selector, configuration, ReadPriority.ON_DEMAND);
             });
         }
     }
@@ -172,42 +200,43 @@ public class DeviceThingHandler extends AbstractKNXThingHandler {
         for (Channel channel : getThing().getChannels()) {
             if (isLinked(channel.getUID().getId()) && !isControl(channel.getUID())) {
                 withKNXType(channel, (selector, configuration) -> {
-                    scheduleRead(selector, configuration);
+                    scheduleRead(selector, configuration, ReadPriority.STARTUP);
                 });
             }
         }
     }
 
-    private void scheduleRead(KNXChannelType selector, Configuration configuration) throws KNXFormatException {
+    private void scheduleRead(KNXChannelType selector, Configuration configuration, ReadPriority priority)
+            throws KNXFormatException {
         List<InboundSpec> readSpecs = selector.getReadSpec(configuration);
         for (InboundSpec readSpec : readSpecs) {
             for (GroupAddress groupAddress : readSpec.getGroupAddresses()) {
-                scheduleReadJob(groupAddress, readSpec.getDPT());
+                scheduleReadJob(groupAddress, readSpec.getDPT(), priority);
             }
         }
     }
 
-    private void scheduleReadJob(GroupAddress groupAddress, String dpt) {
+    private void scheduleReadJob(GroupAddress groupAddress, String dpt, ReadPriority priority) {
+        getScheduler().submit(() -> readDatapoint(groupAddress, dpt, priority));
         if (readInterval > 0) {
             ScheduledFuture<?> future = readFutures.get(groupAddress);
             if (future == null || future.isDone() || future.isCancelled()) {
-                future = getScheduler().scheduleWithFixedDelay(() -> readDatapoint(groupAddress, dpt), 0, readInterval,
+                future = getScheduler().scheduleWithFixedDelay(
+                        () -> readDatapoint(groupAddress, dpt, ReadPriority.PERIODIC), readInterval, readInterval,
                         TimeUnit.SECONDS);
                 readFutures.put(groupAddress, future);
             }
-        } else {
-            getScheduler().submit(() -> readDatapoint(groupAddress, dpt));
         }
     }
 
-    private void readDatapoint(GroupAddress groupAddress, String dpt) {
+    private void readDatapoint(GroupAddress groupAddress, String dpt, ReadPriority priority) {
         if (getClient().isConnected()) {
             if (!isDPTSupported(dpt)) {
                 logger.warn("DPT '{}' is not supported by the KNX binding", dpt);
                 return;
             }
             Datapoint datapoint = new CommandDP(groupAddress, getThing().getUID().toString(), 0, dpt);
-            getClient().readDatapoint(datapoint);
+            getClient().readDatapoint(datapoint, priority);
         }
     }
 
@@ -216,6 +245,11 @@ public class DeviceThingHandler extends AbstractKNXThingHandler {
         return groupAddresses.contains(destination);
     }
 
+    @Override
+    public Set<GroupAddress> getGroupAddresses() {
+        return Collections.unmodifiableSet(groupAddresses);
+    }
+
     /** KNXIO remember controls, removeIf may be null */
     @SuppressWarnings("null")
     private void rememberRespondingSpec(OutboundSpec commandSpec, boolean add) {
@@ -235,7 +269,7 @@ public class DeviceThingHandler extends AbstractKNXThingHandler {
         if (command instanceof RefreshType && !isControl(channelUID)) {
             logger.debug("Refreshing channel '{}'", channelUID);
             withKNXType(channelUID, (selector, configuration) -> {
-                scheduleRead(selector, configuration);
+                scheduleRead(selector, configuration, ReadPriority.ON_DEMAND);
             });
         } else {
             switch (channelUID.getId()) {
@@ -307,8 +341,9 @@ public class DeviceThingHandler extends AbstractKNXThingHandler {
     public void onGroupRead(AbstractKNXClient client, IndividualAddress source, GroupAddress destination, byte[] asdu) {
         logger.trace("onGroupRead Thing '{}' received a GroupValueRead telegram from '{}' for destination '{}'",
                 getThing().getUID(), source, destination);
-        for (Channel channel : getThing().getChannels()) {
-            if (isControl(channel.getUID())) {
+        for (ListenRoute route : listenRoutes.getOrDefault(destination, List.of())) {
+            if (route.control) {
+                Channel channel = route.channel;
                 withKNXType(channel, (selector, configuration) -> {
                     OutboundSpec responseSpec = selector.getResponseSpec(configuration, destination,
                             RefreshType.REFRESH);
@@ -345,30 +380,29 @@ public class DeviceThingHandler extends AbstractKNXThingHandler {
         logger.debug("onGroupWrite Thing '{}' received a GroupValueWrite telegram from '{}' for destination '{}'",
                 getThing().getUID(), source, destination);
 
-        for (Channel channel : getThing().getChannels()) {
+        for (ListenRoute route : listenRoutes.getOrDefault(destination, List.of())) {
+            Channel channel = route.channel;
+            InboundSpec listenSpec = route.listenSpec;
             withKNXType(channel, (selector, configuration) -> {
-                InboundSpec listenSpec = selector.getListenSpec(configuration, destination);
-                if (listenSpec != null) {
-                    logger.trace(
-                            "onGroupWrite Thing '{}' processes a GroupValueWrite telegram for destination '{}' for channel '{}'",
-                            getThing().getUID(), destination, channel.getUID());
-                    /**
-                     * Remember current KNXIO outboundSpec only if it is a control channel.
-                     */
-                    if (isControl(channel.getUID())) {
-                        logger.trace("onGroupWrite isControl");
-                        Type type = typeHelper.toType(
-                                new CommandDP(destination, getThing().getUID().toString(), 0, listenSpec.getDPT()),
-                                asdu);
-                        if (type != null) {
-                            OutboundSpec commandSpec = selector.getCommandSpec(configuration, typeHelper, type);
-                            if (commandSpec != null) {
-                                rememberRespondingSpec(commandSpec, true);
-                            }
+                logger.trace(
+                        "onGroupWrite Thing '{}' processes a GroupValueWrite telegram for destination '{}' for channel '{}'",
+                        getThing().getUID(), destination, channel.getUID());
+                /**
+                 * Remember current KNXIO outboundSpec only if it is a control channel.
+                 */
+                if (route.control) {
+                    logger.trace("onGroupWrite isControl");
+                    Type type = typeHelper.toType(
+                            new CommandDP(destination, getThing().getUID().toString(), 0, listenSpec.getDPT()),
+                            asdu);
+                    if (type != null) {
+                        OutboundSpec commandSpec = selector.getCommandSpec(configuration, typeHelper, type);
+                        if (commandSpec != null) {
+                            rememberRespondingSpec(commandSpec, true);
                         }
                     }
-                    processDataReceived(destination, asdu, listenSpec, channel.getUID());
                 }
+                processDataReceived(destination, asdu, listenSpec, channel.getUID());
             });
         }
     }
@@ -12,6 +12,8 @@
  */
 package org.openhab.binding.knx.internal.handler;
 
+import java.util.Set;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.binding.knx.internal.client.BusMessageListener;
 
@@ -33,4 +35,12 @@ public interface GroupAddressListener extends BusMessageListener {
      * @param destination
      */
     public boolean listensTo(GroupAddress destination);
+
+    /**
+     * Get the group addresses the GroupAddressListener has an interest in. The client indexes them when the listener
+     * is registered, so the listener has to be registered again if they change.
+     *
+     * @return the group addresses
+     */
+    public Set<GroupAddress> getGroupAddresses();
 }
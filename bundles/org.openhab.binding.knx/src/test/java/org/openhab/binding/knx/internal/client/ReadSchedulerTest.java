@@ -0,0 +1,125 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import tuwien.auto.calimero.GroupAddress;
+import tuwien.auto.calimero.datapoint.CommandDP;
+import tuwien.auto.calimero.datapoint.Datapoint;
+
+/**
+ *
+ * @author atje - Initial contribution
+ *
+ */
+public class ReadSchedulerTest {
+
+    private static final int READING_PAUSE = 50;
+
+    private ReadScheduler scheduler;
+    private long now;
+
+    @BeforeEach
+    public void setup() {
+        scheduler = new ReadScheduler(READING_PAUSE);
+        now = 10_000;
+    }
+
+    @Test
+    public void testAdd_deduplicates() {
+        assertTrue(scheduler.add(datapoint(1), ReadPriority.STARTUP, 3));
+        assertFalse(scheduler.add(datapoint(1), ReadPriority.STARTUP, 3));
+        assertFalse(scheduler.add(datapoint(1), ReadPriority.PERIODIC, 3));
+        assertEquals(1, scheduler.size());
+    }
+
+    @Test
+    public void testAdd_raisesPriority() {
+        scheduler.add(datapoint(1), ReadPriority.PERIODIC, 3);
+        assertTrue(scheduler.add(datapoint(1), ReadPriority.ON_DEMAND, 3));
+        assertEquals(1, scheduler.size());
+        assertEquals(0, scheduler.size(ReadPriority.PERIODIC));
+        assertEquals(1, scheduler.size(ReadPriority.ON_DEMAND));
+    }
+
+    @Test
+    public void testPoll_byPriorityAndOrder() {
+        scheduler.add(datapoint(1), ReadPriority.PERIODIC, 3);
+        scheduler.add(datapoint(2), ReadPriority.STARTUP, 3);
+        scheduler.add(datapoint(3), ReadPriority.STARTUP, 3);
+        scheduler.add(datapoint(4), ReadPriority.ON_DEMAND, 3);
+
+        assertEquals(address(4), poll().getDatapoint().getMainAddress());
+        assertEquals(address(2), poll().getDatapoint().getMainAddress());
+        assertEquals(address(3), poll().getDatapoint().getMainAddress());
+        assertEquals(address(1), poll().getDatapoint().getMainAddress());
+        assertNull(poll());
+    }
+
+    @Test
+    public void testPoll_respectsPause() {
+        scheduler.add(datapoint(1), ReadPriority.STARTUP, 3);
+        scheduler.add(datapoint(2), ReadPriority.STARTUP, 3);
+
+        assertNotNull(scheduler.poll(now));
+        assertNull(scheduler.poll(now + READING_PAUSE - 1));
+        assertNotNull(scheduler.poll(now + READING_PAUSE));
+    }
+
+    @Test
+    public void testRetry_queuedBehindSamePriority() {
+        scheduler.add(datapoint(1), ReadPriority.STARTUP, 3);
+        scheduler.add(datapoint(2), ReadPriority.STARTUP, 3);
+        ReadDatapoint first = poll();
+
+        assertTrue(scheduler.retry(first));
+        assertFalse(scheduler.retry(first));
+        assertEquals(address(2), poll().getDatapoint().getMainAddress());
+        assertEquals(address(1), poll().getDatapoint().getMainAddress());
+    }
+
+    @Test
+    public void testGetPause_stretchedOnBusyBus() {
+        assertEquals(READING_PAUSE, scheduler.getPause(now));
+
+        for (int i = 0; i < 3 * ReadScheduler.BUSY_TELEGRAMS_PER_SECOND; i++) {
+            scheduler.telegramReceived(now + 1);
+        }
+        assertEquals(4 * READING_PAUSE, scheduler.getPause(now + 1000));
+
+        for (int i = 0; i < 100 * ReadScheduler.BUSY_TELEGRAMS_PER_SECOND; i++) {
+            scheduler.telegramReceived(now + 1001);
+        }
+        assertEquals(ReadScheduler.MAX_PAUSE_FACTOR * READING_PAUSE, scheduler.getPause(now + 2000));
+
+        // an idle bus
+        assertEquals(READING_PAUSE, scheduler.getPause(now + 5000));
+    }
+
+    private ReadDatapoint poll() {
+        now += ReadScheduler.MAX_PAUSE_FACTOR * READING_PAUSE;
+        return scheduler.poll(now);
+    }
+
+    private static GroupAddress address(int sub) {
+        return new GroupAddress(1, 2, sub);
+    }
+
+    private static Datapoint datapoint(int sub) {
+        return new CommandDP(address(sub), "test", 0, "1.001");
+    }
+}
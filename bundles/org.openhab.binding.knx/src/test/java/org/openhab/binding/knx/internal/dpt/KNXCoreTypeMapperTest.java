@@ -14,8 +14,18 @@ package org.openhab.binding.knx.internal.dpt;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.nio.ByteBuffer;
+
 import org.junit.jupiter.api.Test;
 import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.UpDownType;
+import org.openhab.core.types.UnDefType;
+
+import tuwien.auto.calimero.GroupAddress;
+import tuwien.auto.calimero.datapoint.CommandDP;
+import tuwien.auto.calimero.datapoint.Datapoint;
 
 /**
  *
@@ -29,4 +39,42 @@ public class KNXCoreTypeMapperTest {
         assertEquals("3", new KNXCoreTypeMapper().toDPTValue(new DecimalType("3"), "17.001"));
         assertEquals("3", new KNXCoreTypeMapper().toDPTValue(new DecimalType("3.0"), "17.001"));
     }
+
+    @Test
+    public void testToType_boolean() {
+        KNXCoreTypeMapper mapper = new KNXCoreTypeMapper();
+        assertEquals(OnOffType.ON, mapper.toType(datapoint("1.001"), new byte[] { 0x01 }));
+        assertEquals(OnOffType.OFF, mapper.toType(datapoint("1.001"), new byte[] { 0x00 }));
+        assertEquals(UpDownType.DOWN, mapper.toType(datapoint("1.008"), new byte[] { 0x01 }));
+        assertNull(mapper.toType(datapoint("1.001"), new byte[0]));
+    }
+
+    @Test
+    public void testToType_8BitUnsigned() {
+        KNXCoreTypeMapper mapper = new KNXCoreTypeMapper();
+        assertEquals(new PercentType(100), mapper.toType(datapoint("5.001"), new byte[] { (byte) 0xFF }));
+        assertEquals(new PercentType(50), mapper.toType(datapoint("5.001"), new byte[] { (byte) 0x80 }));
+        assertEquals(new DecimalType(200), mapper.toType(datapoint("5.010"), new byte[] { (byte) 0xC8 }));
+    }
+
+    @Test
+    public void testToType_2ByteFloat() {
+        KNXCoreTypeMapper mapper = new KNXCoreTypeMapper();
+        assertEquals("21.5", mapper.toType(datapoint("9.001"), new byte[] { 0x0C, 0x33 }).toString());
+        assertEquals("-5", mapper.toType(datapoint("9.001"), new byte[] { (byte) 0x86, 0x0C }).toString());
+        assertNull(mapper.toType(datapoint("9.001"), new byte[] { 0x0C }));
+    }
+
+    @Test
+    public void testToType_4ByteFloat() {
+        KNXCoreTypeMapper mapper = new KNXCoreTypeMapper();
+        byte[] data = ByteBuffer.allocate(4).putFloat(21.3f).array();
+        assertEquals("21.3", mapper.toType(datapoint("14.056"), data).toString());
+        data = ByteBuffer.allocate(4).putFloat(Float.NaN).array();
+        assertEquals(UnDefType.UNDEF, mapper.toType(datapoint("14.056"), data));
+    }
+
+    private static Datapoint datapoint(String dpt) {
+        return new CommandDP(new GroupAddress(1, 2, 3), "test", 0, dpt);
+    }
 }
@@ -24,7 +24,7 @@ import org.openhab.core.thing.ThingTypeUID;
 @NonNullByDefault
 public class LogReaderBindingConstants {
 
-    private static final String BINDING_ID = "logreader";
+    public static final String BINDING_ID = "logreader";
 
     // List of all Thing Type UIDs
     public static final ThingTypeUID THING_READER = new ThingTypeUID(BINDING_ID, "reader");
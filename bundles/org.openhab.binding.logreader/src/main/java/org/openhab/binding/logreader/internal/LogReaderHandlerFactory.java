@@ -19,12 +19,14 @@ import java.util.Set;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.logreader.internal.filereader.FileTailer;
+import org.openhab.binding.logreader.internal.filereader.MultiFileTailer;
 import org.openhab.binding.logreader.internal.handler.LogHandler;
 import org.openhab.core.thing.Thing;
 import org.openhab.core.thing.ThingTypeUID;
 import org.openhab.core.thing.binding.BaseThingHandlerFactory;
 import org.openhab.core.thing.binding.ThingHandler;
 import org.openhab.core.thing.binding.ThingHandlerFactory;
+import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Component;
 
 /**
@@ -39,6 +41,8 @@ public class LogReaderHandlerFactory extends BaseThingHandlerFactory {
 
     private static final Set<ThingTypeUID> SUPPORTED_THING_TYPES_UIDS = Set.of(THING_READER);
 
+    private final MultiFileTailer multiFileTailer = new MultiFileTailer();
+
     @Override
     public boolean supportsThingType(ThingTypeUID thingTypeUID) {
         return SUPPORTED_THING_TYPES_UIDS.contains(thingTypeUID);
@@ -49,9 +53,15 @@ public class LogReaderHandlerFactory extends BaseThingHandlerFactory {
         ThingTypeUID thingTypeUID = thing.getThingTypeUID();
 
         if (thingTypeUID.equals(THING_READER)) {
-            return new LogHandler(thing, new FileTailer());
+            return new LogHandler(thing, new FileTailer(multiFileTailer));
         }
 
         return null;
     }
+
+    @Override
+    protected void deactivate(ComponentContext componentContext) {
+        multiFileTailer.shutdown();
+        super.deactivate(componentContext);
+    }
 }
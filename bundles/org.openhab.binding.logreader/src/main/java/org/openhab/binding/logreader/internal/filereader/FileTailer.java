@@ -12,73 +12,34 @@
  */
 package org.openhab.binding.logreader.internal.filereader;
 
-import java.io.File;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-
-import org.apache.commons.io.input.Tailer;
-import org.apache.commons.io.input.TailerListener;
-import org.apache.commons.io.input.TailerListenerAdapter;
 import org.eclipse.jdt.annotation.NonNullByDefault;
-import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.logreader.internal.filereader.api.FileReaderException;
 import org.openhab.binding.logreader.internal.filereader.api.LogFileReader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Apache Tailer based log file reader implementation.
+ * Log file reader implementation based on the shared {@link MultiFileTailer}.
  *
  * @author Pauli Anttila - Initial contribution
+ * @author atje - Use shared tailer thread
  */
 @NonNullByDefault
 public class FileTailer extends AbstractLogFileReader implements LogFileReader {
     private final Logger logger = LoggerFactory.getLogger(FileTailer.class);
 
-    private @Nullable Tailer tailer;
-    private @Nullable ExecutorService executor;
-
-    TailerListener logListener = new TailerListenerAdapter() {
-
-        @Override
-        public void handle(@Nullable String line) {
-            if (line == null) {
-                return;
-            }
-
-            sendLineToListeners(line);
-        }
-
-        @Override
-        public void fileNotFound() {
-            sendFileNotFoundToListeners();
-        }
-
-        @Override
-        public void handle(@Nullable Exception e) {
-            if (e == null) {
-                return;
-            }
-
-            sendExceptionToListeners(e);
-        }
+    private final MultiFileTailer multiFileTailer;
 
-        @Override
-        public void fileRotated() {
-            sendFileRotationToListeners();
-        }
-    };
+    public FileTailer(MultiFileTailer multiFileTailer) {
+        this.multiFileTailer = multiFileTailer;
+    }
 
     @Override
     public void start(String filePath, long refreshRate) throws FileReaderException {
-        Tailer localTailer = new Tailer(new File(filePath), logListener, refreshRate, true, false, true);
-        executor = Executors.newSingleThreadExecutor();
+        logger.debug("Start tailing '{}'", filePath);
         try {
-            logger.debug("Start executor");
-            executor.execute(localTailer);
-            logger.debug("Executor started");
-            this.tailer = localTailer;
-        } catch (Exception e) {
+            multiFileTailer.register(this, filePath, refreshRate);
+        } catch (RuntimeException e) {
             throw new FileReaderException(e);
         }
     }
@@ -86,12 +47,7 @@ public class FileTailer extends AbstractLogFileReader implements LogFileReader {
     @Override
     public void stop() {
         logger.debug("Shutdown");
-        if (tailer != null) {
-            tailer.stop();
-        }
-        if (executor != null) {
-            executor.shutdown();
-        }
-        logger.debug("Shutdown complite");
+        multiFileTailer.unregister(this);
+        logger.debug("Shutdown complete");
     }
 }
@@ -0,0 +1,360 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.logreader.internal.filereader;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.logreader.internal.LogReaderBindingConstants;
+import org.openhab.binding.logreader.internal.filereader.api.FileReaderException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Tails any number of log files with a single thread. Changes are detected by the {@link WatchService} of the
+ * file system, and each file is additionally checked with the refresh rate of its readers, as not all file systems
+ * deliver change events. New data is read with positional reads into a reused buffer.
+ *
+ * Readers of the same file share the read position, so each file is read only once. Like the Apache Tailer, reading
+ * starts at the end of the file and a rotated file is read from its beginning.
+ *
+ * @author atje - Initial contribution
+ */
+@NonNullByDefault
+public class MultiFileTailer {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final long MIN_POLL_INTERVAL_MS = 10;
+
+    private final Logger logger = LoggerFactory.getLogger(MultiFileTailer.class);
+
+    private final Charset charset = Charset.defaultCharset();
+    private final ByteBuffer readBuffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+    private final Map<Path, TailedFile> files = new HashMap<>();
+    private final Map<AbstractLogFileReader, TailedFile> readers = new HashMap<>();
+    private final Map<Path, WatchKey> watchedDirectories = new HashMap<>();
+    private @Nullable WatchService watchService;
+    private @Nullable Thread thread;
+
+    /**
+     * State of a tailed file. Apart from the readers, only accessed by the tailer thread.
+     */
+    private static class TailedFile {
+        final Path path;
+        final List<AbstractLogFileReader> readers = new CopyOnWriteArrayList<>();
+        final Map<AbstractLogFileReader, Long> refreshRates = new HashMap<>();
+        long refreshRate;
+        long nextCheck;
+        boolean changed;
+        boolean started;
+        long position;
+        @Nullable
+        Object fileKey;
+        byte[] line = new byte[256];
+        int lineLength;
+
+        TailedFile(Path path) {
+            this.path = path;
+        }
+    }
+
+    /**
+     * Starts tailing a file for the given reader.
+     *
+     * @param reader the reader, which will receive the lines and events of the file.
+     * @param filePath file to read.
+     * @param refreshRate how often the file is checked if no change event is received.
+     * @throws FileReaderException if the file system cannot be watched.
+     */
+    public synchronized void register(AbstractLogFileReader reader, String filePath, long refreshRate)
+            throws FileReaderException {
+        unregister(reader);
+
+        Path path = Path.of(filePath).toAbsolutePath().normalize();
+        TailedFile file = files.get(path);
+        if (file == null) {
+            file = new TailedFile(path);
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                file.position = attributes.size();
+                file.fileKey = attributes.fileKey();
+                file.started = true;
+            } catch (IOException e) {
+                logger.debug("Log file '{}' is not readable yet: {}", path, e.getMessage());
+            }
+            watchDirectory(path.getParent());
+            files.put(path, file);
+        }
+        file.readers.add(reader);
+        file.refreshRates.put(reader, refreshRate);
+        file.refreshRate = file.refreshRates.values().stream().mapToLong(Long::longValue).min().orElse(refreshRate);
+        file.nextCheck = 0;
+        readers.put(reader, file);
+
+        startThread();
+    }
+
+    /**
+     * Stops tailing for the given reader.
+     *
+     * @param reader the reader to unregister.
+     */
+    public synchronized void unregister(AbstractLogFileReader reader) {
+        TailedFile file = readers.remove(reader);
+        if (file == null) {
+            return;
+        }
+        file.readers.remove(reader);
+        file.refreshRates.remove(reader);
+        if (file.readers.isEmpty()) {
+            files.remove(file.path);
+            unwatchDirectory(file.path.getParent());
+        } else {
+            file.refreshRate = file.refreshRates.values().stream().mapToLong(Long::longValue).min()
+                    .orElse(file.refreshRate);
+        }
+        if (files.isEmpty()) {
+            shutdown();
+        }
+    }
+
+    /**
+     * Stops the tailer thread and releases the watch service.
+     */
+    public synchronized void shutdown() {
+        WatchService service = watchService;
+        if (service != null) {
+            try {
+                service.close();
+            } catch (IOException e) {
+                logger.debug("Closing the watch service failed: {}", e.getMessage());
+            }
+        }
+        watchService = null;
+        watchedDirectories.clear();
+        Thread thread = this.thread;
+        if (thread != null) {
+            thread.interrupt();
+        }
+        this.thread = null;
+    }
+
+    private void watchDirectory(@Nullable Path directory) throws FileReaderException {
+        if (directory == null || watchedDirectories.containsKey(directory)) {
+            return;
+        }
+        try {
+            WatchService service = watchService;
+            if (service == null) {
+                service = FileSystems.getDefault().newWatchService();
+                watchService = service;
+            }
+            watchedDirectories.put(directory, directory.register(service, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE));
+        } catch (NoSuchFileException e) {
+            // The directory will not be watched, the file is checked with the refresh rate instead.
+            logger.debug("Directory '{}' does not exist", directory);
+        } catch (IOException e) {
+            throw new FileReaderException(e);
+        }
+    }
+
+    private void unwatchDirectory(@Nullable Path directory) {
+        if (directory == null || files.keySet().stream().anyMatch(p -> directory.equals(p.getParent()))) {
+            return;
+        }
+        WatchKey key = watchedDirectories.remove(directory);
+        if (key != null) {
+            key.cancel();
+        }
+    }
+
+    private void startThread() throws FileReaderException {
+        Thread thread = this.thread;
+        if (thread != null && thread.isAlive()) {
+            return;
+        }
+        if (watchService == null) {
+            try {
+                watchService = FileSystems.getDefault().newWatchService();
+            } catch (IOException e) {
+                throw new FileReaderException(e);
+            }
+        }
+        thread = new Thread(this::run, "OH-binding-" + LogReaderBindingConstants.BINDING_ID + "-tailer");
+        thread.setDaemon(true);
+        this.thread = thread;
+        thread.start();
+    }
+
+    private void run() {
+        logger.debug("Tailer thread started");
+        while (!Thread.currentThread().isInterrupted()) {
+            List<TailedFile> currentFiles;
+            WatchService service;
+            synchronized (this) {
+                if (thread != Thread.currentThread()) {
+                    break;
+                }
+                currentFiles = new ArrayList<>(files.values());
+                service = watchService;
+            }
+            if (service == null) {
+                break;
+            }
+
+            try {
+                long now = System.currentTimeMillis();
+                long wait = currentFiles.stream().mapToLong(f -> f.nextCheck - now).min().orElse(1000);
+                WatchKey key = service.poll(Math.max(MIN_POLL_INTERVAL_MS, wait), TimeUnit.MILLISECONDS);
+                while (key != null) {
+                    processEvents(key, currentFiles);
+                    key = service.poll();
+                }
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                break;
+            }
+
+            long now = System.currentTimeMillis();
+            for (TailedFile file : currentFiles) {
+                if (file.changed || now >= file.nextCheck) {
+                    file.changed = false;
+                    file.nextCheck = now + file.refreshRate;
+                    checkFile(file);
+                }
+            }
+        }
+        logger.debug("Tailer thread stopped");
+    }
+
+    private void processEvents(WatchKey key, List<TailedFile> currentFiles) {
+        Object watchable = key.watchable();
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW) {
+                currentFiles.stream().filter(f -> Objects.equals(watchable, f.path.getParent()))
+                        .forEach(f -> f.changed = true);
+            } else if (watchable instanceof Path) {
+                Path changedPath = ((Path) watchable).resolve((Path) event.context());
+                currentFiles.stream().filter(f -> f.path.equals(changedPath)).forEach(f -> f.changed = true);
+            }
+        }
+        key.reset();
+    }
+
+    private void checkFile(TailedFile file) {
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(file.path, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            file.readers.forEach(AbstractLogFileReader::sendFileNotFoundToListeners);
+            return;
+        } catch (IOException e) {
+            file.readers.forEach(r -> r.sendExceptionToListeners(e));
+            return;
+        }
+
+        Object fileKey = attributes.fileKey();
+        long size = attributes.size();
+        if (!file.started) {
+            // Like the initial read, start at the end of a file that appears later
+            file.started = true;
+            file.position = size;
+            file.fileKey = fileKey;
+            return;
+        }
+        if (size < file.position || (fileKey != null && !fileKey.equals(file.fileKey))) {
+            logger.debug("Log file '{}' rotated", file.path);
+            file.position = 0;
+            file.lineLength = 0;
+            file.fileKey = fileKey;
+            file.readers.forEach(AbstractLogFileReader::sendFileRotationToListeners);
+        }
+        if (size > file.position) {
+            readNewData(file, size);
+        }
+    }
+
+    private void readNewData(TailedFile file, long size) {
+        try (FileChannel channel = FileChannel.open(file.path, StandardOpenOption.READ)) {
+            while (file.position < size) {
+                readBuffer.clear();
+                int read = channel.read(readBuffer, file.position);
+                if (read <= 0) {
+                    break;
+                }
+                file.position += read;
+                splitLines(file, readBuffer.array(), read);
+            }
+        } catch (NoSuchFileException e) {
+            file.readers.forEach(AbstractLogFileReader::sendFileNotFoundToListeners);
+        } catch (IOException e) {
+            file.readers.forEach(r -> r.sendExceptionToListeners(e));
+        }
+    }
+
+    /**
+     * Sends each complete line to the readers. An incomplete last line is kept until the rest is read.
+     */
+    private void splitLines(TailedFile file, byte[] data, int length) {
+        int start = 0;
+        for (int i = 0; i < length; i++) {
+            if (data[i] == '\n') {
+                appendToLine(file, data, start, i - start);
+                int lineLength = file.lineLength;
+                if (lineLength > 0 && file.line[lineLength - 1] == '\r') {
+                    lineLength--;
+                }
+                String line = new String(file.line, 0, lineLength, charset);
+                file.lineLength = 0;
+                file.readers.forEach(r -> r.sendLineToListeners(line));
+                start = i + 1;
+            }
+        }
+        appendToLine(file, data, start, length - start);
+    }
+
+    private void appendToLine(TailedFile file, byte[] data, int offset, int length) {
+        if (length <= 0) {
+            return;
+        }
+        int required = file.lineLength + length;
+        if (required > file.line.length) {
+            file.line = Arrays.copyOf(file.line, Math.max(required, file.line.length * 2));
+        }
+        System.arraycopy(data, offset, file.line, file.lineLength, length);
+        file.lineLength = required;
+    }
+}
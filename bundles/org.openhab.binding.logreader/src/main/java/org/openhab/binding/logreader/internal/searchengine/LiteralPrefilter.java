@@ -0,0 +1,311 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.logreader.internal.searchengine;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeSet;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Finds a set of literals in a text with a single pass (Aho-Corasick automaton).
+ *
+ * The literals are extracted from regular expressions with {@link #requiredLiteral(String)}: a regular expression
+ * can only match a text which contains its required literal, so the expensive regular expression evaluation can be
+ * skipped for all other texts.
+ *
+ * @author atje - Initial contribution
+ */
+@NonNullByDefault
+public class LiteralPrefilter {
+    private static final String META_CHARACTERS = "\\.^$|?*+()[]{}";
+    private static final int[] NO_OUTPUT = new int[0];
+
+    private final int[] asciiSymbols = new int[128];
+    private final char[] otherCharacters;
+    private final int[] otherSymbols;
+    private final int[][] transitions;
+    private final int[][] outputs;
+
+    /**
+     * Builds the automaton.
+     *
+     * @param literals the literals to search for, a literal is identified by its index. Must not be empty strings.
+     */
+    public LiteralPrefilter(List<String> literals) {
+        // Map the characters of the literals to a small alphabet
+        TreeSet<Character> alphabet = new TreeSet<>();
+        literals.forEach(literal -> literal.chars().forEach(c -> alphabet.add((char) c)));
+        Arrays.fill(asciiSymbols, -1);
+        List<Character> others = new ArrayList<>();
+        int symbolCount = 0;
+        for (char c : alphabet) {
+            if (c < asciiSymbols.length) {
+                asciiSymbols[c] = symbolCount++;
+            } else {
+                others.add(c);
+            }
+        }
+        otherCharacters = new char[others.size()];
+        otherSymbols = new int[others.size()];
+        for (int i = 0; i < others.size(); i++) {
+            otherCharacters[i] = others.get(i);
+            otherSymbols[i] = symbolCount++;
+        }
+
+        // Build the trie
+        List<Map<Integer, Integer>> trie = new ArrayList<>();
+        List<List<Integer>> trieOutputs = new ArrayList<>();
+        trie.add(new HashMap<>());
+        trieOutputs.add(new ArrayList<>());
+        for (int id = 0; id < literals.size(); id++) {
+            int state = 0;
+            for (char c : literals.get(id).toCharArray()) {
+                int symbol = symbolOf(c);
+                Integer next = trie.get(state).get(symbol);
+                if (next == null) {
+                    next = trie.size();
+                    trie.add(new HashMap<>());
+                    trieOutputs.add(new ArrayList<>());
+                    trie.get(state).put(symbol, next);
+                }
+                state = next;
+            }
+            trieOutputs.get(state).add(id);
+        }
+
+        // Breadth first construction of the complete transition table using the failure links
+        transitions = new int[trie.size()][symbolCount];
+        int[] failure = new int[trie.size()];
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int symbol = 0; symbol < symbolCount; symbol++) {
+            Integer next = trie.get(0).get(symbol);
+            if (next != null) {
+                transitions[0][symbol] = next;
+                queue.add(next);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            trieOutputs.get(state).addAll(trieOutputs.get(failure[state]));
+            for (int symbol = 0; symbol < symbolCount; symbol++) {
+                Integer next = trie.get(state).get(symbol);
+                if (next != null) {
+                    failure[next] = transitions[failure[state]][symbol];
+                    transitions[state][symbol] = next;
+                    queue.add(next);
+                } else {
+                    transitions[state][symbol] = transitions[failure[state]][symbol];
+                }
+            }
+        }
+
+        outputs = new int[trie.size()][];
+        for (int state = 0; state < trie.size(); state++) {
+            List<Integer> ids = trieOutputs.get(state);
+            outputs[state] = ids.isEmpty() ? NO_OUTPUT : ids.stream().mapToInt(Integer::intValue).distinct().toArray();
+        }
+    }
+
+    /**
+     * Searches all literals in the given text.
+     *
+     * @param text the text to search in.
+     * @param found receives the indices of the found literals. Will be cleared first.
+     */
+    public void scan(CharSequence text, BitSet found) {
+        found.clear();
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            int symbol = symbolOf(text.charAt(i));
+            state = symbol < 0 ? 0 : transitions[state][symbol];
+            for (int id : outputs[state]) {
+                found.set(id);
+            }
+        }
+    }
+
+    private int symbolOf(char c) {
+        if (c < asciiSymbols.length) {
+            return asciiSymbols[c];
+        }
+        int index = Arrays.binarySearch(otherCharacters, c);
+        return index < 0 ? -1 : otherSymbols[index];
+    }
+
+    /**
+     * Determines the longest literal, that is contained in every text matched by the given regular expression.
+     * The analysis is conservative, regular expressions with flags or constructs which are not understood end the
+     * analysis.
+     *
+     * @param regex a regular expression.
+     * @return the required literal or null if no literal could be determined.
+     */
+    public static @Nullable String requiredLiteral(String regex) {
+        if (regex.contains("(?")) {
+            // Embedded flags like (?i) change the meaning of the literals
+            return null;
+        }
+        String best = "";
+        StringBuilder current = new StringBuilder();
+        int i = 0;
+        scan: while (i < regex.length()) {
+            char c = regex.charAt(i);
+            switch (c) {
+                case '\\': {
+                    if (i + 1 >= regex.length()) {
+                        break scan;
+                    }
+                    char escaped = regex.charAt(i + 1);
+                    if (escaped == 'Q') {
+                        int end = regex.indexOf("\\E", i + 2);
+                        String quoted = end < 0 ? regex.substring(i + 2) : regex.substring(i + 2, end);
+                        current.append(quoted);
+                        i = end < 0 ? regex.length() : end + 2;
+                        continue;
+                    } else if (Character.isLetterOrDigit(escaped)) {
+                        // Character classes, anchors, back references or escape sequences
+                        best = longer(best, current);
+                        current.setLength(0);
+                        if ("xupPc0kN".indexOf(escaped) >= 0) {
+                            break scan;
+                        }
+                        i += 2;
+                        continue;
+                    }
+                    current.append(escaped);
+                    i += 2;
+                    continue;
+                }
+                case '?':
+                case '*':
+                case '{':
+                    // The preceding character is optional
+                    if (current.length() > 0 && (c != '{' || isOptionalQuantifier(regex, i))) {
+                        int last = current.length() - 1;
+                        // A supplementary character consists of two chars
+                        if (last > 0 && Character.isLowSurrogate(current.charAt(last))
+                                && Character.isHighSurrogate(current.charAt(last - 1))) {
+                            last--;
+                        }
+                        current.setLength(last);
+                    }
+                    best = longer(best, current);
+                    current.setLength(0);
+                    i = skipQuantifier(regex, i);
+                    continue;
+                case '+':
+                    best = longer(best, current);
+                    current.setLength(0);
+                    i = skipQuantifier(regex, i);
+                    continue;
+                case '[': {
+                    best = longer(best, current);
+                    current.setLength(0);
+                    i = skipCharacterClass(regex, i);
+                    if (i < 0) {
+                        break scan;
+                    }
+                    continue;
+                }
+                case '(':
+                    // Groups may contain alternatives or be optional
+                    break scan;
+                case '|':
+                    // Outside of groups, no literal is required by all alternatives
+                    return null;
+                default:
+                    if (META_CHARACTERS.indexOf(c) >= 0) {
+                        best = longer(best, current);
+                        current.setLength(0);
+                    } else {
+                        current.append(c);
+                    }
+                    i++;
+            }
+        }
+        best = longer(best, current);
+        return best.isEmpty() ? null : best;
+    }
+
+    private static String longer(String best, CharSequence current) {
+        return current.length() > best.length() ? current.toString() : best;
+    }
+
+    /**
+     * Returns true if a quantifier, that allows zero occurrences, starts at the given index.
+     */
+    private static boolean isOptionalQuantifier(String regex, int index) {
+        if (index >= regex.length()) {
+            return false;
+        }
+        char c = regex.charAt(index);
+        if (c == '?' || c == '*') {
+            return true;
+        }
+        if (c == '{') {
+            int end = regex.indexOf('}', index);
+            String min = (end < 0 ? regex.substring(index + 1) : regex.substring(index + 1, end)).split(",")[0];
+            return min.isBlank() || min.trim().chars().allMatch(d -> d == '0');
+        }
+        return false;
+    }
+
+    private static int skipQuantifier(String regex, int index) {
+        int i = index;
+        if (regex.charAt(i) == '{') {
+            int end = regex.indexOf('}', i);
+            i = end < 0 ? regex.length() : end + 1;
+        } else {
+            i++;
+        }
+        // Reluctant and possessive quantifiers
+        if (i < regex.length() && (regex.charAt(i) == '?' || regex.charAt(i) == '+')) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Returns the index after the character class starting at the given index or -1 if it cannot be determined.
+     */
+    private static int skipCharacterClass(String regex, int index) {
+        int depth = 0;
+        int i = index;
+        while (i < regex.length()) {
+            char c = regex.charAt(i);
+            if (c == '\\') {
+                i += 2;
+                continue;
+            }
+            if (c == '[') {
+                depth++;
+            } else if (c == ']' && i > index + 1 && !(i == index + 2 && regex.charAt(index + 1) == '^')) {
+                depth--;
+                if (depth == 0) {
+                    return i + 1;
+                }
+            }
+            i++;
+        }
+        return -1;
+    }
+}
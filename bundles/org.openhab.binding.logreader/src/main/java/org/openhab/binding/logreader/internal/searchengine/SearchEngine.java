@@ -13,6 +13,7 @@
 package org.openhab.binding.logreader.internal.searchengine;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -24,16 +25,65 @@ import org.eclipse.jdt.annotation.Nullable;
 /**
  * This class implements logic for regular expression based searching.
  *
+ * The literals required by the search patterns are searched first with a single pass over the data, only patterns
+ * whose literal is found are evaluated. Not thread safe, all data is expected to be handled by a single thread.
+ *
  * @author Pauli Anttila - Initial contribution
+ * @author atje - Literal prefilter
  */
 @NonNullByDefault
 public class SearchEngine {
 
-    private List<Pattern> matchers;
-    private List<Pattern> blacklistingMatchers;
+    private PatternSet matchers;
+    private PatternSet blacklistingMatchers;
 
     private long matchCount;
 
+    /**
+     * Precompiled patterns with reusable matchers and the prefilter of their required literals.
+     */
+    private static class PatternSet {
+        private final Matcher[] matchers;
+        private final int[] literalIds;
+        private final @Nullable LiteralPrefilter prefilter;
+        private final BitSet foundLiterals = new BitSet();
+
+        PatternSet(List<Pattern> patterns) {
+            matchers = new Matcher[patterns.size()];
+            literalIds = new int[patterns.size()];
+            List<String> literals = new ArrayList<>();
+            for (int i = 0; i < patterns.size(); i++) {
+                Pattern pattern = patterns.get(i);
+                matchers[i] = pattern.matcher("");
+                String literal = LiteralPrefilter.requiredLiteral(pattern.pattern());
+                if (literal != null) {
+                    literalIds[i] = literals.size();
+                    literals.add(literal);
+                } else {
+                    literalIds[i] = -1;
+                }
+            }
+            prefilter = literals.isEmpty() ? null : new LiteralPrefilter(literals);
+        }
+
+        boolean isMatching(String data) {
+            LiteralPrefilter prefilter = this.prefilter;
+            if (prefilter != null) {
+                prefilter.scan(data, foundLiterals);
+            }
+            for (int i = 0; i < matchers.length; i++) {
+                int literalId = literalIds[i];
+                if (literalId >= 0 && !foundLiterals.get(literalId)) {
+                    continue;
+                }
+                if (matchers[i].reset(data).find()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
     /**
      * Initialize search patterns.
      *
@@ -42,8 +92,8 @@ public class SearchEngine {
      *
      */
     public SearchEngine(String patterns, @Nullable String blacklistingPatterns) throws PatternSyntaxException {
-        matchers = compilePatterns(patterns);
-        blacklistingMatchers = compilePatterns(blacklistingPatterns);
+        matchers = new PatternSet(compilePatterns(patterns));
+        blacklistingMatchers = new PatternSet(compilePatterns(blacklistingPatterns));
     }
 
     /**
@@ -53,7 +103,7 @@ public class SearchEngine {
      * @return true if one of the search patterns found.
      */
     public boolean isMatching(String data) {
-        if (isMatching(matchers, data)) {
+        if (matchers.isMatching(data)) {
             if (notBlacklisted(data)) {
                 matchCount++;
                 return true;
@@ -94,18 +144,6 @@ public class SearchEngine {
     }
 
     private boolean notBlacklisted(String data) {
-        return !isMatching(blacklistingMatchers, data);
-    }
-
-    private boolean isMatching(@Nullable List<Pattern> patterns, String data) {
-        if (patterns != null) {
-            for (Pattern pattern : patterns) {
-                Matcher matcher = pattern.matcher(data);
-                if (matcher.find()) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return !blacklistingMatchers.isMatching(data);
     }
 }
@@ -0,0 +1,233 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.logreader.internal.filereader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openhab.binding.logreader.internal.filereader.api.FileReaderException;
+import org.openhab.binding.logreader.internal.filereader.api.FileReaderListener;
+
+/**
+ * Tests for {@link MultiFileTailer}.
+ *
+ * @author atje - Initial contribution
+ */
+@NonNullByDefault
+public class MultiFileTailerTest {
+
+    private static final long REFRESH_RATE = 20;
+    private static final long TIMEOUT_MS = 5000;
+    private static final String ROTATED = "<rotated>";
+
+    private final MultiFileTailer multiFileTailer = new MultiFileTailer();
+
+    @TempDir
+    @Nullable
+    Path tempDir;
+
+    /**
+     * Collects the lines and rotations of a reader, missing files are ignored as they are reported on every check.
+     */
+    private static class Events implements FileReaderListener {
+        final BlockingQueue<String> queue = new LinkedBlockingQueue<>();
+
+        @Override
+        public void fileNotFound() {
+        }
+
+        @Override
+        public void fileRotated() {
+            queue.add(ROTATED);
+        }
+
+        @Override
+        public void handle(@Nullable String line) {
+            queue.add(String.valueOf(line));
+        }
+
+        @Override
+        public void handle(@Nullable Exception ex) {
+            queue.add("<exception " + ex + ">");
+        }
+
+        String next() throws InterruptedException {
+            String event = queue.poll(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            assertNotNull(event, "no event received");
+            return event;
+        }
+
+        void assertNoEvent() throws InterruptedException {
+            assertNull(queue.poll(10 * REFRESH_RATE, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    @AfterEach
+    public void tearDown() {
+        multiFileTailer.shutdown();
+    }
+
+    private Path file(String name) {
+        Path dir = tempDir;
+        assertNotNull(dir);
+        return dir.resolve(name);
+    }
+
+    private Events start(FileTailer reader, Path file) throws FileReaderException {
+        Events events = new Events();
+        reader.registerListener(events);
+        reader.start(file.toString(), REFRESH_RATE);
+        return events;
+    }
+
+    private static void append(Path file, String data) throws IOException {
+        Files.write(file, data.getBytes(Charset.defaultCharset()), StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND);
+    }
+
+    @Test
+    public void appendedLinesAreDelivered() throws Exception {
+        Path log = file("app.log");
+        append(log, "existing line\n");
+        Events events = start(new FileTailer(multiFileTailer), log);
+
+        append(log, "first\nsecond\r\n");
+        assertEquals("first", events.next());
+        assertEquals("second", events.next());
+        events.assertNoEvent();
+    }
+
+    @Test
+    public void fileCreatedLaterIsReadFromItsEnd() throws Exception {
+        Path log = file("later.log");
+        Events events = start(new FileTailer(multiFileTailer), log);
+
+        // create the file with its content at once, so the tailer can't see it empty
+        Path created = file("later.tmp");
+        append(created, "before\n");
+        Files.move(created, log, StandardCopyOption.ATOMIC_MOVE);
+        events.assertNoEvent();
+        append(log, "after\n");
+        assertEquals("after", events.next());
+    }
+
+    @Test
+    public void incompleteLineIsHeldBack() throws Exception {
+        Path log = file("app.log");
+        append(log, "");
+        Events events = start(new FileTailer(multiFileTailer), log);
+
+        append(log, "par");
+        events.assertNoEvent();
+        append(log, "tial\n");
+        assertEquals("partial", events.next());
+    }
+
+    @Test
+    public void truncatedFileIsReadFromTheBeginning() throws Exception {
+        Path log = file("app.log");
+        append(log, "");
+        Events events = start(new FileTailer(multiFileTailer), log);
+        append(log, "a long line before the rotation\n");
+        assertEquals("a long line before the rotation", events.next());
+
+        Files.write(log, "new\n".getBytes(Charset.defaultCharset()), StandardOpenOption.TRUNCATE_EXISTING);
+        assertEquals(ROTATED, events.next());
+        assertEquals("new", events.next());
+    }
+
+    @Test
+    public void movedAndRecreatedFileIsReadFromTheBeginning() throws Exception {
+        Path log = file("app.log");
+        append(log, "");
+        Events events = start(new FileTailer(multiFileTailer), log);
+        append(log, "old\n");
+        assertEquals("old", events.next());
+
+        Files.move(log, file("app.log.1"));
+        append(log, "a line longer than the old content\n");
+        assertEquals(ROTATED, events.next());
+        assertEquals("a line longer than the old content", events.next());
+
+        append(file("app.log.1"), "late write to the old file\n");
+        append(log, "next\n");
+        assertEquals("next", events.next());
+    }
+
+    @Test
+    public void filesAreTailedIndependently() throws Exception {
+        Path log1 = file("one.log");
+        Path log2 = file("two.log");
+        append(log1, "");
+        append(log2, "");
+        Events events1 = start(new FileTailer(multiFileTailer), log1);
+        Events events2 = start(new FileTailer(multiFileTailer), log2);
+
+        append(log1, "to one\n");
+        append(log2, "to two\n");
+        assertEquals("to one", events1.next());
+        assertEquals("to two", events2.next());
+        events1.assertNoEvent();
+        events2.assertNoEvent();
+    }
+
+    @Test
+    public void readersOfTheSameFileReceiveAllLines() throws Exception {
+        Path log = file("app.log");
+        append(log, "");
+        FileTailer reader1 = new FileTailer(multiFileTailer);
+        Events events1 = start(reader1, log);
+        Events events2 = start(new FileTailer(multiFileTailer), log);
+
+        append(log, "shared\n");
+        assertEquals("shared", events1.next());
+        assertEquals("shared", events2.next());
+
+        reader1.stop();
+        append(log, "only two\n");
+        assertEquals("only two", events2.next());
+        events1.assertNoEvent();
+    }
+
+    @Test
+    public void tailingRestartsAfterAllReadersStopped() throws Exception {
+        Path log = file("app.log");
+        append(log, "");
+        FileTailer reader = new FileTailer(multiFileTailer);
+        Events events = start(reader, log);
+        append(log, "first\n");
+        assertEquals("first", events.next());
+
+        reader.stop();
+        append(log, "while stopped\n");
+        reader.start(log.toString(), REFRESH_RATE);
+        events.assertNoEvent();
+
+        append(log, "restarted\n");
+        assertEquals("restarted", events.next());
+    }
+}
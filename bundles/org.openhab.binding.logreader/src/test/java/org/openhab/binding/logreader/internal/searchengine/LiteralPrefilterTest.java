@@ -0,0 +1,191 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.logreader.internal.searchengine;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link LiteralPrefilter}.
+ *
+ * @author atje - Initial contribution
+ */
+@NonNullByDefault
+public class LiteralPrefilterTest {
+
+    private static final List<String> PATTERNS = List.of("ERROR", ".*Exception.*", "Conn(ect|ection) refused",
+            "[Ww]arn(ing)?", "time(out)? after \\d+ ms", "\\[main\\] INFO", "\\Q*.log\\E", "(?i)fatal", "item \\w+ ?",
+            "colou?r", "x{0,2}yz", "ab+c", "\\d{3}-\\d{4}", "^Start.*end$", "a\\.b", "caf\u00E9", "\uD83D\uDE00?ok",
+            "[^a]]bc", "retry( \\d+)? of 5", "value [<>]=? 10");
+
+    private static final List<String> LINES = List.of("2021-01-01 ERROR something failed",
+            "java.lang.IllegalStateException: boom", "Connection refused", "Connect refused", "warn: low battery",
+            "Warning: disk", "timeout after 100 ms", "time after 5 ms", "[main] INFO started", "rotated app*.log",
+            "FATAL: shutdown", "item Switch1", "color", "colour", "colr", "yz", "xxyz", "abbbc", "ac", "555-1234",
+            "Start of the end", "a.b", "axb", "caf\u00E9 open", "ok", "\uD83D\uDE00ok", "b]bc", "retry 3 of 5",
+            "retry of 5", "value <= 10", "value > 10", "", "nothing to see here");
+
+    @Test
+    public void plainLiteralIsRequired() {
+        assertEquals("ERROR", LiteralPrefilter.requiredLiteral("ERROR"));
+        assertEquals("Exception", LiteralPrefilter.requiredLiteral(".*Exception.*"));
+        assertEquals("Start", LiteralPrefilter.requiredLiteral("^Start.*end$"));
+        assertNull(LiteralPrefilter.requiredLiteral(".*"));
+        assertNull(LiteralPrefilter.requiredLiteral(""));
+    }
+
+    @Test
+    public void quantifiedCharacterIsOptional() {
+        assertEquals("colo", LiteralPrefilter.requiredLiteral("colou?r"));
+        assertEquals("ab", LiteralPrefilter.requiredLiteral("abc*"));
+        assertEquals("ab", LiteralPrefilter.requiredLiteral("abc{0,2}"));
+        assertEquals("abc", LiteralPrefilter.requiredLiteral("abc{2}"));
+        assertEquals("abc", LiteralPrefilter.requiredLiteral("abc+"));
+        assertEquals("a", LiteralPrefilter.requiredLiteral("ab??"));
+        assertEquals("ab", LiteralPrefilter.requiredLiteral("abc*+"));
+        assertEquals("yz", LiteralPrefilter.requiredLiteral("x{0,2}yz"));
+    }
+
+    @Test
+    public void supplementaryCharacterIsRemovedCompletely() {
+        assertEquals("ok", LiteralPrefilter.requiredLiteral("\uD83D\uDE00?ok"));
+        assertEquals("x", LiteralPrefilter.requiredLiteral("x\uD83D\uDE00?"));
+        assertEquals("x\uD83D\uDE00", LiteralPrefilter.requiredLiteral("x\uD83D\uDE00+"));
+    }
+
+    @Test
+    public void alternationHasNoRequiredLiteral() {
+        assertNull(LiteralPrefilter.requiredLiteral("foobar|baz"));
+        assertNull(LiteralPrefilter.requiredLiteral("foo|"));
+        assertEquals("Conn", LiteralPrefilter.requiredLiteral("Conn(ect|ection) refused"));
+        assertEquals("a|b", LiteralPrefilter.requiredLiteral("\\Qa|b\\E"));
+        assertEquals("x", LiteralPrefilter.requiredLiteral("x[a|b]"));
+    }
+
+    @Test
+    public void groupsEndTheAnalysis() {
+        assertEquals("start", LiteralPrefilter.requiredLiteral("start(middle)?end"));
+        assertNull(LiteralPrefilter.requiredLiteral("(optional)?end"));
+        assertEquals("time", LiteralPrefilter.requiredLiteral("time(out)? after \\d+ ms"));
+        assertEquals("retry", LiteralPrefilter.requiredLiteral("retry( \\d+)? of 5"));
+    }
+
+    @Test
+    public void escapesAreLiterals() {
+        assertEquals("a.b", LiteralPrefilter.requiredLiteral("a\\.b"));
+        assertEquals("[main] INFO", LiteralPrefilter.requiredLiteral("\\[main\\] INFO"));
+        assertEquals("*.log", LiteralPrefilter.requiredLiteral("\\Q*.log\\E"));
+        assertEquals("a", LiteralPrefilter.requiredLiteral("\\Qab\\E?"));
+        assertEquals("path\\to", LiteralPrefilter.requiredLiteral("path\\\\to"));
+        assertEquals(" items", LiteralPrefilter.requiredLiteral("\\d+ items"));
+        assertEquals("abc", LiteralPrefilter.requiredLiteral("abc\\x41defg"));
+        assertEquals("name", LiteralPrefilter.requiredLiteral("name\\p{Lu}xxxxx"));
+        assertEquals("ab", LiteralPrefilter.requiredLiteral("ab\\.?"));
+    }
+
+    @Test
+    public void characterClassesAreSkipped() {
+        assertEquals("rror", LiteralPrefilter.requiredLiteral("[Ee]rror"));
+        assertEquals("bc", LiteralPrefilter.requiredLiteral("[^a]]bc"));
+        assertEquals("def", LiteralPrefilter.requiredLiteral("[]a]def"));
+        assertEquals("xyz", LiteralPrefilter.requiredLiteral("[a-z&&[^b]]xyz"));
+        assertEquals("ab", LiteralPrefilter.requiredLiteral("ab[cd]?ef"));
+        assertNull(LiteralPrefilter.requiredLiteral("[abc"));
+    }
+
+    @Test
+    public void flagsHaveNoRequiredLiteral() {
+        assertNull(LiteralPrefilter.requiredLiteral("(?i)fatal"));
+        assertNull(LiteralPrefilter.requiredLiteral("fatal(?i)error"));
+        assertNull(LiteralPrefilter.requiredLiteral("(?x) a b c"));
+    }
+
+    @Test
+    public void scanFindsOverlappingLiterals() {
+        LiteralPrefilter prefilter = new LiteralPrefilter(List.of("he", "she", "his", "hers", "caf\u00E9"));
+        BitSet found = new BitSet();
+
+        prefilter.scan("ushers", found);
+        assertEquals(BitSet.valueOf(new long[] { 0b01011 }), found);
+
+        prefilter.scan("this caf\u00E9", found);
+        assertEquals(BitSet.valueOf(new long[] { 0b10100 }), found);
+
+        prefilter.scan("nothing", found);
+        assertTrue(found.isEmpty());
+    }
+
+    @Test
+    public void requiredLiteralIsInEveryMatch() {
+        for (String regex : PATTERNS) {
+            Pattern pattern = Pattern.compile(regex);
+            String literal = LiteralPrefilter.requiredLiteral(regex);
+            for (String line : LINES) {
+                if (literal != null && pattern.matcher(line).find()) {
+                    assertTrue(line.contains(literal),
+                            "'" + line + "' matches '" + regex + "' but doesn't contain '" + literal + "'");
+                }
+            }
+        }
+    }
+
+    @Test
+    public void prefilterAgreesWithRegularExpressions() {
+        List<String> literals = new ArrayList<>();
+        for (String regex : PATTERNS) {
+            String literal = LiteralPrefilter.requiredLiteral(regex);
+            if (literal != null) {
+                literals.add(literal);
+            }
+        }
+        LiteralPrefilter prefilter = new LiteralPrefilter(literals);
+        BitSet found = new BitSet();
+        for (String line : LINES) {
+            prefilter.scan(line, found);
+            for (int i = 0; i < literals.size(); i++) {
+                assertEquals(line.contains(literals.get(i)), found.get(i), "'" + literals.get(i) + "' in " + line);
+            }
+        }
+    }
+
+    @Test
+    public void searchEngineAgreesWithRegularExpressions() {
+        // the search engine splits the configuration at every '|'
+        String patterns = String.join("|",
+                PATTERNS.stream().filter(regex -> regex.indexOf('|') < 0).collect(Collectors.toList()));
+        String blacklist = "rotated|Switch\\d";
+        SearchEngine searchEngine = new SearchEngine(patterns, blacklist);
+        List<Pattern> compiled = new ArrayList<>();
+        for (String regex : patterns.split("\\|")) {
+            compiled.add(Pattern.compile(regex));
+        }
+        List<Pattern> blacklisted = List.of(Pattern.compile("rotated"), Pattern.compile("Switch\\d"));
+
+        int matchCount = 0;
+        for (String line : LINES) {
+            boolean expected = compiled.stream().anyMatch(p -> p.matcher(line).find())
+                    && blacklisted.stream().noneMatch(p -> p.matcher(line).find());
+            assertEquals(expected, searchEngine.isMatching(line), line);
+            matchCount += expected ? 1 : 0;
+        }
+        assertEquals(matchCount, searchEngine.getMatchCount());
+    }
+}
@@ -19,6 +19,7 @@ import java.net.UnknownHostException;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -74,6 +75,8 @@ public class LxServerHandler extends BaseThingHandler implements LxServerHandler
 
     private static final String SOCKET_URL = "/ws/rfc6455";
     private static final String CMD_CFG_API = "jdev/cfg/apiKey";
+    // size of an entry in a value states table: 16-byte UUID and 8-byte double value
+    private static final int VALUE_STATE_SIZE = 24;
 
     private static final Gson GSON;
 
@@ -88,6 +91,8 @@ public class LxServerHandler extends BaseThingHandler implements LxServerHandler
     // the state. It must be ensured that updates received for this state UUID are passed to all controls that have this
     // state UUID configured.
     private Map<LxUuid, Map<LxUuid, LxState>> states = new HashMap<>();
+    // Lookup table of the states map by binary UUID, built on demand when a value states table is received
+    private volatile LxStateTable stateTable;
 
     private LxWebSocket socket;
     private WebSocketClient wsClient;
@@ -276,6 +281,7 @@ public class LxServerHandler extends BaseThingHandler implements LxServerHandler
                 }
             }
         });
+        stateTable = null;
 
         ThingBuilder builder = editThing();
         control.getChannels().forEach(channel -> {
@@ -370,6 +376,7 @@ public class LxServerHandler extends BaseThingHandler implements LxServerHandler
         controls.clear();
         channels.clear();
         states.clear();
+        stateTable = null;
         dynamicStateDescriptionProvider.removeAllDescriptions();
     }
 
@@ -471,6 +478,17 @@ public class LxServerHandler extends BaseThingHandler implements LxServerHandler
         stateUpdateQueue.add(new LxStateUpdate(uuid, value));
     }
 
+    /**
+     * Put a table of value state updates to the queue for processing in bulk and signal thread to process it
+     *
+     * @param data buffer with the value states table received from the Miniserver
+     * @param offset offset of the table in the buffer
+     * @param length length of the table
+     */
+    void queueValueStateUpdates(byte[] data, int offset, int length) {
+        stateUpdateQueue.add(new LxStateUpdate(Arrays.copyOfRange(data, offset, offset + length)));
+    }
+
     /**
      * Update to the new value of a state received from Miniserver. This method will go through all instances of this
      * state UUID and update their value, which will trigger corresponding control state update method in each control
@@ -495,6 +513,40 @@ public class LxServerHandler extends BaseThingHandler implements LxServerHandler
         }
     }
 
+    /**
+     * Update the values of all states in a value states table received from Miniserver. The states are looked up by
+     * their binary UUID in a table, that is built once after the states configuration has changed.
+     *
+     * @param valueTable value states table, a sequence of 24-byte entries (UUID and double value)
+     */
+    private void updateStateValues(byte[] valueTable) {
+        LxStateTable table = stateTable;
+        if (table == null) {
+            table = new LxStateTable(states);
+            stateTable = table;
+            logger.debug("[{}] Built state table with {} state UUIDs", debugId, table.size());
+        }
+        int unknown = 0;
+        for (int offset = 0; offset + VALUE_STATE_SIZE <= valueTable.length; offset += VALUE_STATE_SIZE) {
+            LxState[] perStateUuid = table.get(LxUuid.getMostSigBits(valueTable, offset),
+                    LxUuid.getLeastSigBits(valueTable, offset));
+            if (perStateUuid == null) {
+                unknown++;
+                continue;
+            }
+            long bits = 0;
+            for (int i = offset + VALUE_STATE_SIZE - 1; i >= offset + 16; i--) {
+                bits = bits << 8 | (valueTable[i] & 0xFFL);
+            }
+            double value = Double.longBitsToDouble(bits);
+            for (LxState state : perStateUuid) {
+                state.setStateValue(value);
+            }
+        }
+        logger.debug("[{}] Value states table with {} states processed, {} without controls", debugId,
+                valueTable.length / VALUE_STATE_SIZE, unknown);
+    }
+
     /**
      * Add a new control, its states, subcontrols and channels to the handler structures.
      * Handler maintains maps of all controls (main controls + subcontrols), all channels for all controls and all
@@ -516,6 +568,7 @@ public class LxServerHandler extends BaseThingHandler implements LxServerHandler
             }
             perUuid.put(uuid, state);
         });
+        stateTable = null;
         controls.put(control.getUuid(), control);
         control.getChannels().forEach(channel -> channels.put(channel.getUID(), control));
         control.getSubControls().values().forEach(subControl -> addControlStructures(subControl));
@@ -710,7 +763,11 @@ public class LxServerHandler extends BaseThingHandler implements LxServerHandler
                     elapsed = 0;
                 }
                 if (update != null) {
-                    updateStateValue(update);
+                    if (update.getValueTable() != null) {
+                        updateStateValues(update.getValueTable());
+                    } else {
+                        updateStateValue(update);
+                    }
                 }
             }
         }
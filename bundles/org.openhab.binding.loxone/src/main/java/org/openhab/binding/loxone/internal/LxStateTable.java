@@ -0,0 +1,90 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.loxone.internal;
+
+import java.util.Comparator;
+import java.util.Map;
+
+import org.openhab.binding.loxone.internal.types.LxState;
+import org.openhab.binding.loxone.internal.types.LxUuid;
+
+/**
+ * Lookup table of states by binary UUID, used to apply value state tables received from the Miniserver without
+ * creating {@link LxUuid} objects for each entry.
+ * <p>
+ * The table is a snapshot of the state map of the {@link LxServerHandler} and must be rebuilt when that map changes.
+ * Entries are sorted by the two 64-bit halves of the UUID and looked up with a binary search.
+ *
+ * @author atje - Initial contribution
+ *
+ */
+class LxStateTable {
+    private final long[] mostSigBits;
+    private final long[] leastSigBits;
+    private final LxState[][] states;
+
+    /**
+     * Create a lookup table from a map of state UUIDs to the states of all controls with that state UUID.
+     *
+     * @param stateMap map of state UUID to a map of control UUID and state objects
+     */
+    LxStateTable(Map<LxUuid, Map<LxUuid, LxState>> stateMap) {
+        LxUuid[] uuids = stateMap.keySet().stream().filter(LxUuid::isBinary)
+                .sorted(Comparator.comparingLong(LxUuid::getMostSigBits).thenComparingLong(LxUuid::getLeastSigBits))
+                .toArray(LxUuid[]::new);
+        mostSigBits = new long[uuids.length];
+        leastSigBits = new long[uuids.length];
+        states = new LxState[uuids.length][];
+        for (int i = 0; i < uuids.length; i++) {
+            mostSigBits[i] = uuids[i].getMostSigBits();
+            leastSigBits[i] = uuids[i].getLeastSigBits();
+            states[i] = stateMap.get(uuids[i]).values().toArray(new LxState[0]);
+        }
+    }
+
+    /**
+     * Get all states with a binary UUID.
+     *
+     * @param msb most significant bits of the UUID
+     * @param lsb least significant bits of the UUID
+     * @return states of all controls with this state UUID or null if the UUID is not known
+     */
+    LxState[] get(long msb, long lsb) {
+        int low = 0;
+        int high = mostSigBits.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = Long.compare(mostSigBits[mid], msb);
+            if (cmp == 0) {
+                cmp = Long.compare(leastSigBits[mid], lsb);
+            }
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return states[mid];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get number of state UUIDs in the table.
+     *
+     * @return number of state UUIDs
+     */
+    int size() {
+        return mostSigBits.length;
+    }
+}
@@ -238,13 +238,7 @@ public class LxWebSocket {
                 switch (header.getType()) {
                     case EVENT_TABLE_OF_VALUE_STATES:
                         stopResponseTimeout();
-                        while (length > 0) {
-                            Double value = ByteBuffer.wrap(data, offset + 16, 8).order(ByteOrder.LITTLE_ENDIAN)
-                                    .getDouble();
-                            thingHandler.queueStateUpdate(new LxUuid(data, offset), value);
-                            offset += 24;
-                            length -= 24;
-                        }
+                        thingHandler.queueValueStateUpdates(data, offset, length);
                         break;
                     case EVENT_TABLE_OF_TEXT_STATES:
                         while (length > 0) {
@@ -72,6 +72,18 @@ public class LxState {
         }
     }
 
+    /**
+     * Sets current numeric value of the control's state. The value is only boxed if it differs from the current one.
+     *
+     * @param value current state's value to set
+     */
+    public void setStateValue(double value) {
+        if (stateValue instanceof Double && Double.compare((Double) stateValue, value) == 0) {
+            return;
+        }
+        setStateValue(Double.valueOf(value));
+    }
+
     /**
      * Gets current value of the control's state
      *
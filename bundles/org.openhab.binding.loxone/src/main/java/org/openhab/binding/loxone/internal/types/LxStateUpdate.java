@@ -22,10 +22,24 @@ package org.openhab.binding.loxone.internal.types;
 public class LxStateUpdate {
     private final LxUuid uuid;
     private final Object value;
+    private final byte[] valueTable;
 
     public LxStateUpdate(LxUuid uuid, Object value) {
         this.uuid = uuid;
         this.value = value;
+        this.valueTable = null;
+    }
+
+    /**
+     * Create an update event for a whole table of value states, which is applied in bulk.
+     *
+     * @param valueTable content of a value states event table, a sequence of 24-byte entries (16-byte UUID followed
+     *            by an 8-byte double value)
+     */
+    public LxStateUpdate(byte[] valueTable) {
+        this.uuid = null;
+        this.value = null;
+        this.valueTable = valueTable;
     }
 
     public LxUuid getUuid() {
@@ -35,4 +49,13 @@ public class LxStateUpdate {
     public Object getValue() {
         return value;
     }
+
+    /**
+     * Gets the value states table of this event.
+     *
+     * @return value states table or null if this event is a single state update
+     */
+    public byte[] getValueTable() {
+        return valueTable;
+    }
 }
@@ -13,8 +13,6 @@
 package org.openhab.binding.loxone.internal.types;
 
 import java.lang.reflect.Type;
-import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 
 import com.google.gson.JsonDeserializationContext;
 import com.google.gson.JsonDeserializer;
@@ -31,8 +29,16 @@ import com.google.gson.JsonParseException;
  *
  */
 public class LxUuid {
-    private final String uuid;
-    private final String uuidOriginal;
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    // binary representation of the UUID, valid only if binary is true
+    private final long mostSigBits;
+    private final long leastSigBits;
+    private final boolean binary;
+
+    // created on demand for UUIDs received in binary form
+    private String uuid;
+    private String uuidOriginal;
 
     public static final JsonDeserializer<LxUuid> DESERIALIZER = new JsonDeserializer<LxUuid>() {
         @Override
@@ -54,21 +60,125 @@ public class LxUuid {
     public LxUuid(String uuid) {
         uuidOriginal = uuid;
         this.uuid = init(uuid);
+        long msb = 0;
+        long lsb = 0;
+        boolean valid = this.uuid.length() == 35 && this.uuid.charAt(8) == '-' && this.uuid.charAt(13) == '-'
+                && this.uuid.charAt(18) == '-';
+        for (int i = 0; i < 35 && valid; i++) {
+            if (i == 8 || i == 13 || i == 18) {
+                continue;
+            }
+            int digit = Character.digit(this.uuid.charAt(i), 16);
+            if (digit < 0) {
+                valid = false;
+            } else if (i < 18) {
+                msb = (msb << 4) | digit;
+            } else {
+                lsb = (lsb << 4) | digit;
+            }
+        }
+        binary = valid;
+        mostSigBits = valid ? msb : 0;
+        leastSigBits = valid ? lsb : 0;
     }
 
+    /**
+     * Create a new {@link LxUuid} object from its binary representation in a Miniserver's binary message.
+     *
+     * @param data buffer with the binary message
+     * @param offset offset of the UUID in the buffer
+     */
     public LxUuid(byte data[], int offset) {
-        String id = String.format("%08x-%04x-%04x-%02x%02x%02x%02x%02x%02x%02x%02x",
-                ByteBuffer.wrap(data, offset, 4).order(ByteOrder.LITTLE_ENDIAN).getInt(),
-                ByteBuffer.wrap(data, offset + 4, 2).order(ByteOrder.LITTLE_ENDIAN).getShort(),
-                ByteBuffer.wrap(data, offset + 6, 2).order(ByteOrder.LITTLE_ENDIAN).getShort(), data[offset + 8],
-                data[offset + 9], data[offset + 10], data[offset + 11], data[offset + 12], data[offset + 13],
-                data[offset + 14], data[offset + 15]);
-        uuidOriginal = id;
-        this.uuid = init(id);
+        this(getMostSigBits(data, offset), getLeastSigBits(data, offset));
+    }
+
+    /**
+     * Create a new {@link LxUuid} object from its two 64-bit halves.
+     *
+     * @param mostSigBits first 8 bytes of the UUID (data1, data2 and data3 fields)
+     * @param leastSigBits last 8 bytes of the UUID (data4 field)
+     */
+    public LxUuid(long mostSigBits, long leastSigBits) {
+        this.mostSigBits = mostSigBits;
+        this.leastSigBits = leastSigBits;
+        this.binary = true;
+    }
+
+    /**
+     * Reads the first 8 bytes of a binary UUID (little endian data1, data2 and data3 fields) into a long.
+     *
+     * @param data buffer with the binary message
+     * @param offset offset of the UUID in the buffer
+     * @return most significant bits of the UUID
+     */
+    public static long getMostSigBits(byte data[], int offset) {
+        long data1 = (data[offset] & 0xFFL) | (data[offset + 1] & 0xFFL) << 8 | (data[offset + 2] & 0xFFL) << 16
+                | (data[offset + 3] & 0xFFL) << 24;
+        long data2 = (data[offset + 4] & 0xFFL) | (data[offset + 5] & 0xFFL) << 8;
+        long data3 = (data[offset + 6] & 0xFFL) | (data[offset + 7] & 0xFFL) << 8;
+        return data1 << 32 | data2 << 16 | data3;
+    }
+
+    /**
+     * Reads the last 8 bytes of a binary UUID (data4 field, in order of transmission) into a long.
+     *
+     * @param data buffer with the binary message
+     * @param offset offset of the UUID in the buffer
+     * @return least significant bits of the UUID
+     */
+    public static long getLeastSigBits(byte data[], int offset) {
+        long bits = 0;
+        for (int i = offset + 8; i < offset + 16; i++) {
+            bits = bits << 8 | (data[i] & 0xFFL);
+        }
+        return bits;
     }
 
     private String init(String uuid) {
-        return uuidOriginal.replaceAll("[^a-zA-Z0-9-]", "-").toUpperCase();
+        return uuid.replaceAll("[^a-zA-Z0-9-]", "-").toUpperCase();
+    }
+
+    private String format() {
+        char[] chars = new char[35];
+        int pos = 0;
+        for (int shift = 60; shift >= 0; shift -= 4) {
+            if (shift == 28 || shift == 12) {
+                chars[pos++] = '-';
+            }
+            chars[pos++] = HEX_DIGITS[(int) (mostSigBits >>> shift) & 0xF];
+        }
+        chars[pos++] = '-';
+        for (int shift = 60; shift >= 0; shift -= 4) {
+            chars[pos++] = HEX_DIGITS[(int) (leastSigBits >>> shift) & 0xF];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Checks if the UUID has the binary format used by the Miniserver's state update messages.
+     *
+     * @return true if {@link #getMostSigBits()} and {@link #getLeastSigBits()} represent the UUID
+     */
+    public boolean isBinary() {
+        return binary;
+    }
+
+    /**
+     * Returns the first 8 bytes of a binary UUID.
+     *
+     * @return most significant bits of the UUID
+     */
+    public long getMostSigBits() {
+        return mostSigBits;
+    }
+
+    /**
+     * Returns the last 8 bytes of a binary UUID.
+     *
+     * @return least significant bits of the UUID
+     */
+    public long getLeastSigBits() {
+        return leastSigBits;
     }
 
     @Override
@@ -83,16 +193,25 @@ public class LxUuid {
             return false;
         }
         LxUuid id = (LxUuid) o;
+        if (binary || id.binary) {
+            return binary == id.binary && mostSigBits == id.mostSigBits && leastSigBits == id.leastSigBits;
+        }
         return uuid.equals(id.uuid);
     }
 
     @Override
     public int hashCode() {
+        if (binary) {
+            return Long.hashCode(mostSigBits ^ leastSigBits);
+        }
         return uuid.hashCode();
     }
 
     @Override
     public String toString() {
+        if (uuid == null) {
+            uuid = format().toUpperCase();
+        }
         return uuid;
     }
 
@@ -102,6 +221,9 @@ public class LxUuid {
      * @return original string for the UUID
      */
     public String getOriginalString() {
+        if (uuidOriginal == null) {
+            uuidOriginal = format();
+        }
         return uuidOriginal;
     }
 }
@@ -0,0 +1,61 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.loxone.internal.types;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link LxUuid}
+ *
+ * @author atje - Initial contribution
+ *
+ */
+public class LxUuidTest {
+    // binary representation of 0b734138-033e-02d4-ffff403fb0c34b9e as sent in a value states table
+    private static final byte[] BINARY_UUID = { 0x00, 0x00, 0x38, 0x41, 0x73, 0x0b, 0x3e, 0x03, (byte) 0xd4, 0x02,
+            (byte) 0xff, (byte) 0xff, 0x40, 0x3f, (byte) 0xb0, (byte) 0xc3, 0x4b, (byte) 0x9e };
+
+    @Test
+    public void testBinaryUuidEqualsStringUuid() {
+        LxUuid binary = new LxUuid(BINARY_UUID, 2);
+        LxUuid string = new LxUuid("0b734138-033e-02d4-ffff403fb0c34b9e");
+
+        assertTrue(binary.isBinary());
+        assertTrue(string.isBinary());
+        assertEquals(string, binary);
+        assertEquals(string.hashCode(), binary.hashCode());
+        assertEquals("0B734138-033E-02D4-FFFF403FB0C34B9E", binary.toString());
+        assertEquals("0b734138-033e-02d4-ffff403fb0c34b9e", binary.getOriginalString());
+        assertEquals(binary.getMostSigBits(), LxUuid.getMostSigBits(BINARY_UUID, 2));
+        assertEquals(binary.getLeastSigBits(), LxUuid.getLeastSigBits(BINARY_UUID, 2));
+    }
+
+    @Test
+    public void testStringUuidIsCaseInsensitive() {
+        assertEquals(new LxUuid("0B734138-033E-02D4-FFFF403FB0C34B9E"),
+                new LxUuid("0b734138-033e-02d4-ffff403fb0c34b9e"));
+    }
+
+    @Test
+    public void testUuidWithSuffix() {
+        LxUuid uuid = new LxUuid("1076668f-0101-7076-ffff403fb0c34b9e-M1");
+
+        assertFalse(uuid.isBinary());
+        assertEquals(new LxUuid("1076668f-0101-7076-ffff403fb0c34b9e-m1"), uuid);
+        assertNotEquals(new LxUuid("1076668f-0101-7076-ffff403fb0c34b9e"), uuid);
+        assertEquals("1076668F-0101-7076-FFFF403FB0C34B9E-M1", uuid.toString());
+        assertEquals("1076668f-0101-7076-ffff403fb0c34b9e-M1", uuid.getOriginalString());
+    }
+}
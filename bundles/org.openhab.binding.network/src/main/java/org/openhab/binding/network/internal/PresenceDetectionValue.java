@@ -148,6 +148,13 @@ public class PresenceDetectionValue {
                 || reachableByType.contains(PresenceDetectionType.ICMP_PING);
     }
 
+    /**
+     * Return true if a DHCP request of the target has been received.
+     */
+    public boolean isDhcpRequestReceived() {
+        return reachableByType.contains(PresenceDetectionType.DHCP_REQUEST);
+    }
+
     /**
      * Return true if the target provides open TCP ports.
      */
@@ -0,0 +1,524 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.network.internal.utils.NetworkUtils;
+import org.openhab.binding.network.internal.utils.NetworkUtils.ArpPingUtilEnum;
+import org.openhab.binding.network.internal.utils.NetworkUtils.IpPingMethodEnum;
+import org.openhab.binding.network.internal.utils.PingResult;
+import org.openhab.core.common.NamedThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link ProbeEngine} performs the presence detection for a large number of hosts at once, for example a
+ * subnet sweep. In contrast to {@link PresenceDetection}, which occupies one thread per detection method and host,
+ * TCP connection attempts are performed non-blocking on a single selector thread and the amount of packets sent per
+ * second is limited by a configurable budget.
+ *
+ * Each TCP connection attempt to a host on a directly attached network makes the operating system resolve the
+ * hardware address of that host. The ARP table of the operating system is therefore read at the beginning and at the
+ * end of a sweep, and active ARP pings are only performed if that table is not available. Other passive observations,
+ * like DHCP requests, can be merged into the results with {@link #observe(String, PresenceDetectionType)}.
+ *
+ * Results are reported as soon as they are known to the {@link PresenceDetectionListener}, the sweep progress is
+ * reported to the {@link ProbeProgressListener}.
+ *
+ * @author atje - Initial contribution
+ */
+@NonNullByDefault
+public class ProbeEngine {
+    /** The interval in which the packet budget is released */
+    static final int PACING_INTERVAL_MS = 20;
+
+    private final Logger logger = LoggerFactory.getLogger(ProbeEngine.class);
+
+    /**
+     * Implement this interface to be notified about the progress of a sweep.
+     */
+    public interface ProbeProgressListener {
+        /**
+         * Called whenever the probes for a host have finished.
+         *
+         * @param probedHosts The amount of hosts that have been probed so far
+         * @param totalHosts The amount of hosts of this sweep
+         */
+        void probeProgress(int probedHosts, int totalHosts);
+
+        /**
+         * Called once after all hosts have been probed and the passive observations have been merged.
+         */
+        void probeFinished();
+    }
+
+    NetworkUtils networkUtils = new NetworkUtils();
+
+    /// Configuration variables
+    private final PresenceDetectionListener updateListener;
+    private final ProbeProgressListener progressListener;
+    private final int packetsPerSecond;
+    private final int timeoutInMS;
+    private Set<Integer> tcpPorts = Set.of();
+    private @Nullable IpPingMethodEnum pingMethod = null;
+    private ArpPingUtilEnum arpPingMethod = ArpPingUtilEnum.UNKNOWN_TOOL;
+    private String arpPingUtilPath = "";
+    private boolean iosDevice;
+
+    /// State variables
+    private final Queue<String> pendingHosts = new ConcurrentLinkedQueue<>();
+    private final Map<String, AtomicInteger> activeHosts = new ConcurrentHashMap<>();
+    private final Map<String, PresenceDetectionValue> results = new ConcurrentHashMap<>();
+    private final AtomicInteger probedHosts = new AtomicInteger();
+    private Set<String> hosts = Set.of();
+    private boolean useArpTable;
+    private int packetsPerHost;
+    private double packetCredits;
+    private long lastReleaseInNS;
+    private volatile boolean running;
+    private @Nullable Selector selector;
+    private @Nullable Thread selectorThread;
+    private @Nullable ExecutorService pingExecutor;
+
+    /**
+     * A pending, non-blocking TCP connection attempt.
+     */
+    private static class PendingConnection {
+        final String host;
+        final int port;
+        final long startInNS;
+
+        PendingConnection(String host, int port, long startInNS) {
+            this.host = host;
+            this.port = port;
+            this.startInNS = startInNS;
+        }
+    }
+
+    /**
+     * Creates a probe engine.
+     *
+     * @param updateListener Receives a partial result as soon as a host is known to be reachable and a final result
+     *            after all probes of a reachable host have finished
+     * @param progressListener Receives the sweep progress
+     * @param packetsPerSecond The maximum amount of probe packets per second. Must be greater than 0.
+     * @param timeoutInMS How long to wait for an answer of each probe
+     */
+    public ProbeEngine(PresenceDetectionListener updateListener, ProbeProgressListener progressListener,
+            int packetsPerSecond, int timeoutInMS) throws IllegalArgumentException {
+        if (packetsPerSecond <= 0) {
+            throw new IllegalArgumentException("The packets per second budget must be greater than 0");
+        }
+        this.updateListener = updateListener;
+        this.progressListener = progressListener;
+        this.packetsPerSecond = packetsPerSecond;
+        this.timeoutInMS = timeoutInMS;
+    }
+
+    public void setServicePorts(Set<Integer> ports) {
+        this.tcpPorts = ports;
+    }
+
+    /**
+     * Sets the ping method. This method will perform a feature test. If SYSTEM_PING
+     * does not work on this system, JAVA_PING will be used instead.
+     *
+     * @param useSystemPing Set to true to use a system ping method, false to use java ping and null to disable ICMP
+     *            pings.
+     */
+    public void setUseIcmpPing(@Nullable Boolean useSystemPing) {
+        if (useSystemPing == null) {
+            pingMethod = null;
+        } else if (useSystemPing) {
+            pingMethod = networkUtils.determinePingMethod();
+        } else {
+            pingMethod = IpPingMethodEnum.JAVA_PING;
+        }
+    }
+
+    /**
+     * Sets the arping tool, which is used if the ARP table of the operating system cannot be read.
+     *
+     * @param arpPingUtilPath The arping tool path
+     * @param arpPingUtilMethod The arping tool type
+     */
+    public void setArpPing(String arpPingUtilPath, ArpPingUtilEnum arpPingUtilMethod) {
+        this.arpPingUtilPath = arpPingUtilPath;
+        this.arpPingMethod = arpPingUtilMethod;
+    }
+
+    /**
+     * Set to true if an additional port knock should be sent to wake up iOS devices before a ping.
+     */
+    public void setIOSDevice(boolean value) {
+        iosDevice = value;
+    }
+
+    /**
+     * Return true if a sweep is in progress.
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Return the amount of packets, that are at most sent for each probed host.
+     */
+    public int getPacketsPerHost() {
+        return tcpPorts.size() + (pingMethod != null ? 1 : 0)
+                + (networkUtils.isArpTableAvailable() || arpPingMethod == ArpPingUtilEnum.UNKNOWN_TOOL ? 0 : 1);
+    }
+
+    /**
+     * Starts a sweep over the given hosts. Returns immediately, the results are reported asynchronously.
+     *
+     * @param hostAddresses The IP addresses to probe
+     * @throws IOException If the selector could not be opened
+     */
+    public synchronized void start(Collection<String> hostAddresses) throws IOException {
+        if (running) {
+            stop();
+        }
+        useArpTable = networkUtils.isArpTableAvailable();
+        packetsPerHost = getPacketsPerHost();
+        packetCredits = 0;
+        lastReleaseInNS = System.nanoTime();
+        hosts = Set.copyOf(hostAddresses);
+        pendingHosts.clear();
+        pendingHosts.addAll(hostAddresses);
+        activeHosts.clear();
+        results.clear();
+        probedHosts.set(0);
+
+        mergeArpTable();
+
+        selector = Selector.open();
+        pingExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 2,
+                new NamedThreadFactory(NetworkBindingConstants.BINDING_ID + "-probe", true));
+        running = true;
+        Thread thread = new Thread(this::run, "OH-binding-" + NetworkBindingConstants.BINDING_ID + "-probe");
+        thread.setDaemon(true);
+        selectorThread = thread;
+        thread.start();
+    }
+
+    /**
+     * Stops a running sweep. Pending connection attempts and pings are aborted, no further results are reported.
+     */
+    public synchronized void stop() {
+        running = false;
+        Selector selector = this.selector;
+        if (selector != null) {
+            selector.wakeup();
+        }
+        Thread thread = selectorThread;
+        if (thread != null && thread != Thread.currentThread()) {
+            try {
+                thread.join(PACING_INTERVAL_MS * 10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt(); // Reset interrupt flag
+            }
+        }
+        selectorThread = null;
+        ExecutorService service = pingExecutor;
+        if (service != null) {
+            service.shutdownNow();
+            pingExecutor = null;
+        }
+        pendingHosts.clear();
+    }
+
+    /**
+     * Merges a passive observation, like a DHCP request or an ARP table entry, into the results of the current sweep.
+     *
+     * @param hostAddress The observed IP address
+     * @param type The observation type
+     */
+    public void observe(String hostAddress, PresenceDetectionType type) {
+        if (!running) {
+            return;
+        }
+        updateListener.partialDetectionResult(updateReachableValue(hostAddress, type, 0));
+    }
+
+    private void run() {
+        final Selector selector = this.selector;
+        if (selector == null) {
+            return;
+        }
+        try {
+            while (running) {
+                releaseProbes(selector);
+                selector.select(PACING_INTERVAL_MS);
+                handleConnections(selector);
+                expireConnections(selector);
+                if (pendingHosts.isEmpty() && activeHosts.isEmpty()) {
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Network probe failed: {}", e.getMessage());
+        } finally {
+            for (SelectionKey key : selector.keys()) {
+                closeQuietly(key);
+            }
+            try {
+                selector.close();
+            } catch (IOException ignored) {
+            }
+        }
+
+        if (running) {
+            mergeArpTable();
+            running = false;
+            ExecutorService service = pingExecutor;
+            if (service != null) {
+                service.shutdown();
+            }
+            progressListener.probeFinished();
+        }
+    }
+
+    /**
+     * Starts the probes for as many hosts as the packet budget allows since the last call.
+     */
+    private void releaseProbes(Selector selector) {
+        long now = System.nanoTime();
+        double maxCredits = Math.max(packetsPerHost, packetsPerSecond * PACING_INTERVAL_MS / 1000.0);
+        packetCredits = Math.min(maxCredits,
+                packetCredits + (now - lastReleaseInNS) / (double) TimeUnit.SECONDS.toNanos(1) * packetsPerSecond);
+        lastReleaseInNS = now;
+
+        while (packetCredits >= packetsPerHost) {
+            String host = pendingHosts.poll();
+            if (host == null) {
+                return;
+            }
+            packetCredits -= packetsPerHost;
+            startProbes(selector, host);
+        }
+    }
+
+    private void startProbes(Selector selector, String host) {
+        final ExecutorService service = pingExecutor;
+        final IpPingMethodEnum pingMethod = this.pingMethod;
+        final boolean useArpPing = !useArpTable && arpPingMethod != ArpPingUtilEnum.UNKNOWN_TOOL;
+        int checks = tcpPorts.size() + (pingMethod != null ? 1 : 0) + (useArpPing ? 1 : 0);
+        if (checks == 0 || service == null) {
+            hostFinished(host);
+            return;
+        }
+
+        activeHosts.put(host, new AtomicInteger(checks));
+        for (int port : tcpPorts) {
+            openConnection(selector, host, port);
+        }
+        if (pingMethod != null) {
+            service.execute(() -> {
+                performPing(host, pingMethod);
+                checkFinished(host);
+            });
+        }
+        if (useArpPing) {
+            service.execute(() -> {
+                performARPping(host);
+                checkFinished(host);
+            });
+        }
+    }
+
+    private void openConnection(Selector selector, String host, int port) {
+        long start = System.nanoTime();
+        SocketChannel channel = null;
+        try {
+            channel = SocketChannel.open();
+            channel.configureBlocking(false);
+            if (channel.connect(new InetSocketAddress(host, port))) {
+                channel.close();
+                serviceReachable(host, port, start);
+                checkFinished(host);
+            } else {
+                channel.register(selector, SelectionKey.OP_CONNECT, new PendingConnection(host, port, start));
+            }
+        } catch (IOException e) {
+            logger.trace("Could not connect to {} on port {}: {}", host, port, e.getMessage());
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException ignored) {
+                }
+            }
+            checkFinished(host);
+        }
+    }
+
+    private void handleConnections(Selector selector) {
+        Iterator<SelectionKey> iterator = selector.selectedKeys().iterator();
+        while (iterator.hasNext()) {
+            SelectionKey key = iterator.next();
+            iterator.remove();
+            PendingConnection connection = (PendingConnection) key.attachment();
+            try {
+                if (key.isValid() && ((SocketChannel) key.channel()).finishConnect()) {
+                    serviceReachable(connection.host, connection.port, connection.startInNS);
+                }
+            } catch (IOException ignored) {
+                // Connection refused or host unreachable
+            } finally {
+                closeQuietly(key);
+                checkFinished(connection.host);
+            }
+        }
+    }
+
+    private void expireConnections(Selector selector) {
+        long now = System.nanoTime();
+        long timeoutInNS = TimeUnit.MILLISECONDS.toNanos(timeoutInMS);
+        for (SelectionKey key : selector.keys()) {
+            PendingConnection connection = (PendingConnection) key.attachment();
+            if (key.isValid() && now - connection.startInNS > timeoutInNS) {
+                closeQuietly(key);
+                checkFinished(connection.host);
+            }
+        }
+    }
+
+    private void closeQuietly(SelectionKey key) {
+        key.cancel();
+        try {
+            key.channel().close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    private void serviceReachable(String host, int port, long startInNS) {
+        double latency = (System.nanoTime() - startInNS) / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        PresenceDetectionValue v = updateReachableValue(host, PresenceDetectionType.TCP_CONNECTION, latency);
+        v.addReachableTcpService(port);
+        updateListener.partialDetectionResult(v);
+    }
+
+    private void performPing(String host, IpPingMethodEnum pingMethod) {
+        try {
+            InetAddress destinationAddress = InetAddress.getByName(host);
+            if (iosDevice) {
+                networkUtils.wakeUpIOS(destinationAddress);
+            }
+            if (pingMethod == IpPingMethodEnum.JAVA_PING) {
+                networkUtils.javaPing(timeoutInMS, destinationAddress).ifPresent(o -> pingResult(host, o));
+            } else {
+                networkUtils.nativePing(pingMethod, host, timeoutInMS).ifPresent(o -> pingResult(host, o));
+            }
+        } catch (IOException e) {
+            logger.trace("Failed to execute a ping for ip {}", host, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt(); // Reset interrupt flag
+        }
+    }
+
+    private void pingResult(String host, PingResult result) {
+        if (result.isSuccess()) {
+            updateListener.partialDetectionResult(
+                    updateReachableValue(host, PresenceDetectionType.ICMP_PING, result.getExecutionTimeInMS()));
+        }
+    }
+
+    private void performARPping(String host) {
+        try {
+            // arp-ping.exe tool capable of handling multiple interfaces by itself
+            Set<String> interfaceNames = arpPingMethod == ArpPingUtilEnum.ELI_FULKERSON_ARP_PING_FOR_WINDOWS
+                    ? Set.of("")
+                    : networkUtils.getInterfaceNames();
+            for (String interfaceName : interfaceNames) {
+                Optional<PingResult> result = networkUtils.nativeARPPing(arpPingMethod, arpPingUtilPath,
+                        interfaceName, host, timeoutInMS);
+                if (result.isPresent() && result.get().isSuccess()) {
+                    updateListener.partialDetectionResult(updateReachableValue(host, PresenceDetectionType.ARP_PING,
+                            result.get().getExecutionTimeInMS()));
+                    return;
+                }
+            }
+        } catch (IOException e) {
+            logger.trace("Failed to execute an arp ping for ip {}", host, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt(); // Reset interrupt flag
+        }
+    }
+
+    /**
+     * Reports all hosts of this sweep, that have a complete entry in the ARP table of the operating system.
+     */
+    private void mergeArpTable() {
+        if (!useArpTable) {
+            return;
+        }
+        for (String host : networkUtils.getArpTableAddresses()) {
+            if (hosts.contains(host)) {
+                updateListener.partialDetectionResult(updateReachableValue(host, PresenceDetectionType.ARP_PING, 0));
+            }
+        }
+    }
+
+    private PresenceDetectionValue updateReachableValue(String host, PresenceDetectionType type, double latency) {
+        PresenceDetectionValue v = results.computeIfAbsent(host, h -> new PresenceDetectionValue(h, 0));
+        synchronized (v) {
+            v.updateLatency(latency);
+            v.addType(type);
+        }
+        return v;
+    }
+
+    /**
+     * Called after each individual check of a host. If all checks of that host are done, the final result is
+     * submitted and the progress is reported. Thread safe.
+     */
+    private void checkFinished(String host) {
+        AtomicInteger remainingChecks = activeHosts.get(host);
+        if (remainingChecks != null && remainingChecks.decrementAndGet() <= 0) {
+            activeHosts.remove(host);
+            hostFinished(host);
+        }
+    }
+
+    private void hostFinished(String host) {
+        if (!running) {
+            return;
+        }
+        PresenceDetectionValue v = results.get(host);
+        if (v != null) {
+            v.setDetectionIsFinished(true);
+            updateListener.finalDetectionResult(v);
+        }
+        progressListener.probeProgress(probedHosts.incrementAndGet(), hosts.size());
+    }
+}
@@ -13,7 +13,11 @@
 package org.openhab.binding.network.internal.dhcp;
 
 import java.net.SocketException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -27,7 +31,8 @@ import org.slf4j.LoggerFactory;
  * receiver thread will be started. If the last IPRequestReceivedCallback is removed, the thread will be stopped
  * after the receive socket is closed.
  * IPRequestReceivedCallback will be called for the address that is registered and matches the
- * DHO_DHCP_REQUESTED_ADDRESS address field.
+ * DHO_DHCP_REQUESTED_ADDRESS address field. IPRequestReceivedCallback objects registered for all addresses
+ * will be called for every DHCP request.
  *
  * @author David Graeff - Initial contribution
  */
@@ -35,38 +40,76 @@ import org.slf4j.LoggerFactory;
 public class DHCPListenService {
     static @Nullable DHCPPacketListenerServer instance;
     static Map<String, IPRequestReceivedCallback> registeredListeners = new TreeMap<>();
+    static Set<IPRequestReceivedCallback> anyAddressListeners = new HashSet<>();
     static Logger logger = LoggerFactory.getLogger(DHCPListenService.class);
 
     @SuppressWarnings({ "null", "unused" })
     public static synchronized DHCPPacketListenerServer register(String hostAddress,
             IPRequestReceivedCallback dhcpListener) throws SocketException {
+        DHCPPacketListenerServer instance = getOrStartInstance();
+        synchronized (registeredListeners) {
+            registeredListeners.put(hostAddress, dhcpListener);
+        }
+        return instance;
+    }
+
+    /**
+     * Registers a callback, that is called for DHCP requests of any address. This is used to passively
+     * observe devices, for example during a network discovery.
+     */
+    public static synchronized DHCPPacketListenerServer registerForAllAddresses(IPRequestReceivedCallback dhcpListener)
+            throws SocketException {
+        DHCPPacketListenerServer instance = getOrStartInstance();
+        synchronized (registeredListeners) {
+            anyAddressListeners.add(dhcpListener);
+        }
+        return instance;
+    }
+
+    public static void unregister(String hostAddress) {
+        synchronized (registeredListeners) {
+            registeredListeners.remove(hostAddress);
+            if (!registeredListeners.isEmpty() || !anyAddressListeners.isEmpty()) {
+                return;
+            }
+        }
+        closeInstance();
+    }
+
+    public static void unregisterForAllAddresses(IPRequestReceivedCallback dhcpListener) {
+        synchronized (registeredListeners) {
+            anyAddressListeners.remove(dhcpListener);
+            if (!registeredListeners.isEmpty() || !anyAddressListeners.isEmpty()) {
+                return;
+            }
+        }
+        closeInstance();
+    }
+
+    private static DHCPPacketListenerServer getOrStartInstance() throws SocketException {
         DHCPPacketListenerServer instance = DHCPListenService.instance;
         if (instance == null) {
             instance = new DHCPPacketListenerServer((String ipAddress) -> {
-                IPRequestReceivedCallback listener = registeredListeners.get(ipAddress);
+                IPRequestReceivedCallback listener;
+                List<IPRequestReceivedCallback> listeners;
+                synchronized (registeredListeners) {
+                    listener = registeredListeners.get(ipAddress);
+                    listeners = new ArrayList<>(anyAddressListeners);
+                }
                 if (listener != null) {
                     listener.dhcpRequestReceived(ipAddress);
-                } else {
+                } else if (listeners.isEmpty()) {
                     logger.trace("DHCP request for unknown address: {}", ipAddress);
                 }
+                listeners.forEach(l -> l.dhcpRequestReceived(ipAddress));
             });
             DHCPListenService.instance = instance;
             instance.start();
         }
-        synchronized (registeredListeners) {
-            registeredListeners.put(hostAddress, dhcpListener);
-        }
         return instance;
     }
 
-    public static void unregister(String hostAddress) {
-        synchronized (registeredListeners) {
-            registeredListeners.remove(hostAddress);
-            if (!registeredListeners.isEmpty()) {
-                return;
-            }
-        }
-
+    private static void closeInstance() {
         final DHCPPacketListenerServer instance = DHCPListenService.instance;
         if (instance != null) {
             instance.close();
@@ -14,13 +14,13 @@ package org.openhab.binding.network.internal.discovery;
 
 import static org.openhab.binding.network.internal.NetworkBindingConstants.*;
 
+import java.io.IOException;
+import java.net.SocketException;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
@@ -29,9 +29,13 @@ import java.util.stream.Stream;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.network.internal.NetworkBindingConfiguration;
-import org.openhab.binding.network.internal.PresenceDetection;
 import org.openhab.binding.network.internal.PresenceDetectionListener;
+import org.openhab.binding.network.internal.PresenceDetectionType;
 import org.openhab.binding.network.internal.PresenceDetectionValue;
+import org.openhab.binding.network.internal.ProbeEngine;
+import org.openhab.binding.network.internal.ProbeEngine.ProbeProgressListener;
+import org.openhab.binding.network.internal.dhcp.DHCPListenService;
+import org.openhab.binding.network.internal.dhcp.IPRequestReceivedCallback;
 import org.openhab.binding.network.internal.utils.NetworkUtils;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.config.discovery.AbstractDiscoveryService;
@@ -48,16 +52,21 @@ import org.slf4j.LoggerFactory;
 /**
  * The {@link NetworkDiscoveryService} is responsible for discovering devices on
  * the current Network. It uses every Network Interface which is connected to a network.
- * It tries common TCP ports to connect to, ICMP pings and ARP pings.
+ * It tries common TCP ports to connect to, ICMP pings and ARP pings with a limited amount of packets per second
+ * and takes DHCP requests and the ARP table of the operating system into account.
  *
  * @author Marc Mettke - Initial contribution
  * @author David Graeff - Rewritten
+ * @author atje - Rate limited sweep with the ProbeEngine
  */
 @NonNullByDefault
 @Component(service = DiscoveryService.class, configurationPid = "discovery.network")
-public class NetworkDiscoveryService extends AbstractDiscoveryService implements PresenceDetectionListener {
+public class NetworkDiscoveryService extends AbstractDiscoveryService
+        implements PresenceDetectionListener, ProbeProgressListener, IPRequestReceivedCallback {
     static final int PING_TIMEOUT_IN_MS = 500;
     static final int MAXIMUM_IPS_PER_INTERFACE = 255;
+    // ICMP ping and four TCP ports per IP at the default budget of 100 packets per second
+    static final double SCAN_TIME_PER_IP_IN_S = 5 / 100.0;
     private static final long DISCOVERY_RESULT_TTL = TimeUnit.MINUTES.toSeconds(10);
     private final Logger logger = LoggerFactory.getLogger(NetworkDiscoveryService.class);
 
@@ -67,13 +76,14 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
     private Set<Integer> tcpServicePorts = Collections
             .unmodifiableSet(Stream.of(80, 548, 554, 1025).collect(Collectors.toSet()));
     private AtomicInteger scannedIPcount = new AtomicInteger(0);
-    private @Nullable ExecutorService executorService = null;
+    private @Nullable ProbeEngine probeEngine = null;
     private final NetworkBindingConfiguration configuration = new NetworkBindingConfiguration();
     private final NetworkUtils networkUtils = new NetworkUtils();
 
     public NetworkDiscoveryService() {
-        super(SUPPORTED_THING_TYPES_UIDS, (int) Math.round(
-                new NetworkUtils().getNetworkIPs(MAXIMUM_IPS_PER_INTERFACE).size() * (PING_TIMEOUT_IN_MS / 1000.0)),
+        super(SUPPORTED_THING_TYPES_UIDS,
+                (int) Math.round(new NetworkUtils().getNetworkIPs(MAXIMUM_IPS_PER_INTERFACE).size()
+                        * SCAN_TIME_PER_IP_IN_S + (PING_TIMEOUT_IN_MS / 1000.0)) + 1,
                 false);
     }
 
@@ -97,16 +107,14 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
     @Override
     @Deactivate
     protected void deactivate() {
-        if (executorService != null) {
-            executorService.shutdown();
-        }
+        stopProbeEngine();
         super.deactivate();
     }
 
     @Override
     public void partialDetectionResult(PresenceDetectionValue value) {
         final String ip = value.getHostAddress();
-        if (value.isPingReachable()) {
+        if (value.isPingReachable() || value.isDhcpRequestReceived()) {
             newPingDevice(ip);
         } else if (value.isTCPServiceReachable()) {
             List<Integer> tcpServices = value.getReachableTCPports();
@@ -120,63 +128,80 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
     public void finalDetectionResult(PresenceDetectionValue value) {
     }
 
-    /**
-     * Starts the DiscoveryThread for each IP on each interface on the network
-     */
     @Override
-    protected void startScan() {
-        if (executorService == null) {
-            executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 2);
+    public void probeProgress(int probedHosts, int totalHosts) {
+        scannedIPcount.set(probedHosts);
+        // Report every 10 percent
+        if (probedHosts * 10 / totalHosts != (probedHosts - 1) * 10 / totalHosts) {
+            logger.debug("Network Device Discovery: scanned {} of {} IPs", probedHosts, totalHosts);
         }
-        final ExecutorService service = executorService;
-        if (service == null) {
-            return;
+    }
+
+    @Override
+    public void probeFinished() {
+        logger.trace("Scan of {} IPs successful", scannedIPcount);
+        stopScan();
+    }
+
+    @Override
+    public void dhcpRequestReceived(String ipAddress) {
+        ProbeEngine engine = probeEngine;
+        if (engine != null) {
+            engine.observe(ipAddress, PresenceDetectionType.DHCP_REQUEST);
         }
+    }
+
+    /**
+     * Starts a sweep over each IP on each interface on the network. The probes are sent with the configured
+     * packets per second budget, DHCP requests are merged into the results while the sweep is running.
+     */
+    @Override
+    protected synchronized void startScan() {
+        stopProbeEngine();
         removeOlderResults(getTimestampOfLastScan(), null);
         logger.trace("Starting Network Device Discovery");
 
         final Set<String> networkIPs = networkUtils.getNetworkIPs(MAXIMUM_IPS_PER_INTERFACE);
         scannedIPcount.set(0);
 
-        for (String ip : networkIPs) {
-            final PresenceDetection s = new PresenceDetection(this, 2000);
-            s.setHostname(ip);
-            s.setIOSDevice(true);
-            s.setUseDhcpSniffing(false);
-            s.setTimeout(PING_TIMEOUT_IN_MS);
-            // Ping devices
-            s.setUseIcmpPing(true);
-            s.setUseArpPing(true, configuration.arpPingToolPath, configuration.arpPingUtilMethod);
-            // TCP devices
-            s.setServicePorts(tcpServicePorts);
-
-            service.execute(() -> {
-                Thread.currentThread().setName("Discovery thread " + ip);
-                s.performPresenceDetection(true);
-                int count = scannedIPcount.incrementAndGet();
-                if (count == networkIPs.size()) {
-                    logger.trace("Scan of {} IPs successful", scannedIPcount);
-                    stopScan();
-                }
-            });
+        final ProbeEngine engine = new ProbeEngine(this, this, Math.max(1, configuration.discoveryPacketsPerSecond),
+                PING_TIMEOUT_IN_MS);
+        engine.setIOSDevice(true);
+        // Ping devices
+        engine.setUseIcmpPing(true);
+        engine.setArpPing(configuration.arpPingToolPath, configuration.arpPingUtilMethod);
+        // TCP devices
+        engine.setServicePorts(tcpServicePorts);
+        probeEngine = engine;
+
+        try {
+            DHCPListenService.registerForAllAddresses(this);
+        } catch (SocketException e) {
+            logger.debug("Cannot use DHCP sniffing during discovery: {}", e.getMessage());
+        }
+
+        try {
+            engine.start(networkIPs);
+        } catch (IOException e) {
+            logger.warn("Could not start Network Device Discovery: {}", e.getMessage());
+            stopScan();
         }
     }
 
     @Override
     protected synchronized void stopScan() {
         super.stopScan();
-        final ExecutorService service = executorService;
-        if (service == null) {
-            return;
-        }
+        stopProbeEngine();
+    }
 
-        try {
-            service.awaitTermination(PING_TIMEOUT_IN_MS, TimeUnit.MILLISECONDS);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt(); // Reset interrupt flag
+    private void stopProbeEngine() {
+        ProbeEngine engine = probeEngine;
+        if (engine == null) {
+            return;
         }
-        service.shutdown();
-        executorService = null;
+        DHCPListenService.unregisterForAllAddresses(this);
+        engine.stop();
+        probeEngine = null;
     }
 
     public static ThingUID createServiceUID(String ip, int tcpPort) {
@@ -185,7 +210,7 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
     }
 
     /**
-     * Submit newly discovered devices. This method is called by the spawned threads in {@link startScan}.
+     * Submit newly discovered devices. This method is called by the {@link ProbeEngine} started in {@link startScan}.
      *
      * @param ip The device IP
      * @param tcpPort The TCP port
@@ -228,7 +253,7 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
     }
 
     /**
-     * Submit newly discovered devices. This method is called by the spawned threads in {@link startScan}.
+     * Submit newly discovered devices. This method is called by the {@link ProbeEngine} started in {@link startScan}.
      *
      * @param ip The device IP
      */
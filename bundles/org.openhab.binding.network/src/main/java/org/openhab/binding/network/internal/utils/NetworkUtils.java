@@ -28,6 +28,8 @@ import java.net.Socket;
 import java.net.SocketAddress;
 import java.net.SocketException;
 import java.net.SocketTimeoutException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.Enumeration;
 import java.util.HashSet;
@@ -35,6 +37,7 @@ import java.util.LinkedHashSet;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.commons.lang3.SystemUtils;
 import org.apache.commons.net.util.SubnetUtils;
@@ -53,6 +56,10 @@ import org.slf4j.LoggerFactory;
  */
 @NonNullByDefault
 public class NetworkUtils {
+    private static final Path ARP_TABLE = Path.of("/proc/net/arp");
+    // ATF_COM flag of the kernel neighbour table: the hardware address is resolved
+    private static final int ARP_ENTRY_COMPLETE = 0x2;
+
     private final Logger logger = LoggerFactory.getLogger(NetworkUtils.class);
 
     private LatencyParser latencyParser = new LatencyParser();
@@ -146,6 +153,36 @@ public class NetworkUtils {
         return networkIPs;
     }
 
+    /**
+     * Return true if the ARP table of the operating system can be read by {@link #getArpTableAddresses()}.
+     * This is only the case on Linux.
+     */
+    public boolean isArpTableAvailable() {
+        return Files.isReadable(ARP_TABLE);
+    }
+
+    /**
+     * Reads the ARP table of the operating system. The table is filled by the operating system as a side effect of
+     * any traffic to a host on a directly attached network, so this is a passive way to learn about present devices.
+     *
+     * @return The IPv4 addresses with a resolved hardware address or an empty set if the table cannot be read.
+     */
+    public Set<String> getArpTableAddresses() {
+        if (!isArpTableAvailable()) {
+            return Set.of();
+        }
+        // IP address       HW type     Flags       HW address            Mask     Device
+        try (Stream<String> lines = Files.lines(ARP_TABLE)) {
+            return lines.skip(1).map(line -> line.trim().split("\\s+"))
+                    .filter(columns -> columns.length >= 4 && (Integer.decode(columns[2]) & ARP_ENTRY_COMPLETE) != 0
+                            && !"00:00:00:00:00:00".equals(columns[3]))
+                    .map(columns -> columns[0]).collect(Collectors.toSet());
+        } catch (IOException | NumberFormatException e) {
+            logger.debug("Could not read the ARP table: {}", e.getMessage());
+            return Set.of();
+        }
+    }
+
     /**
      * Try to establish a tcp connection to the given port. Returns false if a timeout occurred
      * or the connection was denied.
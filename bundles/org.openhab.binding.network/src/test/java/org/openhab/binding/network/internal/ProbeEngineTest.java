@@ -0,0 +1,108 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.openhab.binding.network.internal.ProbeEngine.ProbeProgressListener;
+import org.openhab.binding.network.internal.utils.NetworkUtils;
+
+/**
+ * Tests cases for {@see ProbeEngine}
+ *
+ * @author atje - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.WARN)
+public class ProbeEngineTest {
+    private static final int TIMEOUT_IN_MS = 500;
+
+    private ProbeEngine subject;
+    private ServerSocket serverSocket;
+
+    private @Mock PresenceDetectionListener listener;
+    private @Mock ProbeProgressListener progressListener;
+    private @Mock NetworkUtils networkUtils;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        when(networkUtils.isArpTableAvailable()).thenReturn(false);
+
+        subject = new ProbeEngine(listener, progressListener, 1000, TIMEOUT_IN_MS);
+        subject.networkUtils = networkUtils;
+        subject.setServicePorts(Set.of(serverSocket.getLocalPort()));
+    }
+
+    @AfterEach
+    public void shutDown() throws IOException {
+        subject.stop();
+        serverSocket.close();
+    }
+
+    @Test
+    public void invalidBudget() {
+        assertThrows(IllegalArgumentException.class, () -> new ProbeEngine(listener, progressListener, 0, 100));
+    }
+
+    @Test
+    public void reachableServiceIsReported() throws IOException {
+        subject.start(List.of("127.0.0.1"));
+        verify(progressListener, timeout(TIMEOUT_IN_MS * 4)).probeFinished();
+
+        ArgumentCaptor<PresenceDetectionValue> captor = ArgumentCaptor.forClass(PresenceDetectionValue.class);
+        verify(listener).partialDetectionResult(captor.capture());
+        PresenceDetectionValue value = captor.getValue();
+        assertThat(value.getHostAddress(), is("127.0.0.1"));
+        assertThat(value.isTCPServiceReachable(), is(true));
+        assertThat(value.getReachableTCPports(), hasItem(serverSocket.getLocalPort()));
+
+        verify(listener).finalDetectionResult(value);
+        verify(progressListener).probeProgress(1, 1);
+        assertThat(subject.isRunning(), is(false));
+    }
+
+    @Test
+    public void packetBudgetIsRespected() throws IOException {
+        List<String> hosts = List.of("127.0.0.1", "127.0.0.2", "127.0.0.3", "127.0.0.4", "127.0.0.5");
+        subject = new ProbeEngine(listener, progressListener, 10, TIMEOUT_IN_MS);
+        subject.networkUtils = networkUtils;
+        subject.setServicePorts(Set.of(serverSocket.getLocalPort()));
+
+        long start = System.currentTimeMillis();
+        subject.start(hosts);
+        verify(progressListener, timeout(2000)).probeFinished();
+
+        // One packet per host at 10 packets per second
+        assertThat(System.currentTimeMillis() - start >= 300, is(true));
+        verify(progressListener, times(hosts.size())).probeProgress(anyInt(), eq(hosts.size()));
+    }
+}
@@ -20,6 +20,7 @@ import org.openhab.binding.onewire.internal.OwException;
 import org.openhab.binding.onewire.internal.SensorId;
 import org.openhab.binding.onewire.internal.handler.OwBaseThingHandler;
 import org.openhab.binding.onewire.internal.handler.OwserverBridgeHandler;
+import org.openhab.binding.onewire.internal.owserver.OwserverRefreshPlan;
 import org.openhab.core.library.types.OnOffType;
 import org.openhab.core.types.State;
 import org.slf4j.Logger;
@@ -74,6 +75,14 @@ public abstract class AbstractOwDevice {
      */
     public abstract void refresh(OwserverBridgeHandler owBridgeHandler, Boolean forcedRefresh) throws OwException;
 
+    /**
+     * add the values read in the next refresh to the refresh plan of the bridge
+     *
+     * @param refreshPlan the refresh plan of the current refresh cycle
+     */
+    public void planRefresh(OwserverRefreshPlan refreshPlan) {
+    }
+
     /**
      * enables a channel on this device
      *
@@ -22,6 +22,7 @@ import org.openhab.binding.onewire.internal.SensorId;
 import org.openhab.binding.onewire.internal.handler.OwBaseThingHandler;
 import org.openhab.binding.onewire.internal.handler.OwserverBridgeHandler;
 import org.openhab.binding.onewire.internal.owserver.OwserverDeviceParameter;
+import org.openhab.binding.onewire.internal.owserver.OwserverRefreshPlan;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.QuantityType;
@@ -73,6 +74,13 @@ public class DS18x20 extends AbstractOwDevice {
         isConfigured = true;
     }
 
+    @Override
+    public void planRefresh(OwserverRefreshPlan refreshPlan) {
+        if (isConfigured && enabledChannels.contains(CHANNEL_TEMPERATURE)) {
+            refreshPlan.addTemperatureRead(sensorId, temperatureParameter);
+        }
+    }
+
     @Override
     public void refresh(OwserverBridgeHandler bridgeHandler, Boolean forcedRefresh) throws OwException {
         if (isConfigured && enabledChannels.contains(CHANNEL_TEMPERATURE)) {
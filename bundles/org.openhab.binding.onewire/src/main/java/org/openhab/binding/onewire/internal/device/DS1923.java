@@ -24,6 +24,7 @@ import org.openhab.binding.onewire.internal.Util;
 import org.openhab.binding.onewire.internal.handler.OwBaseThingHandler;
 import org.openhab.binding.onewire.internal.handler.OwserverBridgeHandler;
 import org.openhab.binding.onewire.internal.owserver.OwserverDeviceParameter;
+import org.openhab.binding.onewire.internal.owserver.OwserverRefreshPlan;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.QuantityType;
 import org.openhab.core.library.unit.SIUnits;
@@ -52,6 +53,21 @@ public class DS1923 extends AbstractOwDevice {
         isConfigured = true;
     }
 
+    @Override
+    public void planRefresh(OwserverRefreshPlan refreshPlan) {
+        if (isConfigured) {
+            boolean humidityNeeded = enabledChannels.contains(CHANNEL_HUMIDITY)
+                    || enabledChannels.contains(CHANNEL_ABSOLUTE_HUMIDITY)
+                    || enabledChannels.contains(CHANNEL_DEWPOINT);
+            if (enabledChannels.contains(CHANNEL_TEMPERATURE) || humidityNeeded) {
+                refreshPlan.addRead(sensorId, temperatureParameter);
+            }
+            if (humidityNeeded) {
+                refreshPlan.addRead(sensorId, humidityParameter);
+            }
+        }
+    }
+
     @Override
     public void refresh(OwserverBridgeHandler bridgeHandler, Boolean forcedRefresh) throws OwException {
         if (isConfigured) {
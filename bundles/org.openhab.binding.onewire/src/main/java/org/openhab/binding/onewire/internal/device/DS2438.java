@@ -25,6 +25,7 @@ import org.openhab.binding.onewire.internal.Util;
 import org.openhab.binding.onewire.internal.handler.OwBaseThingHandler;
 import org.openhab.binding.onewire.internal.handler.OwserverBridgeHandler;
 import org.openhab.binding.onewire.internal.owserver.OwserverDeviceParameter;
+import org.openhab.binding.onewire.internal.owserver.OwserverRefreshPlan;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.QuantityType;
@@ -87,6 +88,34 @@ public class DS2438 extends AbstractOwDevice {
         isConfigured = true;
     }
 
+    @Override
+    public void planRefresh(OwserverRefreshPlan refreshPlan) {
+        if (isConfigured) {
+            boolean humidityNeeded = enabledChannels.contains(CHANNEL_HUMIDITY)
+                    || enabledChannels.contains(CHANNEL_ABSOLUTE_HUMIDITY)
+                    || enabledChannels.contains(CHANNEL_DEWPOINT);
+            if (enabledChannels.contains(CHANNEL_TEMPERATURE) || humidityNeeded) {
+                refreshPlan.addRead(sensorId, temperatureParameter);
+            }
+            if (humidityNeeded) {
+                refreshPlan.addRead(sensorId, humidityParameter);
+            }
+            boolean ibuttonLinkCurrent = currentSensorType == CurrentSensorType.IBUTTONLINK;
+            if (enabledChannels.contains(CHANNEL_VOLTAGE)
+                    || (enabledChannels.contains(CHANNEL_CURRENT) && ibuttonLinkCurrent)
+                    || (enabledChannels.contains(CHANNEL_LIGHT) && lightSensorType == LightSensorType.IBUTTONLINK)) {
+                refreshPlan.addRead(sensorId, voltageParameter);
+            }
+            if ((enabledChannels.contains(CHANNEL_CURRENT) && !ibuttonLinkCurrent)
+                    || (enabledChannels.contains(CHANNEL_LIGHT) && lightSensorType != LightSensorType.IBUTTONLINK)) {
+                refreshPlan.addRead(sensorId, currentParamater);
+            }
+            if (enabledChannels.contains(CHANNEL_SUPPLYVOLTAGE)) {
+                refreshPlan.addRead(sensorId, supplyVoltageParameter);
+            }
+        }
+    }
+
     @Override
     public void refresh(OwserverBridgeHandler bridgeHandler, Boolean forcedRefresh) throws OwException {
         if (isConfigured) {
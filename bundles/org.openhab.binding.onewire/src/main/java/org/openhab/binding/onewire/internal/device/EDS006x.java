@@ -26,6 +26,7 @@ import org.openhab.binding.onewire.internal.Util;
 import org.openhab.binding.onewire.internal.handler.OwBaseThingHandler;
 import org.openhab.binding.onewire.internal.handler.OwserverBridgeHandler;
 import org.openhab.binding.onewire.internal.owserver.OwserverDeviceParameter;
+import org.openhab.binding.onewire.internal.owserver.OwserverRefreshPlan;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.QuantityType;
 import org.openhab.core.library.unit.MetricPrefix;
@@ -62,6 +63,27 @@ public class EDS006x extends AbstractOwDevice {
         isConfigured = true;
     }
 
+    @Override
+    public void planRefresh(OwserverRefreshPlan refreshPlan) {
+        if (isConfigured) {
+            boolean humidityNeeded = enabledChannels.contains(CHANNEL_HUMIDITY)
+                    || enabledChannels.contains(CHANNEL_ABSOLUTE_HUMIDITY)
+                    || enabledChannels.contains(CHANNEL_DEWPOINT);
+            if (enabledChannels.contains(CHANNEL_TEMPERATURE) || humidityNeeded) {
+                refreshPlan.addRead(sensorId, temperatureParameter);
+            }
+            if (humidityNeeded) {
+                refreshPlan.addRead(sensorId, humidityParameter);
+            }
+            if (enabledChannels.contains(CHANNEL_LIGHT)) {
+                refreshPlan.addRead(sensorId, lightParameter);
+            }
+            if (enabledChannels.contains(CHANNEL_PRESSURE)) {
+                refreshPlan.addRead(sensorId, pressureParameter);
+            }
+        }
+    }
+
     @Override
     public void refresh(OwserverBridgeHandler bridgeHandler, Boolean forcedRefresh) throws OwException {
         if (isConfigured) {
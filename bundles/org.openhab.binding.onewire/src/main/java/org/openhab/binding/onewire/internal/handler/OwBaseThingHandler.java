@@ -33,6 +33,7 @@ import org.openhab.binding.onewire.internal.config.BaseHandlerConfiguration;
 import org.openhab.binding.onewire.internal.device.AbstractOwDevice;
 import org.openhab.binding.onewire.internal.device.OwChannelConfig;
 import org.openhab.binding.onewire.internal.device.OwSensorType;
+import org.openhab.binding.onewire.internal.owserver.OwserverRefreshPlan;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.library.types.OnOffType;
 import org.openhab.core.thing.Bridge;
@@ -204,6 +205,20 @@ public abstract class OwBaseThingHandler extends BaseThingHandler {
                 && this.thing.getStatusInfo().getStatusDetail() != ThingStatusDetail.BRIDGE_OFFLINE;
     }
 
+    /**
+     * add the values of all sensors that are due in this refresh cycle to the refresh plan of the bridge
+     *
+     * @param refreshPlan the refresh plan of the current refresh cycle
+     * @param now current time
+     */
+    public void planRefresh(OwserverRefreshPlan refreshPlan, long now) {
+        if (now >= (lastRefresh + refreshInterval)) {
+            for (AbstractOwDevice sensor : sensors) {
+                sensor.planRefresh(refreshPlan);
+            }
+        }
+    }
+
     /**
      * refresh this thing
      *
@@ -18,8 +18,10 @@ import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
@@ -36,6 +38,7 @@ import org.openhab.binding.onewire.internal.owserver.OwfsDirectChannelConfig;
 import org.openhab.binding.onewire.internal.owserver.OwserverConnection;
 import org.openhab.binding.onewire.internal.owserver.OwserverConnectionState;
 import org.openhab.binding.onewire.internal.owserver.OwserverDeviceParameter;
+import org.openhab.binding.onewire.internal.owserver.OwserverRefreshPlan;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.StringType;
@@ -75,6 +78,9 @@ public class OwserverBridgeHandler extends BaseBridgeHandler {
 
     private final List<OwfsDirectChannelConfig> channelConfigs = new ArrayList<>();
 
+    // values read ahead in the current refresh cycle, guarded by owserverConnection
+    private final Map<String, State> prefetchedValues = new HashMap<>();
+
     public OwserverBridgeHandler(Bridge bridge) {
         super(bridge);
         this.owserverConnection = new OwserverConnection(this);
@@ -142,6 +148,7 @@ public class OwserverBridgeHandler extends BaseBridgeHandler {
 
             // refresh thing channels
             List<Thing> thingList = getThing().getThings();
+            prefetch(thingList, now);
             int thingCount = thingList.size();
             Iterator<Thing> childListIterator = thingList.iterator();
             logger.trace("refreshTask with thread ID {} starts at {}, {} childs", Thread.currentThread().getId(), now,
@@ -163,6 +170,9 @@ public class OwserverBridgeHandler extends BaseBridgeHandler {
                 }
                 thingCount--;
             }
+            synchronized (owserverConnection) {
+                prefetchedValues.clear();
+            }
 
             if (!refreshable) {
                 logger.trace("refresh aborted, as brige became non-refresheable.");
@@ -202,6 +212,42 @@ public class OwserverBridgeHandler extends BaseBridgeHandler {
         }
     }
 
+    /**
+     * read the values of all sensors that are due in this refresh cycle in one pipelined request
+     *
+     * temperatures are converted simultaneously on each bus with more than one due temperature sensor, so the
+     * following reads don't have to wait for a conversion each
+     *
+     * @param thingList all things on this bridge
+     * @param now current time
+     */
+    private void prefetch(List<Thing> thingList, long now) {
+        OwserverRefreshPlan refreshPlan = new OwserverRefreshPlan();
+        for (Thing owThing : thingList) {
+            OwBaseThingHandler owHandler = (OwBaseThingHandler) owThing.getHandler();
+            if (owHandler != null && owHandler.isRefreshable()) {
+                owHandler.planRefresh(refreshPlan, now);
+            }
+        }
+        if (refreshPlan.isEmpty()) {
+            return;
+        }
+
+        synchronized (owserverConnection) {
+            for (String conversionPath : refreshPlan.getSimultaneousConversionPaths()) {
+                try {
+                    owserverConnection.writeDecimalType(conversionPath, new DecimalType(1));
+                    logger.trace("triggered simultaneous conversion {}", conversionPath);
+                } catch (OwException e) {
+                    logger.debug("could not trigger simultaneous conversion {}: {}", conversionPath, e.getMessage());
+                }
+            }
+            List<String> paths = refreshPlan.getPaths();
+            prefetchedValues.putAll(owserverConnection.readDecimalTypes(paths));
+            logger.trace("prefetched {} of {} values", prefetchedValues.size(), paths.size());
+        }
+    }
+
     @Override
     public void dispose() {
         refreshable = false;
@@ -284,8 +330,14 @@ public class OwserverBridgeHandler extends BaseBridgeHandler {
      * @throws OwException
      */
     public State readDecimalType(SensorId sensorId, OwserverDeviceParameter parameter) throws OwException {
+        String path = parameter.getPath(sensorId);
         synchronized (owserverConnection) {
-            return owserverConnection.readDecimalType(parameter.getPath(sensorId));
+            @Nullable
+            State prefetchedValue = prefetchedValues.remove(path);
+            if (prefetchedValue != null) {
+                return prefetchedValue;
+            }
+            return owserverConnection.readDecimalType(path);
         }
     }
 
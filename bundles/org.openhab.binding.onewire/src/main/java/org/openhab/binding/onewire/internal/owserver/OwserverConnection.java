@@ -12,6 +12,7 @@
  */
 package org.openhab.binding.onewire.internal.owserver;
 
+import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.EOFException;
@@ -19,7 +20,9 @@ import java.io.IOException;
 import java.net.Socket;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
@@ -206,6 +209,82 @@ public class OwserverConnection {
         return returnState;
     }
 
+    /**
+     * read several decimal types in one pipelined request
+     *
+     * All requests are sent before the first answer is read, so the round-trip to the owserver is only needed once.
+     * Values that can't be read (or were lost because the owserver closed the connection) are missing in the result
+     * and need to be requested with {@link #readDecimalType(String)}.
+     *
+     * @param paths full owfs paths to the values
+     * @return a map of the read values by path
+     */
+    public Map<String, State> readDecimalTypes(List<String> paths) {
+        Map<String, State> values = new HashMap<>();
+        if (paths.isEmpty()) {
+            return values;
+        }
+
+        int answered = 0;
+        try {
+            if (!open()) {
+                throw new OwException("I/O error: could not open connection to send request packets");
+            }
+            final DataOutputStream owserverOutputStream = this.owserverOutputStream;
+            final DataInputStream owserverInputStream = this.owserverInputStream;
+            if (owserverOutputStream == null || owserverInputStream == null) {
+                closeOnError();
+                throw new OwException("I/O Error: stream not available on pipelined read");
+            }
+
+            ByteArrayOutputStream requests = new ByteArrayOutputStream();
+            for (String path : paths) {
+                OwserverPacket requestPacket = new OwserverPacket(OwserverMessageType.READ, path);
+                requestPacket.setControlFlags(OwserverControlFlag.PERSISTENCE);
+                requests.write(requestPacket.toBytes());
+            }
+            owserverOutputStream.write(requests.toByteArray());
+            logger.trace("wrote {} pipelined read requests", paths.size());
+
+            boolean persistent = true;
+            while (answered < paths.size() && persistent) {
+                OwserverPacket returnPacket = new OwserverPacket(owserverInputStream, OwserverPacketType.RETURN);
+                if (returnPacket.isPingPacket()) {
+                    continue;
+                }
+                String path = paths.get(answered++);
+                logger.trace("read: {} for {}", returnPacket, path);
+                if ((returnPacket.getReturnCode() != -1) && returnPacket.hasPayload()) {
+                    try {
+                        values.put(path, DecimalType.valueOf(returnPacket.getPayloadString().trim()));
+                    } catch (NumberFormatException e) {
+                        logger.debug("could not parse '{}' from {} to a number",
+                                returnPacket.getPayloadString().trim(), path);
+                    }
+                } else {
+                    logger.debug("invalid or empty packet when requesting {}", path);
+                }
+                persistent = returnPacket.hasControlFlag(OwserverControlFlag.PERSISTENCE);
+            }
+
+            if (!persistent) {
+                logger.trace("closing connection because persistence was denied after {} of {} requests", answered,
+                        paths.size());
+                close();
+            }
+
+            // Success! Reset error counter.
+            connectionErrorCounter = 0;
+        } catch (IOException | OwException e) {
+            logger.debug("pipelined read failed after {} of {} requests: {}", answered, paths.size(), e.getMessage());
+            if (owserverSocket != null) {
+                closeOnError();
+            }
+        }
+
+        return values;
+    }
+
     /**
      * read a decimal type array
      *
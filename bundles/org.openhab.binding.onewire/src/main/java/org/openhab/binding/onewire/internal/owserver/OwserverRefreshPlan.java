@@ -0,0 +1,89 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.onewire.internal.owserver;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.onewire.internal.SensorId;
+
+/**
+ * The {@link OwserverRefreshPlan} collects the values that are due in a refresh cycle of the bridge, so they can be
+ * requested from the owserver in one pipelined request. Temperatures are converted simultaneously on all busses
+ * with at least {@link #MIN_SIMULTANEOUS_SENSORS} sensors.
+ *
+ * @author atje - Initial contribution
+ */
+@NonNullByDefault
+public class OwserverRefreshPlan {
+    public static final int MIN_SIMULTANEOUS_SENSORS = 2;
+
+    private final Set<String> paths = new LinkedHashSet<>();
+    private final Map<String, Integer> temperatureSensorsPerBus = new LinkedHashMap<>();
+
+    /**
+     * add a value that is read during this refresh cycle
+     *
+     * @param sensorId the sensor's full ID
+     * @param parameter device parameters needed for this request
+     */
+    public void addRead(SensorId sensorId, OwserverDeviceParameter parameter) {
+        paths.add(parameter.getPath(sensorId));
+    }
+
+    /**
+     * add a temperature that is read during this refresh cycle
+     *
+     * @param sensorId the sensor's full ID
+     * @param parameter device parameters needed for this request
+     */
+    public void addTemperatureRead(SensorId sensorId, OwserverDeviceParameter parameter) {
+        if (paths.add(parameter.getPath(sensorId))) {
+            temperatureSensorsPerBus.merge("/" + sensorId.getPath(), 1, Integer::sum);
+        }
+    }
+
+    /**
+     * check if no values are planned
+     *
+     * @return true if empty
+     */
+    public boolean isEmpty() {
+        return paths.isEmpty();
+    }
+
+    /**
+     * get the full owfs paths of all planned values
+     *
+     * @return a list of paths
+     */
+    public List<String> getPaths() {
+        return new ArrayList<>(paths);
+    }
+
+    /**
+     * get the owfs paths for triggering the simultaneous temperature conversion
+     *
+     * @return a list of paths, one per bus (or hub branch)
+     */
+    public List<String> getSimultaneousConversionPaths() {
+        return temperatureSensorsPerBus.entrySet().stream().filter(e -> e.getValue() >= MIN_SIMULTANEOUS_SENSORS)
+                .map(e -> e.getKey() + "simultaneous/temperature").collect(Collectors.toList());
+    }
+}
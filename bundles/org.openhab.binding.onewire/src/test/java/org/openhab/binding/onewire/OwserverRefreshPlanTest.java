@@ -0,0 +1,69 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.onewire;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.onewire.internal.SensorId;
+import org.openhab.binding.onewire.internal.owserver.OwserverDeviceParameter;
+import org.openhab.binding.onewire.internal.owserver.OwserverRefreshPlan;
+
+/**
+ * Tests cases for {@link OwserverRefreshPlan}.
+ *
+ * @author atje - Initial contribution
+ */
+@NonNullByDefault
+public class OwserverRefreshPlanTest {
+    private final OwserverDeviceParameter temperatureParameter = new OwserverDeviceParameter("/temperature");
+
+    @Test
+    public void emptyPlanTest() {
+        OwserverRefreshPlan refreshPlan = new OwserverRefreshPlan();
+
+        assertTrue(refreshPlan.isEmpty());
+        assertTrue(refreshPlan.getPaths().isEmpty());
+        assertTrue(refreshPlan.getSimultaneousConversionPaths().isEmpty());
+    }
+
+    @Test
+    public void singleTemperatureSensorIsNotConvertedSimultaneouslyTest() {
+        OwserverRefreshPlan refreshPlan = new OwserverRefreshPlan();
+        refreshPlan.addTemperatureRead(new SensorId("28.0123456789ab"), temperatureParameter);
+
+        // adding the same sensor twice does not count as a second sensor
+        refreshPlan.addTemperatureRead(new SensorId("28.0123456789ab"), temperatureParameter);
+
+        assertEquals(List.of("/28.0123456789ab/temperature"), refreshPlan.getPaths());
+        assertTrue(refreshPlan.getSimultaneousConversionPaths().isEmpty());
+    }
+
+    @Test
+    public void temperatureSensorsAreConvertedPerBusTest() {
+        OwserverRefreshPlan refreshPlan = new OwserverRefreshPlan();
+        refreshPlan.addTemperatureRead(new SensorId("28.0123456789ab"), temperatureParameter);
+        refreshPlan.addTemperatureRead(new SensorId("28.0123456789ac"), temperatureParameter);
+        refreshPlan.addTemperatureRead(new SensorId("1F.0123456789ab/main/28.0123456789ad"), temperatureParameter);
+        refreshPlan.addTemperatureRead(new SensorId("1F.0123456789ab/main/28.0123456789ae"), temperatureParameter);
+        refreshPlan.addTemperatureRead(new SensorId("1F.0123456789ab/aux/28.0123456789af"), temperatureParameter);
+        refreshPlan.addRead(new SensorId("26.0123456789ab"), new OwserverDeviceParameter("/humidity"));
+
+        assertEquals(6, refreshPlan.getPaths().size());
+        assertEquals(List.of("/simultaneous/temperature", "/1F.0123456789ab/main/simultaneous/temperature"),
+                refreshPlan.getSimultaneousConversionPaths());
+    }
+}
@@ -12,11 +12,13 @@
  */
 package org.openhab.binding.onewire.device;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.times;
 import static org.openhab.binding.onewire.internal.OwBindingConstants.*;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -26,6 +28,7 @@ import org.mockito.InOrder;
 import org.mockito.Mockito;
 import org.openhab.binding.onewire.internal.OwException;
 import org.openhab.binding.onewire.internal.device.DS18x20;
+import org.openhab.binding.onewire.internal.owserver.OwserverRefreshPlan;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.OnOffType;
@@ -79,4 +82,19 @@ public class DS18x20Test extends DeviceTestParent<DS18x20> {
         inOrder.verify(mockBridgeHandler, times(1)).readDecimalType(eq(testSensorId), any());
         inOrder.verify(mockThingHandler, times(0)).postUpdate(eq(CHANNEL_TEMPERATURE), any());
     }
+
+    @Test
+    public void temperaturePlannedForRefreshTest() throws OwException {
+        final DS18x20 testDevice = instantiateDevice();
+        final OwserverRefreshPlan refreshPlan = new OwserverRefreshPlan();
+
+        testDevice.planRefresh(refreshPlan);
+        assertTrue(refreshPlan.isEmpty());
+
+        testDevice.enableChannel(CHANNEL_TEMPERATURE);
+        testDevice.configureChannels();
+        testDevice.planRefresh(refreshPlan);
+
+        assertEquals(List.of("/00.000000000000/temperature"), refreshPlan.getPaths());
+    }
 }
@@ -12,10 +12,13 @@
  */
 package org.openhab.binding.onewire.device;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.times;
 import static org.openhab.binding.onewire.internal.OwBindingConstants.*;
 
+import java.util.List;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,6 +26,7 @@ import org.mockito.InOrder;
 import org.mockito.Mockito;
 import org.openhab.binding.onewire.internal.OwException;
 import org.openhab.binding.onewire.internal.device.DS1923;
+import org.openhab.binding.onewire.internal.owserver.OwserverRefreshPlan;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.OnOffType;
 import org.openhab.core.library.types.QuantityType;
@@ -86,4 +90,17 @@ public class DS1923Test extends DeviceTestParent<DS1923> {
 
         inOrder.verifyNoMoreInteractions();
     }
+
+    @Test
+    public void valuesPlannedForRefresh() throws OwException {
+        final DS1923 testDevice = instantiateDevice();
+        final OwserverRefreshPlan refreshPlan = new OwserverRefreshPlan();
+
+        testDevice.enableChannel(CHANNEL_DEWPOINT);
+        testDevice.configureChannels();
+        testDevice.planRefresh(refreshPlan);
+
+        assertEquals(List.of("/00.000000000000/temperature", "/00.000000000000/humidity"), refreshPlan.getPaths());
+        assertTrue(refreshPlan.getSimultaneousConversionPaths().isEmpty());
+    }
 }
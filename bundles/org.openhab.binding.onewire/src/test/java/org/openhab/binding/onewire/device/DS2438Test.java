@@ -12,10 +12,13 @@
  */
 package org.openhab.binding.onewire.device;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.times;
 import static org.openhab.binding.onewire.internal.OwBindingConstants.*;
 
+import java.util.List;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -24,6 +27,7 @@ import org.mockito.Mockito;
 import org.openhab.binding.onewire.internal.OwException;
 import org.openhab.binding.onewire.internal.device.DS2438;
 import org.openhab.binding.onewire.internal.device.DS2438.LightSensorType;
+import org.openhab.binding.onewire.internal.owserver.OwserverRefreshPlan;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.OnOffType;
 import org.openhab.core.library.types.QuantityType;
@@ -192,4 +196,21 @@ public class DS2438Test extends DeviceTestParent<DS2438> {
 
         inOrder.verifyNoMoreInteractions();
     }
+
+    @Test
+    public void valuesPlannedForRefresh() throws OwException {
+        final DS2438 testDevice = instantiateDevice();
+        final OwserverRefreshPlan refreshPlan = new OwserverRefreshPlan();
+
+        testDevice.enableChannel(CHANNEL_TEMPERATURE);
+        testDevice.enableChannel(CHANNEL_CURRENT);
+        testDevice.enableChannel(CHANNEL_LIGHT);
+        testDevice.enableChannel(CHANNEL_SUPPLYVOLTAGE);
+        testDevice.configureChannels();
+        testDevice.setLightSensorType(LightSensorType.IBUTTONLINK);
+        testDevice.planRefresh(refreshPlan);
+
+        assertEquals(List.of("/00.000000000000/temperature", "/00.000000000000/VAD", "/00.000000000000/vis",
+                "/00.000000000000/VDD"), refreshPlan.getPaths());
+    }
 }
@@ -12,10 +12,13 @@
  */
 package org.openhab.binding.onewire.device;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.times;
 import static org.openhab.binding.onewire.internal.OwBindingConstants.*;
 
+import java.util.List;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -24,6 +27,7 @@ import org.mockito.Mockito;
 import org.openhab.binding.onewire.internal.OwException;
 import org.openhab.binding.onewire.internal.device.EDS006x;
 import org.openhab.binding.onewire.internal.device.OwSensorType;
+import org.openhab.binding.onewire.internal.owserver.OwserverRefreshPlan;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.OnOffType;
 import org.openhab.core.library.types.QuantityType;
@@ -139,4 +143,18 @@ public class EDS006xTest extends DeviceTestParent<EDS006x> {
 
         inOrder.verifyNoMoreInteractions();
     }
+
+    @Test
+    public void valuesPlannedForRefresh() throws OwException {
+        final EDS006x testDevice = instantiateDevice(OwSensorType.EDS0068);
+        final OwserverRefreshPlan refreshPlan = new OwserverRefreshPlan();
+
+        testDevice.enableChannel(CHANNEL_TEMPERATURE);
+        testDevice.enableChannel(CHANNEL_LIGHT);
+        testDevice.configureChannels();
+        testDevice.planRefresh(refreshPlan);
+
+        assertEquals(List.of("/00.000000000000/EDS0068/temperature", "/00.000000000000/EDS0068/light"),
+                refreshPlan.getPaths());
+    }
 }
@@ -17,6 +17,7 @@ import static org.mockito.Mockito.*;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -162,6 +163,56 @@ public class OwserverConnectionTest extends JavaTest {
         assertEquals(17.4, number.doubleValue(), 0.01);
     }
 
+    @Test
+    public void testReadDecimalTypesPipelined() throws Exception {
+        final OwserverConnection owserverConnection = this.owserverConnection;
+        final OwserverTestServer testServer = this.testServer;
+        if (owserverConnection == null || testServer == null) {
+            fail("connection or server is null");
+            return;
+        }
+        // replace the test server with one that supports persistent connections
+        testServer.stopServer();
+        CompletableFuture<Boolean> serverStarted = new CompletableFuture<>();
+        testPort = TestPortUtil.findFreePort();
+        final OwserverTestServer persistentTestServer = new OwserverTestServer(testPort, true);
+        persistentTestServer.startServer(serverStarted);
+        this.testServer = persistentTestServer;
+        serverStarted.get();
+        owserverConnection.setPort(testPort);
+        owserverConnection.start();
+
+        Map<String, State> values = owserverConnection.readDecimalTypes(List.of("testsensor/decimal",
+                "testsensor/missing", "testsensor/decimalarray", "testsensor/temperature"));
+
+        assertEquals(2, values.size());
+        assertEquals(17.4, ((DecimalType) values.get("testsensor/decimal")).doubleValue(), 0.01);
+        assertEquals(21.5, ((DecimalType) values.get("testsensor/temperature")).doubleValue(), 0.01);
+
+        // connection is still usable after the pipelined request
+        DecimalType number = (DecimalType) owserverConnection.readDecimalType("testsensor/decimal");
+        assertEquals(17.4, number.doubleValue(), 0.01);
+        Mockito.verify(bridgeHandler, never()).reportConnectionState(OwserverConnectionState.FAILED);
+    }
+
+    @Test
+    public void testReadDecimalTypesWithoutPersistence() {
+        final OwserverConnection owserverConnection = this.owserverConnection;
+        if (owserverConnection == null) {
+            fail("connection is null");
+            return;
+        }
+        owserverConnection.start();
+
+        Map<String, State> values = owserverConnection
+                .readDecimalTypes(List.of("testsensor/decimal", "testsensor/temperature"));
+
+        // the answers after the first one are lost when the server closes the connection
+        assertEquals(1, values.size());
+        assertEquals(17.4, ((DecimalType) values.get("testsensor/decimal")).doubleValue(), 0.01);
+        Mockito.verify(bridgeHandler, never()).reportConnectionState(OwserverConnectionState.FAILED);
+    }
+
     @Test
     public void testReadDecimalTypeArray() throws OwException {
         final OwserverConnection owserverConnection = this.owserverConnection;
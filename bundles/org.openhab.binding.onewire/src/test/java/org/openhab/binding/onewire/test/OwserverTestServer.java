@@ -16,6 +16,7 @@ import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.net.ServerSocket;
 import java.net.Socket;
@@ -26,6 +27,7 @@ import java.util.concurrent.CompletableFuture;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.binding.onewire.internal.OwException;
 import org.openhab.binding.onewire.internal.OwPageBuffer;
+import org.openhab.binding.onewire.internal.owserver.OwserverControlFlag;
 import org.openhab.binding.onewire.internal.owserver.OwserverPacket;
 import org.openhab.binding.onewire.internal.owserver.OwserverPacketType;
 import org.slf4j.Logger;
@@ -41,10 +43,23 @@ public class OwserverTestServer {
     private final Logger logger = LoggerFactory.getLogger(OwserverTestServer.class);
 
     private final ServerSocket serverSocket;
+    private final boolean persistent;
     private boolean isRunning = false;
 
     public OwserverTestServer(int port) throws IOException {
+        this(port, false);
+    }
+
+    /**
+     * create a test server
+     *
+     * @param port the port to listen on
+     * @param persistent true if the server grants persistent connections (multiple requests per connection)
+     * @throws IOException
+     */
+    public OwserverTestServer(int port, boolean persistent) throws IOException {
         serverSocket = new ServerSocket(port);
+        this.persistent = persistent;
     }
 
     public void startServer(CompletableFuture<Boolean> serverStarted) throws IOException {
@@ -62,19 +77,32 @@ public class OwserverTestServer {
                         final DataInputStream inputStream = new DataInputStream(connectionSocket.getInputStream());
                         final DataOutputStream outputStream = new DataOutputStream(connectionSocket.getOutputStream());
 
-                        receivedPacket = new OwserverPacket(inputStream, OwserverPacketType.REQUEST);
-                        logger.debug("received {}", receivedPacket);
+                        boolean keepConnection;
+                        do {
+                            try {
+                                receivedPacket = new OwserverPacket(inputStream, OwserverPacketType.REQUEST);
+                            } catch (EOFException e) {
+                                // client closed the connection
+                                break;
+                            }
+                            logger.debug("received {}", receivedPacket);
+                            keepConnection = persistent
+                                    && receivedPacket.hasControlFlag(OwserverControlFlag.PERSISTENCE);
 
-                        answerPackets = processPacket(receivedPacket);
+                            answerPackets = processPacket(receivedPacket);
 
-                        answerPackets.forEach(answerPacket -> {
-                            logger.debug("answering {}", answerPacket);
-                            try {
-                                outputStream.write(answerPacket.toBytes());
-                            } catch (IOException e) {
-                                logger.error("I/O Error: {}", e.getMessage());
+                            for (OwserverPacket answerPacket : answerPackets) {
+                                if (keepConnection) {
+                                    answerPacket.setControlFlags(OwserverControlFlag.PERSISTENCE);
+                                }
+                                logger.debug("answering {}", answerPacket);
+                                try {
+                                    outputStream.write(answerPacket.toBytes());
+                                } catch (IOException e) {
+                                    logger.error("I/O Error: {}", e.getMessage());
+                                }
                             }
-                        });
+                        } while (keepConnection && isRunning);
                     }
                 } catch (IOException e) {
                     logger.error("I/O Error: {}", e.getMessage());
@@ -129,7 +157,13 @@ public class OwserverTestServer {
                         returnPacket.setPayload("        3834,           0");
                         returnPackets.add(returnPacket);
                         break;
+                    case "testsensor/temperature":
+                        returnPacket.setPayload("     21.5");
+                        returnPackets.add(returnPacket);
+                        break;
                     default:
+                        returnPacket.setReturnCode(-1);
+                        returnPackets.add(returnPacket);
                 }
                 break;
             case WRITE:
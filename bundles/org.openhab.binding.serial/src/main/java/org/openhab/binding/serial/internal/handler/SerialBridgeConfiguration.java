@@ -52,9 +52,42 @@ public class SerialBridgeConfiguration {
      */
     public @Nullable String charset;
 
+    /**
+     * Framing of the received data (TIMEOUT, DELIMITER, FIXED_LENGTH, START_END)
+     */
+    public String framing = "TIMEOUT";
+
+    /**
+     * Delimiter ending a frame, supporting the escape sequences \n, \r, \t, \\ and \xHH
+     */
+    public String delimiter = "\\n";
+
+    /**
+     * Length of a frame for fixed length framing
+     */
+    public int frameLength = 0;
+
+    /**
+     * Byte starting a frame for start/end framing
+     */
+    public @Nullable String startByte;
+
+    /**
+     * Byte ending a frame for start/end framing
+     */
+    public @Nullable String endByte;
+
+    /**
+     * Time without data in milliseconds after which a frame ends (timeout framing) or an incomplete frame is
+     * discarded (all other framings), 0 to disable for the other framings
+     */
+    public int interByteTimeout = 100;
+
     @Override
     public String toString() {
         return "SerialBridgeConfiguration [serialPort=" + serialPort + ", Baudrate=" + baudRate + ", Databits="
-                + dataBits + ", Parity=" + parity + ", Stopbits=" + stopBits + ", charset=" + charset + "]";
+                + dataBits + ", Parity=" + parity + ", Stopbits=" + stopBits + ", charset=" + charset + ", framing="
+                + framing + ", delimiter=" + delimiter + ", frameLength=" + frameLength + ", startByte=" + startByte
+                + ", endByte=" + endByte + ", interByteTimeout=" + interByteTimeout + "]";
     }
 }
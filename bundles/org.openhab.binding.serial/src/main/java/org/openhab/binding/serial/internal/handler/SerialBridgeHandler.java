@@ -16,20 +16,24 @@ import static org.openhab.binding.serial.internal.SerialBindingConstants.BINARY_
 import static org.openhab.binding.serial.internal.SerialBindingConstants.STRING_CHANNEL;
 import static org.openhab.binding.serial.internal.SerialBindingConstants.TRIGGER_CHANNEL;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.charset.Charset;
 import java.nio.charset.IllegalCharsetNameException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.List;
 import java.util.TooManyListenersException;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.serial.internal.util.FrameDecoder;
+import org.openhab.binding.serial.internal.util.Framing;
 import org.openhab.binding.serial.internal.util.Parity;
 import org.openhab.binding.serial.internal.util.StopBits;
 import org.openhab.core.io.transport.serial.PortInUseException;
@@ -44,9 +48,11 @@ import org.openhab.core.library.types.StringType;
 import org.openhab.core.thing.Bridge;
 import org.openhab.core.thing.ChannelUID;
 import org.openhab.core.thing.CommonTriggerEvents;
+import org.openhab.core.thing.Thing;
 import org.openhab.core.thing.ThingStatus;
 import org.openhab.core.thing.ThingStatusDetail;
 import org.openhab.core.thing.binding.BaseBridgeHandler;
+import org.openhab.core.thing.binding.ThingHandler;
 import org.openhab.core.types.Command;
 import org.openhab.core.types.RefreshType;
 import org.slf4j.Logger;
@@ -75,8 +81,11 @@ public class SerialBridgeHandler extends BaseBridgeHandler implements SerialPort
 
     private @Nullable String lastValue;
 
-    private final AtomicBoolean readerActive = new AtomicBoolean(false);
-    private @Nullable ScheduledFuture<?> reader;
+    private final byte[] readBuffer = new byte[256];
+    private @Nullable FrameDecoder frameDecoder;
+    private @Nullable ScheduledFuture<?> frameTimeout;
+
+    private volatile SerialDeviceIndex deviceIndex = new SerialDeviceIndex(List.of());
 
     public SerialBridgeHandler(final Bridge bridge, final SerialPortManager serialPortManager) {
         super(bridge);
@@ -120,6 +129,14 @@ public class SerialBridgeHandler extends BaseBridgeHandler implements SerialPort
             return;
         }
 
+        try {
+            frameDecoder = createFrameDecoder();
+        } catch (final IllegalArgumentException e) {
+            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.OFFLINE.CONFIGURATION_ERROR,
+                    "Invalid framing: " + e.getMessage());
+            return;
+        }
+
         final String port = config.serialPort;
         if (port == null) {
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.OFFLINE.CONFIGURATION_ERROR, "Port must be set");
@@ -192,24 +209,27 @@ public class SerialBridgeHandler extends BaseBridgeHandler implements SerialPort
             this.outputStream = null;
         }
 
-        readerActive.set(false);
-        final ScheduledFuture<?> reader = this.reader;
-        if (reader != null) {
-            reader.cancel(false);
-            this.reader = null;
-        }
+        cancelFrameTimeout();
+        frameDecoder = null;
 
         lastValue = null;
     }
 
+    @Override
+    public void childHandlerInitialized(final ThingHandler childHandler, final Thing childThing) {
+        updateDeviceIndex();
+    }
+
+    @Override
+    public void childHandlerDisposed(final ThingHandler childHandler, final Thing childThing) {
+        updateDeviceIndex();
+    }
+
     @Override
     public void serialEvent(final SerialPortEvent event) {
         switch (event.getEventType()) {
             case SerialPortEvent.DATA_AVAILABLE:
-                if (readerActive.compareAndSet(false, true)) {
-                    reader = scheduler.schedule(() -> receiveAndProcess(new StringBuilder(), true), 0,
-                            TimeUnit.MILLISECONDS);
-                }
+                receiveAndProcess();
                 break;
             default:
                 break;
@@ -252,63 +272,161 @@ public class SerialBridgeHandler extends BaseBridgeHandler implements SerialPort
     }
 
     /**
-     * Read from the serial port and process the data
-     * 
-     * @param sb the string builder to receive the data
-     * @param firstAttempt indicates if this is the first read attempt without waiting
+     * Read the available data from the serial port and pass it to the frame decoder
      */
-    private void receiveAndProcess(final StringBuilder sb, final boolean firstAttempt) {
+    private void receiveAndProcess() {
         final InputStream inputStream = this.inputStream;
+        final FrameDecoder frameDecoder = this.frameDecoder;
 
-        if (inputStream == null) {
-            readerActive.set(false);
+        if (inputStream == null || frameDecoder == null) {
             return;
         }
 
         try {
-            if (firstAttempt || inputStream.available() > 0) {
-                final byte[] readBuffer = new byte[20];
-
-                // read data from serial device
-                while (inputStream.available() > 0) {
-                    final int bytes = inputStream.read(readBuffer);
-                    sb.append(new String(readBuffer, 0, bytes, charset));
+            // read data from serial device
+            while (inputStream.available() > 0) {
+                final int bytes = inputStream.read(readBuffer);
+                if (bytes <= 0) {
+                    break;
                 }
+                frameDecoder.decode(readBuffer, 0, bytes);
+            }
+        } catch (final IOException e) {
+            logger.debug("Error reading from serial port: {}", e.getMessage(), e);
+        }
 
-                // Add wait states around reading the stream, so that interrupted transmissions
-                // are merged
-                if (readerActive.get()) {
-                    reader = scheduler.schedule(() -> receiveAndProcess(sb, false), 100, TimeUnit.MILLISECONDS);
-                }
+        if (config.interByteTimeout > 0) {
+            restartFrameTimeout();
+        }
+    }
 
-            } else {
-                final String result = sb.toString();
+    /**
+     * Process a frame received from the serial port
+     *
+     * @param data the buffer containing the frame
+     * @param length the length of the frame
+     */
+    private void processFrame(final byte[] data, final int length) {
+        final String result = new String(data, 0, length, charset);
 
-                triggerChannel(TRIGGER_CHANNEL, CommonTriggerEvents.PRESSED);
-                refresh(STRING_CHANNEL, result);
-                refresh(BINARY_CHANNEL, result);
+        triggerChannel(TRIGGER_CHANNEL, CommonTriggerEvents.PRESSED);
+        refresh(STRING_CHANNEL, result);
+        refresh(BINARY_CHANNEL, result);
 
-                result.lines().forEach(l -> getThing().getThings().forEach(t -> {
-                    final SerialDeviceHandler device = (SerialDeviceHandler) t.getHandler();
-                    if (device != null) {
-                        device.handleData(l);
-                    }
-                }));
+        final SerialDeviceIndex deviceIndex = this.deviceIndex;
+        result.lines().forEach(deviceIndex::dispatch);
 
-                lastValue = result;
+        lastValue = result;
+    }
 
-                if (readerActive.compareAndSet(true, false)) {
-                    // Check we haven't received more data while processing
-                    if (inputStream.available() > 0 && readerActive.compareAndSet(false, true)) {
-                        reader = scheduler.schedule(() -> receiveAndProcess(new StringBuilder(), true), 0,
-                                TimeUnit.MILLISECONDS);
+    /**
+     * Create the frame decoder for the configured framing
+     *
+     * @return the frame decoder
+     * @throws IllegalArgumentException if the framing configuration is invalid
+     */
+    private FrameDecoder createFrameDecoder() {
+        final Framing framing = Framing.fromConfig(config.framing);
+        if (framing == Framing.TIMEOUT && config.interByteTimeout < 1) {
+            throw new IllegalArgumentException("Inter-byte timeout must be set for timeout framing");
+        }
+        return new FrameDecoder(this::processFrame, framing, parseDelimiter(config.delimiter, charset),
+                config.frameLength, parseByte(config.startByte), parseByte(config.endByte));
+    }
+
+    private synchronized void restartFrameTimeout() {
+        cancelFrameTimeout();
+        frameTimeout = scheduler.schedule(() -> {
+            final FrameDecoder frameDecoder = this.frameDecoder;
+            if (frameDecoder != null && frameDecoder.timeout() && frameDecoder.getFraming() != Framing.TIMEOUT) {
+                logger.debug("Incomplete frame received from serial port {} discarded", config.serialPort);
+            }
+        }, config.interByteTimeout, TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void cancelFrameTimeout() {
+        final ScheduledFuture<?> frameTimeout = this.frameTimeout;
+        if (frameTimeout != null) {
+            frameTimeout.cancel(false);
+            this.frameTimeout = null;
+        }
+    }
+
+    private void updateDeviceIndex() {
+        final List<SerialDeviceHandler> devices = new ArrayList<>();
+        getThing().getThings().forEach(t -> {
+            final ThingHandler handler = t.getHandler();
+            if (handler instanceof SerialDeviceHandler) {
+                devices.add((SerialDeviceHandler) handler);
+            }
+        });
+        deviceIndex = new SerialDeviceIndex(devices);
+    }
+
+    /**
+     * Parse a byte value given as decimal or hexadecimal (0x..) number
+     *
+     * @param value the config value
+     * @return the byte value or -1 if not set
+     */
+    private static int parseByte(final @Nullable String value) {
+        if (value == null || value.isBlank()) {
+            return -1;
+        }
+        try {
+            return Integer.decode(value.trim());
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid byte value '" + value + "'");
+        }
+    }
+
+    /**
+     * Convert a delimiter config value to bytes, replacing the escape sequences \n, \r, \t, \\ and \xHH
+     *
+     * @param value the config value
+     * @param charset the charset for all other characters
+     * @return the delimiter bytes
+     */
+    private static byte[] parseDelimiter(final String value, final Charset charset) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final StringBuilder text = new StringBuilder();
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c != '\\' || i + 1 >= value.length()) {
+                text.append(c);
+                continue;
+            }
+            final char escaped = value.charAt(++i);
+            switch (escaped) {
+                case 'n':
+                    text.append('\n');
+                    break;
+                case 'r':
+                    text.append('\r');
+                    break;
+                case 't':
+                    text.append('\t');
+                    break;
+                case 'x':
+                    if (i + 2 >= value.length()) {
+                        throw new IllegalArgumentException("Invalid escape sequence in '" + value + "'");
                     }
-                }
+                    bytes.writeBytes(text.toString().getBytes(charset));
+                    text.setLength(0);
+                    try {
+                        bytes.write(Integer.parseInt(value.substring(i + 1, i + 3), 16));
+                    } catch (final NumberFormatException e) {
+                        throw new IllegalArgumentException("Invalid escape sequence in '" + value + "'");
+                    }
+                    i += 2;
+                    break;
+                default:
+                    text.append(escaped);
+                    break;
             }
-        } catch (final IOException e) {
-            logger.debug("Error reading from serial port: {}", e.getMessage(), e);
-            readerActive.set(false);
         }
+        bytes.writeBytes(text.toString().getBytes(charset));
+        return bytes.toByteArray();
     }
 
     /**
@@ -122,6 +122,7 @@ public class SerialDeviceHandler extends BaseThingHandler {
 
     @Override
     public void dispose() {
+        devicePattern = null;
         channels.clear();
         lastValue = null;
         super.dispose();
@@ -141,6 +142,15 @@ public class SerialDeviceHandler extends BaseThingHandler {
         }
     }
 
+    /**
+     * Return the pattern identifying the data of this device
+     *
+     * @return the pattern or null if the device is not initialized
+     */
+    public @Nullable Pattern getDevicePattern() {
+        return devicePattern;
+    }
+
     /**
      * Return the bridge status.
      */
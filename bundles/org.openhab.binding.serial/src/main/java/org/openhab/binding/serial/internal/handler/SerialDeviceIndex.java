@@ -0,0 +1,183 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.serial.internal.handler;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link SerialDeviceIndex} finds the devices which can match a line of received data. The devices are indexed by
+ * the literal prefix of their pattern, so a line is only passed to the devices whose pattern prefix it starts with,
+ * instead of matching it against the pattern of every device.
+ *
+ * @author atje - Initial contribution
+ */
+@NonNullByDefault
+class SerialDeviceIndex {
+
+    private static final String REGEX_META_CHARACTERS = "\\[](){}.*+?^$|";
+
+    private final Map<String, List<SerialDeviceHandler>> devicesByPrefix = new HashMap<>();
+    private final int[] prefixLengths;
+
+    /**
+     * Create the index
+     *
+     * @param devices the device handlers, devices without a valid pattern are ignored
+     */
+    SerialDeviceIndex(final Collection<SerialDeviceHandler> devices) {
+        final TreeSet<Integer> lengths = new TreeSet<>();
+        for (final SerialDeviceHandler device : devices) {
+            final Pattern pattern = device.getDevicePattern();
+            if (pattern != null) {
+                final String prefix = getLiteralPrefix(pattern.pattern());
+                devicesByPrefix.computeIfAbsent(prefix, p -> new ArrayList<>()).add(device);
+                lengths.add(prefix.length());
+            }
+        }
+        prefixLengths = lengths.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Pass a line of received data to the devices whose pattern prefix matches the line
+     *
+     * @param line the line of data
+     */
+    void dispatch(final String line) {
+        for (final int length : prefixLengths) {
+            if (length > line.length()) {
+                break;
+            }
+            final List<SerialDeviceHandler> devices = devicesByPrefix.get(line.substring(0, length));
+            if (devices != null) {
+                devices.forEach(device -> device.handleData(line));
+            }
+        }
+    }
+
+    /**
+     * Return the literal text every match of a regular expression has to start with
+     *
+     * @param regex the regular expression
+     * @return the literal prefix, empty if there is none or it can't be determined
+     */
+    static String getLiteralPrefix(final String regex) {
+        if (hasTopLevelAlternation(regex)) {
+            // alternatives can start with different text
+            return "";
+        }
+        final StringBuilder prefix = new StringBuilder();
+        final int length = regex.length();
+        int i = regex.startsWith("^") ? 1 : 0;
+        while (i < length) {
+            // code points, so a quantifier applies to a whole supplementary character
+            int c = regex.codePointAt(i);
+            int next = i + Character.charCount(c);
+            if (c == '\\' && next < length && !Character.isLetterOrDigit(regex.charAt(next))) {
+                // escaped literal character
+                c = regex.codePointAt(next);
+                next += Character.charCount(c);
+            } else if (REGEX_META_CHARACTERS.indexOf(c) >= 0) {
+                break;
+            }
+            if (next < length) {
+                final char quantifier = regex.charAt(next);
+                if (quantifier == '?' || quantifier == '*' || quantifier == '{') {
+                    // the character is optional or repeated
+                    break;
+                } else if (quantifier == '+') {
+                    prefix.appendCodePoint(c);
+                    break;
+                }
+            }
+            prefix.appendCodePoint(c);
+            i = next;
+        }
+        return prefix.toString();
+    }
+
+    /**
+     * Check if a regular expression has alternatives outside of groups. Alternatives inside a group don't matter, as
+     * the prefix ends at the group.
+     *
+     * @param regex the regular expression
+     * @return true if the expression has top level alternatives or comments which might hide them
+     */
+    private static boolean hasTopLevelAlternation(final String regex) {
+        final int length = regex.length();
+        int depth = 0;
+        int classDepth = 0;
+        int i = 0;
+        while (i < length) {
+            final char c = regex.charAt(i);
+            if (c == '\\') {
+                if (regex.startsWith("Q", i + 1)) {
+                    final int end = regex.indexOf("\\E", i + 2);
+                    i = end < 0 ? length : end + 2;
+                } else {
+                    i += 2;
+                }
+                continue;
+            }
+            if (classDepth > 0) {
+                if (c == '[') {
+                    classDepth++;
+                } else if (c == ']') {
+                    classDepth--;
+                }
+            } else if (c == '[') {
+                classDepth = 1;
+                // a closing bracket at the start of a class is a literal
+                if (regex.startsWith("^", i + 1)) {
+                    i++;
+                }
+                if (regex.startsWith("]", i + 1)) {
+                    i++;
+                }
+            } else if (c == '(') {
+                if (isCommentsFlag(regex, i)) {
+                    return true;
+                }
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (c == '|' && depth == 0) {
+                return true;
+            }
+            i++;
+        }
+        return false;
+    }
+
+    private static boolean isCommentsFlag(final String regex, final int groupStart) {
+        if (!regex.startsWith("?", groupStart + 1)) {
+            return false;
+        }
+        for (int i = groupStart + 2; i < regex.length(); i++) {
+            final char c = regex.charAt(i);
+            if (c == 'x') {
+                return true;
+            } else if (!Character.isLetter(c) && c != '-') {
+                break;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,202 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.serial.internal.util;
+
+import java.util.Arrays;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link FrameDecoder} splits the data received from the serial port into frames. The received bytes are
+ * collected in a buffer that is reused for all frames, every complete frame is passed to the {@link FrameListener}.
+ *
+ * @author atje - Initial contribution
+ */
+@NonNullByDefault
+public class FrameDecoder {
+
+    /**
+     * Maximum length of a frame, longer frames are passed on (timeout and fixed length framing) or discarded
+     */
+    public static final int MAX_FRAME_LENGTH = 65536;
+
+    /**
+     * Listener for the decoded frames
+     */
+    public interface FrameListener {
+        /**
+         * A frame has been received. The data buffer is reused for the next frame, so it must be copied if needed.
+         *
+         * @param data the buffer containing the frame
+         * @param length the length of the frame
+         */
+        void frameReceived(byte[] data, int length);
+    }
+
+    private final FrameListener listener;
+    private final Framing framing;
+    private final byte[] delimiter;
+    private final int frameLength;
+    private final int startByte;
+    private final int endByte;
+
+    private byte[] buffer = new byte[256];
+    private int length = 0;
+    private boolean inFrame = false;
+
+    /**
+     * Create a decoder
+     *
+     * @param listener the listener for the decoded frames
+     * @param framing the framing mode
+     * @param delimiter the delimiter ending a frame (delimiter framing)
+     * @param frameLength the length of a frame (fixed length framing)
+     * @param startByte the byte starting a frame (start/end framing)
+     * @param endByte the byte ending a frame (start/end framing)
+     */
+    public FrameDecoder(final FrameListener listener, final Framing framing, final byte[] delimiter,
+            final int frameLength, final int startByte, final int endByte) {
+        if (framing == Framing.DELIMITER && delimiter.length == 0) {
+            throw new IllegalArgumentException("Delimiter must not be empty");
+        }
+        if (framing == Framing.FIXED_LENGTH && (frameLength < 1 || frameLength > MAX_FRAME_LENGTH)) {
+            throw new IllegalArgumentException("Frame length must be between 1 and " + MAX_FRAME_LENGTH);
+        }
+        if (framing == Framing.START_END && (startByte < 0 || startByte > 255 || endByte < 0 || endByte > 255)) {
+            throw new IllegalArgumentException("Start and end byte must be between 0 and 255");
+        }
+        this.listener = listener;
+        this.framing = framing;
+        this.delimiter = delimiter.clone();
+        this.frameLength = frameLength;
+        this.startByte = startByte;
+        this.endByte = endByte;
+    }
+
+    /**
+     * Return the framing mode
+     *
+     * @return the framing mode
+     */
+    public Framing getFraming() {
+        return framing;
+    }
+
+    /**
+     * Decode received data, the listener is called for each complete frame
+     *
+     * @param data the buffer with the received data
+     * @param offset the offset of the received data in the buffer
+     * @param count the number of received bytes
+     */
+    public synchronized void decode(final byte[] data, final int offset, final int count) {
+        for (int i = offset; i < offset + count; i++) {
+            final byte b = data[i];
+            switch (framing) {
+                case TIMEOUT:
+                    append(b);
+                    if (length == MAX_FRAME_LENGTH) {
+                        emit();
+                    }
+                    break;
+                case DELIMITER:
+                    append(b);
+                    if (endsWithDelimiter()) {
+                        length -= delimiter.length;
+                        emit();
+                    } else if (length == MAX_FRAME_LENGTH) {
+                        length = 0;
+                    }
+                    break;
+                case FIXED_LENGTH:
+                    append(b);
+                    if (length == frameLength) {
+                        emit();
+                    }
+                    break;
+                case START_END:
+                    final int value = b & 0xFF;
+                    if (value == startByte && (!inFrame || startByte != endByte)) {
+                        // a start byte always starts a new frame, discarding an incomplete one
+                        inFrame = true;
+                        length = 0;
+                    } else if (!inFrame) {
+                        // skip data between frames
+                    } else if (value == endByte) {
+                        inFrame = false;
+                        emit();
+                    } else if (length < MAX_FRAME_LENGTH) {
+                        append(b);
+                    } else {
+                        inFrame = false;
+                        length = 0;
+                    }
+                    break;
+            }
+        }
+    }
+
+    /**
+     * The inter-byte timeout has elapsed without receiving data. With timeout framing this completes the frame, with
+     * all other framings an incomplete frame is discarded.
+     *
+     * @return true if data of an incomplete frame was pending
+     */
+    public synchronized boolean timeout() {
+        final boolean pending = length > 0 || inFrame;
+        if (framing == Framing.TIMEOUT) {
+            if (length > 0) {
+                emit();
+            }
+        } else {
+            length = 0;
+            inFrame = false;
+        }
+        return pending;
+    }
+
+    /**
+     * Discard all pending data
+     */
+    public synchronized void reset() {
+        length = 0;
+        inFrame = false;
+    }
+
+    private void append(final byte b) {
+        if (length == buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.min(buffer.length * 2, MAX_FRAME_LENGTH));
+        }
+        buffer[length++] = b;
+    }
+
+    private boolean endsWithDelimiter() {
+        if (length < delimiter.length) {
+            return false;
+        }
+        for (int i = 0; i < delimiter.length; i++) {
+            if (buffer[length - delimiter.length + i] != delimiter[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void emit() {
+        final int frameLength = length;
+        length = 0;
+        if (frameLength > 0) {
+            listener.frameReceived(buffer, frameLength);
+        }
+    }
+}
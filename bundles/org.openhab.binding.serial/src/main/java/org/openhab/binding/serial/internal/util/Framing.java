@@ -0,0 +1,51 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.serial.internal.util;
+
+import java.util.Arrays;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * Enum to convert config framing value to the way the received data is split into frames
+ *
+ * @author atje - Initial contribution
+ */
+@NonNullByDefault
+public enum Framing {
+    /** a frame ends when no data has been received for the inter-byte timeout */
+    TIMEOUT("TIMEOUT"),
+    /** a frame ends with the delimiter */
+    DELIMITER("DELIMITER"),
+    /** all frames have the same length */
+    FIXED_LENGTH("FIXED_LENGTH"),
+    /** a frame starts with the start byte and ends with the end byte */
+    START_END("START_END");
+
+    final String configValue;
+
+    private Framing(final String configValue) {
+        this.configValue = configValue;
+    }
+
+    /**
+     * Return the enum value from the config value
+     *
+     * @param configValue the config value
+     * @return the enum value
+     */
+    public static Framing fromConfig(final String configValue) {
+        return Arrays.asList(values()).stream().filter(p -> p.configValue.equals(configValue)).findFirst()
+                .orElse(TIMEOUT);
+    }
+}
@@ -0,0 +1,110 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.serial.internal.handler;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the literal prefix of {@link SerialDeviceIndex}.
+ *
+ * @author atje - Initial contribution
+ */
+@NonNullByDefault
+public class SerialDeviceIndexTest {
+
+    @Test
+    public void literalPatternIsItsOwnPrefix() {
+        assertEquals("ID1:ON", SerialDeviceIndex.getLiteralPrefix("ID1:ON"));
+        assertEquals("ID1:", SerialDeviceIndex.getLiteralPrefix("^ID1:.*"));
+        assertEquals("", SerialDeviceIndex.getLiteralPrefix(".*ID1"));
+        assertEquals("", SerialDeviceIndex.getLiteralPrefix(""));
+    }
+
+    @Test
+    public void escapedCharactersAreLiterals() {
+        assertEquals("a.b", SerialDeviceIndex.getLiteralPrefix("a\\.b"));
+        assertEquals("[1]*", SerialDeviceIndex.getLiteralPrefix("\\[1\\]\\*"));
+        assertEquals("C:\\", SerialDeviceIndex.getLiteralPrefix("C:\\\\"));
+        assertEquals("T=", SerialDeviceIndex.getLiteralPrefix("T=\\d+"));
+        assertEquals("", SerialDeviceIndex.getLiteralPrefix("\\Qa.b\\E"));
+        assertEquals("x", SerialDeviceIndex.getLiteralPrefix("x\\x41"));
+    }
+
+    @Test
+    public void characterClassesEndThePrefix() {
+        assertEquals("ID", SerialDeviceIndex.getLiteralPrefix("ID[0-9]:ON"));
+        assertEquals("", SerialDeviceIndex.getLiteralPrefix("[Ii]d"));
+        assertEquals("ID", SerialDeviceIndex.getLiteralPrefix("ID(1|2)"));
+        assertEquals("", SerialDeviceIndex.getLiteralPrefix("(?i)id"));
+    }
+
+    @Test
+    public void alternationHasNoPrefix() {
+        assertEquals("", SerialDeviceIndex.getLiteralPrefix("ON|OFF"));
+        assertEquals("", SerialDeviceIndex.getLiteralPrefix("ID:(ON)|OFF"));
+        assertEquals("", SerialDeviceIndex.getLiteralPrefix("ID[(]|OFF"));
+        assertEquals("", SerialDeviceIndex.getLiteralPrefix("ID[]]|OFF"));
+        assertEquals("", SerialDeviceIndex.getLiteralPrefix("ID\\Q(\\E|OFF"));
+        assertEquals("", SerialDeviceIndex.getLiteralPrefix("ID(?x)#(\n|OFF"));
+    }
+
+    @Test
+    public void nestedAlternationKeepsThePrefix() {
+        assertEquals("ID:", SerialDeviceIndex.getLiteralPrefix("ID:(ON|OFF)"));
+        assertEquals("ID:", SerialDeviceIndex.getLiteralPrefix("ID:(?:ON|O(F|FF))"));
+        assertEquals("ID", SerialDeviceIndex.getLiteralPrefix("ID[|]"));
+        assertEquals("a|b", SerialDeviceIndex.getLiteralPrefix("a\\|b"));
+        assertEquals("ID", SerialDeviceIndex.getLiteralPrefix("ID[a[|]](A|B)"));
+    }
+
+    @Test
+    public void quantifiedCharacterIsNotPartOfThePrefix() {
+        assertEquals("colo", SerialDeviceIndex.getLiteralPrefix("colou?r"));
+        assertEquals("ab", SerialDeviceIndex.getLiteralPrefix("abc*"));
+        assertEquals("ab", SerialDeviceIndex.getLiteralPrefix("abc{2}"));
+        assertEquals("abc", SerialDeviceIndex.getLiteralPrefix("abc+d"));
+        assertEquals("a", SerialDeviceIndex.getLiteralPrefix("a\\.?b"));
+        assertEquals("a.", SerialDeviceIndex.getLiteralPrefix("a\\.+b"));
+        assertEquals("", SerialDeviceIndex.getLiteralPrefix("a?b"));
+    }
+
+    @Test
+    public void quantifiedSupplementaryCharacterIsNotPartOfThePrefix() {
+        assertEquals("x", SerialDeviceIndex.getLiteralPrefix("x\uD83D\uDE00?y"));
+        assertEquals("x\uD83D\uDE00", SerialDeviceIndex.getLiteralPrefix("x\uD83D\uDE00+"));
+        assertEquals("x\uD83D\uDE00y", SerialDeviceIndex.getLiteralPrefix("x\uD83D\uDE00y"));
+    }
+
+    @Test
+    public void everyMatchStartsWithThePrefix() {
+        final List<String> patterns = List.of("ID1:ON", "^ID1:.*", "ID[0-9]:(ON|OFF)", "ID:(ON|OFF)", "ID[(]|OFF",
+                "T=\\d+", "colou?r", "abc+d", "a\\.?b", "x\uD83D\uDE00?y", "\\[1\\]\\*", "ON|OFF");
+        final List<String> lines = List.of("ID1:ON", "ID1:OFF", "ID2:ON", "ID:ON", "ID:OFF", "T=21", "T=", "color",
+                "colour", "abcd", "abcccd", "ab", "a.b", "xy", "x\uD83D\uDE00y", "[1]*", "ON", "OFF", "");
+        for (final String regex : patterns) {
+            final String prefix = SerialDeviceIndex.getLiteralPrefix(regex);
+            final Pattern pattern = Pattern.compile(regex);
+            for (final String line : lines) {
+                if (pattern.matcher(line).matches()) {
+                    assertTrue(line.startsWith(prefix), "'" + line + "' matches '" + regex + "'");
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.serial.internal.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link FrameDecoder} with frames split and joined across the received chunks.
+ *
+ * @author atje - Initial contribution
+ */
+@NonNullByDefault
+public class FrameDecoderTest {
+
+    private final List<String> frames = new ArrayList<>();
+
+    private FrameDecoder decoder(final Framing framing, final byte[] delimiter, final int frameLength,
+            final int startByte, final int endByte) {
+        frames.clear();
+        return new FrameDecoder((data, length) -> frames.add(new String(data, 0, length, StandardCharsets.ISO_8859_1)),
+                framing, delimiter, frameLength, startByte, endByte);
+    }
+
+    private static byte[] bytes(final String data) {
+        return data.getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Feed the data in chunks of the given size, each chunk at an offset in a larger buffer
+     */
+    private static void feed(final FrameDecoder decoder, final byte[] data, final int chunkSize) {
+        for (int start = 0; start < data.length; start += chunkSize) {
+            final int count = Math.min(chunkSize, data.length - start);
+            final byte[] buffer = new byte[count + 4];
+            Arrays.fill(buffer, (byte) '#');
+            System.arraycopy(data, start, buffer, 2, count);
+            decoder.decode(buffer, 2, count);
+        }
+    }
+
+    /**
+     * Decode the data with all chunk sizes, from single bytes to all data in one chunk
+     */
+    private void assertFrames(final FrameDecoder decoder, final String data, final String... expected) {
+        final byte[] bytes = bytes(data);
+        for (int chunkSize = 1; chunkSize <= bytes.length; chunkSize++) {
+            frames.clear();
+            decoder.reset();
+            feed(decoder, bytes, chunkSize);
+            assertEquals(List.of(expected), frames, "chunk size " + chunkSize);
+        }
+    }
+
+    @Test
+    public void delimiterFraming() {
+        final FrameDecoder decoder = decoder(Framing.DELIMITER, bytes("\r\n"), 0, 0, 0);
+        assertFrames(decoder, "ID1:ON\r\nID2:OFF\r\n\r\nT=21\r\nrest", "ID1:ON", "ID2:OFF", "T=21");
+    }
+
+    @Test
+    public void delimiterFramingKeepsIncompleteDelimiter() {
+        final FrameDecoder decoder = decoder(Framing.DELIMITER, bytes("\r\n"), 0, 0, 0);
+        assertFrames(decoder, "a\rb\r\r\nc\n\r\n", "a\rb\r", "c\n");
+    }
+
+    @Test
+    public void delimiterFramingDiscardsIncompleteFrameOnTimeout() {
+        final FrameDecoder decoder = decoder(Framing.DELIMITER, bytes(";"), 0, 0, 0);
+        decoder.decode(bytes("abc"), 0, 3);
+        assertTrue(decoder.timeout());
+        decoder.decode(bytes("de;"), 0, 3);
+        assertEquals(List.of("de"), frames);
+        assertFalse(decoder.timeout());
+    }
+
+    @Test
+    public void fixedLengthFraming() {
+        final FrameDecoder decoder = decoder(Framing.FIXED_LENGTH, new byte[0], 3, 0, 0);
+        assertFrames(decoder, "abcdefghijk", "abc", "def", "ghi");
+    }
+
+    @Test
+    public void fixedLengthFramingWithSingleByteFrames() {
+        final FrameDecoder decoder = decoder(Framing.FIXED_LENGTH, new byte[0], 1, 0, 0);
+        assertFrames(decoder, "abc", "a", "b", "c");
+    }
+
+    @Test
+    public void startEndFraming() {
+        final FrameDecoder decoder = decoder(Framing.START_END, new byte[0], 0, 0x02, 0x03);
+        assertFrames(decoder, "noise\u0002ID1\u0003between\u0002\u0003\u0002ID2\u0003\u0002open", "ID1", "ID2");
+    }
+
+    @Test
+    public void startEndFramingRestartsOnStartByte() {
+        final FrameDecoder decoder = decoder(Framing.START_END, new byte[0], 0, 0x02, 0x03);
+        assertFrames(decoder, "\u0002lost\u0002kept\u0003\u0003", "kept");
+    }
+
+    @Test
+    public void startEndFramingWithSameStartAndEndByte() {
+        final FrameDecoder decoder = decoder(Framing.START_END, new byte[0], 0, '~', '~');
+        assertFrames(decoder, "x~one~~two~y~", "one", "two");
+    }
+
+    @Test
+    public void timeoutFramingCompletesFrameOnTimeout() {
+        final FrameDecoder decoder = decoder(Framing.TIMEOUT, new byte[0], 0, 0, 0);
+        feed(decoder, bytes("ID1:ON"), 2);
+        assertTrue(frames.isEmpty());
+        assertTrue(decoder.timeout());
+        assertEquals(List.of("ID1:ON"), frames);
+        assertFalse(decoder.timeout());
+    }
+
+    @Test
+    public void invalidConfigurationIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> decoder(Framing.DELIMITER, new byte[0], 0, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> decoder(Framing.FIXED_LENGTH, new byte[0], 0, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> decoder(Framing.START_END, new byte[0], 0, 256, 3));
+    }
+}
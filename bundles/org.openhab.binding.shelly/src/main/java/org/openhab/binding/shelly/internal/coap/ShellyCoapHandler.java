@@ -128,7 +128,7 @@ public class ShellyCoapHandler implements ShellyCoapListener {
                 String ps = substringAfter(profile.coiotEndpoint, ":");
                 coiotPort = Integer.parseInt(ps);
             }
-            coapServer.start(config.localIp, coiotPort, this);
+            coapServer.start(config.localIp, coiotPort, this, config.deviceIp, profile.mac);
             statusClient = new CoapClient(completeUrl(config.deviceIp, coiotPort, COLOIT_URI_DEVSTATUS))
                     .setTimeout((long) SHELLY_API_TIMEOUT_MS).useNONs().setEndpoint(coapServer.getEndpoint());
             @Nullable
@@ -176,30 +176,9 @@ public class ShellyCoapHandler implements ShellyCoapListener {
             return;
         }
 
+        // Multicast packets are routed to this handler by the ShellyCoapServer, responses to own requests are
+        // received directly
         List<Option> options = response.getOptions().asSortedList();
-        String ip = response.getSourceContext().getPeerAddress().toString();
-        boolean match = ip.contains(config.deviceIp);
-        if (!match) {
-            // We can't identify device by IP, so we need to check the CoAP header's Global Device ID
-            for (Option opt : options) {
-                if (opt.getNumber() == COIOT_OPTION_GLOBAL_DEVID) {
-                    String devid = opt.getStringValue();
-                    if (devid.contains("#")) {
-                        // Format: <device type>#<mac address>#<coap version>
-                        String macid = substringBetween(devid, "#", "#");
-                        if (profile.mac.toUpperCase().contains(macid.toUpperCase())) {
-                            match = true;
-                            break;
-                        }
-                    }
-                }
-            }
-        }
-        if (!match) {
-            // other instance
-            return;
-        }
-
         String payload = "";
         String devId = "";
         String uri = "";
@@ -678,6 +657,23 @@ public class ShellyCoapHandler implements ShellyCoapListener {
         return coiotErrors;
     }
 
+    /**
+     * Route the multicast packets of the device by its MAC address, which is known once the device profile was read
+     *
+     * @param mac MAC address of the device
+     */
+    public void updateDeviceMac(String mac) {
+        coapServer.updateRoute(this, mac);
+    }
+
+    public long getPacketCount() {
+        return coapServer.getPacketCount(this);
+    }
+
+    public long getDuplicateCount() {
+        return coapServer.getDuplicateCount(this);
+    }
+
     public void dispose() {
         stop();
     }
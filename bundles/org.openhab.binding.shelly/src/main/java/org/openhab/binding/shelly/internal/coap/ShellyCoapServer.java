@@ -12,20 +12,23 @@
  */
 package org.openhab.binding.shelly.internal.coap;
 
-import static org.openhab.binding.shelly.internal.coap.ShellyCoapJSonDTO.COIOT_PORT;
+import static org.openhab.binding.shelly.internal.coap.ShellyCoapJSonDTO.*;
 
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.SocketException;
 import java.net.UnknownHostException;
-import java.util.Set;
+import java.util.Arrays;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.californium.core.CoapResource;
 import org.eclipse.californium.core.CoapServer;
 import org.eclipse.californium.core.coap.CoAP;
 import org.eclipse.californium.core.coap.CoAP.Code;
 import org.eclipse.californium.core.coap.CoAP.ResponseCode;
+import org.eclipse.californium.core.coap.Option;
 import org.eclipse.californium.core.coap.Request;
 import org.eclipse.californium.core.coap.Response;
 import org.eclipse.californium.core.network.CoapEndpoint;
@@ -38,7 +41,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * The {@link ShellyCoapServer} implements the UDP listener and status event processor (for /cit/s messages)
+ * The {@link ShellyCoapServer} implements the UDP listener and status event processor (for /cit/s messages).
+ * Every multicast packet is routed to the single listener of the sending device, identified by the MAC address in the
+ * Global Device ID option or by the IP address of the sender.
  *
  * @author Markus Michels - Initial contribution
  */
@@ -50,7 +55,53 @@ public class ShellyCoapServer {
     private CoapEndpoint statusEndpoint = new CoapEndpoint.Builder().build();
     private @Nullable UdpMulticastConnector statusConnector;
     private CoapServer server = new CoapServer(NetworkConfig.getStandard(), COIOT_PORT);
-    private final Set<ShellyCoapListener> coapListeners = ConcurrentHashMap.newKeySet();
+    private final Map<ShellyCoapListener, CoIoTRoute> coapListeners = new ConcurrentHashMap<>();
+    private final Map<String, CoIoTRoute> routesByDevice = new ConcurrentHashMap<>();
+    private final Map<String, CoIoTRoute> routesByAddress = new ConcurrentHashMap<>();
+    private final AtomicLong unroutedPackets = new AtomicLong();
+
+    /**
+     * Route of the CoIoT packets of a single device to its listener
+     */
+    private static class CoIoTRoute {
+        // a multicast packet received a second time within this window is a duplicate
+        private static final long DUPLICATE_WINDOW_MS = 2000;
+
+        private final ShellyCoapListener listener;
+        private final String deviceAddress;
+        private String deviceId;
+        private long packets = 0;
+        private long duplicates = 0;
+        private int lastSerial = -1;
+        private byte[] lastPayload = new byte[0];
+        private long lastReceived = 0;
+
+        private CoIoTRoute(ShellyCoapListener listener, String deviceAddress, String deviceId) {
+            this.listener = listener;
+            this.deviceAddress = deviceAddress;
+            this.deviceId = deviceId;
+        }
+
+        /**
+         * Count the packet and check for a duplicate: same serial and same payload as the previous packet
+         *
+         * @return true: packet is a duplicate and should be dropped
+         */
+        private synchronized boolean isDuplicate(int serial, byte[] payload) {
+            long now = System.currentTimeMillis();
+            packets++;
+            boolean duplicate = serial >= 0 && serial == lastSerial && (now - lastReceived < DUPLICATE_WINDOW_MS)
+                    && Arrays.equals(payload, lastPayload);
+            if (duplicate) {
+                duplicates++;
+            } else {
+                lastSerial = serial;
+                lastPayload = payload;
+            }
+            lastReceived = now;
+            return duplicate;
+        }
+    }
 
     protected class ShellyStatusListener extends CoapResource {
         private ShellyCoapServer listener;
@@ -78,8 +129,17 @@ public class ShellyCoapServer {
         }
     }
 
-    public synchronized void start(String localIp, int port, ShellyCoapListener listener)
-            throws UnknownHostException, SocketException {
+    /**
+     * Start the listener (if not yet started) and register the route for the packets of a device
+     *
+     * @param localIp local IP address to bind to
+     * @param port CoIoT port
+     * @param listener listener for the packets of the device
+     * @param deviceIp IP address of the device
+     * @param deviceMac MAC address of the device, used to match the Global Device ID
+     */
+    public synchronized void start(String localIp, int port, ShellyCoapListener listener, String deviceIp,
+            String deviceMac) throws UnknownHostException, SocketException {
         if (!started) {
             logger.debug("Initializing CoIoT listener (local IP={}:{})", localIp, port);
             NetworkConfig nc = NetworkConfig.getStandard();
@@ -98,13 +158,137 @@ public class ShellyCoapServer {
             started = true;
         }
 
-        if (!coapListeners.contains(listener)) {
-            coapListeners.add(listener);
+        addRoute(listener, deviceIp, deviceMac);
+    }
+
+    /**
+     * Register the route for the packets of a device, replacing a previous route of the listener
+     *
+     * @param listener listener for the packets of the device
+     * @param deviceIp IP address of the device
+     * @param deviceMac MAC address of the device, empty if not yet known
+     */
+    synchronized void addRoute(ShellyCoapListener listener, String deviceIp, String deviceMac) {
+        removeRoute(listener);
+        CoIoTRoute route = new CoIoTRoute(listener, deviceIp, normalizeMac(deviceMac));
+        coapListeners.put(listener, route);
+        if (!route.deviceId.isEmpty()) {
+            routesByDevice.put(route.deviceId, route);
+        }
+        if (!deviceIp.isEmpty()) {
+            routesByAddress.put(deviceIp, route);
         }
     }
 
+    /**
+     * Update the MAC address of a registered device. The MAC address is only known once the device profile has been
+     * read, which happens after the listener was started. Packets with a sender IP different from the configured device
+     * IP can only be routed by the Global Device ID.
+     *
+     * @param listener listener of the device
+     * @param deviceMac MAC address of the device
+     */
+    public synchronized void updateRoute(ShellyCoapListener listener, String deviceMac) {
+        @Nullable
+        CoIoTRoute route = coapListeners.get(listener);
+        String deviceId = normalizeMac(deviceMac);
+        if (route == null || route.deviceId.equals(deviceId)) {
+            return;
+        }
+        if (!route.deviceId.isEmpty()) {
+            routesByDevice.remove(route.deviceId, route);
+        }
+        route.deviceId = deviceId;
+        if (!deviceId.isEmpty()) {
+            routesByDevice.put(deviceId, route);
+        }
+    }
+
+    /**
+     * Demultiplex an inbound packet: find the device by its Global Device ID or IP address, drop duplicates and pass
+     * the packet to the listener of the device
+     *
+     * @param response The packet
+     */
     protected void processResponse(Response response) {
-        coapListeners.forEach(listener -> listener.processResponse(response));
+        String devId = "";
+        int serial = -1;
+        for (Option opt : response.getOptions().asSortedList()) {
+            if (opt.getNumber() == COIOT_OPTION_GLOBAL_DEVID) {
+                devId = opt.getStringValue();
+            } else if (opt.getNumber() == COIOT_OPTION_STATUS_SERIAL) {
+                serial = opt.getIntegerValue();
+            }
+        }
+
+        @Nullable
+        CoIoTRoute route = null;
+        // Format: <device type>#<mac address>#<coap version>
+        String[] devIdParts = devId.split("#");
+        if (devIdParts.length > 1) {
+            route = routesByDevice.get(normalizeMac(devIdParts[1]));
+        }
+        if (route == null) {
+            route = routesByAddress.get(response.getSourceContext().getPeerAddress().getAddress().getHostAddress());
+        }
+        if (route == null) {
+            // packet of a device without thing
+            unroutedPackets.incrementAndGet();
+            logger.trace("CoIoT packet from unknown device {} ({}) skipped", devId,
+                    response.getSourceContext().getPeerAddress());
+            return;
+        }
+        if (route.isDuplicate(serial, response.getPayload())) {
+            logger.trace("CoIoT packet from {} with serial {} was already received, drop duplicate", devId, serial);
+            return;
+        }
+        route.listener.processResponse(response);
+    }
+
+    /**
+     * Get the number of packets received from a device, including duplicates
+     *
+     * @param listener The listener of the device
+     * @return number of packets
+     */
+    public long getPacketCount(ShellyCoapListener listener) {
+        @Nullable
+        CoIoTRoute route = coapListeners.get(listener);
+        return route != null ? route.packets : 0;
+    }
+
+    /**
+     * Get the number of duplicate packets received from a device and dropped
+     *
+     * @param listener The listener of the device
+     * @return number of duplicates
+     */
+    public long getDuplicateCount(ShellyCoapListener listener) {
+        @Nullable
+        CoIoTRoute route = coapListeners.get(listener);
+        return route != null ? route.duplicates : 0;
+    }
+
+    /**
+     * Get the number of packets received from devices without a thing
+     *
+     * @return number of packets
+     */
+    public long getUnroutedPacketCount() {
+        return unroutedPackets.get();
+    }
+
+    private synchronized void removeRoute(ShellyCoapListener listener) {
+        @Nullable
+        CoIoTRoute route = coapListeners.remove(listener);
+        if (route != null) {
+            routesByDevice.remove(route.deviceId, route);
+            routesByAddress.remove(route.deviceAddress, route);
+        }
+    }
+
+    private static String normalizeMac(String mac) {
+        return mac.replace(":", "").toUpperCase();
     }
 
     public static Response createResponse(Request request) {
@@ -125,8 +309,8 @@ public class ShellyCoapServer {
     /**
      * Cancel pending requests and shutdown the client
      */
-    public void stop(ShellyCoapListener listener) {
-        coapListeners.remove(listener);
+    public synchronized void stop(ShellyCoapListener listener) {
+        removeRoute(listener);
         if (coapListeners.isEmpty()) {
             stop();
         }
@@ -138,6 +322,8 @@ public class ShellyCoapServer {
             server.stop();
             statusEndpoint.stop();
             coapListeners.clear();
+            routesByDevice.clear();
+            routesByAddress.clear();
             started = false;
             logger.debug("CoAP Listener stopped");
         }
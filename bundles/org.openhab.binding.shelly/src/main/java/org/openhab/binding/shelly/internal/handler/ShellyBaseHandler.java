@@ -298,6 +298,7 @@ public class ShellyBaseHandler extends BaseThingHandler implements ShellyDeviceL
 
         logger.debug("{}: Thing successfully initialized.", thingName);
         profile = tmpPrf;
+        coap.updateDeviceMac(profile.mac);
         setThingOnline(); // if API call was successful the thing must be online
 
         return true; // success
@@ -564,6 +565,8 @@ public class ShellyBaseHandler extends BaseThingHandler implements ShellyDeviceL
         stats.lastUptime = getLong(status.uptime);
         stats.coiotMessages = coap.getMessageCount();
         stats.coiotErrors = coap.getErrorCount();
+        stats.coiotPackets = coap.getPacketCount();
+        stats.coiotDuplicates = coap.getDuplicateCount();
 
         if (!alarm.isEmpty()) {
             postEvent(alarm, false);
@@ -35,6 +35,8 @@ public class ShellyDeviceStats {
     public long lastAlarmTs = 0;
     public long coiotMessages = 0;
     public long coiotErrors = 0;
+    public long coiotPackets = 0;
+    public long coiotDuplicates = 0;
     public int wifiRssi = 0;
     public int maxInternalTemp = 0;
 
@@ -50,6 +52,8 @@ public class ShellyDeviceStats {
         prop.put("lastAlarmTs", ShellyUtils.convertTimestamp(lastAlarmTs));
         prop.put("coiotMessages", String.valueOf(coiotMessages));
         prop.put("coiotErrors", String.valueOf(coiotErrors));
+        prop.put("coiotPackets", String.valueOf(coiotPackets));
+        prop.put("coiotDuplicates", String.valueOf(coiotDuplicates));
         prop.put("wifiRssi", String.valueOf(wifiRssi));
         return prop;
     }
@@ -0,0 +1,158 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.shelly.internal.coap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.openhab.binding.shelly.internal.coap.ShellyCoapJSonDTO.*;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.californium.core.coap.CoAP.ResponseCode;
+import org.eclipse.californium.core.coap.Option;
+import org.eclipse.californium.core.coap.Response;
+import org.eclipse.californium.elements.AddressEndpointContext;
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the routing of CoIoT packets by the {@link ShellyCoapServer}.
+ *
+ * @author atje - Initial contribution
+ */
+@NonNullByDefault
+public class ShellyCoapServerTest {
+    private static final String DEVICE_IP = "192.168.1.20";
+    private static final String OTHER_IP = "192.168.1.99";
+    private static final String DEVICE_MAC = "a1:b2:c3:d4:e5:f6";
+    private static final String DEVICE_ID = "SHSW-1#A1B2C3D4E5F6#2";
+
+    private static class RecordingListener implements ShellyCoapListener {
+        private final List<Response> responses = new ArrayList<>();
+
+        @Override
+        public void processResponse(@Nullable Response response) {
+            if (response != null) {
+                responses.add(response);
+            }
+        }
+    }
+
+    private static Response packet(String sourceIp, String devId, int serial, String payload) {
+        Response response = new Response(ResponseCode.CONTENT);
+        if (!devId.isEmpty()) {
+            response.getOptions().addOption(new Option(COIOT_OPTION_GLOBAL_DEVID, devId));
+        }
+        response.getOptions().addOption(new Option(COIOT_OPTION_STATUS_SERIAL, serial));
+        response.setPayload(payload.getBytes(StandardCharsets.UTF_8));
+        response.setSourceContext(new AddressEndpointContext(new InetSocketAddress(sourceIp, COIOT_PORT)));
+        return response;
+    }
+
+    @Test
+    public void routesByMacWhenSenderIpDiffers() {
+        ShellyCoapServer server = new ShellyCoapServer();
+        RecordingListener device = new RecordingListener();
+        RecordingListener other = new RecordingListener();
+        server.addRoute(device, DEVICE_IP, DEVICE_MAC);
+        server.addRoute(other, OTHER_IP, "");
+
+        server.processResponse(packet(OTHER_IP, DEVICE_ID, 1, "{}"));
+
+        assertEquals(1, device.responses.size());
+        assertEquals(0, other.responses.size());
+        assertEquals(1, server.getPacketCount(device));
+        assertEquals(0, server.getUnroutedPacketCount());
+    }
+
+    @Test
+    public void routesByIpWithoutGlobalDeviceId() {
+        ShellyCoapServer server = new ShellyCoapServer();
+        RecordingListener device = new RecordingListener();
+        server.addRoute(device, DEVICE_IP, DEVICE_MAC);
+
+        server.processResponse(packet(DEVICE_IP, "", 1, "{}"));
+        server.processResponse(packet(DEVICE_IP, "SHSW-1#001122334455#2", 2, "{}"));
+
+        assertEquals(2, device.responses.size());
+        assertEquals(2, server.getPacketCount(device));
+    }
+
+    @Test
+    public void routeIsUpdatedOnceTheMacIsKnown() {
+        ShellyCoapServer server = new ShellyCoapServer();
+        RecordingListener device = new RecordingListener();
+        server.addRoute(device, DEVICE_IP, "");
+
+        server.processResponse(packet(OTHER_IP, DEVICE_ID, 1, "{}"));
+        assertEquals(0, device.responses.size());
+        assertEquals(1, server.getUnroutedPacketCount());
+
+        server.updateRoute(device, DEVICE_MAC);
+        server.processResponse(packet(OTHER_IP, DEVICE_ID, 2, "{}"));
+        server.processResponse(packet(DEVICE_IP, "", 3, "{}"));
+        assertEquals(2, device.responses.size());
+        assertEquals(1, server.getUnroutedPacketCount());
+    }
+
+    @Test
+    public void unknownDeviceIsNotRouted() {
+        ShellyCoapServer server = new ShellyCoapServer();
+        RecordingListener device = new RecordingListener();
+        server.addRoute(device, DEVICE_IP, DEVICE_MAC);
+
+        server.processResponse(packet(OTHER_IP, "SHSW-1#001122334455#2", 1, "{}"));
+        server.processResponse(packet(OTHER_IP, "", 2, "{}"));
+
+        assertEquals(0, device.responses.size());
+        assertEquals(0, server.getPacketCount(device));
+        assertEquals(2, server.getUnroutedPacketCount());
+    }
+
+    @Test
+    public void duplicatesAreDroppedAndCounted() {
+        ShellyCoapServer server = new ShellyCoapServer();
+        RecordingListener device = new RecordingListener();
+        server.addRoute(device, DEVICE_IP, DEVICE_MAC);
+
+        server.processResponse(packet(DEVICE_IP, DEVICE_ID, 7, "{\"G\":[[0,112,1]]}"));
+        server.processResponse(packet(DEVICE_IP, DEVICE_ID, 7, "{\"G\":[[0,112,1]]}"));
+        server.processResponse(packet(OTHER_IP, DEVICE_ID, 7, "{\"G\":[[0,112,1]]}"));
+        // same serial with a different payload and a new serial are no duplicates
+        server.processResponse(packet(DEVICE_IP, DEVICE_ID, 7, "{\"G\":[[0,112,0]]}"));
+        server.processResponse(packet(DEVICE_IP, DEVICE_ID, 8, "{\"G\":[[0,112,0]]}"));
+
+        assertEquals(3, device.responses.size());
+        assertEquals(5, server.getPacketCount(device));
+        assertEquals(2, server.getDuplicateCount(device));
+    }
+
+    @Test
+    public void stoppedListenerReceivesNoPackets() {
+        ShellyCoapServer server = new ShellyCoapServer();
+        RecordingListener device = new RecordingListener();
+        RecordingListener other = new RecordingListener();
+        server.addRoute(device, DEVICE_IP, DEVICE_MAC);
+        server.addRoute(other, OTHER_IP, "");
+
+        server.stop(device);
+        server.processResponse(packet(DEVICE_IP, DEVICE_ID, 1, "{}"));
+
+        assertEquals(0, device.responses.size());
+        assertEquals(0, server.getPacketCount(device));
+        assertEquals(1, server.getUnroutedPacketCount());
+    }
+}
@@ -17,11 +17,13 @@ import java.io.StringReader;
 import java.net.URL;
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -83,6 +85,51 @@ public class SonosXMLParser {
         desc
     }
 
+    /**
+     * The zone group state is the same for all players of a household, so the last parsed state is shared by all of
+     * them.
+     */
+    private static class ParsedZoneGroups {
+        private final String xml;
+        private final List<SonosZoneGroup> groups;
+
+        ParsedZoneGroups(String xml, List<SonosZoneGroup> groups) {
+            this.xml = xml;
+            this.groups = groups;
+        }
+    }
+
+    private static volatile @Nullable ParsedZoneGroups lastZoneGroups;
+
+    /**
+     * Each thread keeps an XML reader for reuse, as creating a reader is much more expensive than parsing a typical
+     * event. A reader is taken out while it is parsing, so a nested parse on the same thread creates a new one.
+     */
+    private static final ThreadLocal<@Nullable XMLReader> READERS = new ThreadLocal<>();
+    private static final DefaultHandler NO_HANDLER = new DefaultHandler();
+
+    private static void parse(String xml, DefaultHandler handler) throws IOException, SAXException {
+        parse(new InputSource(new StringReader(xml)), handler);
+    }
+
+    private static void parse(InputSource source, DefaultHandler handler) throws IOException, SAXException {
+        XMLReader reader = READERS.get();
+        if (reader == null) {
+            reader = XMLReaderFactory.createXMLReader();
+            reader.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+        } else {
+            READERS.set(null);
+        }
+        try {
+            reader.setContentHandler(handler);
+            reader.parse(source);
+        } finally {
+            // Don't keep the handler and its results reachable from the thread
+            reader.setContentHandler(NO_HANDLER);
+            READERS.set(reader);
+        }
+    }
+
     /**
      * @param xml
      * @return a list of alarms from the given xml string.
@@ -92,9 +139,7 @@ public class SonosXMLParser {
     public static List<SonosAlarm> getAlarmsFromStringResult(String xml) {
         AlarmHandler handler = new AlarmHandler();
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(handler);
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(xml, handler);
         } catch (IOException e) {
             LOGGER.error("Could not parse Alarms from string '{}'", xml);
         } catch (SAXException s) {
@@ -112,9 +157,7 @@ public class SonosXMLParser {
     public static List<SonosEntry> getEntriesFromString(String xml) {
         EntryHandler handler = new EntryHandler();
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(handler);
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(xml, handler);
         } catch (IOException e) {
             LOGGER.error("Could not parse Entries from string '{}'", xml);
         } catch (SAXException s) {
@@ -133,12 +176,9 @@ public class SonosXMLParser {
      * @throws SAXException
      */
     public static @Nullable SonosResourceMetaData getResourceMetaData(String xml) throws SAXException {
-        XMLReader reader = XMLReaderFactory.createXMLReader();
-        reader.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
         ResourceMetaDataHandler handler = new ResourceMetaDataHandler();
-        reader.setContentHandler(handler);
         try {
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(xml, handler);
         } catch (IOException e) {
             LOGGER.error("Could not parse Resource MetaData from String '{}'", xml);
         } catch (SAXException s) {
@@ -155,11 +195,13 @@ public class SonosXMLParser {
      * @throws SAXException
      */
     public static List<SonosZoneGroup> getZoneGroupFromXML(String xml) {
+        ParsedZoneGroups cached = lastZoneGroups;
+        if (cached != null && cached.xml.equals(xml)) {
+            return cached.groups;
+        }
         ZoneGroupHandler handler = new ZoneGroupHandler();
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(handler);
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(xml, handler);
         } catch (IOException e) {
             // This should never happen - we're not performing I/O!
             LOGGER.error("Could not parse ZoneGroup from string '{}'", xml);
@@ -167,15 +209,15 @@ public class SonosXMLParser {
             LOGGER.error("Could not parse ZoneGroup from string '{}'", xml);
         }
 
-        return handler.getGroups();
+        List<SonosZoneGroup> groups = Collections.unmodifiableList(handler.getGroups());
+        lastZoneGroups = new ParsedZoneGroups(xml, groups);
+        return groups;
     }
 
     public static List<String> getRadioTimeFromXML(String xml) {
         OpmlHandler handler = new OpmlHandler();
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(handler);
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(xml, handler);
         } catch (IOException e) {
             // This should never happen - we're not performing I/O!
             LOGGER.error("Could not parse RadioTime from string '{}'", xml);
@@ -187,41 +229,55 @@ public class SonosXMLParser {
     }
 
     public static Map<String, String> getRenderingControlFromXML(String xml) {
-        RenderingControlEventHandler handler = new RenderingControlEventHandler();
+        Map<String, String> changes = new HashMap<>();
+        parseRenderingControlEvent(xml, changes::put);
+        return changes;
+    }
+
+    /**
+     * Parses a LastChange event of the RenderingControl service in a single pass.
+     *
+     * @param xml the LastChange value
+     * @param consumer receives the changed variables and their values, in the order of the event
+     */
+    public static void parseRenderingControlEvent(String xml, BiConsumer<String, String> consumer) {
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(handler);
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(xml, new RenderingControlEventHandler(consumer));
         } catch (IOException e) {
             // This should never happen - we're not performing I/O!
             LOGGER.error("Could not parse Rendering Control from string '{}'", xml);
         } catch (SAXException s) {
             LOGGER.error("Could not parse Rendering Control from string '{}'", xml);
         }
-        return handler.getChanges();
     }
 
     public static Map<String, String> getAVTransportFromXML(String xml) {
-        AVTransportEventHandler handler = new AVTransportEventHandler();
+        Map<String, String> changes = new HashMap<>();
+        parseAVTransportEvent(xml, changes::put);
+        return changes;
+    }
+
+    /**
+     * Parses a LastChange event of the AVTransport service in a single pass.
+     *
+     * @param xml the LastChange value
+     * @param consumer receives the changed variables and their values, in the order of the event
+     */
+    public static void parseAVTransportEvent(String xml, BiConsumer<String, String> consumer) {
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(handler);
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(xml, new AVTransportEventHandler(consumer));
         } catch (IOException e) {
             // This should never happen - we're not performing I/O!
             LOGGER.error("Could not parse AV Transport from string '{}'", xml);
         } catch (SAXException s) {
             LOGGER.error("Could not parse AV Transport from string '{}'", xml);
         }
-        return handler.getChanges();
     }
 
     public static SonosMetaData getMetaDataFromXML(String xml) {
         MetaDataHandler handler = new MetaDataHandler();
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(handler);
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(xml, handler);
         } catch (IOException e) {
             // This should never happen - we're not performing I/O!
             LOGGER.error("Could not parse MetaData from string '{}'", xml);
@@ -235,9 +291,7 @@ public class SonosXMLParser {
     public static List<SonosMusicService> getMusicServicesFromXML(String xml) {
         MusicServiceHandler handler = new MusicServiceHandler();
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(handler);
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(xml, handler);
         } catch (IOException e) {
             // This should never happen - we're not performing I/O!
             LOGGER.error("Could not parse music services from string '{}'", xml);
@@ -713,7 +767,11 @@ public class SonosXMLParser {
          * </Event>
          */
 
-        private final Map<String, String> changes = new HashMap<>();
+        private final BiConsumer<String, String> changes;
+
+        AVTransportEventHandler(BiConsumer<String, String> changes) {
+            this.changes = changes;
+        }
 
         @Override
         public void startElement(@Nullable String uri, @Nullable String localName, @Nullable String qName,
@@ -728,14 +786,10 @@ public class SonosXMLParser {
             } else {
                 String val = attributes == null ? null : attributes.getValue("val");
                 if (val != null) {
-                    changes.put(localName, val);
+                    changes.accept(localName, val);
                 }
             }
         }
-
-        public Map<String, String> getChanges() {
-            return changes;
-        }
     }
 
     private static class MetaDataHandler extends DefaultHandler {
@@ -843,11 +897,15 @@ public class SonosXMLParser {
 
     private static class RenderingControlEventHandler extends DefaultHandler {
 
-        private final Map<String, String> changes = new HashMap<>();
+        private final BiConsumer<String, String> changes;
 
         private boolean getPresetName = false;
         private @Nullable String presetName;
 
+        RenderingControlEventHandler(BiConsumer<String, String> changes) {
+            this.changes = changes;
+        }
+
         @Override
         public void startElement(@Nullable String uri, @Nullable String localName, @Nullable String qName,
                 @Nullable Attributes attributes) throws SAXException {
@@ -863,7 +921,7 @@ public class SonosXMLParser {
                     channel = attributes == null ? null : attributes.getValue("channel");
                     val = attributes == null ? null : attributes.getValue("val");
                     if (channel != null && val != null) {
-                        changes.put(qName + channel, val);
+                        changes.accept(qName + channel, val);
                     }
                     break;
                 case "Bass":
@@ -881,7 +939,7 @@ public class SonosXMLParser {
                 case "HeightChannelLevel":
                     val = attributes == null ? null : attributes.getValue("val");
                     if (val != null) {
-                        changes.put(qName, val);
+                        changes.accept(qName, val);
                     }
                     break;
                 case "PresetNameList":
@@ -906,14 +964,10 @@ public class SonosXMLParser {
                 getPresetName = false;
                 String preset = presetName;
                 if (qName != null && preset != null) {
-                    changes.put(qName, preset);
+                    changes.accept(qName, preset);
                 }
             }
         }
-
-        public Map<String, String> getChanges() {
-            return changes;
-        }
     }
 
     private static class MusicServiceHandler extends DefaultHandler {
@@ -938,10 +992,8 @@ public class SonosXMLParser {
     public static @Nullable String getRoomName(String descriptorXML) {
         RoomNameHandler roomNameHandler = new RoomNameHandler();
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(roomNameHandler);
             URL url = new URL(descriptorXML);
-            reader.parse(new InputSource(url.openStream()));
+            parse(new InputSource(url.openStream()), roomNameHandler);
         } catch (IOException | SAXException e) {
             LOGGER.error("Could not parse Sonos room name from string '{}'", descriptorXML);
         }
@@ -977,10 +1029,8 @@ public class SonosXMLParser {
     public static @Nullable String parseModelDescription(URL descriptorURL) {
         ModelNameHandler modelNameHandler = new ModelNameHandler();
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(modelNameHandler);
             URL url = new URL(descriptorURL.toString());
-            reader.parse(new InputSource(url.openStream()));
+            parse(new InputSource(url.openStream()), modelNameHandler);
         } catch (IOException | SAXException e) {
             LOGGER.error("Could not parse Sonos model name from string '{}'", descriptorURL.toString());
         }
@@ -31,6 +31,7 @@ import java.util.Map;
 import java.util.TimeZone;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -489,11 +490,13 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
 
             // pre-process some variables, eg XML processing
             if (SERVICE_AV_TRANSPORT.equals(service) && "LastChange".equals(variable)) {
-                Map<String, String> parsedValues = SonosXMLParser.getAVTransportFromXML(value);
-                parsedValues.forEach((variable1, value1) -> {
+                AtomicReference<@Nullable String> transportState = new AtomicReference<>();
+                SonosXMLParser.parseAVTransportEvent(value, (variable1, value1) -> {
                     // Update the transport state after the update of the media information
                     // to not break the notification mechanism
-                    if (!"TransportState".equals(variable1)) {
+                    if ("TransportState".equals(variable1)) {
+                        transportState.set(value1);
+                    } else {
                         onValueReceived(variable1, value1, service);
                     }
                     // Translate AVTransportURI/AVTransportURIMetaData to CurrentURI/CurrentURIMetaData
@@ -505,14 +508,14 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
                     }
                 });
                 updateMediaInformation();
-                if (parsedValues.get("TransportState") != null) {
-                    onValueReceived("TransportState", parsedValues.get("TransportState"), service);
+                String newTransportState = transportState.get();
+                if (newTransportState != null) {
+                    onValueReceived("TransportState", newTransportState, service);
                 }
             }
 
             if (SERVICE_RENDERING_CONTROL.equals(service) && "LastChange".equals(variable)) {
-                Map<String, String> parsedValues = SonosXMLParser.getRenderingControlFromXML(value);
-                parsedValues.forEach((variable1, value1) -> {
+                SonosXMLParser.parseRenderingControlEvent(value, (variable1, value1) -> {
                     onValueReceived(variable1, value1, service);
                 });
             }
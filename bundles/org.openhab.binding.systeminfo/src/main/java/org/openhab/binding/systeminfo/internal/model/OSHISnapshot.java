@@ -0,0 +1,211 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.systeminfo.internal.model;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+import oshi.hardware.CentralProcessor;
+import oshi.hardware.GlobalMemory;
+import oshi.hardware.NetworkIF;
+import oshi.hardware.PowerSource;
+import oshi.hardware.VirtualMemory;
+import oshi.software.os.OSFileStore;
+import oshi.software.os.OSProcess;
+import oshi.software.os.OperatingSystem;
+
+/**
+ * A snapshot of the dynamic system information. Memory, swap, load average and uptime are sampled when the snapshot
+ * is taken. The values of a process, file store, network interface or power source and the thread count are sampled
+ * the first time they are requested from the snapshot. Once sampled, a value never changes, so all channels refreshed
+ * with the same snapshot read the same values, even if another snapshot is taken meanwhile.
+ *
+ * @author atje - Initial contribution
+ */
+@NonNullByDefault
+class OSHISnapshot {
+    private static final int LOAD_AVERAGE_ELEMENTS = 3;
+
+    private final long timestamp = System.nanoTime();
+
+    private final OperatingSystem operatingSystem;
+
+    private final long memoryTotal;
+    private final long memoryAvailable;
+    private final long swapTotal;
+    private final long swapUsed;
+    private final double[] systemLoadAverage;
+    private final long systemUptime;
+    private volatile int threadCount = -1;
+
+    private final Map<Integer, Optional<OSProcess>> processes = new ConcurrentHashMap<>();
+    private final Map<Integer, FileStoreSpace> fileStoreSpaces = new ConcurrentHashMap<>();
+    private final Map<Integer, NetworkTraffic> networkTraffics = new ConcurrentHashMap<>();
+    private final Map<Integer, PowerSourceState> powerSourceStates = new ConcurrentHashMap<>();
+
+    /**
+     * Space of a file store at the time it was sampled.
+     */
+    static class FileStoreSpace {
+        final long totalSpace;
+        final long usableSpace;
+
+        private FileStoreSpace(OSFileStore fileStore) {
+            synchronized (fileStore) {
+                fileStore.updateAttributes();
+                totalSpace = fileStore.getTotalSpace();
+                usableSpace = fileStore.getUsableSpace();
+            }
+        }
+    }
+
+    /**
+     * Traffic counters and addresses of a network interface at the time it was sampled.
+     */
+    static class NetworkTraffic {
+        final String[] ipv4Addresses;
+        final long bytesSent;
+        final long bytesRecv;
+        final long packetsSent;
+        final long packetsRecv;
+
+        private NetworkTraffic(NetworkIF network) {
+            synchronized (network) {
+                network.updateAttributes();
+                ipv4Addresses = network.getIPv4addr();
+                bytesSent = network.getBytesSent();
+                bytesRecv = network.getBytesRecv();
+                packetsSent = network.getPacketsSent();
+                packetsRecv = network.getPacketsRecv();
+            }
+        }
+    }
+
+    /**
+     * State of a power source at the time it was sampled.
+     */
+    static class PowerSourceState {
+        final double timeRemainingEstimated;
+        final double remainingCapacityPercent;
+
+        private PowerSourceState(PowerSource powerSource) {
+            synchronized (powerSource) {
+                powerSource.updateAttributes();
+                timeRemainingEstimated = powerSource.getTimeRemainingEstimated();
+                remainingCapacityPercent = powerSource.getRemainingCapacityPercent();
+            }
+        }
+    }
+
+    OSHISnapshot(OperatingSystem operatingSystem, CentralProcessor cpu, GlobalMemory memory) {
+        this.operatingSystem = operatingSystem;
+        memoryTotal = memory.getTotal();
+        memoryAvailable = memory.getAvailable();
+        VirtualMemory virtualMemory = memory.getVirtualMemory();
+        swapTotal = virtualMemory.getSwapTotal();
+        swapUsed = virtualMemory.getSwapUsed();
+        systemLoadAverage = cpu.getSystemLoadAverage(LOAD_AVERAGE_ELEMENTS);
+        systemUptime = operatingSystem.getSystemUptime();
+    }
+
+    /**
+     * Returns true if this snapshot was taken less than the given time ago.
+     */
+    boolean isYoungerThan(long maxAgeInMillis) {
+        return System.nanoTime() - timestamp < maxAgeInMillis * 1_000_000L;
+    }
+
+    long getMemoryTotal() {
+        return memoryTotal;
+    }
+
+    long getMemoryAvailable() {
+        return memoryAvailable;
+    }
+
+    long getSwapTotal() {
+        return swapTotal;
+    }
+
+    long getSwapUsed() {
+        return swapUsed;
+    }
+
+    /**
+     * Returns the system load average for the last 1, 5 and 15 minutes.
+     */
+    double[] getSystemLoadAverage() {
+        return systemLoadAverage;
+    }
+
+    long getSystemUptime() {
+        return systemUptime;
+    }
+
+    /**
+     * Returns the thread count, which is only sampled on request because it is expensive on some systems.
+     */
+    synchronized int getThreadCount() {
+        if (threadCount < 0) {
+            threadCount = operatingSystem.getThreadCount();
+        }
+        return threadCount;
+    }
+
+    /**
+     * Returns the process with the given PID, as it was when it was first requested from this snapshot.
+     */
+    OSProcess getProcess(int pid) throws DeviceNotFoundException {
+        Optional<OSProcess> process = processes.computeIfAbsent(pid,
+                key -> Optional.ofNullable(operatingSystem.getProcess(key)));
+        if (process.isEmpty()) {
+            throw new DeviceNotFoundException("Error while getting information for process with PID " + pid);
+        }
+        return process.get();
+    }
+
+    /**
+     * Returns the space of the file store, as it was when it was first requested from this snapshot.
+     */
+    FileStoreSpace getFileStoreSpace(List<OSFileStore> fileStores, int index) throws DeviceNotFoundException {
+        OSFileStore fileStore = getDevice(fileStores, index);
+        return fileStoreSpaces.computeIfAbsent(index, key -> new FileStoreSpace(fileStore));
+    }
+
+    /**
+     * Returns the traffic of the network interface, as it was when it was first requested from this snapshot.
+     */
+    NetworkTraffic getNetworkTraffic(List<NetworkIF> networks, int index) throws DeviceNotFoundException {
+        NetworkIF network = getDevice(networks, index);
+        return networkTraffics.computeIfAbsent(index, key -> new NetworkTraffic(network));
+    }
+
+    /**
+     * Returns the state of the power source, as it was when it was first requested from this snapshot.
+     */
+    PowerSourceState getPowerSourceState(List<PowerSource> powerSources, int index) throws DeviceNotFoundException {
+        PowerSource powerSource = getDevice(powerSources, index);
+        return powerSourceStates.computeIfAbsent(index, key -> new PowerSourceState(powerSource));
+    }
+
+    private <T> T getDevice(List<T> devices, int index) throws DeviceNotFoundException {
+        if (devices.size() <= index) {
+            throw new DeviceNotFoundException("Device with index: " + index + " can not be found!");
+        }
+        return devices.get(index);
+    }
+}
@@ -49,6 +49,7 @@ import oshi.util.EdidUtil;
  * @author Christoph Weitkamp - Update to OSHI 3.13.0 - Replaced deprecated method
  *         CentralProcessor#getSystemSerialNumber()
  * @author Wouter Born - Update to OSHI 4.0.0 and add null annotations
+ * @author atje - Read the dynamic information from a shared snapshot
  *
  * @see <a href="https://github.com/oshi/oshi">OSHI GitHub repository</a>
  */
@@ -74,6 +75,12 @@ public class OSHISysteminfo implements SysteminfoInterface {
     private @NonNullByDefault({}) List<PowerSource> powerSources;
     private @NonNullByDefault({}) List<HWDiskStore> drives;
 
+    // Dynamic information of the latest refresh, shared by all things
+    private volatile @NonNullByDefault({}) OSHISnapshot snapshot;
+
+    // The service that takes the snapshots, null for the service itself
+    private final @Nullable OSHISysteminfo service;
+
     public static final int PRECISION_AFTER_DECIMAL_SIGN = 1;
 
     /**
@@ -82,6 +89,26 @@ public class OSHISysteminfo implements SysteminfoInterface {
      */
     public OSHISysteminfo() {
         logger.debug("OSHISysteminfo service is created");
+        service = null;
+    }
+
+    /**
+     * Creates a view of the service which reads all dynamic information from the given snapshot.
+     */
+    private OSHISysteminfo(OSHISysteminfo service, OSHISnapshot snapshot) {
+        this.service = service;
+        this.snapshot = snapshot;
+        hal = service.hal;
+        memory = service.memory;
+        cpu = service.cpu;
+        sensors = service.sensors;
+        computerSystem = service.computerSystem;
+        operatingSystem = service.operatingSystem;
+        networks = service.networks;
+        displays = service.displays;
+        fileStores = service.fileStores;
+        powerSources = service.powerSources;
+        drives = service.drives;
     }
 
     @Override
@@ -103,6 +130,25 @@ public class OSHISysteminfo implements SysteminfoInterface {
         fileStores = operatingSystem.getFileSystem().getFileStores();
         powerSources = hal.getPowerSources();
         drives = hal.getDiskStores();
+
+        snapshot = new OSHISnapshot(operatingSystem, cpu, memory);
+    }
+
+    @Override
+    public SysteminfoInterface refreshSnapshot(long maxAgeInMillis) {
+        OSHISysteminfo localService = service;
+        if (localService != null) {
+            return localService.refreshSnapshot(maxAgeInMillis);
+        }
+        OSHISnapshot currentSnapshot;
+        synchronized (this) {
+            currentSnapshot = snapshot;
+            if (currentSnapshot == null || !currentSnapshot.isYoungerThan(maxAgeInMillis)) {
+                currentSnapshot = new OSHISnapshot(operatingSystem, cpu, memory);
+                snapshot = currentSnapshot;
+            }
+        }
+        return new OSHISysteminfo(this, currentSnapshot);
     }
 
     private <T> T getDevice(List<@Nullable T> devices, int index) throws DeviceNotFoundException {
@@ -119,14 +165,6 @@ public class OSHISysteminfo implements SysteminfoInterface {
         return devices[index];
     }
 
-    private OSProcess getProcess(int pid) throws DeviceNotFoundException {
-        OSProcess process = operatingSystem.getProcess(pid);
-        if (process == null) {
-            throw new DeviceNotFoundException("Error while getting information for process with PID " + pid);
-        }
-        return process;
-    }
-
     @Override
     public StringType getOsFamily() {
         String osFamily = operatingSystem.getFamily();
@@ -180,22 +218,22 @@ public class OSHISysteminfo implements SysteminfoInterface {
 
     @Override
     public DecimalType getMemoryTotal() {
-        long totalMemory = memory.getTotal();
+        long totalMemory = snapshot.getMemoryTotal();
         totalMemory = getSizeInMB(totalMemory);
         return new DecimalType(totalMemory);
     }
 
     @Override
     public DecimalType getMemoryAvailable() {
-        long availableMemory = memory.getAvailable();
+        long availableMemory = snapshot.getMemoryAvailable();
         availableMemory = getSizeInMB(availableMemory);
         return new DecimalType(availableMemory);
     }
 
     @Override
     public DecimalType getMemoryUsed() {
-        long totalMemory = memory.getTotal();
-        long availableMemory = memory.getAvailable();
+        long totalMemory = snapshot.getMemoryTotal();
+        long availableMemory = snapshot.getMemoryAvailable();
         long usedMemory = totalMemory - availableMemory;
         usedMemory = getSizeInMB(usedMemory);
         return new DecimalType(usedMemory);
@@ -203,28 +241,23 @@ public class OSHISysteminfo implements SysteminfoInterface {
 
     @Override
     public DecimalType getStorageTotal(int index) throws DeviceNotFoundException {
-        OSFileStore fileStore = getDevice(fileStores, index);
-        fileStore.updateAttributes();
-        long totalSpace = fileStore.getTotalSpace();
+        long totalSpace = snapshot.getFileStoreSpace(fileStores, index).totalSpace;
         totalSpace = getSizeInMB(totalSpace);
         return new DecimalType(totalSpace);
     }
 
     @Override
     public DecimalType getStorageAvailable(int index) throws DeviceNotFoundException {
-        OSFileStore fileStore = getDevice(fileStores, index);
-        fileStore.updateAttributes();
-        long freeSpace = fileStore.getUsableSpace();
+        long freeSpace = snapshot.getFileStoreSpace(fileStores, index).usableSpace;
         freeSpace = getSizeInMB(freeSpace);
         return new DecimalType(freeSpace);
     }
 
     @Override
     public DecimalType getStorageUsed(int index) throws DeviceNotFoundException {
-        OSFileStore fileStore = getDevice(fileStores, index);
-        fileStore.updateAttributes();
-        long totalSpace = fileStore.getTotalSpace();
-        long freeSpace = fileStore.getUsableSpace();
+        OSHISnapshot.FileStoreSpace space = snapshot.getFileStoreSpace(fileStores, index);
+        long totalSpace = space.totalSpace;
+        long freeSpace = space.usableSpace;
         long usedSpace = totalSpace - freeSpace;
         usedSpace = getSizeInMB(usedSpace);
         return new DecimalType(usedSpace);
@@ -232,10 +265,9 @@ public class OSHISysteminfo implements SysteminfoInterface {
 
     @Override
     public @Nullable DecimalType getStorageAvailablePercent(int deviceIndex) throws DeviceNotFoundException {
-        OSFileStore fileStore = getDevice(fileStores, deviceIndex);
-        fileStore.updateAttributes();
-        long totalSpace = fileStore.getTotalSpace();
-        long freeSpace = fileStore.getUsableSpace();
+        OSHISnapshot.FileStoreSpace space = snapshot.getFileStoreSpace(fileStores, deviceIndex);
+        long totalSpace = space.totalSpace;
+        long freeSpace = space.usableSpace;
         if (totalSpace > 0) {
             double freePercentDecimal = (double) freeSpace / (double) totalSpace;
             BigDecimal freePercent = getPercentsValue(freePercentDecimal);
@@ -247,10 +279,9 @@ public class OSHISysteminfo implements SysteminfoInterface {
 
     @Override
     public @Nullable DecimalType getStorageUsedPercent(int deviceIndex) throws DeviceNotFoundException {
-        OSFileStore fileStore = getDevice(fileStores, deviceIndex);
-        fileStore.updateAttributes();
-        long totalSpace = fileStore.getTotalSpace();
-        long freeSpace = fileStore.getUsableSpace();
+        OSHISnapshot.FileStoreSpace space = snapshot.getFileStoreSpace(fileStores, deviceIndex);
+        long totalSpace = space.totalSpace;
+        long freeSpace = space.usableSpace;
         long usedSpace = totalSpace - freeSpace;
         if (totalSpace > 0) {
             double usedPercentDecimal = (double) usedSpace / (double) totalSpace;
@@ -284,9 +315,7 @@ public class OSHISysteminfo implements SysteminfoInterface {
 
     @Override
     public StringType getNetworkIp(int index) throws DeviceNotFoundException {
-        NetworkIF netInterface = getDevice(networks, index);
-        netInterface.updateAttributes();
-        String[] ipAddresses = netInterface.getIPv4addr();
+        String[] ipAddresses = snapshot.getNetworkTraffic(networks, index).ipv4Addresses;
         String ipv4 = getDevice(ipAddresses, 0);
         return new StringType(ipv4);
     }
@@ -347,9 +376,7 @@ public class OSHISysteminfo implements SysteminfoInterface {
 
     @Override
     public @Nullable DecimalType getBatteryRemainingTime(int index) throws DeviceNotFoundException {
-        PowerSource powerSource = getDevice(powerSources, index);
-        powerSource.updateAttributes();
-        double remainingTimeInSeconds = powerSource.getTimeRemainingEstimated();
+        double remainingTimeInSeconds = snapshot.getPowerSourceState(powerSources, index).timeRemainingEstimated;
         // The getTimeRemaining() method returns (-1.0) if is calculating or (-2.0) if the time is unlimited.
         BigDecimal remainingTime = getTimeInMinutes(remainingTimeInSeconds);
         return remainingTime.signum() == 1 ? new DecimalType(remainingTime) : null;
@@ -357,9 +384,7 @@ public class OSHISysteminfo implements SysteminfoInterface {
 
     @Override
     public DecimalType getBatteryRemainingCapacity(int index) throws DeviceNotFoundException {
-        PowerSource powerSource = getDevice(powerSources, index);
-        powerSource.updateAttributes();
-        double remainingCapacity = powerSource.getRemainingCapacityPercent();
+        double remainingCapacity = snapshot.getPowerSourceState(powerSources, index).remainingCapacityPercent;
         BigDecimal remainingCapacityPercents = getPercentsValue(remainingCapacity);
         return new DecimalType(remainingCapacityPercents);
     }
@@ -373,8 +398,8 @@ public class OSHISysteminfo implements SysteminfoInterface {
 
     @Override
     public @Nullable DecimalType getMemoryAvailablePercent() {
-        long availableMemory = memory.getAvailable();
-        long totalMemory = memory.getTotal();
+        long availableMemory = snapshot.getMemoryAvailable();
+        long totalMemory = snapshot.getMemoryTotal();
         if (totalMemory > 0) {
             double freePercentDecimal = (double) availableMemory / (double) totalMemory;
             BigDecimal freePercent = getPercentsValue(freePercentDecimal);
@@ -386,8 +411,8 @@ public class OSHISysteminfo implements SysteminfoInterface {
 
     @Override
     public @Nullable DecimalType getMemoryUsedPercent() {
-        long availableMemory = memory.getAvailable();
-        long totalMemory = memory.getTotal();
+        long availableMemory = snapshot.getMemoryAvailable();
+        long totalMemory = snapshot.getMemoryTotal();
         long usedMemory = totalMemory - availableMemory;
         if (totalMemory > 0) {
             double usedPercentDecimal = (double) usedMemory / (double) totalMemory;
@@ -421,15 +446,15 @@ public class OSHISysteminfo implements SysteminfoInterface {
 
     @Override
     public @Nullable DecimalType getSwapTotal() {
-        long swapTotal = memory.getVirtualMemory().getSwapTotal();
+        long swapTotal = snapshot.getSwapTotal();
         swapTotal = getSizeInMB(swapTotal);
         return new DecimalType(swapTotal);
     }
 
     @Override
     public @Nullable DecimalType getSwapAvailable() {
-        long swapTotal = memory.getVirtualMemory().getSwapTotal();
-        long swapUsed = memory.getVirtualMemory().getSwapUsed();
+        long swapTotal = snapshot.getSwapTotal();
+        long swapUsed = snapshot.getSwapUsed();
         long swapAvailable = swapTotal - swapUsed;
         swapAvailable = getSizeInMB(swapAvailable);
         return new DecimalType(swapAvailable);
@@ -437,15 +462,15 @@ public class OSHISysteminfo implements SysteminfoInterface {
 
     @Override
     public @Nullable DecimalType getSwapUsed() {
-        long swapUsed = memory.getVirtualMemory().getSwapUsed();
+        long swapUsed = snapshot.getSwapUsed();
         swapUsed = getSizeInMB(swapUsed);
         return new DecimalType(swapUsed);
     }
 
     @Override
     public @Nullable DecimalType getSwapAvailablePercent() {
-        long swapTotal = memory.getVirtualMemory().getSwapTotal();
-        long swapUsed = memory.getVirtualMemory().getSwapUsed();
+        long swapTotal = snapshot.getSwapTotal();
+        long swapUsed = snapshot.getSwapUsed();
         long swapAvailable = swapTotal - swapUsed;
         if (swapTotal > 0) {
             double swapAvailablePercentDecimal = (double) swapAvailable / (double) swapTotal;
@@ -458,8 +483,8 @@ public class OSHISysteminfo implements SysteminfoInterface {
 
     @Override
     public @Nullable DecimalType getSwapUsedPercent() {
-        long swapTotal = memory.getVirtualMemory().getSwapTotal();
-        long swapUsed = memory.getVirtualMemory().getSwapUsed();
+        long swapTotal = snapshot.getSwapTotal();
+        long swapUsed = snapshot.getSwapUsed();
         if (swapTotal > 0) {
             double swapUsedPercentDecimal = (double) swapUsed / (double) swapTotal;
             BigDecimal swapUsedPercent = getPercentsValue(swapUsedPercentDecimal);
@@ -534,7 +559,7 @@ public class OSHISysteminfo implements SysteminfoInterface {
             default:
                 index = 2;
         }
-        double processorLoads[] = cpu.getSystemLoadAverage(index + 1);
+        double processorLoads[] = snapshot.getSystemLoadAverage();
         BigDecimal result = new BigDecimal(processorLoads[index]);
         result = result.setScale(PRECISION_AFTER_DECIMAL_SIGN, RoundingMode.HALF_UP);
         return result;
@@ -542,13 +567,13 @@ public class OSHISysteminfo implements SysteminfoInterface {
 
     @Override
     public DecimalType getCpuUptime() {
-        long seconds = operatingSystem.getSystemUptime();
+        long seconds = snapshot.getSystemUptime();
         return new DecimalType(getTimeInMinutes(seconds));
     }
 
     @Override
     public DecimalType getCpuThreads() {
-        int threadCount = operatingSystem.getThreadCount();
+        int threadCount = snapshot.getThreadCount();
         return new DecimalType(threadCount);
     }
 
@@ -561,40 +586,32 @@ public class OSHISysteminfo implements SysteminfoInterface {
 
     @Override
     public DecimalType getNetworkPacketsReceived(int networkIndex) throws DeviceNotFoundException {
-        NetworkIF network = getDevice(networks, networkIndex);
-        network.updateAttributes();
-        long packRecv = network.getPacketsRecv();
+        long packRecv = snapshot.getNetworkTraffic(networks, networkIndex).packetsRecv;
         return new DecimalType(packRecv);
     }
 
     @Override
     public DecimalType getNetworkPacketsSent(int networkIndex) throws DeviceNotFoundException {
-        NetworkIF network = getDevice(networks, networkIndex);
-        network.updateAttributes();
-        long packSent = network.getPacketsSent();
+        long packSent = snapshot.getNetworkTraffic(networks, networkIndex).packetsSent;
         return new DecimalType(packSent);
     }
 
     @Override
     public DecimalType getNetworkDataSent(int networkIndex) throws DeviceNotFoundException {
-        NetworkIF network = getDevice(networks, networkIndex);
-        network.updateAttributes();
-        long bytesSent = network.getBytesSent();
+        long bytesSent = snapshot.getNetworkTraffic(networks, networkIndex).bytesSent;
         return new DecimalType(getSizeInMB(bytesSent));
     }
 
     @Override
     public DecimalType getNetworkDataReceived(int networkIndex) throws DeviceNotFoundException {
-        NetworkIF network = getDevice(networks, networkIndex);
-        network.updateAttributes();
-        long bytesRecv = network.getBytesRecv();
+        long bytesRecv = snapshot.getNetworkTraffic(networks, networkIndex).bytesRecv;
         return new DecimalType(getSizeInMB(bytesRecv));
     }
 
     @Override
     public @Nullable StringType getProcessName(int pid) throws DeviceNotFoundException {
         if (pid > 0) {
-            OSProcess process = getProcess(pid);
+            OSProcess process = snapshot.getProcess(pid);
             String name = process.getName();
             return new StringType(name);
         } else {
@@ -605,7 +622,7 @@ public class OSHISysteminfo implements SysteminfoInterface {
     @Override
     public @Nullable DecimalType getProcessCpuUsage(int pid) throws DeviceNotFoundException {
         if (pid > 0) {
-            OSProcess process = getProcess(pid);
+            OSProcess process = snapshot.getProcess(pid);
             double cpuUsageRaw = (process.getKernelTime() + process.getUserTime()) / process.getUpTime();
             BigDecimal cpuUsage = getPercentsValue(cpuUsageRaw);
             return new DecimalType(cpuUsage);
@@ -617,7 +634,7 @@ public class OSHISysteminfo implements SysteminfoInterface {
     @Override
     public @Nullable DecimalType getProcessMemoryUsage(int pid) throws DeviceNotFoundException {
         if (pid > 0) {
-            OSProcess process = getProcess(pid);
+            OSProcess process = snapshot.getProcess(pid);
             long memortInBytes = process.getResidentSetSize();
             long memoryInMB = getSizeInMB(memortInBytes);
             return new DecimalType(memoryInMB);
@@ -629,7 +646,7 @@ public class OSHISysteminfo implements SysteminfoInterface {
     @Override
     public @Nullable StringType getProcessPath(int pid) throws DeviceNotFoundException {
         if (pid > 0) {
-            OSProcess process = getProcess(pid);
+            OSProcess process = snapshot.getProcess(pid);
             String path = process.getPath();
             return new StringType(path);
         } else {
@@ -640,7 +657,7 @@ public class OSHISysteminfo implements SysteminfoInterface {
     @Override
     public @Nullable DecimalType getProcessThreads(int pid) throws DeviceNotFoundException {
         if (pid > 0) {
-            OSProcess process = getProcess(pid);
+            OSProcess process = snapshot.getProcess(pid);
             int threadCount = process.getThreadCount();
             return new DecimalType(threadCount);
         } else {
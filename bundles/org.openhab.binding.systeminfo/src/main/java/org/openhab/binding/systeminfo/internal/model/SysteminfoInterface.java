@@ -31,6 +31,17 @@ public interface SysteminfoInterface {
      */
     public void initializeSysteminfo();
 
+    /**
+     * Takes a new snapshot of the dynamic system information (CPU load, memory, processes, file stores, network
+     * interfaces and power sources), unless the latest snapshot is younger than the given age. The returned object
+     * reads all dynamic values from that snapshot, so a refresh of many channels queries the system only once, reads
+     * values that belong together, and things refreshing at the same time share the snapshot.
+     *
+     * @param maxAgeInMillis maximum age of the latest snapshot to still use it
+     * @return the system information of the snapshot
+     */
+    public SysteminfoInterface refreshSnapshot(long maxAgeInMillis);
+
     // Operating system info
     /**
      * Get the Family of the operating system /e.g. Windows,Unix,.../
@@ -0,0 +1,115 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.systeminfo.internal.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import oshi.hardware.CentralProcessor;
+import oshi.hardware.GlobalMemory;
+import oshi.hardware.NetworkIF;
+import oshi.hardware.VirtualMemory;
+import oshi.software.os.OSFileStore;
+import oshi.software.os.OperatingSystem;
+
+/**
+ * Tests for {@link OSHISnapshot}.
+ *
+ * @author atje - Initial contribution
+ */
+public class OSHISnapshotTest {
+
+    private OperatingSystem operatingSystem;
+    private CentralProcessor cpu;
+    private GlobalMemory memory;
+    private VirtualMemory virtualMemory;
+
+    @BeforeEach
+    public void setUp() {
+        operatingSystem = mock(OperatingSystem.class);
+        cpu = mock(CentralProcessor.class);
+        memory = mock(GlobalMemory.class);
+        virtualMemory = mock(VirtualMemory.class);
+        when(memory.getVirtualMemory()).thenReturn(virtualMemory);
+        when(cpu.getSystemLoadAverage(3)).thenReturn(new double[] { 1.0, 0.5, 0.25 });
+    }
+
+    @Test
+    public void memoryIsSampledWhenSnapshotIsTaken() {
+        when(memory.getTotal()).thenReturn(1000L);
+        when(memory.getAvailable()).thenReturn(400L);
+        when(virtualMemory.getSwapTotal()).thenReturn(200L);
+        when(virtualMemory.getSwapUsed()).thenReturn(50L);
+        OSHISnapshot snapshot = new OSHISnapshot(operatingSystem, cpu, memory);
+
+        when(memory.getAvailable()).thenReturn(300L);
+        when(virtualMemory.getSwapUsed()).thenReturn(150L);
+
+        assertEquals(1000L, snapshot.getMemoryTotal());
+        assertEquals(400L, snapshot.getMemoryAvailable());
+        assertEquals(200L, snapshot.getSwapTotal());
+        assertEquals(50L, snapshot.getSwapUsed());
+        assertEquals(0.5, snapshot.getSystemLoadAverage()[1]);
+        verify(memory, times(1)).getAvailable();
+
+        OSHISnapshot newSnapshot = new OSHISnapshot(operatingSystem, cpu, memory);
+        assertEquals(300L, newSnapshot.getMemoryAvailable());
+        assertEquals(150L, newSnapshot.getSwapUsed());
+    }
+
+    @Test
+    public void networkIsSampledOncePerSnapshot() throws DeviceNotFoundException {
+        NetworkIF network = mock(NetworkIF.class);
+        when(network.getBytesSent()).thenReturn(100L);
+        when(network.getBytesRecv()).thenReturn(200L);
+        List<NetworkIF> networks = List.of(network);
+        OSHISnapshot snapshot = new OSHISnapshot(operatingSystem, cpu, memory);
+
+        assertEquals(100L, snapshot.getNetworkTraffic(networks, 0).bytesSent);
+        // another snapshot updates the same network interface meanwhile
+        when(network.getBytesSent()).thenReturn(150L);
+        when(network.getBytesRecv()).thenReturn(250L);
+        OSHISnapshot newSnapshot = new OSHISnapshot(operatingSystem, cpu, memory);
+        assertEquals(250L, newSnapshot.getNetworkTraffic(networks, 0).bytesRecv);
+
+        assertEquals(100L, snapshot.getNetworkTraffic(networks, 0).bytesSent);
+        assertEquals(200L, snapshot.getNetworkTraffic(networks, 0).bytesRecv);
+        verify(network, times(2)).updateAttributes();
+    }
+
+    @Test
+    public void fileStoreSpaceIsSampledTogether() throws DeviceNotFoundException {
+        OSFileStore fileStore = mock(OSFileStore.class);
+        when(fileStore.getTotalSpace()).thenReturn(1000L);
+        when(fileStore.getUsableSpace()).thenReturn(600L);
+        OSHISnapshot snapshot = new OSHISnapshot(operatingSystem, cpu, memory);
+
+        assertEquals(600L, snapshot.getFileStoreSpace(List.of(fileStore), 0).usableSpace);
+        when(fileStore.getTotalSpace()).thenReturn(2000L);
+        assertEquals(1000L, snapshot.getFileStoreSpace(List.of(fileStore), 0).totalSpace);
+        verify(fileStore, times(1)).updateAttributes();
+    }
+
+    @Test
+    public void missingDeviceIsReported() {
+        OSHISnapshot snapshot = new OSHISnapshot(operatingSystem, cpu, memory);
+
+        assertThrows(DeviceNotFoundException.class, () -> snapshot.getNetworkTraffic(List.of(), 0));
+        assertThrows(DeviceNotFoundException.class, () -> snapshot.getProcess(42));
+    }
+}
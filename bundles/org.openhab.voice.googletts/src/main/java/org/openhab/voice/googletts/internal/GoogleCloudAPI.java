@@ -12,17 +12,11 @@
  */
 package org.openhab.voice.googletts.internal;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.math.BigInteger;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Base64;
 import java.util.Collections;
 import java.util.Dictionary;
@@ -36,12 +30,15 @@ import java.util.Set;
 import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.http.HttpHeader;
 import org.eclipse.jetty.http.MimeTypes;
+import org.openhab.core.audio.AudioException;
 import org.openhab.core.audio.AudioFormat;
+import org.openhab.core.audio.AudioStream;
 import org.openhab.core.auth.client.oauth2.AccessTokenResponse;
 import org.openhab.core.auth.client.oauth2.OAuthClientService;
 import org.openhab.core.auth.client.oauth2.OAuthException;
 import org.openhab.core.auth.client.oauth2.OAuthFactory;
 import org.openhab.core.auth.client.oauth2.OAuthResponseException;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.io.net.http.HttpRequestBuilder;
 import org.openhab.voice.googletts.internal.protocol.AudioConfig;
 import org.openhab.voice.googletts.internal.protocol.AudioEncoding;
@@ -52,6 +49,7 @@ import org.openhab.voice.googletts.internal.protocol.SynthesizeSpeechRequest;
 import org.openhab.voice.googletts.internal.protocol.SynthesizeSpeechResponse;
 import org.openhab.voice.googletts.internal.protocol.Voice;
 import org.openhab.voice.googletts.internal.protocol.VoiceSelectionParams;
+import org.openhab.voice.ttscache.TTSAudioCache;
 import org.osgi.service.cm.Configuration;
 import org.osgi.service.cm.ConfigurationAdmin;
 import org.slf4j.Logger;
@@ -67,10 +65,6 @@ import com.google.gson.GsonBuilder;
  */
 class GoogleCloudAPI {
 
-    private static final char EXTENSION_SEPARATOR = '.';
-    private static final char UNIX_SEPARATOR = '/';
-    private static final char WINDOWS_SEPARATOR = '\\';
-
     private static final String BEARER = "Bearer ";
 
     private static final String GCP_AUTH_URI = "https://accounts.google.com/o/oauth2/auth";
@@ -102,9 +96,9 @@ class GoogleCloudAPI {
     private final Map<Locale, Set<GoogleTTSVoice>> voices = new HashMap<>();
 
     /**
-     * Cache folder
+     * Audio cache
      */
-    private File cacheFolder;
+    private final TTSAudioCache cache;
 
     /**
      * Configuration
@@ -130,7 +124,15 @@ class GoogleCloudAPI {
     GoogleCloudAPI(ConfigurationAdmin configAdmin, OAuthFactory oAuthFactory, File cacheFolder) {
         this.configAdmin = configAdmin;
         this.oAuthFactory = oAuthFactory;
-        this.cacheFolder = cacheFolder;
+        this.cache = new TTSAudioCache(cacheFolder, TTSAudioCache.DEFAULT_MAX_SIZE, 0,
+                ThreadPoolManager.getScheduledPool("voice"));
+    }
+
+    /**
+     * Stops the cache maintenance.
+     */
+    void dispose() {
+        cache.dispose();
     }
 
     /**
@@ -166,11 +168,7 @@ class GoogleCloudAPI {
 
         // maintain cache
         if (config.purgeCache) {
-            File[] files = cacheFolder.listFiles();
-            if (files != null && files.length > 0) {
-                Arrays.stream(files).forEach(File::delete);
-            }
-            logger.debug("Cache purged.");
+            cache.purge();
         }
     }
 
@@ -319,83 +317,64 @@ class GoogleCloudAPI {
         }
     }
 
-    byte[] synthesizeSpeech(String text, GoogleTTSVoice voice, String codec) {
-        String[] format = getFormatForCodec(codec);
-        String fileNameInCache = getUniqueFilenameForText(text, voice.getTechnicalName());
-        File audioFileInCache = new File(cacheFolder, fileNameInCache + "." + format[1]);
+    /**
+     * Gets the audio of a text from the cache or synthesizes it.
+     *
+     * @param text Text to synthesize
+     * @param voice Voice parameter
+     * @param requestedFormat Requested audio format
+     * @return Audio stream or {@code null} when the audio could not be synthesized
+     */
+    @Nullable
+    AudioStream synthesizeSpeech(String text, GoogleTTSVoice voice, AudioFormat requestedFormat) {
+        String[] format = getFormatForCodec(requestedFormat.getCodec());
+        String configString = config.toConfigString();
         try {
-            // check if in cache
-            if (audioFileInCache.exists()) {
-                logger.debug("Audio file {} was found in cache.", audioFileInCache.getName());
-                return Files.readAllBytes(audioFileInCache.toPath());
-            }
-
-            // if not in cache, get audio data and put to cache
-            byte[] audio = synthesizeSpeechByGoogle(text, voice, format[0]);
-            if (audio != null) {
-                saveAudioAndTextToFile(text, audioFileInCache, audio, voice.getTechnicalName());
+            return cache.getAudioStream(voice.getTechnicalName(), configString + text, format[1],
+                    getDescription(text, configString, voice.getTechnicalName()), requestedFormat, () -> {
+                        try {
+                            byte[] audio = synthesizeSpeechByGoogle(text, voice, format[0]);
+                            return audio == null ? null : new ByteArrayInputStream(audio);
+                        } catch (AuthenticationException ex) {
+                            throw new IOException(ex.getMessage(), ex);
+                        }
+                    });
+        } catch (IOException ex) {
+            if (ex.getCause() instanceof AuthenticationException) {
+                logger.warn("Error initializing Google Cloud TTS service: {}", ex.getMessage());
+                oAuthService = null;
+                initialized = false;
+                voices.clear();
+            } else {
+                logger.warn("Could not synthesize '{}': {}", text, ex.getMessage());
             }
-            return audio;
-        } catch (AuthenticationException ex) {
-            logger.warn("Error initializing Google Cloud TTS service: {}", ex.getMessage());
-            oAuthService = null;
-            initialized = false;
-            voices.clear();
             return null;
-        } catch (FileNotFoundException ex) {
-            logger.warn("Could not write {} to cache", audioFileInCache, ex);
-            return null;
-        } catch (IOException ex) {
-            logger.error("Could not write {} to cache", audioFileInCache, ex);
+        } catch (AudioException ex) {
+            logger.warn("Could not create audio stream for '{}': {}", text, ex.getMessage());
             return null;
         }
     }
 
     /**
-     * Create cache entry.
+     * Creates the description of a cache entry.
      *
      * @param text Converted text.
-     * @param cacheFile Cache entry file.
-     * @param audio Byte array of the audio.
+     * @param configString Used configuration
      * @param voiceName Used voice
-     * @throws IOException in case of file handling exceptions
+     * @return the content of the text file of the cache entry
      */
-    private void saveAudioAndTextToFile(String text, File cacheFile, byte[] audio, String voiceName)
-            throws IOException {
-        logger.debug("Caching audio file {}", cacheFile.getName());
-        try (FileOutputStream audioFileOutputStream = new FileOutputStream(cacheFile)) {
-            audioFileOutputStream.write(audio);
-        }
-
-        // write text to file for transparency too
-        // this allows to know which contents is in which audio file
-        String textFileName = removeExtension(cacheFile.getName()) + ".txt";
-        logger.debug("Caching text file {}", textFileName);
-        try (FileOutputStream textFileOutputStream = new FileOutputStream(new File(cacheFolder, textFileName))) {
-            // @formatter:off
-            StringBuilder sb = new StringBuilder("Config: ")
-                    .append(config.toConfigString())
-                    .append(",voice=")
-                    .append(voiceName)
-                    .append(System.lineSeparator())
-                    .append("Text: ")
-                    .append(text)
-                    .append(System.lineSeparator());
-            // @formatter:on
-            textFileOutputStream.write(sb.toString().getBytes(StandardCharsets.UTF_8));
-        }
-    }
-
-    /**
-     * Removes the extension of a file name.
-     *
-     * @param fileName the file name to remove the extension of
-     * @return the filename without the extension
-     */
-    private String removeExtension(String fileName) {
-        int extensionPos = fileName.lastIndexOf(EXTENSION_SEPARATOR);
-        int lastSeparator = Math.max(fileName.lastIndexOf(UNIX_SEPARATOR), fileName.lastIndexOf(WINDOWS_SEPARATOR));
-        return lastSeparator > extensionPos ? fileName : fileName.substring(0, extensionPos);
+    private String getDescription(String text, String configString, String voiceName) {
+        // @formatter:off
+        return new StringBuilder("Config: ")
+                .append(configString)
+                .append(",voice=")
+                .append(voiceName)
+                .append(System.lineSeparator())
+                .append("Text: ")
+                .append(text)
+                .append(System.lineSeparator())
+                .toString();
+        // @formatter:on
     }
 
     /**
@@ -433,25 +412,6 @@ class GoogleCloudAPI {
         return Base64.getDecoder().decode(encodedBytes);
     }
 
-    /**
-     * Gets a unique filename for a give text, by creating a MD5 hash of it. It
-     * will be preceded by the locale.
-     * <p>
-     * Sample: "en-US_00a2653ac5f77063bc4ea2fee87318d3"
-     */
-    private String getUniqueFilenameForText(String text, String voiceName) {
-        try {
-            MessageDigest md = MessageDigest.getInstance("MD5");
-            byte[] bytesOfMessage = (config.toConfigString() + text).getBytes(StandardCharsets.UTF_8);
-            String fileNameHash = String.format("%032x", new BigInteger(1, md.digest(bytesOfMessage)));
-            return voiceName + "_" + fileNameHash;
-        } catch (NoSuchAlgorithmException ex) {
-            // should not happen
-            logger.error("Could not create MD5 hash for '{}'", text, ex);
-            return null;
-        }
-    }
-
     boolean isInitialized() {
         return initialized;
     }
@@ -26,7 +26,6 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.OpenHAB;
 import org.openhab.core.audio.AudioFormat;
 import org.openhab.core.audio.AudioStream;
-import org.openhab.core.audio.ByteArrayAudioStream;
 import org.openhab.core.auth.client.oauth2.OAuthFactory;
 import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.voice.TTSException;
@@ -37,6 +36,7 @@ import org.osgi.framework.Constants;
 import org.osgi.service.cm.ConfigurationAdmin;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
 import org.slf4j.Logger;
@@ -123,18 +123,19 @@ public class GoogleTTSService implements TTSService {
      */
     @Activate
     protected void activate(Map<String, Object> config) {
-        // create cache folder
         File userData = new File(OpenHAB.getUserDataFolder());
         File cacheFolder = new File(new File(userData, CACHE_FOLDER_NAME), SERVICE_PID);
-        if (!cacheFolder.exists()) {
-            cacheFolder.mkdirs();
-        }
         logger.debug("Using cache folder {}", cacheFolder.getAbsolutePath());
 
         apiImpl = new GoogleCloudAPI(configAdmin, oAuthFactory, cacheFolder);
         updateConfig(config);
     }
 
+    @Deactivate
+    protected void deactivate() {
+        apiImpl.dispose();
+    }
+
     /**
      * Initializing audio formats. Google supports 3 formats:
      * LINEAR16
@@ -327,11 +328,11 @@ public class GoogleTTSService implements TTSService {
             throw new TTSException("The passed AudioFormat is unsupported");
         }
 
-        // create the audio byte array for given text, locale, format
-        byte[] audio = apiImpl.synthesizeSpeech(trimmedText, (GoogleTTSVoice) voice, requestedFormat.getCodec());
-        if (audio == null) {
+        // get the audio stream for given text, locale, format
+        AudioStream audioStream = apiImpl.synthesizeSpeech(trimmedText, (GoogleTTSVoice) voice, requestedFormat);
+        if (audioStream == null) {
             throw new TTSException("Could not read from Google Cloud TTS Service");
         }
-        return new ByteArrayAudioStream(audio, requestedFormat);
+        return audioStream;
     }
 }
@@ -37,6 +37,7 @@ import org.openhab.voice.pollytts.internal.cloudapi.PollyTTSConfig;
 import org.osgi.framework.Constants;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Modified;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -106,13 +107,10 @@ public class PollyTTSService implements TTSService {
             pollyTTSConfig = new PollyTTSConfig(config);
             logger.debug("Using configuration {}", config);
 
-            // create cache folder
             File cacheFolder = new File(new File(OpenHAB.getUserDataFolder(), CACHE_FOLDER_NAME), SERVICE_PID);
-            if (!cacheFolder.exists()) {
-                cacheFolder.mkdirs();
-            }
             logger.info("Using cache folder {}", cacheFolder.getAbsolutePath());
 
+            dispose();
             pollyTTSImpl = new CachedPollyTTSCloudImpl(pollyTTSConfig, cacheFolder);
 
             audioFormats.clear();
@@ -129,6 +127,14 @@ public class PollyTTSService implements TTSService {
         }
     }
 
+    @Deactivate
+    protected void dispose() {
+        CachedPollyTTSCloudImpl pollyTTSImpl = this.pollyTTSImpl;
+        if (pollyTTSImpl != null) {
+            pollyTTSImpl.dispose();
+        }
+    }
+
     @Override
     public Set<Voice> getAvailableVoices() {
         return Collections.unmodifiableSet(voices);
@@ -167,13 +173,9 @@ public class PollyTTSService implements TTSService {
         // now create the input stream for given text, locale, format. There is
         // only a default voice
         try {
-            File cacheAudioFile = pollyTTSImpl.getTextToSpeechAsFile(text, voice.getLabel(),
-                    getApiAudioFormat(requestedFormat));
-            if (cacheAudioFile == null) {
-                throw new TTSException("Could not read from PollyTTS service");
-            }
+            AudioStream audioStream = pollyTTSImpl.getTextToSpeechAsStream(text, voice.getLabel(),
+                    getApiAudioFormat(requestedFormat), requestedFormat);
             logger.debug("Audio Stream for '{}' in format {}", text, requestedFormat);
-            AudioStream audioStream = new PollyTTSAudioStream(cacheAudioFile, requestedFormat);
             return audioStream;
         } catch (AudioException ex) {
             throw new TTSException("Could not create AudioStream: " + ex.getMessage(), ex);
@@ -0,0 +1,447 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.voice.ttscache;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.audio.AudioException;
+import org.openhab.core.audio.AudioFormat;
+import org.openhab.core.audio.AudioStream;
+import org.openhab.core.audio.ByteArrayAudioStream;
+import org.openhab.core.audio.FileAudioStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * File cache for synthesized audio. The audio files are stored together with a .txt file describing their content.
+ *
+ * The files in the cache folder are indexed in memory once, so a lookup needs neither a hash calculation nor a file
+ * system access for texts that have been requested before. A file deleted from outside the cache is synthesized again
+ * when its audio stream can't be opened. Small clips which are played repeatedly are kept in memory,
+ * all others are streamed from their file. Concurrent requests for the same text are served by a single synthesis.
+ * Files are evicted in the background in least recently used order when the cache exceeds its size limit, or when
+ * they have not been used for the configured number of days.
+ *
+ * @author atje - Initial contribution
+ */
+@NonNullByDefault
+public class TTSAudioCache {
+
+    /**
+     * Synthesizes the audio data of a cache miss.
+     */
+    @FunctionalInterface
+    public interface Synthesizer {
+        @Nullable
+        InputStream synthesize() throws IOException;
+    }
+
+    public static final long DEFAULT_MAX_SIZE = 100L * 1024 * 1024;
+
+    private static final String TEXT_EXTENSION = ".txt";
+    private static final String TEMP_EXTENSION = ".tmp";
+    private static final int MAX_FILE_NAMES = 1024;
+    private static final int MAX_HOT_CLIP_SIZE = 256 * 1024;
+    private static final int MAX_HOT_CLIPS_SIZE = 4 * 1024 * 1024;
+    private static final long EVICTION_INTERVAL_HOURS = 12;
+
+    private final Logger logger = LoggerFactory.getLogger(TTSAudioCache.class);
+
+    private final File cacheFolder;
+    private final long maxSize;
+    private final long maxAgeMillis;
+    private final @Nullable ScheduledExecutorService scheduler;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<File>> pendingSyntheses = new ConcurrentHashMap<>();
+    private final AtomicLong totalSize = new AtomicLong();
+    private final AtomicBoolean evictionScheduled = new AtomicBoolean();
+    private @Nullable ScheduledFuture<?> evictionJob;
+
+    // file names of the recently requested texts, saves the hash calculation
+    private final Map<String, String> fileNames = Collections
+            .synchronizedMap(new LinkedHashMap<String, String>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                    return size() > MAX_FILE_NAMES;
+                }
+            });
+
+    // audio data of the small clips that have been played more than once
+    private final LinkedHashMap<String, byte[]> hotClips = new LinkedHashMap<>(16, 0.75f, true);
+    private int hotClipsSize;
+
+    private static class Entry {
+        private final long size;
+        private volatile long lastUsed;
+        private volatile boolean used;
+        private volatile int hits;
+
+        private Entry(long size, long lastUsed) {
+            this.size = size;
+            this.lastUsed = lastUsed;
+        }
+    }
+
+    /**
+     * Creates the cache and indexes the files already in the cache folder.
+     *
+     * @param cacheFolder the folder of the cache files, created if it does not exist
+     * @param maxSize the maximum size of the audio files in bytes
+     * @param maxAgeDays the number of days after which unused files are deleted, 0 keeps them
+     * @param scheduler the scheduler for the background eviction, null to evict in the requesting thread
+     */
+    public TTSAudioCache(File cacheFolder, long maxSize, int maxAgeDays,
+            @Nullable ScheduledExecutorService scheduler) {
+        this.cacheFolder = cacheFolder;
+        this.maxSize = maxSize;
+        this.maxAgeMillis = TimeUnit.DAYS.toMillis(maxAgeDays);
+        this.scheduler = scheduler;
+
+        if (!cacheFolder.exists()) {
+            cacheFolder.mkdirs();
+        }
+        File[] files = cacheFolder.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                String name = file.getName();
+                if (name.endsWith(TEMP_EXTENSION)) {
+                    // left over from an interrupted synthesis
+                    file.delete();
+                } else if (!name.endsWith(TEXT_EXTENSION) && file.isFile()) {
+                    entries.put(name, new Entry(file.length(), file.lastModified()));
+                    totalSize.addAndGet(file.length());
+                }
+            }
+        }
+        logger.debug("Indexed {} cached audio files with {} bytes in {}", entries.size(), totalSize.get(),
+                cacheFolder);
+
+        if (scheduler != null) {
+            evictionJob = scheduler.scheduleWithFixedDelay(this::evict, EVICTION_INTERVAL_HOURS,
+                    EVICTION_INTERVAL_HOURS, TimeUnit.HOURS);
+        }
+        scheduleEviction();
+    }
+
+    /**
+     * Stops the background eviction and writes the last use of the files to the file system.
+     */
+    public void dispose() {
+        ScheduledFuture<?> job = evictionJob;
+        if (job != null) {
+            job.cancel(false);
+            evictionJob = null;
+        }
+        updateTimeStamps();
+    }
+
+    /**
+     * Gets the cached audio file for a text, the audio is synthesized if it is not in the cache.
+     *
+     * @param prefix the prefix of the file name, e.g. the voice
+     * @param hashInput the text and all further parameters which determine the audio
+     * @param extension the file extension of the audio format
+     * @param description the content of the .txt file written along with the audio file
+     * @param synthesizer the synthesizer called on a cache miss
+     * @return the audio file, a cache hit is served from the index without checking the file system
+     * @throws IOException if the audio could not be synthesized or written to the cache
+     */
+    public File getFile(String prefix, String hashInput, String extension, String description,
+            Synthesizer synthesizer) throws IOException {
+        String fileName = getFileName(prefix, hashInput, extension);
+        Entry entry = entries.get(fileName);
+        if (entry != null) {
+            touch(entry);
+            return new File(cacheFolder, fileName);
+        }
+
+        CompletableFuture<File> synthesis = new CompletableFuture<>();
+        CompletableFuture<File> pendingSynthesis = pendingSyntheses.putIfAbsent(fileName, synthesis);
+        if (pendingSynthesis != null) {
+            logger.debug("Waiting for the synthesis of {}", fileName);
+            return await(pendingSynthesis);
+        }
+        try {
+            File file = synthesize(fileName, description, synthesizer);
+            synthesis.complete(file);
+            return file;
+        } catch (IOException | RuntimeException e) {
+            synthesis.completeExceptionally(e);
+            throw e;
+        } finally {
+            pendingSyntheses.remove(fileName);
+        }
+    }
+
+    /**
+     * Gets an audio stream for a text, the audio is synthesized if it is not in the cache.
+     *
+     * @param prefix the prefix of the file name, e.g. the voice
+     * @param hashInput the text and all further parameters which determine the audio
+     * @param extension the file extension of the audio format
+     * @param description the content of the .txt file written along with the audio file
+     * @param format the audio format of the stream
+     * @param synthesizer the synthesizer called on a cache miss
+     * @return the audio stream, either from memory or streamed from the cache file
+     * @throws IOException if the audio could not be synthesized or written to the cache
+     * @throws AudioException if the audio stream could not be created
+     */
+    public AudioStream getAudioStream(String prefix, String hashInput, String extension, String description,
+            AudioFormat format, Synthesizer synthesizer) throws IOException, AudioException {
+        File file = getFile(prefix, hashInput, extension, description, synthesizer);
+        try {
+            return openAudioStream(file, format);
+        } catch (IOException | AudioException e) {
+            if (file.exists()) {
+                throw e;
+            }
+            logger.debug("Cached audio file {} has been deleted, synthesizing it again", file.getName());
+            Entry entry = entries.get(file.getName());
+            if (entry != null) {
+                removeEntry(file.getName(), entry);
+            }
+            return openAudioStream(getFile(prefix, hashInput, extension, description, synthesizer), format);
+        }
+    }
+
+    private AudioStream openAudioStream(File file, AudioFormat format) throws IOException, AudioException {
+        String fileName = file.getName();
+        byte[] audio;
+        synchronized (hotClips) {
+            audio = hotClips.get(fileName);
+        }
+        if (audio != null) {
+            return new ByteArrayAudioStream(audio, format);
+        }
+        Entry entry = entries.get(fileName);
+        if (entry != null && entry.hits > 1 && entry.size <= MAX_HOT_CLIP_SIZE) {
+            audio = Files.readAllBytes(file.toPath());
+            addHotClip(fileName, audio);
+            return new ByteArrayAudioStream(audio, format);
+        }
+        return new FileAudioStream(file, format);
+    }
+
+    /**
+     * Deletes all files of the cache.
+     */
+    public void purge() {
+        File[] files = cacheFolder.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        entries.clear();
+        totalSize.set(0);
+        fileNames.clear();
+        synchronized (hotClips) {
+            hotClips.clear();
+            hotClipsSize = 0;
+        }
+        logger.debug("Cache {} purged.", cacheFolder);
+    }
+
+    private String getFileName(String prefix, String hashInput, String extension) {
+        String key = prefix + '\u0000' + extension + '\u0000' + hashInput;
+        String fileName = fileNames.get(key);
+        if (fileName == null) {
+            fileName = prefix + "_" + md5(hashInput) + "." + extension.toLowerCase();
+            fileNames.put(key, fileName);
+        }
+        return fileName;
+    }
+
+    private File synthesize(String fileName, String description, Synthesizer synthesizer) throws IOException {
+        File file = new File(cacheFolder, fileName);
+        File tempFile = new File(cacheFolder, fileName + TEMP_EXTENSION);
+        logger.debug("Caching audio file {}", fileName);
+        try (InputStream inputStream = synthesizer.synthesize();
+                OutputStream outputStream = Files.newOutputStream(tempFile.toPath())) {
+            if (inputStream == null) {
+                throw new IOException("No audio data received for " + fileName);
+            }
+            inputStream.transferTo(outputStream);
+        } catch (IOException | RuntimeException e) {
+            tempFile.delete();
+            throw e;
+        }
+        // write text to file for transparency too
+        // this allows to know which contents is in which audio file
+        String textFileName = fileName.substring(0, fileName.lastIndexOf('.')) + TEXT_EXTENSION;
+        Files.write(new File(cacheFolder, textFileName).toPath(), description.getBytes(StandardCharsets.UTF_8));
+        // the audio file only appears when complete, so a failed synthesis never leaves a truncated file
+        Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+
+        Entry entry = new Entry(file.length(), System.currentTimeMillis());
+        Entry replacedEntry = entries.put(fileName, entry);
+        if (replacedEntry != null) {
+            totalSize.addAndGet(-replacedEntry.size);
+        }
+        entry.hits = 1;
+        if (totalSize.addAndGet(entry.size) > maxSize) {
+            scheduleEviction();
+        }
+        return file;
+    }
+
+    private File await(CompletableFuture<File> synthesis) throws IOException {
+        try {
+            return synthesis.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the synthesis", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException(cause == null ? e.getMessage() : cause.getMessage(), cause);
+        }
+    }
+
+    private void touch(Entry entry) {
+        entry.lastUsed = System.currentTimeMillis();
+        entry.used = true;
+        entry.hits++;
+    }
+
+    private void addHotClip(String fileName, byte[] audio) {
+        synchronized (hotClips) {
+            if (hotClips.put(fileName, audio) == null) {
+                hotClipsSize += audio.length;
+            }
+            Iterator<byte[]> iterator = hotClips.values().iterator();
+            while (hotClipsSize > MAX_HOT_CLIPS_SIZE && iterator.hasNext()) {
+                hotClipsSize -= iterator.next().length;
+                iterator.remove();
+            }
+        }
+    }
+
+    private void removeEntry(String fileName, Entry entry) {
+        if (entries.remove(fileName, entry)) {
+            totalSize.addAndGet(-entry.size);
+        }
+        synchronized (hotClips) {
+            byte[] audio = hotClips.remove(fileName);
+            if (audio != null) {
+                hotClipsSize -= audio.length;
+            }
+        }
+    }
+
+    private void scheduleEviction() {
+        if (totalSize.get() <= maxSize && maxAgeMillis == 0) {
+            return;
+        }
+        if (scheduler == null) {
+            evict();
+        } else if (evictionScheduled.compareAndSet(false, true)) {
+            scheduler.execute(() -> {
+                evictionScheduled.set(false);
+                evict();
+            });
+        }
+    }
+
+    /**
+     * Deletes the files not used within the maximum age and the least recently used files exceeding the size limit.
+     */
+    private synchronized void evict() {
+        updateTimeStamps();
+
+        long now = System.currentTimeMillis();
+        List<Map.Entry<String, Entry>> candidates = new ArrayList<>(entries.entrySet());
+        candidates.sort(Comparator.comparingLong(candidate -> candidate.getValue().lastUsed));
+        // evict a little more than necessary, so that not every new file causes an eviction
+        long targetSize = maxSize - maxSize / 10;
+        int deleted = 0;
+        for (Map.Entry<String, Entry> candidate : candidates) {
+            Entry entry = candidate.getValue();
+            boolean expired = maxAgeMillis > 0 && now - entry.lastUsed > maxAgeMillis;
+            if (!expired && totalSize.get() <= targetSize) {
+                break;
+            }
+            String fileName = candidate.getKey();
+            if (pendingSyntheses.containsKey(fileName)) {
+                continue;
+            }
+            removeEntry(fileName, entry);
+            new File(cacheFolder, fileName).delete();
+            new File(cacheFolder, fileName.substring(0, fileName.lastIndexOf('.')) + TEXT_EXTENSION).delete();
+            deleted++;
+        }
+        if (deleted > 0) {
+            logger.debug("Cache cleaner deleted {} files, {} bytes left in {}", deleted, totalSize.get(),
+                    cacheFolder);
+        }
+    }
+
+    /**
+     * Writes the last use of the recently used files as their modification time, so that it is known after a
+     * restart.
+     */
+    private void updateTimeStamps() {
+        entries.forEach((fileName, entry) -> {
+            if (entry.used) {
+                entry.used = false;
+                new File(cacheFolder, fileName).setLastModified(entry.lastUsed);
+            }
+        });
+    }
+
+    /**
+     * Creates a MD5 hash of the text, zero padded to 32 characters.
+     */
+    private static String md5(String text) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("MD5");
+            byte[] md5Hash = md.digest(text.getBytes(StandardCharsets.UTF_8));
+            return String.format("%032x", new BigInteger(1, md5Hash));
+        } catch (NoSuchAlgorithmException e) {
+            // should not happen
+            throw new IllegalStateException("MD5 is not supported", e);
+        }
+    }
+}
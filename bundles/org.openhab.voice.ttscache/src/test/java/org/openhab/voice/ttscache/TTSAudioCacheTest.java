@@ -0,0 +1,186 @@
+/**
+ * Copyright (c) 2010-2021 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.voice.ttscache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openhab.core.audio.AudioFormat;
+import org.openhab.core.audio.ByteArrayAudioStream;
+import org.openhab.voice.ttscache.TTSAudioCache.Synthesizer;
+
+/**
+ * Tests for {@link TTSAudioCache}.
+ *
+ * @author atje - Initial contribution
+ */
+public class TTSAudioCacheTest {
+
+    private static final int HOT_CLIP_SIZE = 256 * 1024;
+    private static final int HOT_CLIPS = 16;
+
+    @TempDir
+    Path folder;
+
+    private final AtomicInteger syntheses = new AtomicInteger();
+
+    @Test
+    public void concurrentRequestsForSameTextAreSynthesizedOnce() throws Exception {
+        TTSAudioCache cache = new TTSAudioCache(folder.toFile(), TTSAudioCache.DEFAULT_MAX_SIZE, 0, null);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Synthesizer synthesizer = () -> {
+            syntheses.incrementAndGet();
+            started.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            return new ByteArrayInputStream(new byte[100]);
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<File>> files = new ArrayList<>();
+            files.add(executor.submit(() -> cache.getFile("voice", "hello", "mp3", "hello", synthesizer)));
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            for (int i = 0; i < 3; i++) {
+                files.add(executor.submit(() -> cache.getFile("voice", "hello", "mp3", "hello", synthesizer)));
+            }
+            // give the other requests time to join the running synthesis
+            Thread.sleep(100);
+            release.countDown();
+
+            File file = files.get(0).get(10, TimeUnit.SECONDS);
+            for (Future<File> other : files) {
+                assertEquals(file, other.get(10, TimeUnit.SECONDS));
+            }
+            assertEquals(1, syntheses.get());
+            assertEquals(100, Files.size(file.toPath()));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void cachedTextIsNotSynthesizedAgain() throws Exception {
+        TTSAudioCache cache = new TTSAudioCache(folder.toFile(), TTSAudioCache.DEFAULT_MAX_SIZE, 0, null);
+        cache.getFile("voice", "hello", "mp3", "hello", synthesizer(100));
+        cache.getFile("voice", "hello", "mp3", "hello", synthesizer(100));
+        assertEquals(1, syntheses.get());
+
+        // the index of a new cache is read from the folder
+        cache = new TTSAudioCache(folder.toFile(), TTSAudioCache.DEFAULT_MAX_SIZE, 0, null);
+        cache.getFile("voice", "hello", "mp3", "hello", synthesizer(100));
+        assertEquals(1, syntheses.get());
+    }
+
+    @Test
+    public void leastRecentlyUsedFilesAreEvictedAboveMaxSize() throws Exception {
+        TTSAudioCache cache = new TTSAudioCache(folder.toFile(), 1000, 0, null);
+        File a = getFile(cache, "a", 300);
+        File b = getFile(cache, "b", 300);
+        File c = getFile(cache, "c", 300);
+        // a is used again, so b is the least recently used file
+        getFile(cache, "a", 300);
+        File d = getFile(cache, "d", 300);
+
+        assertTrue(a.exists());
+        assertFalse(b.exists());
+        assertFalse(new File(folder.toFile(), b.getName().replace(".mp3", ".txt")).exists());
+        assertTrue(c.exists());
+        assertTrue(d.exists());
+        assertEquals(4, syntheses.get());
+
+        // an evicted text is synthesized again
+        getFile(cache, "b", 300);
+        assertEquals(5, syntheses.get());
+    }
+
+    @Test
+    public void filesNotUsedWithinMaxAgeAreEvicted() throws Exception {
+        TTSAudioCache cache = new TTSAudioCache(folder.toFile(), TTSAudioCache.DEFAULT_MAX_SIZE, 0, null);
+        File old = getFile(cache, "old", 100);
+        File recent = getFile(cache, "recent", 100);
+        cache.dispose();
+        assertTrue(old.setLastModified(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(10)));
+
+        // the last use of the indexed files is their modification time
+        cache = new TTSAudioCache(folder.toFile(), TTSAudioCache.DEFAULT_MAX_SIZE, 7, null);
+        assertFalse(old.exists());
+        assertFalse(new File(folder.toFile(), old.getName().replace(".mp3", ".txt")).exists());
+        assertTrue(recent.exists());
+
+        getFile(cache, "recent", 100);
+        assertEquals(2, syntheses.get());
+        getFile(cache, "old", 100);
+        assertEquals(3, syntheses.get());
+    }
+
+    @Test
+    public void leastRecentlyPlayedHotClipIsDropped() throws Exception {
+        TTSAudioCache cache = new TTSAudioCache(folder.toFile(), TTSAudioCache.DEFAULT_MAX_SIZE, 0, null);
+        // clips played twice are kept in memory, until their total size is exceeded
+        for (int i = 0; i <= HOT_CLIPS; i++) {
+            if (i == HOT_CLIPS) {
+                // clip 0 is played again, so clip 1 is the least recently played one
+                assertTrue(getAudioStream(cache, "0") instanceof ByteArrayAudioStream);
+            }
+            getAudioStream(cache, Integer.toString(i));
+            assertTrue(getAudioStream(cache, Integer.toString(i)) instanceof ByteArrayAudioStream);
+        }
+        assertEquals(HOT_CLIPS + 1, syntheses.get());
+
+        getFile(cache, "0", HOT_CLIP_SIZE).delete();
+        getFile(cache, "1", HOT_CLIP_SIZE).delete();
+
+        // clip 0 is still played from memory, clip 1 has to be synthesized again
+        getAudioStream(cache, "0");
+        assertEquals(HOT_CLIPS + 1, syntheses.get());
+        getAudioStream(cache, "1");
+        assertEquals(HOT_CLIPS + 2, syntheses.get());
+    }
+
+    private File getFile(TTSAudioCache cache, String text, int size) throws Exception {
+        // the last use is tracked in milliseconds
+        Thread.sleep(5);
+        return cache.getFile("voice", text, "mp3", text, synthesizer(size));
+    }
+
+    private Object getAudioStream(TTSAudioCache cache, String text) throws Exception {
+        return cache.getAudioStream("voice", text, "mp3", text, AudioFormat.MP3, synthesizer(HOT_CLIP_SIZE));
+    }
+
+    private Synthesizer synthesizer(int size) {
+        return () -> {
+            syntheses.incrementAndGet();
+            return new ByteArrayInputStream(new byte[size]);
+        };
+    }
+}
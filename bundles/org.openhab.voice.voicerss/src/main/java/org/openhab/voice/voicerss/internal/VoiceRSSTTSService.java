@@ -21,6 +21,7 @@ import java.util.Map;
 import java.util.Set;
 
 import org.openhab.core.OpenHAB;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.audio.AudioException;
 import org.openhab.core.audio.AudioFormat;
 import org.openhab.core.audio.AudioStream;
@@ -31,6 +32,7 @@ import org.openhab.core.voice.Voice;
 import org.openhab.voice.voicerss.internal.cloudapi.CachedVoiceRSSCloudImpl;
 import org.osgi.framework.Constants;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Modified;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -85,6 +87,14 @@ public class VoiceRSSTTSService implements TTSService {
         }
     }
 
+    @Deactivate
+    protected void deactivate() {
+        CachedVoiceRSSCloudImpl voiceRssImpl = this.voiceRssImpl;
+        if (voiceRssImpl != null) {
+            voiceRssImpl.dispose();
+        }
+    }
+
     @Modified
     protected void modified(Map<String, Object> config) {
         if (config != null) {
@@ -135,12 +145,8 @@ public class VoiceRSSTTSService implements TTSService {
         // now create the input stream for given text, locale, format. There is
         // only a default voice
         try {
-            File cacheAudioFile = voiceRssImpl.getTextToSpeechAsFile(apiKey, trimmedText,
-                    voice.getLocale().toLanguageTag(), voice.getLabel(), getApiAudioFormat(requestedFormat));
-            if (cacheAudioFile == null) {
-                throw new TTSException("Could not read from VoiceRSS service");
-            }
-            return new VoiceRSSAudioStream(cacheAudioFile, requestedFormat);
+            return voiceRssImpl.getTextToSpeechAsStream(apiKey, trimmedText, voice.getLocale().toLanguageTag(),
+                    voice.getLabel(), getApiAudioFormat(requestedFormat), requestedFormat);
         } catch (AudioException ex) {
             throw new TTSException("Could not create AudioStream: " + ex.getMessage(), ex);
         } catch (IOException ex) {
@@ -213,7 +219,7 @@ public class VoiceRSSTTSService implements TTSService {
     }
 
     private CachedVoiceRSSCloudImpl initVoiceImplementation() {
-        return new CachedVoiceRSSCloudImpl(getCacheFolderName());
+        return new CachedVoiceRSSCloudImpl(getCacheFolderName(), ThreadPoolManager.getScheduledPool("voice"));
     }
 
     private String getCacheFolderName() {
@@ -13,18 +13,13 @@
 package org.openhab.voice.voicerss.internal.cloudapi;
 
 import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
-import java.math.BigInteger;
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.ScheduledExecutorService;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.openhab.core.audio.AudioException;
+import org.openhab.core.audio.AudioFormat;
+import org.openhab.core.audio.AudioStream;
+import org.openhab.voice.ttscache.TTSAudioCache;
 
 /**
  * This class implements a cache for the retrieved audio data. It will preserve
@@ -35,99 +30,49 @@ import org.slf4j.LoggerFactory;
  */
 public class CachedVoiceRSSCloudImpl extends VoiceRSSCloudImpl {
 
-    private final Logger logger = LoggerFactory.getLogger(CachedVoiceRSSCloudImpl.class);
-
-    private final File cacheFolder;
+    private final TTSAudioCache cache;
 
     /**
-     * Stream buffer size
+     * Creates a cache which evicts files in the requesting thread, e.g. for tools.
      */
-    private static final int READ_BUFFER_SIZE = 4096;
-
     public CachedVoiceRSSCloudImpl(String cacheFolderName) {
+        this(cacheFolderName, null);
+    }
+
+    /**
+     * Creates a cache which evicts files in the background using the given scheduler.
+     */
+    public CachedVoiceRSSCloudImpl(String cacheFolderName, ScheduledExecutorService scheduler) {
         if (cacheFolderName == null) {
             throw new IllegalStateException("Folder for cache must be defined");
         }
-        // Lazy create the cache folder
-        cacheFolder = new File(cacheFolderName);
-        if (!cacheFolder.exists()) {
-            cacheFolder.mkdirs();
-        }
+        // the cache folder is created if necessary
+        cache = new TTSAudioCache(new File(cacheFolderName), TTSAudioCache.DEFAULT_MAX_SIZE, 0, scheduler);
     }
 
     public File getTextToSpeechAsFile(String apiKey, String text, String locale, String voice, String audioFormat)
             throws IOException {
-        String fileNameInCache = getUniqueFilenameForText(text, locale, voice);
-        // check if in cache
-        File audioFileInCache = new File(cacheFolder, fileNameInCache + "." + audioFormat.toLowerCase());
-        if (audioFileInCache.exists()) {
-            return audioFileInCache;
-        }
-
-        // if not in cache, get audio data and put to cache
-        try (InputStream is = super.getTextToSpeech(apiKey, text, locale, voice, audioFormat);
-                FileOutputStream fos = new FileOutputStream(audioFileInCache)) {
-            copyStream(is, fos);
-            // write text to file for transparency too
-            // this allows to know which contents is in which audio file
-            File txtFileInCache = new File(cacheFolder, fileNameInCache + ".txt");
-            writeText(txtFileInCache, text);
-            // return from cache
-            return audioFileInCache;
-        } catch (FileNotFoundException ex) {
-            logger.warn("Could not write {} to cache", audioFileInCache, ex);
-            return null;
-        } catch (IOException ex) {
-            logger.error("Could not write {} to cache", audioFileInCache, ex);
-            return null;
-        }
+        return cache.getFile(getFilenamePrefix(locale, voice), text, audioFormat, text,
+                () -> super.getTextToSpeech(apiKey, text, locale, voice, audioFormat));
     }
 
-    /**
-     * Gets a unique filename for a give text, by creating a MD5 hash of it. It
-     * will be preceded by the locale.
-     *
-     * Sample: "en-US_00a2653ac5f77063bc4ea2fee87318d3"
-     */
-    private String getUniqueFilenameForText(String text, String locale, String voice) {
-        try {
-            byte[] bytesOfMessage = text.getBytes(StandardCharsets.UTF_8);
-            MessageDigest md = MessageDigest.getInstance("MD5");
-            byte[] md5Hash = md.digest(bytesOfMessage);
-            BigInteger bigInt = new BigInteger(1, md5Hash);
-            String hashtext = bigInt.toString(16);
-            // Now we need to zero pad it if you actually want the full 32
-            // chars.
-            while (hashtext.length() < 32) {
-                hashtext = "0" + hashtext;
-            }
-            String filename = locale + "_";
-            if (!DEFAULT_VOICE.equals(voice)) {
-                filename += voice + "_";
-            }
-            filename += hashtext;
-            return filename;
-        } catch (NoSuchAlgorithmException ex) {
-            // should not happen
-            logger.error("Could not create MD5 hash for '{}'", text, ex);
-            return null;
-        }
+    public AudioStream getTextToSpeechAsStream(String apiKey, String text, String locale, String voice,
+            String audioFormat, AudioFormat format) throws IOException, AudioException {
+        return cache.getAudioStream(getFilenamePrefix(locale, voice), text, audioFormat, text, format,
+                () -> super.getTextToSpeech(apiKey, text, locale, voice, audioFormat));
     }
 
-    // helper methods
-
-    private void copyStream(InputStream inputStream, OutputStream outputStream) throws IOException {
-        byte[] bytes = new byte[READ_BUFFER_SIZE];
-        int read = inputStream.read(bytes, 0, READ_BUFFER_SIZE);
-        while (read > 0) {
-            outputStream.write(bytes, 0, read);
-            read = inputStream.read(bytes, 0, READ_BUFFER_SIZE);
-        }
+    public void dispose() {
+        cache.dispose();
     }
 
-    private void writeText(File file, String text) throws IOException {
-        try (OutputStream outputStream = new FileOutputStream(file)) {
-            outputStream.write(text.getBytes(StandardCharsets.UTF_8));
-        }
+    /**
+     * Gets the prefix of the cache file names, the locale and the voice
+     * unless it is the default voice.
+     *
+     * Sample: "en-US" for "en-US_00a2653ac5f77063bc4ea2fee87318d3"
+     */
+    private String getFilenamePrefix(String locale, String voice) {
+        return DEFAULT_VOICE.equals(voice) ? locale : locale + "_" + voice;
     }
 }
@@ -118,6 +118,8 @@ public class SysteminfoOSGiTest extends JavaOSGiTest {
         when(mockedSystemInfo.getOsFamily()).thenReturn(new StringType("Mock OS"));
         when(mockedSystemInfo.getOsManufacturer()).thenReturn(new StringType("Mock OS Manufacturer"));
         when(mockedSystemInfo.getOsVersion()).thenReturn(new StringType("Mock Os Version"));
+        // The channels are read from the snapshot returned by the refresh
+        when(mockedSystemInfo.refreshSnapshot(anyLong())).thenReturn(mockedSystemInfo);
 
         systeminfoHandlerFactory = getService(ThingHandlerFactory.class, SysteminfoHandlerFactory.class);
         SysteminfoInterface oshiSystemInfo = getService(SysteminfoInterface.class);